@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.data.pipeline.core.channel.memory.BoundedMemoryPipelineChannelRegistry;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Pipeline channel memory exporter.
+ */
+public final class PipelineChannelMemoryExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("pipeline_channel_memory",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Memory of BOUNDED_MEMORY pipeline channels. channel_count is number of channels; used_bytes is estimated bytes of buffered records; "
+                    + "max_bytes is sum of channel max bytes; fill_rate is used bytes divided by max bytes",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        long usedBytes = BoundedMemoryPipelineChannelRegistry.getUsedBytes();
+        long maxBytes = BoundedMemoryPipelineChannelRegistry.getMaxBytes();
+        result.addMetric(Collections.singletonList("channel_count"), BoundedMemoryPipelineChannelRegistry.getChannelCount());
+        result.addMetric(Collections.singletonList("used_bytes"), usedBytes);
+        result.addMetric(Collections.singletonList("max_bytes"), maxBytes);
+        result.addMetric(Collections.singletonList("fill_rate"), 0L == maxBytes ? 0D : (double) usedBytes / maxBytes);
+        return Optional.of(result);
+    }
+}
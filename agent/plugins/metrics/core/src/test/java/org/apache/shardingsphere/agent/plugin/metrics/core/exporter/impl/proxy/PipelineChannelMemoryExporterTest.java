@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.data.pipeline.core.channel.memory.BoundedMemoryPipelineChannelRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockStatic;
+
+class PipelineChannelMemoryExporterTest {
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("pipeline_channel_memory", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Collections.singletonList("name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExport() {
+        try (MockedStatic<BoundedMemoryPipelineChannelRegistry> mocked = mockStatic(BoundedMemoryPipelineChannelRegistry.class)) {
+            mocked.when(BoundedMemoryPipelineChannelRegistry::getChannelCount).thenReturn(2);
+            mocked.when(BoundedMemoryPipelineChannelRegistry::getUsedBytes).thenReturn(1024L);
+            mocked.when(BoundedMemoryPipelineChannelRegistry::getMaxBytes).thenReturn(1024L);
+            Optional<GaugeMetricFamilyMetricsCollector> collector = new PipelineChannelMemoryExporter().export("FIXTURE");
+            assertTrue(collector.isPresent());
+            assertThat(collector.get().toString(), containsString("channel_count=2"));
+            assertThat(collector.get().toString(), containsString("used_bytes=1024"));
+            assertThat(collector.get().toString(), containsString("max_bytes=1024"));
+            assertThat(collector.get().toString(), containsString("fill_rate=1"));
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.b
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.database.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.database.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
@@ -36,7 +37,19 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL_BITMAP_OFFSET = 2;
     
-    private final BinaryRow row;
+    private final BinaryColumnType[] columnTypes;
+    
+    private final Object[] values;
+    
+    public MySQLBinaryResultSetRowPacket(final BinaryRow row) {
+        columnTypes = new BinaryColumnType[row.getCells().size()];
+        values = new Object[row.getCells().size()];
+        int index = 0;
+        for (BinaryCell each : row.getCells()) {
+            columnTypes[index] = each.getColumnType();
+            values[index++] = each.getData();
+        }
+    }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
@@ -46,28 +59,27 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
+        int bitmapByte = 0;
+        int bitPosition = NULL_BITMAP_OFFSET;
+        for (Object each : values) {
+            if (null == each) {
+                bitmapByte |= 1 << bitPosition;
             }
-            index++;
+            if (8 == ++bitPosition) {
+                payload.writeInt1(bitmapByte);
+                bitmapByte = 0;
+                bitPosition = 0;
+            }
+        }
+        if (0 != bitPosition) {
+            payload.writeInt1(bitmapByte);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
+        for (int i = 0; i < values.length; i++) {
+            if (null != values[i]) {
+                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes[i]).write(payload, values[i]);
             }
         }
     }
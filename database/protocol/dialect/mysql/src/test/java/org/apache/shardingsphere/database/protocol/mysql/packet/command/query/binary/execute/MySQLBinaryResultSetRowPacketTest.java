@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.database.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLBinaryColumnType;
@@ -26,8 +28,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,4 +50,21 @@ class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    void assertWriteWithColumnTypesAndValues() {
+        MySQLBinaryColumnType[] columnTypes = new MySQLBinaryColumnType[7];
+        Arrays.fill(columnTypes, MySQLBinaryColumnType.LONG);
+        ByteBuf byteBuf = Unpooled.buffer();
+        new MySQLBinaryResultSetRowPacket(columnTypes, new Object[]{1, null, 2, 3, 4, 5, null}).write(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readByte(), is((byte) 0x00));
+        assertThat(byteBuf.readByte(), is((byte) 0x08));
+        assertThat(byteBuf.readByte(), is((byte) 0x01));
+        assertThat(byteBuf.readIntLE(), is(1));
+        assertThat(byteBuf.readIntLE(), is(2));
+        assertThat(byteBuf.readIntLE(), is(3));
+        assertThat(byteBuf.readIntLE(), is(4));
+        assertThat(byteBuf.readIntLE(), is(5));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
 }
@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  */
@@ -44,6 +47,21 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm {
      */
     Object decrypt(Object cipherValue, AlgorithmSQLContext algorithmSQLContext);
     
+    /**
+     * Encrypt values in batch, null values are kept as null.
+     *
+     * @param plainValues plain values
+     * @param algorithmSQLContext algorithm SQL context
+     * @return cipher values in the same order
+     */
+    default List<Object> batchEncrypt(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
     /**
      * Get encrypt algorithm meta data.
      *
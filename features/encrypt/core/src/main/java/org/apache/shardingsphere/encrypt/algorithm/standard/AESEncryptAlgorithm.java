@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -63,6 +64,11 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return cryptographicAlgorithm.decrypt(cipherValue);
     }
     
+    @Override
+    public List<Object> batchEncrypt(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        return cryptographicAlgorithm.batchEncrypt(plainValues);
+    }
+    
     @Override
     public AlgorithmConfiguration toConfiguration() {
         return new AlgorithmConfiguration(getType(),
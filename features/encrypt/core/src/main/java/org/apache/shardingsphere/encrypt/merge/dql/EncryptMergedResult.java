@@ -18,11 +18,9 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
-import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
-import org.apache.shardingsphere.infra.exception.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -30,6 +28,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -43,6 +42,10 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private EncryptColumnDecryptor[] decryptors = new EncryptColumnDecryptor[0];
+    
+    private boolean[] compiledColumns = new boolean[0];
+    
     public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
         super(mergedResult);
         this.database = database;
@@ -52,9 +55,26 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        EncryptColumnDecryptor decryptor = getDecryptor(columnIndex);
+        return null == decryptor ? getMergedResult().getValue(columnIndex, type) : decryptor.decrypt(getMergedResult().getValue(columnIndex, Object.class));
+    }
+    
+    private EncryptColumnDecryptor getDecryptor(final int columnIndex) {
+        if (columnIndex >= decryptors.length) {
+            decryptors = Arrays.copyOf(decryptors, columnIndex + 1);
+            compiledColumns = Arrays.copyOf(compiledColumns, columnIndex + 1);
+        }
+        if (!compiledColumns[columnIndex]) {
+            decryptors[columnIndex] = createDecryptor(columnIndex).orElse(null);
+            compiledColumns[columnIndex] = true;
+        }
+        return decryptors[columnIndex];
+    }
+    
+    private Optional<EncryptColumnDecryptor> createDecryptor(final int columnIndex) {
         Optional<ColumnSegmentBoundInfo> columnSegmentBoundInfo = selectStatementContext.findColumnBoundInfo(columnIndex);
         if (!columnSegmentBoundInfo.isPresent()) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnSegmentBoundInfo.get().getOriginalTable().getValue();
         String originalColumnName = columnSegmentBoundInfo.get().getOriginalColumn().getValue();
@@ -63,18 +83,11 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
                 : this.database;
         Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
         if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = getMergedResult().getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName = selectStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        return Optional.of(new EncryptColumnDecryptor(database.getName(), schemaName, originalTableName, originalColumnName, encryptColumn));
     }
 }
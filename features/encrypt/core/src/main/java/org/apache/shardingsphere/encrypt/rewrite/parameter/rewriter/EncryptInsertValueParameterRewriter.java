@@ -77,19 +77,29 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = rule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<StandardParameterBuilder> standardParamBuilders = new ArrayList<>();
+        List<Integer> paramIndexes = new ArrayList<>();
+        List<Object> originalValues = new ArrayList<>();
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
             int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
             if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
                 ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
                 if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
+                    standardParamBuilders.add(paramBuilder.getParameterBuilders().get(count));
+                    paramIndexes.add(paramIndex);
+                    originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null));
                 }
             }
             count++;
         }
+        if (originalValues.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, encryptColumn.getName(), originalValues);
+        for (int i = 0; i < originalValues.size(); i++) {
+            encryptInsertValue(encryptColumn, paramIndexes.get(i), originalValues.get(i), cipherValues.get(i), standardParamBuilders.get(i), schemaName, tableName);
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -103,10 +113,10 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         return columnNames.indexOf(encryptLogicColumnName);
     }
     
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
+    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue, final Object cipherValue,
                                     final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
         String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
+        paramBuilder.addReplacedParameters(paramIndex, cipherValue);
         Collection<Object> addedParams = new LinkedList<>();
         if (encryptColumn.getAssistedQuery().isPresent()) {
             addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
@@ -57,6 +57,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -118,6 +119,31 @@ class EncryptMergedResultTest {
         assertThat(new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult).getValue(1, String.class), is("foo_decrypted_value"));
     }
     
+    @Test
+    void assertGetValueResolvesDecryptorOncePerColumn() throws SQLException {
+        ColumnSegmentBoundInfo columnSegmentBoundInfo = new ColumnSegmentBoundInfo(
+                new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")), new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col"),
+                TableSourceType.PHYSICAL_TABLE);
+        when(selectStatementContext.findColumnBoundInfo(1)).thenReturn(Optional.of(columnSegmentBoundInfo));
+        when(selectStatementContext.findColumnBoundInfo(2)).thenReturn(Optional.empty());
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(eq("foo_value"), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenReturn("foo_decrypted_value");
+        EncryptRule rule = mockRule(encryptAlgorithm);
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock());
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo_value");
+        when(mergedResult.getValue(2, String.class)).thenReturn("bar_value");
+        EncryptMergedResult actual = new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult);
+        for (int i = 0; i < 3; i++) {
+            assertThat(actual.getValue(1, String.class), is("foo_decrypted_value"));
+            assertThat(actual.getValue(2, String.class), is("bar_value"));
+        }
+        verify(selectStatementContext).findColumnBoundInfo(1);
+        verify(selectStatementContext).findColumnBoundInfo(2);
+        verify(rule).getEncryptTable("foo_tbl");
+    }
+    
     @Test
     void assertGetValueFailed() throws SQLException {
         ColumnSegmentBoundInfo columnSegmentBoundInfo = new ColumnSegmentBoundInfo(
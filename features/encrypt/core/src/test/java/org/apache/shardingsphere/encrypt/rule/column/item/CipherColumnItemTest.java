@@ -27,6 +27,7 @@ import static org.apache.shardingsphere.test.infra.framework.matcher.ShardingSph
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -51,6 +52,7 @@ class CipherColumnItemTest {
     void assertEncryptMultipleValues() {
         EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
         when(encryptAlgorithm.encrypt(eq("foo_value"), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenReturn("encrypted_foo_value");
+        when(encryptAlgorithm.batchEncrypt(any(), any())).thenCallRealMethod();
         CipherColumnItem cipherColumnItem = new CipherColumnItem("foo_col", encryptAlgorithm);
         assertThat(cipherColumnItem.encrypt("foo_db", "foo_schema", "foo_tbl", "foo_col", Arrays.asList(null, "foo_value")), is(Arrays.asList(null, "encrypted_foo_value")));
     }
@@ -40,6 +40,13 @@ public final class ReadwriteSplittingDataSourceGroupRuleConfiguration {
     
     private final String loadBalancerName;
     
+    private final Long maxReplicationLagMilliseconds;
+    
+    public ReadwriteSplittingDataSourceGroupRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames,
+                                                              final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final String loadBalancerName) {
+        this(name, writeDataSourceName, readDataSourceNames, transactionalReadQueryStrategy, loadBalancerName, null);
+    }
+    
     public ReadwriteSplittingDataSourceGroupRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final String loadBalancerName) {
         this(name, writeDataSourceName, readDataSourceNames, TransactionalReadQueryStrategy.PRIMARY, loadBalancerName);
     }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Replication lag loader.
+ */
+@SingletonSPI
+public interface ReplicationLagLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load replication lag.
+     *
+     * @param connection connection of read data source
+     * @param queryTimeoutSeconds query timeout seconds of probe statement
+     * @return replication lag milliseconds, empty if read data source is not a replica
+     * @throws SQLException SQL exception
+     */
+    Optional<Long> load(Connection connection, int queryTimeoutSeconds) throws SQLException;
+}
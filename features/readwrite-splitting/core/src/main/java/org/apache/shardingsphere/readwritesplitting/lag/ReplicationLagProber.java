@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag prober.
+ */
+@Slf4j
+public final class ReplicationLagProber implements AutoCloseable {
+    
+    private static final long PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private static final int PROBE_QUERY_TIMEOUT_SECONDS = 1;
+    
+    private final Collection<ReadwriteSplittingDataSourceGroupRule> dataSourceGroupRules;
+    
+    private final Map<String, StorageUnit> storageUnits;
+    
+    private final ScheduledExecutorService executorService;
+    
+    public ReplicationLagProber(final String databaseName, final Collection<ReadwriteSplittingDataSourceGroupRule> dataSourceGroupRules, final Map<String, StorageUnit> storageUnits) {
+        this.dataSourceGroupRules = dataSourceGroupRules;
+        this.storageUnits = storageUnits;
+        executorService = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("replication-lag-probe-" + databaseName + "-%d"));
+        executorService.scheduleWithFixedDelay(this::probe, 0L, PROBE_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Probe replication lags of read data sources.
+     */
+    public void probe() {
+        for (ReadwriteSplittingDataSourceGroupRule each : dataSourceGroupRules) {
+            for (String readDataSourceName : each.getReadwriteSplittingGroup().getReadDataSources()) {
+                Optional<Long> replicationLag = loadReplicationLag(readDataSourceName);
+                if (replicationLag.isPresent()) {
+                    each.updateReplicationLag(readDataSourceName, replicationLag.get());
+                } else {
+                    each.removeReplicationLag(readDataSourceName);
+                }
+            }
+        }
+    }
+    
+    private Optional<Long> loadReplicationLag(final String dataSourceName) {
+        StorageUnit storageUnit = storageUnits.get(dataSourceName);
+        if (null == storageUnit) {
+            return Optional.empty();
+        }
+        // branch database types do not fall back to trunk loaders, their replication status differs from trunk database
+        Optional<ReplicationLagLoader> loader = TypedSPILoader.findService(ReplicationLagLoader.class, storageUnit.getStorageType());
+        if (!loader.isPresent()) {
+            return Optional.empty();
+        }
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            return loader.get().load(connection, PROBE_QUERY_TIMEOUT_SECONDS);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load replication lag of storage unit `{}` failed.", dataSourceName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagLoader;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag loader for MySQL.
+ */
+public final class MySQLReplicationLagLoader implements ReplicationLagLoader {
+    
+    private static final int REPLICA_STATUS_MIN_PATCH_VERSION = 22;
+    
+    @Override
+    public Optional<Long> load(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        boolean isReplicaStatusSupported = isReplicaStatusSupported(connection.getMetaData());
+        try (
+                Statement statement = createStatement(connection, queryTimeoutSeconds);
+                ResultSet resultSet = statement.executeQuery(isReplicaStatusSupported ? "SHOW REPLICA STATUS" : "SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long secondsBehindSource = resultSet.getLong(isReplicaStatusSupported ? "Seconds_Behind_Source" : "Seconds_Behind_Master");
+            return Optional.of(resultSet.wasNull() ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(secondsBehindSource));
+        }
+    }
+    
+    private Statement createStatement(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        Statement result = connection.createStatement();
+        result.setQueryTimeout(queryTimeoutSeconds);
+        return result;
+    }
+    
+    private boolean isReplicaStatusSupported(final DatabaseMetaData databaseMetaData) throws SQLException {
+        int majorVersion = databaseMetaData.getDatabaseMajorVersion();
+        int minorVersion = databaseMetaData.getDatabaseMinorVersion();
+        if (8 != majorVersion || 0 != minorVersion) {
+            return majorVersion >= 8;
+        }
+        String[] versions = databaseMetaData.getDatabaseProductVersion().split("[.-]");
+        return versions.length > 2 && versions[2].chars().allMatch(Character::isDigit) && Integer.parseInt(versions[2]) >= REPLICA_STATUS_MIN_PATCH_VERSION;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
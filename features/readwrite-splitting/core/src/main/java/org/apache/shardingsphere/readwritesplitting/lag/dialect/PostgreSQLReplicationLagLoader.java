@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagLoader;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag loader for PostgreSQL.
+ */
+public final class PostgreSQLReplicationLagLoader implements ReplicationLagLoader {
+    
+    private static final String REPLICATION_LAG_SQL = "SELECT pg_is_in_recovery() AS is_in_recovery, CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END AS replication_lag";
+    
+    @Override
+    public Optional<Long> load(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try (
+                Statement statement = createStatement(connection, queryTimeoutSeconds);
+                ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+            if (!resultSet.next() || !resultSet.getBoolean("is_in_recovery")) {
+                return Optional.empty();
+            }
+            long replicationLag = resultSet.getLong("replication_lag");
+            return Optional.of(resultSet.wasNull() ? Long.MAX_VALUE : Math.max(0L, replicationLag));
+        }
+    }
+    
+    private Statement createStatement(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        Statement result = connection.createStatement();
+        result.setQueryTimeout(queryTimeoutSeconds);
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
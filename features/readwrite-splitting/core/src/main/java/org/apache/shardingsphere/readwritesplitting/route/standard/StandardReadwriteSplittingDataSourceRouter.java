@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.DisabledReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.LaggedReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 
 import java.util.Collection;
@@ -32,6 +33,8 @@ public final class StandardReadwriteSplittingDataSourceRouter {
     
     private static final Collection<ReadDataSourcesFilter> FILTERS = Collections.singleton(new DisabledReadDataSourcesFilter());
     
+    private static final ReadDataSourcesFilter LAGGED_FILTER = new LaggedReadDataSourcesFilter();
+    
     /**
      * Route to data source.
      *
@@ -39,7 +42,12 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+        List<String> filteredReadDataSources = getFilteredReadDataSources(rule);
+        List<String> notLaggedReadDataSources = LAGGED_FILTER.filter(rule, filteredReadDataSources);
+        // fall back to write data source only when every enabled read data source lags behind
+        return notLaggedReadDataSources.isEmpty() && !filteredReadDataSources.isEmpty()
+                ? rule.getWriteDataSource()
+                : rule.getLoadBalancer().getTargetName(rule.getName(), notLaggedReadDataSources);
     }
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalRea
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Readwrite-splitting data source group rule.
@@ -43,12 +45,17 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final Long maxReplicationLagMilliseconds;
+    
+    private final Map<String, Long> replicationLags = new ConcurrentHashMap<>();
+    
     public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
                                                  final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        maxReplicationLagMilliseconds = config.getMaxReplicationLagMilliseconds();
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
@@ -81,4 +88,23 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     public void disableDataSource(final String dataSourceName) {
         disabledDataSourceNames.add(dataSourceName);
     }
+    
+    /**
+     * Update replication lag of read data source.
+     *
+     * @param dataSourceName read data source name
+     * @param replicationLagMilliseconds replication lag milliseconds
+     */
+    public void updateReplicationLag(final String dataSourceName, final long replicationLagMilliseconds) {
+        replicationLags.put(dataSourceName, replicationLagMilliseconds);
+    }
+    
+    /**
+     * Remove replication lag of read data source.
+     *
+     * @param dataSourceName read data source name
+     */
+    public void removeReplicationLag(final String dataSourceName) {
+        replicationLags.remove(dataSourceName);
+    }
 }
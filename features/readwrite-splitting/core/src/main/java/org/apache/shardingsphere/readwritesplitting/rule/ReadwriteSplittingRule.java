@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlg
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnitsAware;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -32,11 +34,15 @@ import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingD
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
 import org.apache.shardingsphere.readwritesplitting.exception.ReadwriteSplittingRuleExceptionIdentifier;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.InvalidReadwriteSplittingActualDataSourceInlineExpressionException;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProber;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingDataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingExportableRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +52,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -59,10 +65,18 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     @Getter
     private final RuleAttributes attributes;
     
+    private final ReplicationLagProber replicationLagProber;
+    
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this(databaseName, ruleConfig, computeNodeInstanceContext, Collections.emptyMap());
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext,
+                                  final Map<String, StorageUnit> storageUnits) {
         configuration = ruleConfig;
-        loadBalancers = createLoadBalancers(ruleConfig);
+        loadBalancers = createLoadBalancers(ruleConfig, storageUnits);
         dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
+        replicationLagProber = createReplicationLagProber(databaseName, storageUnits);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
                 new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRuleGroups, computeNodeInstanceContext),
@@ -70,7 +84,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                 new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
     }
     
-    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, StorageUnit> storageUnits) {
         Map<String, LoadBalanceAlgorithm> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
@@ -78,6 +92,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                 result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
             }
         }
+        result.values().stream().filter(StorageUnitsAware.class::isInstance).forEach(each -> ((StorageUnitsAware) each).setStorageUnits(storageUnits));
         return result;
     }
     
@@ -115,11 +130,18 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return result;
     }
     
+    private ReplicationLagProber createReplicationLagProber(final String databaseName, final Map<String, StorageUnit> storageUnits) {
+        Collection<ReadwriteSplittingDataSourceGroupRule> lagLimitedDataSourceGroupRules = dataSourceRuleGroups.values().stream()
+                .filter(each -> null != each.getMaxReplicationLagMilliseconds()).collect(Collectors.toList());
+        return lagLimitedDataSourceGroupRules.isEmpty() || storageUnits.isEmpty() ? null : new ReplicationLagProber(databaseName, lagLimitedDataSourceGroupRules, storageUnits);
+    }
+    
     private ReadwriteSplittingDataSourceGroupRuleConfiguration createStaticDataSourceGroupRuleConfiguration(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final int index,
                                                                                                             final List<String> logicDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                             final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                TransactionalReadQueryStrategy.PRIMARY, config.getLoadBalancerName(), config.getMaxReplicationLagMilliseconds());
     }
     
     /**
@@ -145,4 +167,11 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
     }
+    
+    @Override
+    public void close() {
+        if (null != replicationLagProber) {
+            replicationLagProber.close();
+        }
+    }
 }
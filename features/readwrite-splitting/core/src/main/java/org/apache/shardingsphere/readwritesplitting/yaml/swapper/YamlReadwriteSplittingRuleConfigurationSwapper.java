@@ -61,6 +61,7 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
         }
         result.setTransactionalReadQueryStrategy(dataSourceGroupRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceGroupRuleConfig.getLoadBalancerName());
+        result.setMaxReplicationLagMilliseconds(dataSourceGroupRuleConfig.getMaxReplicationLagMilliseconds());
         return result;
     }
     
@@ -76,7 +77,8 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
     
     private ReadwriteSplittingDataSourceGroupRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
         return new ReadwriteSplittingDataSourceGroupRuleConfiguration(name, yamlDataSourceGroupRuleConfig.getWriteDataSourceName(), yamlDataSourceGroupRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName(),
+                yamlDataSourceGroupRuleConfig.getMaxReplicationLagMilliseconds());
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagProberTest {
+    
+    @Test
+    void assertProbe() throws SQLException {
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(new ReadwriteSplittingDataSourceGroupRuleConfiguration(
+                "foo_group", "write_ds", Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        rule.updateReplicationLag("read_ds_1", 3000L);
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("read_ds_0", mockStorageUnit("2000"));
+        storageUnits.put("read_ds_1", mockStorageUnit(null));
+        try (ReplicationLagProber prober = new ReplicationLagProber("foo_db", Collections.singleton(rule), storageUnits)) {
+            prober.probe();
+        }
+        assertThat(rule.getReplicationLags(), is(Collections.singletonMap("read_ds_0", 2000L)));
+    }
+    
+    @Test
+    void assertProbeWithFailure() throws SQLException {
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(new ReadwriteSplittingDataSourceGroupRuleConfiguration(
+                "foo_group", "write_ds", Collections.singletonList("read_ds_0"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        rule.updateReplicationLag("read_ds_0", 3000L);
+        StorageUnit storageUnit = mockStorageUnit(null);
+        when(storageUnit.getDataSource().getConnection()).thenThrow(SQLException.class);
+        try (ReplicationLagProber prober = new ReplicationLagProber("foo_db", Collections.singleton(rule), Collections.singletonMap("read_ds_0", storageUnit))) {
+            prober.probe();
+        }
+        assertThat(rule.getReplicationLags(), is(Collections.emptyMap()));
+    }
+    
+    @Test
+    void assertProbeWithBranchDatabaseType() throws SQLException {
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(new ReadwriteSplittingDataSourceGroupRuleConfiguration(
+                "foo_group", "write_ds", Collections.singletonList("read_ds_0"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        StorageUnit storageUnit = mockStorageUnit("2000");
+        DatabaseType branchDatabaseType = mock(DatabaseType.class);
+        when(branchDatabaseType.getTrunkDatabaseType()).thenReturn(Optional.of(TypedSPILoader.getService(DatabaseType.class, "FIXTURE")));
+        when(storageUnit.getStorageType()).thenReturn(branchDatabaseType);
+        try (ReplicationLagProber prober = new ReplicationLagProber("foo_db", Collections.singleton(rule), Collections.singletonMap("read_ds_0", storageUnit))) {
+            prober.probe();
+        }
+        assertThat(rule.getReplicationLags(), is(Collections.emptyMap()));
+    }
+    
+    private StorageUnit mockStorageUnit(final String schema) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(result.getDataSource().getConnection().getSchema()).thenReturn(schema);
+        return result;
+    }
+}
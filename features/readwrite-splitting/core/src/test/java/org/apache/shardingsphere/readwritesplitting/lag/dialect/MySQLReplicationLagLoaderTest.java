@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLReplicationLagLoaderTest {
+    
+    @Test
+    void assertLoadWithReplicaStatus() throws SQLException {
+        Connection connection = mockConnection(8, 0, "8.0.35");
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW REPLICA STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(3L);
+        assertThat(new MySQLReplicationLagLoader().load(connection, 1), is(Optional.of(3000L)));
+        verify(connection.createStatement()).setQueryTimeout(1);
+    }
+    
+    @Test
+    void assertLoadWithSlaveStatus() throws SQLException {
+        Connection connection = mockConnection(5, 7, "5.7.44-log");
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW SLAVE STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(2L);
+        assertThat(new MySQLReplicationLagLoader().load(connection, 1), is(Optional.of(2000L)));
+    }
+    
+    @Test
+    void assertLoadWithStoppedReplication() throws SQLException {
+        Connection connection = mockConnection(8, 4, "8.4.3");
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW REPLICA STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        assertThat(new MySQLReplicationLagLoader().load(connection, 1), is(Optional.of(Long.MAX_VALUE)));
+    }
+    
+    @Test
+    void assertLoadWithoutReplication() throws SQLException {
+        assertFalse(new MySQLReplicationLagLoader().load(mockConnection(8, 0, "8.0.21"), 1).isPresent());
+    }
+    
+    private Connection mockConnection(final int majorVersion, final int minorVersion, final String productVersion) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabaseMajorVersion()).thenReturn(majorVersion);
+        when(result.getMetaData().getDatabaseMinorVersion()).thenReturn(minorVersion);
+        when(result.getMetaData().getDatabaseProductVersion()).thenReturn(productVersion);
+        return result;
+    }
+}
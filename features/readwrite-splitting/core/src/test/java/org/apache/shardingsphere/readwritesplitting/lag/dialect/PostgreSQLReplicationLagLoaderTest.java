@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLReplicationLagLoaderTest {
+    
+    @Test
+    void assertLoadWithReplica() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean("is_in_recovery")).thenReturn(true);
+        when(resultSet.getLong("replication_lag")).thenReturn(1500L);
+        Connection connection = mockConnection(resultSet);
+        assertThat(new PostgreSQLReplicationLagLoader().load(connection, 1), is(Optional.of(1500L)));
+        verify(connection.createStatement()).setQueryTimeout(1);
+    }
+    
+    @Test
+    void assertLoadWithPrimary() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        assertFalse(new PostgreSQLReplicationLagLoader().load(mockConnection(resultSet), 1).isPresent());
+    }
+    
+    private Connection mockConnection(final ResultSet resultSet) throws SQLException {
+        Connection result = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(result.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.round.robin.RoundRobinLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
@@ -25,9 +26,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class StandardReadwriteSplittingDataSourceRouterTest {
     
@@ -50,4 +54,43 @@ class StandardReadwriteSplittingDataSourceRouterTest {
         rule.disableDataSource("read_ds_0");
         assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
     }
+    
+    @Test
+    void assertRouteWithAllReadDataSourcesDisabled() {
+        LoadBalanceAlgorithm loadBalancer = mock(LoadBalanceAlgorithm.class);
+        ReadwriteSplittingDataSourceGroupRule disabledRule = createLaggedRule(loadBalancer);
+        disabledRule.disableDataSource("read_ds_0");
+        disabledRule.disableDataSource("read_ds_1");
+        when(loadBalancer.getTargetName("test_config", Collections.emptyList())).thenReturn("read_ds_0");
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(disabledRule), is("read_ds_0"));
+    }
+    
+    @Test
+    void assertRouteWithLaggedReadDataSource() {
+        ReadwriteSplittingDataSourceGroupRule laggedRule = createLaggedRule(new RoundRobinLoadBalanceAlgorithm());
+        laggedRule.updateReplicationLag("read_ds_0", 5000L);
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(laggedRule), is("read_ds_1"));
+    }
+    
+    @Test
+    void assertRouteWithAllReadDataSourcesLagged() {
+        ReadwriteSplittingDataSourceGroupRule laggedRule = createLaggedRule(new RoundRobinLoadBalanceAlgorithm());
+        laggedRule.updateReplicationLag("read_ds_0", 5000L);
+        laggedRule.updateReplicationLag("read_ds_1", 5000L);
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(laggedRule), is("write_ds"));
+    }
+    
+    @Test
+    void assertRouteWithAllEnabledReadDataSourcesLagged() {
+        ReadwriteSplittingDataSourceGroupRule laggedRule = createLaggedRule(new RoundRobinLoadBalanceAlgorithm());
+        laggedRule.disableDataSource("read_ds_0");
+        laggedRule.updateReplicationLag("read_ds_1", 5000L);
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(laggedRule), is("write_ds"));
+    }
+    
+    private ReadwriteSplittingDataSourceGroupRule createLaggedRule(final LoadBalanceAlgorithm loadBalancer) {
+        return new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_config", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, loadBalancer);
+    }
 }
@@ -60,6 +60,7 @@ class ShowStatusFromReadwriteSplittingRulesExecutorTest {
         when(result.getName()).thenReturn("foo_rule");
         when(result.getReadwriteSplittingGroup().getReadDataSources()).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
         when(result.getDisabledDataSourceNames()).thenReturn(Collections.singleton("read_ds_1"));
+        when(result.getReplicationLags()).thenReturn(Collections.singletonMap("read_ds_0", 1000L));
         return result;
     }
 }
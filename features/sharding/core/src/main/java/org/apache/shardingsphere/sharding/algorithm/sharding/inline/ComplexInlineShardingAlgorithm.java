@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedComplexInlineShardingAlgorithmColumnAndValueSizeException;
@@ -49,6 +50,8 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String algorithmExpression;
     
+    private InlineExpressionParser algorithmExpressionParser;
+    
     private Collection<String> shardingColumns;
     
     private boolean allowRangeQuery;
@@ -56,6 +59,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        algorithmExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
     }
@@ -90,7 +94,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String doSharding(final Map<String, Comparable<?>> columnNameAndShardingValueMap) {
         columnNameAndShardingValueMap.forEach((key, value) -> ShardingSpherePreconditions.checkNotNull(value, NullShardingValueException::new));
-        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(columnNameAndShardingValueMap);
+        return algorithmExpressionParser.evaluateWithArgs(columnNameAndShardingValueMap);
     }
     
     private Collection<Map<String, Comparable<?>>> flatten(final Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
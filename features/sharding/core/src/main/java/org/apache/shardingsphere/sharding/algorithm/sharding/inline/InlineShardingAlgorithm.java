@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -44,11 +45,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private InlineExpressionParser algorithmExpressionParser;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        algorithmExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -68,7 +72,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
         try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
+            return algorithmExpressionParser.evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
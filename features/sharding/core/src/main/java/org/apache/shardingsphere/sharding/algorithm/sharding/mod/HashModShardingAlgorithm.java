@@ -19,8 +19,8 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.algorithm.sharding.PreciseShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
-import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -32,7 +32,7 @@ import java.util.Properties;
 /**
  * Hash sharding algorithm.
  */
-public final class HashModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public final class HashModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, PreciseShardingIndexAlgorithm {
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
@@ -52,8 +52,7 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String suffix = String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount);
+        String suffix = getShardingSuffix(calculateShardingIndex(shardingValue.getValue()));
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
@@ -62,6 +61,21 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return availableTargetNames;
     }
     
+    @Override
+    public int getShardingIndex(final Comparable<?> shardingValue) {
+        return calculateShardingIndex(shardingValue);
+    }
+    
+    @Override
+    public String getShardingSuffix(final int shardingIndex) {
+        return String.valueOf(shardingIndex);
+    }
+    
+    private int calculateShardingIndex(final Object shardingValue) {
+        ShardingSpherePreconditions.checkNotNull(shardingValue, NullShardingValueException::new);
+        return (int) (hashShardingValue(shardingValue) % shardingCount);
+    }
+    
     private long hashShardingValue(final Object shardingValue) {
         return Math.abs((long) shardingValue.hashCode());
     }
@@ -19,8 +19,8 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.algorithm.sharding.PreciseShardingIndexAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
-import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -35,7 +35,7 @@ import java.util.Properties;
 /**
  * Modulo sharding algorithm.
  */
-public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, PreciseShardingIndexAlgorithm {
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
@@ -99,8 +99,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String shardingResultSuffix = getShardingResultSuffix(cutShardingValue(shardingValue.getValue()).mod(new BigInteger(String.valueOf(shardingCount))).toString());
+        String shardingResultSuffix = getShardingSuffix(getShardingIndex(shardingValue.getValue()));
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
@@ -109,6 +108,20 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
     }
     
+    @Override
+    public int getShardingIndex(final Comparable<?> shardingValue) {
+        ShardingSpherePreconditions.checkNotNull(shardingValue, NullShardingValueException::new);
+        if (0 == startOffset && 0 == stopOffset && shardingValue instanceof Number) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shardingCount);
+        }
+        return cutShardingValue(shardingValue).mod(BigInteger.valueOf(shardingCount)).intValue();
+    }
+    
+    @Override
+    public String getShardingSuffix(final int shardingIndex) {
+        return getShardingResultSuffix(String.valueOf(shardingIndex));
+    }
+    
     private boolean containsAllTargets(final RangeShardingValue<Comparable<?>> shardingValue) {
         if (!shardingValue.getValueRange().hasUpperBound() || !shardingValue.getValueRange().hasLowerBound()) {
             return true;
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Group by aggregation buffer, aggregates memory query result rows and estimates memory used by groups.
+ */
+@RequiredArgsConstructor
+final class GroupByAggregationBuffer {
+    
+    private static final long GROUP_OVERHEAD_BYTES = 128L;
+    
+    private static final long AGGREGATION_UNIT_OVERHEAD_BYTES = 64L;
+    
+    private static final long DISTINCT_VALUE_OVERHEAD_BYTES = 48L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int columnCount;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+    
+    private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+    
+    @Getter
+    private long usedMemoryBytes;
+    
+    /**
+     * Judge whether group is aggregating in buffer.
+     *
+     * @param groupByValue group by value
+     * @return contains group or not
+     */
+    boolean contains(final GroupByValue groupByValue) {
+        return dataMap.containsKey(groupByValue);
+    }
+    
+    /**
+     * Judge whether buffer is empty.
+     *
+     * @return empty or not
+     */
+    boolean isEmpty() {
+        return dataMap.isEmpty();
+    }
+    
+    /**
+     * Aggregate row.
+     *
+     * @param groupByValue group by value
+     * @param row row to be aggregated
+     */
+    void aggregate(final GroupByValue groupByValue, final MemoryQueryResultRow row) {
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue);
+        if (null == aggregationUnits) {
+            aggregationUnits = createAggregationUnits();
+            dataMap.put(groupByValue, row);
+            aggregationMap.put(groupByValue, aggregationUnits);
+            usedMemoryBytes += estimateGroupBytes(row, aggregationUnits.size());
+        }
+        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnits.entrySet()) {
+            List<Comparable<?>> aggregationValues = getAggregationValues(row, entry.getKey());
+            int distinctValueCount = entry.getValue().getDistinctValueCount();
+            entry.getValue().merge(aggregationValues);
+            usedMemoryBytes += (entry.getValue().getDistinctValueCount() - distinctValueCount) * (DISTINCT_VALUE_OVERHEAD_BYTES + estimateValueBytes(aggregationValues.get(0)));
+        }
+    }
+    
+    private Map<AggregationProjection, AggregationUnit> createAggregationUnits() {
+        Map<AggregationProjection, AggregationUnit> result = new HashMap<>(selectStatementContext.getProjectionsContext().getAggregationProjections().size(), 1F);
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.put(each, AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, each.getSeparator().orElse(null)));
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final MemoryQueryResultRow row, final AggregationProjection aggregationProjection) {
+        List<Comparable<?>> result = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(getAggregationValue(row, aggregationProjection));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(getAggregationValue(row, each));
+            }
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final MemoryQueryResultRow row, final AggregationProjection aggregationProjection) {
+        Object result = row.getCell(aggregationProjection.getIndex());
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    private long estimateGroupBytes(final MemoryQueryResultRow row, final int aggregationUnitCount) {
+        long result = GROUP_OVERHEAD_BYTES + AGGREGATION_UNIT_OVERHEAD_BYTES * aggregationUnitCount + 16L + 8L * columnCount;
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateValueBytes(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateValueBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64L;
+        }
+        return value instanceof Number || value instanceof Boolean ? 16L : 32L;
+    }
+    
+    /**
+     * Get aggregated rows and release buffer.
+     *
+     * @return aggregated rows
+     */
+    List<MemoryQueryResultRow> pollRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (Entry<AggregationProjection, AggregationUnit> each : aggregationMap.get(entry.getKey()).entrySet()) {
+                entry.getValue().setCell(each.getKey().getIndex(), each.getValue().getResult());
+            }
+            result.add(entry.getValue());
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+        usedMemoryBytes = 0L;
+        return result;
+    }
+}
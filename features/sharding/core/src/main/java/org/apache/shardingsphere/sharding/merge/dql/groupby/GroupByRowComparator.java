@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtils;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 
 import java.util.Collection;
 import java.util.Comparator;
@@ -50,6 +51,13 @@ public final class GroupByRowComparator implements Comparator<MemoryQueryResultR
     @SuppressWarnings("rawtypes")
     private int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2, final Collection<OrderByItem> orderByItems) {
         for (OrderByItem each : orderByItems) {
+            if (o1.isPrimitiveComparable(o2, each.getIndex())) {
+                int result = o1.comparePrimitiveCell(o2, each.getIndex());
+                if (0 != result) {
+                    return OrderDirection.ASC == each.getSegment().getOrderDirection() ? result : -result;
+                }
+                continue;
+            }
             Object orderValue1 = o1.getCell(each.getIndex());
             ShardingSpherePreconditions.checkState(null == orderValue1 || orderValue1 instanceof Comparable, () -> new NotImplementComparableValueException("Order by", orderValue1));
             Object orderValue2 = o2.getCell(each.getIndex());
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Group by spill file, rows are written once and then read once in written order.
+ */
+final class GroupBySpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final int columnCount;
+    
+    private final Path path;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private long writtenRowCount;
+    
+    private long remainingRowCount;
+    
+    GroupBySpillFile(final int columnCount) {
+        this.columnCount = columnCount;
+        try {
+            path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            delete();
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    void write(final MemoryQueryResultRow row) {
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            Object value = row.getCell(i + 1);
+            int columnIndex = i + 1;
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Serializable,
+                    () -> new GroupByMergeSpillException(String.format("value type `%s` of column %d is not serializable", value.getClass().getName(), columnIndex)));
+            data[i] = value;
+        }
+        try {
+            outputStream.writeUnshared(data);
+            writtenRowCount++;
+            if (0 == writtenRowCount % RESET_INTERVAL) {
+                outputStream.reset();
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Finish writing and prepare to read rows.
+     *
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    void finishWrite() {
+        try {
+            outputStream.close();
+            outputStream = null;
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+        remainingRowCount = writtenRowCount;
+        // Unlink the opened file early so that it is reclaimed even if the merged result is abandoned, file systems which refuse it delete on close.
+        delete();
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows have been read
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    MemoryQueryResultRow read() {
+        if (0L == remainingRowCount) {
+            close();
+            return null;
+        }
+        try {
+            Object[] result = (Object[]) inputStream.readUnshared();
+            remainingRowCount--;
+            return new MemoryQueryResultRow(result);
+        } catch (final IOException | ClassNotFoundException ex) {
+            close();
+            throw new GroupByMergeSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Close streams and delete file.
+     */
+    void close() {
+        closeQuietly(outputStream);
+        closeQuietly(inputStream);
+        outputStream = null;
+        inputStream = null;
+        remainingRowCount = 0L;
+        delete();
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private void delete() {
+        if (null == path) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+        }
+    }
+}
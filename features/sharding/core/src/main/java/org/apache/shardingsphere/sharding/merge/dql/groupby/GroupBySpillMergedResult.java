@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Spill merged result for group by.
+ * 
+ * <p>Groups are aggregated in memory until the memory limit is reached, after that rows of the groups which are not in memory are hash partitioned into spill files.
+ * Every partition is aggregated in the same way recursively, and the sorted groups of all runs are merged when iterating.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimitBytes;
+    
+    private final int columnCount;
+    
+    private final AtomicLong usedMemoryBytes;
+    
+    private final GroupByRowComparator groupByRowComparator;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private SortedRun currentRun;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                    final long memoryLimitBytes, final String processId) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimitBytes = memoryLimitBytes;
+        columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        usedMemoryBytes = getUsedMemoryBytes(processId);
+        groupByRowComparator = new GroupByRowComparator(selectStatementContext, GroupByMergedResultUtils.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, this::compareSortedRun);
+        try {
+            init(queryResults);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
+        }
+    }
+    
+    private AtomicLong getUsedMemoryBytes(final String processId) {
+        Process process = null == processId ? null : ProcessRegistry.getInstance().get(processId);
+        return null == process ? new AtomicLong() : process.getUsedMemoryBytes();
+    }
+    
+    private int compareSortedRun(final SortedRun o1, final SortedRun o2) {
+        int result = groupByRowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow());
+        return 0 == result ? Integer.compare(o1.getIndex(), o2.getIndex()) : result;
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException {
+        AggregationPass aggregationPass = new AggregationPass(0);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                aggregationPass.add(new MemoryQueryResultRow(each));
+            }
+        }
+        List<SortedRun> runs = new LinkedList<>();
+        if (aggregationPass.isEmpty()) {
+            runs.add(createMemorySortedRun(GroupByMergedResultUtils.getEmptyGroupRows(selectStatementContext), 0));
+        } else {
+            finish(aggregationPass, runs);
+        }
+        for (SortedRun each : runs) {
+            if (each.next()) {
+                sortedRuns.offer(each);
+            }
+        }
+    }
+    
+    private void finish(final AggregationPass aggregationPass, final Collection<SortedRun> runs) {
+        long bufferedMemoryBytes = aggregationPass.getBuffer().getUsedMemoryBytes();
+        List<MemoryQueryResultRow> rows = aggregationPass.getBuffer().pollRows();
+        rows.sort(groupByRowComparator);
+        if (0 == aggregationPass.getDepth() && !aggregationPass.isSpilled()) {
+            usedMemoryBytes.set(bufferedMemoryBytes);
+            runs.add(createMemorySortedRun(rows, runs.size()));
+            return;
+        }
+        runs.add(createSpillSortedRun(rows, runs.size()));
+        usedMemoryBytes.set(0L);
+        for (GroupBySpillFile each : aggregationPass.getPartitions()) {
+            if (null == each) {
+                continue;
+            }
+            each.finishWrite();
+            AggregationPass partitionAggregationPass = new AggregationPass(aggregationPass.getDepth() + 1);
+            MemoryQueryResultRow row = each.read();
+            while (null != row) {
+                partitionAggregationPass.add(row);
+                row = each.read();
+            }
+            spillFiles.remove(each);
+            finish(partitionAggregationPass, runs);
+        }
+    }
+    
+    private SortedRun createMemorySortedRun(final List<MemoryQueryResultRow> rows, final int index) {
+        Iterator<MemoryQueryResultRow> iterator = rows.iterator();
+        return new SortedRun(index, () -> iterator.hasNext() ? iterator.next() : null);
+    }
+    
+    private SortedRun createSpillSortedRun(final List<MemoryQueryResultRow> rows, final int index) {
+        GroupBySpillFile spillFile = createSpillFile();
+        rows.forEach(spillFile::write);
+        spillFile.finishWrite();
+        return new SortedRun(index, spillFile::read);
+    }
+    
+    private GroupBySpillFile createSpillFile() {
+        GroupBySpillFile result = new GroupBySpillFile(columnCount);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (null != currentRun && currentRun.next()) {
+            sortedRuns.offer(currentRun);
+        }
+        currentRun = sortedRuns.poll();
+        if (null == currentRun) {
+            close();
+            return false;
+        }
+        currentRow = currentRun.getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) throws SQLException {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        spillFiles.forEach(GroupBySpillFile::close);
+        spillFiles.clear();
+        sortedRuns.clear();
+        currentRun = null;
+        currentRow = null;
+        usedMemoryBytes.set(0L);
+    }
+    
+    @Getter
+    private final class AggregationPass {
+        
+        private final int depth;
+        
+        private final GroupByAggregationBuffer buffer;
+        
+        private final GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_COUNT];
+        
+        private final Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        
+        private boolean spilled;
+        
+        private boolean empty = true;
+        
+        AggregationPass(final int depth) {
+            this.depth = depth;
+            buffer = new GroupByAggregationBuffer(selectStatementContext, columnCount);
+        }
+        
+        void add(final MemoryQueryResultRow row) {
+            empty = false;
+            GroupByValue groupByValue = new GroupByValue(row, groupByItems);
+            if (!spilled && buffer.getUsedMemoryBytes() >= memoryLimitBytes && depth < MAX_PARTITION_DEPTH) {
+                spilled = true;
+            }
+            if (!spilled || buffer.contains(groupByValue)) {
+                buffer.aggregate(groupByValue, row);
+                usedMemoryBytes.set(buffer.getUsedMemoryBytes());
+                return;
+            }
+            int partitionIndex = getPartitionIndex(groupByValue);
+            if (null == partitions[partitionIndex]) {
+                partitions[partitionIndex] = createSpillFile();
+            }
+            partitions[partitionIndex].write(row);
+        }
+        
+        private int getPartitionIndex(final GroupByValue groupByValue) {
+            int result = groupByValue.hashCode() ^ depth * 0x9E3779B9;
+            result ^= result >>> 16;
+            result *= 0x85EBCA6B;
+            result ^= result >>> 13;
+            result *= 0xC2B2AE35;
+            result ^= result >>> 16;
+            return result & (PARTITION_COUNT - 1);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SortedRun {
+        
+        private final int index;
+        
+        private final Supplier<MemoryQueryResultRow> rows;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() {
+            currentRow = rows.get();
+            return null != currentRow;
+        }
+    }
+}
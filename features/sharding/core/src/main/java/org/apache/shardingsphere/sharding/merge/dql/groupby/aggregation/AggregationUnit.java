@@ -37,4 +37,13 @@ public interface AggregationUnit {
      * @return aggregation result
      */
     Comparable<?> getResult();
+    
+    /**
+     * Get count of distinct values held by aggregation unit.
+     *
+     * @return count of distinct values
+     */
+    default int getDistinctValueCount() {
+        return 0;
+    }
 }
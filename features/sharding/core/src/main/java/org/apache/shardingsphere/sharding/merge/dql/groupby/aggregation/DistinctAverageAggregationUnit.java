@@ -64,4 +64,9 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         // TODO use metadata to fetch float number precise for database field
         return sum.divide(count, 4, RoundingMode.HALF_UP);
     }
+    
+    @Override
+    public int getDistinctValueCount() {
+        return countValues.size() + sumValues.size();
+    }
 }
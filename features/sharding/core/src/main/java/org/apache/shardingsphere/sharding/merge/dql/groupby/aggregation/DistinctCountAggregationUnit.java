@@ -43,4 +43,9 @@ public final class DistinctCountAggregationUnit implements AggregationUnit {
     public Comparable<?> getResult() {
         return values.size();
     }
+    
+    @Override
+    public int getDistinctValueCount() {
+        return values.size();
+    }
 }
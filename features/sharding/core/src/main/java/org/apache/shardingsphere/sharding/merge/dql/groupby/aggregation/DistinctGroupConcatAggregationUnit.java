@@ -48,4 +48,9 @@ public final class DistinctGroupConcatAggregationUnit implements AggregationUnit
     public Comparable<?> getResult() {
         return String.join(separator, values);
     }
+    
+    @Override
+    public int getDistinctValueCount() {
+        return values.size();
+    }
 }
@@ -51,4 +51,9 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
     public Comparable<?> getResult() {
         return result;
     }
+    
+    @Override
+    public int getDistinctValueCount() {
+        return values.size();
+    }
 }
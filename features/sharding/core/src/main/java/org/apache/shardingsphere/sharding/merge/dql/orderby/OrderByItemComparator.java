@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Order by item comparator.
+ * 
+ * <p>Column type, order direction, nulls order type and case sensitivity are resolved once per merged result,
+ * so that comparing rows does not look them up again.</p>
+ */
+@HighFrequencyInvocation
+public final class OrderByItemComparator {
+    
+    @Getter
+    private final int columnIndex;
+    
+    private final OrderDirection orderDirection;
+    
+    private final NullsOrderType nullsOrderType;
+    
+    private final boolean caseSensitive;
+    
+    private final OrderByValueType valueType;
+    
+    public OrderByItemComparator(final int columnIndex, final OrderDirection orderDirection, final NullsOrderType nullsOrderType, final boolean caseSensitive, final int columnType) {
+        this.columnIndex = columnIndex;
+        this.orderDirection = orderDirection;
+        this.nullsOrderType = nullsOrderType;
+        this.caseSensitive = caseSensitive;
+        valueType = OrderByValueType.valueOf(columnType);
+    }
+    
+    /**
+     * Create order by item comparators.
+     *
+     * @param queryResult query result to resolve column meta data
+     * @param orderByItems order by items
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return created order by item comparators
+     * @throws SQLException SQL exception
+     */
+    public static List<OrderByItemComparator> create(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
+                                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<OrderByItemComparator> result = new ArrayList<>(orderByItems.size());
+        for (OrderByItem each : orderByItems) {
+            result.add(new OrderByItemComparator(each.getIndex(), each.getSegment().getOrderDirection(),
+                    each.getSegment().getNullsOrderType(selectStatementContext.getSqlStatement().getDatabaseType()),
+                    isCaseSensitive(queryResult, each, selectStatementContext, schema), queryResult.getMetaData().getColumnType(each.getIndex())));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether order by item is case-sensitive.
+     *
+     * @param queryResult query result
+     * @param orderByItem order by item
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return is case-sensitive or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isCaseSensitive(final QueryResult queryResult, final OrderByItem orderByItem,
+                                          final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSphereTable table = schema.getTable(tableName);
+            OrderByItemSegment orderByItemSegment = orderByItem.getSegment();
+            if (orderByItemSegment instanceof ColumnOrderByItemSegment) {
+                String columnName = ((ColumnOrderByItemSegment) orderByItemSegment).getColumn().getIdentifier().getValue();
+                if (table.containsColumn(columnName)) {
+                    return table.getColumn(columnName).isCaseSensitive();
+                }
+            } else if (orderByItemSegment instanceof IndexOrderByItemSegment) {
+                int columnIndex = ((IndexOrderByItemSegment) orderByItemSegment).getColumnIndex();
+                String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+                if (table.containsColumn(columnName)) {
+                    return table.getColumn(columnName).isCaseSensitive();
+                }
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get order value from current row of query result.
+     * 
+     * <p>Case-insensitive string values are upper-cased here once per row instead of once per comparison.</p>
+     *
+     * @param queryResult query result
+     * @return order value
+     * @throws SQLException SQL exception
+     */
+    public Object getOrderValue(final QueryResult queryResult) throws SQLException {
+        Object result = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Order by", result));
+        return !caseSensitive && result instanceof String ? ((String) result).toUpperCase() : result;
+    }
+    
+    /**
+     * Compare two order values which are got from {@link #getOrderValue(QueryResult)}.
+     *
+     * @param thisValue this value
+     * @param otherValue other value
+     * @return compare result
+     */
+    public int compare(final Object thisValue, final Object otherValue) {
+        if (null == thisValue || null == otherValue) {
+            return CompareUtils.compareTo((Comparable<?>) thisValue, (Comparable<?>) otherValue, orderDirection, nullsOrderType, true);
+        }
+        int result = compareNotNull(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareNotNull(final Object thisValue, final Object otherValue) {
+        switch (valueType) {
+            case INTEGRAL:
+                if (isIntegral(thisValue) && isIntegral(otherValue)) {
+                    return Long.compare(((Number) thisValue).longValue(), ((Number) otherValue).longValue());
+                }
+                break;
+            case DECIMAL:
+                if (thisValue instanceof BigDecimal && otherValue instanceof BigDecimal) {
+                    return ((BigDecimal) thisValue).compareTo((BigDecimal) otherValue);
+                }
+                break;
+            case STRING:
+                if (thisValue instanceof String && otherValue instanceof String) {
+                    return ((String) thisValue).compareTo((String) otherValue);
+                }
+                break;
+            default:
+                break;
+        }
+        return ((Comparable) thisValue).compareTo(otherValue);
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private enum OrderByValueType {
+        
+        INTEGRAL, DECIMAL, STRING, GENERIC;
+        
+        private static OrderByValueType valueOf(final int columnType) {
+            switch (columnType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                    return INTEGRAL;
+                case Types.DECIMAL:
+                case Types.NUMERIC:
+                    return DECIMAL;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return STRING;
+                default:
+                    return GENERIC;
+            }
+        }
+    }
+}
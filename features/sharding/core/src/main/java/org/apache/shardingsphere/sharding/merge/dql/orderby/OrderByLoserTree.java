@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merging of ordered query results.
+ * 
+ * <p>Internal nodes {@code 1..k-1} hold the loser of each match, node {@code 0} holds the overall winner,
+ * and leaf {@code i} is located at virtual node {@code k + i}. Advancing the winner replays only the path from its leaf to the root,
+ * which costs exactly one comparison per tree level.
+ * Rows with equal order values are won by the query result with the lower index, so the merge order does not depend on the tree shape.</p>
+ */
+@HighFrequencyInvocation
+public final class OrderByLoserTree {
+    
+    private final QueryResult[] queryResults;
+    
+    private final OrderByItemComparator[] comparators;
+    
+    private final Object[][] orderValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByLoserTree(final List<QueryResult> queryResults, final List<OrderByItemComparator> comparators) throws SQLException {
+        this.queryResults = queryResults.toArray(new QueryResult[0]);
+        this.comparators = comparators.toArray(new OrderByItemComparator[0]);
+        orderValues = new Object[this.queryResults.length][this.comparators.length];
+        exhausted = new boolean[this.queryResults.length];
+        tree = new int[Math.max(this.queryResults.length, 1)];
+        for (int i = 0; i < this.queryResults.length; i++) {
+            exhausted[i] = !readNext(i);
+        }
+        build();
+    }
+    
+    private void build() {
+        int size = queryResults.length;
+        if (size <= 1) {
+            return;
+        }
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean leftWin = beats(left, right);
+            winners[node] = leftWin ? left : right;
+            tree[node] = leftWin ? right : left;
+        }
+        tree[0] = winners[1];
+    }
+    
+    /**
+     * Judge whether all query results are exhausted.
+     *
+     * @return all query results are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == queryResults.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get query result which current row is the smallest one.
+     *
+     * @return winner query result
+     */
+    public QueryResult getWinner() {
+        return queryResults[tree[0]];
+    }
+    
+    /**
+     * Move winner query result to its next row and replay the matches on its path.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int leaf = tree[0];
+        exhausted[leaf] = !readNext(leaf);
+        int winner = leaf;
+        for (int node = (leaf + queryResults.length) >>> 1; node > 0; node >>>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean readNext(final int leaf) throws SQLException {
+        if (!queryResults[leaf].next()) {
+            return false;
+        }
+        Object[] values = orderValues[leaf];
+        for (int i = 0; i < comparators.length; i++) {
+            values[i] = comparators[i].getOrderValue(queryResults[leaf]);
+        }
+        return true;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (exhausted[leaf] || exhausted[otherLeaf]) {
+            return !exhausted[leaf] || exhausted[otherLeaf] && leaf < otherLeaf;
+        }
+        Object[] values = orderValues[leaf];
+        Object[] otherValues = orderValues[otherLeaf];
+        for (int i = 0; i < comparators.length; i++) {
+            int result = comparators[i].compare(values[i], otherValues[i]);
+            if (0 != result) {
+                return result < 0;
+            }
+        }
+        return leaf < otherLeaf;
+    }
+}
@@ -23,12 +23,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectS
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
-import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
-import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
-import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
-import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
-import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -62,35 +57,12 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+        for (OrderByItem each : orderByItems) {
+            result.add(OrderByItemComparator.isCaseSensitive(queryResult, each, selectStatementContext, schema));
         }
         return result;
     }
     
-    private boolean getOrderValuesCaseSensitiveFromTables(final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
-        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
-            String tableName = each.getTableName().getIdentifier().getValue();
-            ShardingSphereTable table = schema.getTable(tableName);
-            OrderByItemSegment orderByItemSegment = eachOrderByItem.getSegment();
-            if (orderByItemSegment instanceof ColumnOrderByItemSegment) {
-                String columnName = ((ColumnOrderByItemSegment) orderByItemSegment).getColumn().getIdentifier().getValue();
-                if (table.containsColumn(columnName)) {
-                    return table.getColumn(columnName).isCaseSensitive();
-                }
-            } else if (orderByItemSegment instanceof IndexOrderByItemSegment) {
-                int columnIndex = ((IndexOrderByItemSegment) orderByItemSegment).getColumnIndex();
-                String columnName = queryResult.getMetaData().getColumnName(columnIndex);
-                if (table.containsColumn(columnName)) {
-                    return table.getColumn(columnName).isCaseSensitive();
-                }
-            } else {
-                return false;
-            }
-        }
-        return false;
-    }
-    
     /**
      * Iterate next data.
      *
@@ -41,6 +41,7 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.PreciseShardingRoutePlan;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
@@ -86,9 +87,9 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
     
     private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final ShardingTable shardingTable) {
         ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
+                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn(), shardingRule.findDatabaseRoutePlan(shardingTable).orElse(null));
         ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
+                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn(), shardingRule.findTableRoutePlan(shardingTable).orElse(null));
         if (isRoutingByHint(shardingRule, shardingTable)) {
             return routeByHint(shardingTable, databaseShardingStrategy, tableShardingStrategy);
         }
@@ -273,8 +274,8 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
     }
     
     private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
-                                                    final String defaultShardingColumn) {
+                                                    final String defaultShardingColumn, final PreciseShardingRoutePlan routePlan) {
         return null == shardingStrategyConfig ? new NoneShardingStrategy()
-                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn, routePlan);
     }
 }
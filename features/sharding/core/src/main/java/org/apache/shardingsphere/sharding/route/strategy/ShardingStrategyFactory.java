@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.route.strategy.type.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.PreciseShardingRoutePlan;
 import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 
 /**
@@ -46,11 +47,25 @@ public final class ShardingStrategyFactory {
      * @param defaultShardingColumn default sharding column
      * @return sharding strategy instance
      */
-    @SuppressWarnings("rawtypes")
     public static ShardingStrategy newInstance(final ShardingStrategyConfiguration shardingStrategyConfig, final ShardingAlgorithm shardingAlgorithm, final String defaultShardingColumn) {
+        return newInstance(shardingStrategyConfig, shardingAlgorithm, defaultShardingColumn, null);
+    }
+    
+    /**
+     * Create sharding strategy.
+     *
+     * @param shardingStrategyConfig sharding strategy configuration
+     * @param shardingAlgorithm sharding algorithm
+     * @param defaultShardingColumn default sharding column
+     * @param routePlan precise sharding route plan, nullable
+     * @return sharding strategy instance
+     */
+    @SuppressWarnings("rawtypes")
+    public static ShardingStrategy newInstance(final ShardingStrategyConfiguration shardingStrategyConfig, final ShardingAlgorithm shardingAlgorithm, final String defaultShardingColumn,
+                                               final PreciseShardingRoutePlan routePlan) {
         if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration && shardingAlgorithm instanceof StandardShardingAlgorithm) {
             String shardingColumn = ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
-            return new StandardShardingStrategy(null == shardingColumn ? defaultShardingColumn : shardingColumn, (StandardShardingAlgorithm) shardingAlgorithm);
+            return new StandardShardingStrategy(null == shardingColumn ? defaultShardingColumn : shardingColumn, (StandardShardingAlgorithm) shardingAlgorithm, routePlan);
         }
         if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration && shardingAlgorithm instanceof ComplexKeysShardingAlgorithm) {
             return new ComplexShardingStrategy(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns(), (ComplexKeysShardingAlgorithm) shardingAlgorithm);
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.strategy.type.standard;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.algorithm.sharding.PreciseShardingIndexAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+
+import java.util.Optional;
+
+/**
+ * Precise sharding route plan, which maps sharding index to target name by precomputed lookup array.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreciseShardingRoutePlan {
+    
+    private static final int MAX_TARGET_SIZE = 65536;
+    
+    private final PreciseShardingIndexAlgorithm shardingAlgorithm;
+    
+    private final String[] targetNames;
+    
+    /**
+     * Compile precise sharding route plan.
+     *
+     * @param shardingAlgorithm sharding algorithm
+     * @param dataNodeInfo data node info
+     * @return compiled precise sharding route plan, empty if sharding algorithm does not support index lookup
+     */
+    public static Optional<PreciseShardingRoutePlan> compile(final ShardingAlgorithm shardingAlgorithm, final DataNodeInfo dataNodeInfo) {
+        if (!(shardingAlgorithm instanceof PreciseShardingIndexAlgorithm) || null == dataNodeInfo) {
+            return Optional.empty();
+        }
+        PreciseShardingIndexAlgorithm indexAlgorithm = (PreciseShardingIndexAlgorithm) shardingAlgorithm;
+        int targetSize = indexAlgorithm.getAutoTablesAmount();
+        if (targetSize <= 0 || targetSize > MAX_TARGET_SIZE) {
+            return Optional.empty();
+        }
+        String[] targetNames = new String[targetSize];
+        for (int i = 0; i < targetSize; i++) {
+            targetNames[i] = ShardingAutoTableAlgorithmUtils.getTargetName(indexAlgorithm.getShardingSuffix(i), dataNodeInfo);
+        }
+        return Optional.of(new PreciseShardingRoutePlan(indexAlgorithm, targetNames));
+    }
+    
+    /**
+     * Get target name.
+     *
+     * @param shardingValue sharding value
+     * @return target name
+     */
+    public String getTargetName(final Comparable<?> shardingValue) {
+        return targetNames[shardingAlgorithm.getShardingIndex(shardingValue)];
+    }
+}
@@ -45,13 +45,20 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     private final StandardShardingAlgorithm<?> shardingAlgorithm;
     
+    private final PreciseShardingRoutePlan routePlan;
+    
     public StandardShardingStrategy(final String shardingColumn, final StandardShardingAlgorithm<?> shardingAlgorithm) {
+        this(shardingColumn, shardingAlgorithm, null);
+    }
+    
+    public StandardShardingStrategy(final String shardingColumn, final StandardShardingAlgorithm<?> shardingAlgorithm, final PreciseShardingRoutePlan routePlan) {
         ShardingSpherePreconditions.checkNotNull(shardingColumn, () -> new MissingRequiredShardingConfigurationException("Standard sharding column"));
         ShardingSpherePreconditions.checkNotNull(shardingAlgorithm, () -> new MissingRequiredShardingConfigurationException("Standard sharding algorithm"));
         Collection<String> shardingColumns = new CaseInsensitiveSet<>();
         shardingColumns.add(shardingColumn);
         this.shardingColumns = Collections.unmodifiableCollection(shardingColumns);
         this.shardingAlgorithm = shardingAlgorithm;
+        this.routePlan = routePlan;
     }
     
     @SuppressWarnings("rawtypes")
@@ -69,8 +76,9 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
         Collection<String> result = new LinkedList<>();
         for (Object each : shardingValue.getValues()) {
-            String target = shardingAlgorithm.doSharding(availableTargetNames,
-                    new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, each));
+            String target = null != routePlan && each instanceof Comparable
+                    ? routePlan.getTargetName((Comparable<?>) each)
+                    : shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, each));
             if (null != target && availableTargetNames.contains(target)) {
                 result.add(target);
             }
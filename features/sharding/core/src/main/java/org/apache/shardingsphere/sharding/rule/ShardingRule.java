@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.algorithm.keygen.spi.KeyGenerateAlgorithm
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
@@ -53,6 +54,7 @@ import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorith
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.PreciseShardingRoutePlan;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableNamesRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.checker.ShardingRuleChecker;
@@ -98,6 +100,10 @@ public final class ShardingRule implements DatabaseRule {
     
     private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
     
+    private final Map<String, PreciseShardingRoutePlan> databaseRoutePlans = new CaseInsensitiveMap<>();
+    
+    private final Map<String, PreciseShardingRoutePlan> tableRoutePlans = new CaseInsensitiveMap<>();
+    
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
     
     private final ShardingStrategyConfiguration defaultTableShardingStrategyConfig;
@@ -126,6 +132,7 @@ public final class ShardingRule implements DatabaseRule {
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfiguration(ruleConfig);
         defaultTableShardingStrategyConfig = createDefaultTableShardingStrategyConfiguration(ruleConfig);
+        compileRoutePlans();
         defaultAuditStrategy = null == ruleConfig.getDefaultAuditStrategy() ? new ShardingAuditStrategyConfiguration(Collections.emptyList(), true) : ruleConfig.getDefaultAuditStrategy();
         defaultKeyGenerateAlgorithm = null == ruleConfig.getDefaultKeyGenerateStrategy()
                 ? TypedSPILoader.getService(KeyGenerateAlgorithm.class, null)
@@ -155,6 +162,19 @@ public final class ShardingRule implements DatabaseRule {
         return null == ruleConfig.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultTableShardingStrategy();
     }
     
+    private void compileRoutePlans() {
+        for (ShardingTable each : shardingTables.values()) {
+            compileRoutePlan(getDatabaseShardingStrategyConfiguration(each), each.getDataSourceDataNode()).ifPresent(optional -> databaseRoutePlans.put(each.getLogicTable(), optional));
+            compileRoutePlan(getTableShardingStrategyConfiguration(each), each.getTableDataNode()).ifPresent(optional -> tableRoutePlans.put(each.getLogicTable(), optional));
+        }
+    }
+    
+    private Optional<PreciseShardingRoutePlan> compileRoutePlan(final ShardingStrategyConfiguration shardingStrategyConfig, final DataNodeInfo dataNodeInfo) {
+        return shardingStrategyConfig instanceof StandardShardingStrategyConfiguration
+                ? PreciseShardingRoutePlan.compile(shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), dataNodeInfo)
+                : Optional.empty();
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -266,6 +286,26 @@ public final class ShardingRule implements DatabaseRule {
         return null == shardingTable.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : shardingTable.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Find database precise sharding route plan.
+     *
+     * @param shardingTable sharding table
+     * @return found database precise sharding route plan
+     */
+    public Optional<PreciseShardingRoutePlan> findDatabaseRoutePlan(final ShardingTable shardingTable) {
+        return Optional.ofNullable(databaseRoutePlans.get(shardingTable.getLogicTable()));
+    }
+    
+    /**
+     * Find table precise sharding route plan.
+     *
+     * @param shardingTable sharding table
+     * @return found table precise sharding route plan
+     */
+    public Optional<PreciseShardingRoutePlan> findTableRoutePlan(final ShardingTable shardingTable) {
+        return Optional.ofNullable(tableRoutePlans.get(shardingTable.getLogicTable()));
+    }
+    
     /**
      * Get audit strategy configuration.
      *
@@ -55,6 +55,12 @@ class HashModShardingAlgorithmTest {
         assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_type", DATA_NODE_INFO, "a")), is("t_order_1"));
     }
     
+    @Test
+    void assertGetShardingIndex() {
+        assertThat(shardingAlgorithm.getShardingIndex("a"), is(1));
+        assertThat(shardingAlgorithm.getShardingSuffix(1), is("1"));
+    }
+    
     @Test
     void assertRangeDoSharding() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
@@ -54,6 +54,21 @@ class ModShardingAlgorithmTest {
         assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "12345678910111213141516")), is("t_order_12"));
     }
     
+    @Test
+    void assertGetShardingIndex() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        assertThat(algorithm.getShardingIndex(17L), is(1));
+        assertThat(algorithm.getShardingIndex(-17), is(15));
+        assertThat(algorithm.getShardingIndex("12345678910111213141516"), is(12));
+    }
+    
+    @Test
+    void assertGetShardingIndexWithOffset() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(
+                new Property("sharding-count", "16"), new Property("start-offset", "1"), new Property("stop-offset", "1")));
+        assertThat(algorithm.getShardingIndex(91719), is(11));
+    }
+    
     @Test
     void assertPreciseDoShardingWhenOffsetOverload() {
         ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(
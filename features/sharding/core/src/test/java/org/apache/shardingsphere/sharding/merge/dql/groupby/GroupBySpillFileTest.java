@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupBySpillFileTest {
+    
+    @Test
+    void assertWriteAndRead() {
+        GroupBySpillFile spillFile = new GroupBySpillFile(2);
+        spillFile.write(new MemoryQueryResultRow(new Object[]{1, "foo"}));
+        spillFile.write(new MemoryQueryResultRow(new Object[]{2, null}));
+        spillFile.finishWrite();
+        MemoryQueryResultRow actual = spillFile.read();
+        assertThat(actual.getCell(1), is(1));
+        assertThat(actual.getCell(2), is("foo"));
+        actual = spillFile.read();
+        assertThat(actual.getCell(1), is(2));
+        assertThat(actual.getCell(2), nullValue());
+        assertThat(spillFile.read(), nullValue());
+    }
+    
+    @Test
+    void assertWriteWithNotSerializableValue() {
+        GroupBySpillFile spillFile = new GroupBySpillFile(2);
+        try {
+            assertThrows(GroupByMergeSpillException.class, () -> spillFile.write(new MemoryQueryResultRow(new Object[]{1, new Object()})));
+        } finally {
+            spillFile.close();
+        }
+    }
+}
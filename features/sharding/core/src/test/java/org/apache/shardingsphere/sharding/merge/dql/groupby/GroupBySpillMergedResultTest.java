@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    private static final int GROUP_COUNT = 1000;
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = merge(1L, Arrays.asList(createQueryResult(0, 0), createQueryResult(0, 0)), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        MergedResult expected = merge(0L, createQueryResults(), mock(ConnectionContext.class));
+        MergedResult actual = merge(1L, createQueryResults(), mock(ConnectionContext.class));
+        assertSameRows(actual, expected);
+    }
+    
+    @Test
+    void assertNextWithPartialSpill() throws SQLException {
+        MergedResult expected = merge(0L, createQueryResults(), mock(ConnectionContext.class));
+        MergedResult actual = merge(20L * 1024L, createQueryResults(), mock(ConnectionContext.class));
+        assertSameRows(actual, expected);
+    }
+    
+    @Test
+    void assertNextWithoutSpillReportsUsedMemory() throws SQLException {
+        ExecutionGroupContext<SQLExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("foo_process", "foo_db"));
+        Process process = new Process(executionGroupContext);
+        ProcessRegistry.getInstance().add(process);
+        try {
+            ConnectionContext connectionContext = mock(ConnectionContext.class);
+            when(connectionContext.getProcessId()).thenReturn("foo_process");
+            MergedResult expected = merge(0L, createQueryResults(), mock(ConnectionContext.class));
+            MergedResult actual = merge(Long.MAX_VALUE, createQueryResults(), connectionContext);
+            assertThat(process.getUsedMemoryBytes().get(), greaterThan(0L));
+            assertSameRows(actual, expected);
+            assertThat(process.getUsedMemoryBytes().get(), is(0L));
+        } finally {
+            ProcessRegistry.getInstance().remove("foo_process");
+        }
+    }
+    
+    @Test
+    void assertCloseWithoutSpillBeforeExhausted() throws SQLException {
+        ExecutionGroupContext<SQLExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("foo_process", "foo_db"));
+        Process process = new Process(executionGroupContext);
+        ProcessRegistry.getInstance().add(process);
+        try {
+            ConnectionContext connectionContext = mock(ConnectionContext.class);
+            when(connectionContext.getProcessId()).thenReturn("foo_process");
+            MergedResult actual = merge(Long.MAX_VALUE, createQueryResults(), connectionContext);
+            assertTrue(actual.next());
+            actual.close();
+            assertThat(process.getUsedMemoryBytes().get(), is(0L));
+            assertFalse(actual.next());
+        } finally {
+            ProcessRegistry.getInstance().remove("foo_process");
+        }
+    }
+    
+    @Test
+    void assertCloseWithSpillBeforeExhausted() throws SQLException {
+        MergedResult actual = merge(1L, createQueryResults(), mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    private void assertSameRows(final MergedResult actual, final MergedResult expected) throws SQLException {
+        int rowCount = 0;
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int columnIndex = 1; columnIndex <= 5; columnIndex++) {
+                assertThat(actual.getValue(columnIndex, Object.class), is(expected.getValue(columnIndex, Object.class)));
+            }
+            rowCount++;
+        }
+        assertFalse(actual.next());
+        assertThat(rowCount, is(GROUP_COUNT));
+    }
+    
+    private MergedResult merge(final long memoryLimitBytes, final List<QueryResult> queryResults, final ConnectionContext connectionContext) throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new ShardingDQLResultMerger(databaseType, memoryLimitBytes).merge(queryResults, createSelectStatementContext(database), database, connectionContext);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final ShardingSphereDatabase database) {
+        SelectStatement selectStatement = new SelectStatement(databaseType);
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        return new SelectStatementContext(selectStatement, new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), "foo_db", Collections.emptyList());
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new LinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            result.add(createQueryResult(i, GROUP_COUNT));
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final int shardIndex, final int groupCount) {
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(groupCount * 2);
+        for (int id = groupCount - 1; id >= 0; id--) {
+            int count = (id + shardIndex) % 3 + 1;
+            long sum = (long) id * count + shardIndex;
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(count, sum / count, id, count, sum)));
+        }
+        Collections.shuffle(rows);
+        return new RawMemoryQueryResult(createQueryResultMetaData(), rows);
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData() {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(5);
+        columns.add(new RawQueryResultColumnMetaData("", "COUNT(*)", "COUNT(*)", Types.BIGINT, "BIGINT", 20, 0));
+        columns.add(new RawQueryResultColumnMetaData("", "AVG(num)", "AVG(num)", Types.BIGINT, "BIGINT", 20, 0));
+        columns.add(new RawQueryResultColumnMetaData("", "id", "id", Types.INTEGER, "INT", 10, 0));
+        columns.add(new RawQueryResultColumnMetaData("", "AVG_DERIVED_COUNT_0", "AVG_DERIVED_COUNT_0", Types.BIGINT, "BIGINT", 20, 0));
+        columns.add(new RawQueryResultColumnMetaData("", "AVG_DERIVED_SUM_0", "AVG_DERIVED_SUM_0", Types.BIGINT, "BIGINT", 20, 0));
+        return new RawQueryResultMetaData(columns);
+    }
+}
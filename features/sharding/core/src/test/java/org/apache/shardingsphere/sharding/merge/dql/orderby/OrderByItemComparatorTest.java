@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByItemComparatorTest {
+    
+    @Test
+    void assertCompareIntegralValuesWithDifferentTypes() {
+        OrderByItemComparator comparator = new OrderByItemComparator(1, OrderDirection.ASC, NullsOrderType.FIRST, true, Types.BIGINT);
+        assertTrue(comparator.compare(1, 2L) < 0);
+        assertThat(comparator.compare(2L, 2), is(0));
+    }
+    
+    @Test
+    void assertCompareDecimalValuesForDesc() {
+        OrderByItemComparator comparator = new OrderByItemComparator(1, OrderDirection.DESC, NullsOrderType.FIRST, true, Types.DECIMAL);
+        assertTrue(comparator.compare(new BigDecimal("1.0"), new BigDecimal("2")) > 0);
+        assertThat(comparator.compare(new BigDecimal("1.0"), new BigDecimal("1")), is(0));
+    }
+    
+    @Test
+    void assertCompareUnexpectedValueTypeWithGenericComparison() {
+        OrderByItemComparator comparator = new OrderByItemComparator(1, OrderDirection.ASC, NullsOrderType.FIRST, true, Types.INTEGER);
+        assertTrue(comparator.compare("a", "b") < 0);
+    }
+    
+    @Test
+    void assertCompareNullValues() {
+        OrderByItemComparator comparator = new OrderByItemComparator(1, OrderDirection.DESC, NullsOrderType.LAST, true, Types.VARCHAR);
+        assertThat(comparator.compare(null, null), is(0));
+        assertThat(comparator.compare(null, "a"), is(1));
+        assertThat(comparator.compare("a", null), is(-1));
+    }
+    
+    @Test
+    void assertGetOrderValueForCaseInsensitiveString() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn("foo");
+        OrderByItemComparator comparator = new OrderByItemComparator(1, OrderDirection.ASC, NullsOrderType.FIRST, false, Types.VARCHAR);
+        Object actual = comparator.getOrderValue(queryResult);
+        assertThat(actual, is("FOO"));
+        assertThat(comparator.compare(actual, "FOO"), is(0));
+    }
+    
+    @Test
+    void assertGetOrderValueForCaseSensitiveString() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn("foo");
+        assertThat(new OrderByItemComparator(1, OrderDirection.ASC, NullsOrderType.FIRST, true, Types.VARCHAR).getOrderValue(queryResult), is("foo"));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderByLoserTreeTest {
+    
+    private final List<OrderByItemComparator> comparators = Collections.singletonList(new OrderByItemComparator(1, OrderDirection.ASC, NullsOrderType.FIRST, true, Types.BIGINT));
+    
+    @Test
+    void assertMergeWithEmptyQueryResults() throws SQLException {
+        assertTrue(new OrderByLoserTree(Arrays.asList(createQueryResult(), createQueryResult()), comparators).isEmpty());
+    }
+    
+    @Test
+    void assertMergeWithSingleQueryResult() throws SQLException {
+        assertThat(merge(Collections.singletonList(createQueryResult(1L, 2L, 3L))), is(Arrays.asList(1L, 2L, 3L)));
+    }
+    
+    @Test
+    void assertMergeWithOddQueryResults() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(2L, 9L), createQueryResult(), createQueryResult(1L, 4L, 4L), createQueryResult(3L, 5L, 10L, 11L), createQueryResult(0L));
+        assertThat(merge(queryResults), is(Arrays.asList(0L, 1L, 2L, 3L, 4L, 4L, 5L, 9L, 10L, 11L)));
+    }
+    
+    @Test
+    void assertMergeWithWideFanOut() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(300);
+        List<Long> expected = new ArrayList<>(900);
+        for (long i = 0; i < 300; i++) {
+            queryResults.add(createQueryResult(i, i + 300, i + 600));
+        }
+        for (long i = 0; i < 900; i++) {
+            expected.add(i);
+        }
+        assertThat(merge(queryResults), is(expected));
+    }
+    
+    @Test
+    void assertMergeWithEqualOrderValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(1L, 2L), createQueryResult(1L, 1L), createQueryResult(1L), createQueryResult(0L, 1L));
+        OrderByLoserTree loserTree = new OrderByLoserTree(queryResults, comparators);
+        List<Integer> actual = new LinkedList<>();
+        while (!loserTree.isEmpty()) {
+            actual.add(queryResults.indexOf(loserTree.getWinner()));
+            loserTree.next();
+        }
+        assertThat(actual, is(Arrays.asList(3, 0, 1, 1, 2, 3, 0)));
+    }
+    
+    private List<Long> merge(final List<QueryResult> queryResults) throws SQLException {
+        OrderByLoserTree loserTree = new OrderByLoserTree(queryResults, comparators);
+        List<Long> result = new LinkedList<>();
+        while (!loserTree.isEmpty()) {
+            result.add((Long) loserTree.getWinner().getValue(1, Object.class));
+            loserTree.next();
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Long... values) {
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(values.length);
+        for (Long each : values) {
+            rows.add(new MemoryQueryResultDataRow(Collections.singletonList(each)));
+        }
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(Collections.singletonList(new RawQueryResultColumnMetaData("", "id", "id", Types.BIGINT, "BIGINT", 20, 0))), rows);
+    }
+}
@@ -185,10 +185,10 @@ class OrderByStreamMergedResultTest {
             when(metaData.getColumnName(1)).thenReturn("col1");
             when(metaData.getColumnName(2)).thenReturn("col2");
         }
-        when(queryResults.get(0).next()).thenReturn(true, false);
-        when(queryResults.get(0).getValue(2, Object.class)).thenReturn("b");
-        when(queryResults.get(1).next()).thenReturn(true, true, false);
-        when(queryResults.get(1).getValue(2, Object.class)).thenReturn("a", "a", "B", "B");
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(2, Object.class)).thenReturn("a", "a", "B", "B");
+        when(queryResults.get(1).next()).thenReturn(true, false);
+        when(queryResults.get(1).getValue(2, Object.class)).thenReturn("b");
         when(queryResults.get(2).next()).thenReturn(true, false);
         when(queryResults.get(2).getValue(2, Object.class)).thenReturn("A");
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(databaseType);
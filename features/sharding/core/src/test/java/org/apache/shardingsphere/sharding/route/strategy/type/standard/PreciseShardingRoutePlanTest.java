@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.strategy.type.standard;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.fixture.CoreStandardShardingAlgorithmFixture;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PreciseShardingRoutePlanTest {
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 1, '0');
+    
+    @Test
+    void assertCompileWithModShardingAlgorithm() {
+        Optional<PreciseShardingRoutePlan> actual = PreciseShardingRoutePlan.compile(
+                TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))), DATA_NODE_INFO);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTargetName(5), is("t_order_1"));
+        assertThat(actual.get().getTargetName(-3L), is("t_order_1"));
+        assertThat(actual.get().getTargetName("12345678910111213141516"), is("t_order_0"));
+    }
+    
+    @Test
+    void assertCompileWithZeroPaddingModShardingAlgorithm() {
+        Optional<PreciseShardingRoutePlan> actual = PreciseShardingRoutePlan.compile(TypedSPILoader.getService(ShardingAlgorithm.class, "MOD",
+                PropertiesBuilder.build(new Property("sharding-count", "16"), new Property("zero-padding", Boolean.TRUE.toString()))), new DataNodeInfo("t_order_", 2, '0'));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTargetName(17), is("t_order_01"));
+    }
+    
+    @Test
+    void assertCompileWithHashModShardingAlgorithm() {
+        Optional<PreciseShardingRoutePlan> actual = PreciseShardingRoutePlan.compile(
+                TypedSPILoader.getService(ShardingAlgorithm.class, "HASH_MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))), DATA_NODE_INFO);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTargetName("a"), is("t_order_1"));
+    }
+    
+    @Test
+    void assertCompileWithNotIndexShardingAlgorithm() {
+        assertFalse(PreciseShardingRoutePlan.compile(new CoreStandardShardingAlgorithmFixture(), DATA_NODE_INFO).isPresent());
+    }
+    
+    @Test
+    void assertCompileWithoutDataNodeInfo() {
+        assertFalse(PreciseShardingRoutePlan.compile(TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "4"))), null).isPresent());
+    }
+}
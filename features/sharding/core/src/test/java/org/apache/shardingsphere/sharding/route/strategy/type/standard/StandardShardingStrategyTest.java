@@ -20,9 +20,14 @@ package org.apache.shardingsphere.sharding.route.strategy.type.standard;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.fixture.CoreStandardShardingAlgorithmFixture;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -65,6 +70,18 @@ class StandardShardingStrategyTest {
         assertThat(actualListSharding.iterator().next(), is("1"));
     }
     
+    @Test
+    void assertDoShardingForListShardingWithRoutePlan() {
+        ShardingAlgorithm shardingAlgorithm = TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "4")));
+        StandardShardingStrategy strategy = new StandardShardingStrategy("column", (StandardShardingAlgorithm<?>) shardingAlgorithm,
+                PreciseShardingRoutePlan.compile(shardingAlgorithm, dataNodeSegment).orElse(null));
+        Collection<String> availableTargetNames = Arrays.asList("logicTable_0", "logicTable_1", "logicTable_2");
+        Collection<String> actual = strategy.doSharding(availableTargetNames, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Arrays.asList(1, 5, 3))), dataNodeSegment, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is("logicTable_1"));
+    }
+    
     @Test
     void assertGetShardingColumns() {
         Collection<String> actualShardingColumns = standardShardingStrategy.getShardingColumns();
@@ -521,6 +521,28 @@ class ShardingRuleTest {
         assertThat(shardingRule.getDataSourceNames(), is(new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1", "resource0", "resource1"))));
     }
     
+    @Test
+    void assertFindRoutePlanWithShardingAutoTables() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingAutoTableRuleConfiguration autoTableRuleConfig = new ShardingAutoTableRuleConfiguration("auto_table", "resource0, resource1");
+        autoTableRuleConfig.setShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "hash_mod"));
+        shardingRuleConfig.getAutoTables().add(autoTableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("hash_mod", new AlgorithmConfiguration("hash_mod", PropertiesBuilder.build(new Property("sharding-count", "4"))));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+        ShardingTable shardingTable = shardingRule.getShardingTable("auto_table");
+        assertFalse(shardingRule.findDatabaseRoutePlan(shardingTable).isPresent());
+        assertTrue(shardingRule.findTableRoutePlan(shardingTable).isPresent());
+        assertThat(shardingRule.findTableRoutePlan(shardingTable).get().getTargetName("a"), is("auto_table_1"));
+    }
+    
+    @Test
+    void assertFindRoutePlanWithoutIndexShardingAlgorithm() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        ShardingTable shardingTable = shardingRule.getShardingTable("LOGIC_TABLE");
+        assertFalse(shardingRule.findDatabaseRoutePlan(shardingTable).isPresent());
+        assertFalse(shardingRule.findTableRoutePlan(shardingTable).isPresent());
+    }
+    
     @Test
     void assertGetDataSourceNamesWithoutShardingAutoTables() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.infra.algorithm.cryptographic.spi;
 
 import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Cryptographic algorithm.
  */
@@ -39,4 +42,18 @@ public interface CryptographicAlgorithm extends ShardingSphereAlgorithm {
      * @return plain value
      */
     Object decrypt(Object cipherValue);
+    
+    /**
+     * Encrypt values in batch.
+     *
+     * @param plainValues plain values
+     * @return cipher values in the same order
+     */
+    default List<Object> batchEncrypt(final List<Object> plainValues) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(encrypt(each));
+        }
+        return result;
+    }
 }
@@ -27,19 +27,32 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 /**
  * AES cryptographic algorithm.
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
-    private CryptographicPropertiesProvider propsProvider;
+    private static final int MAX_POOLED_CIPHERS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private final Queue<Cipher> encryptCiphers = new ArrayBlockingQueue<>(MAX_POOLED_CIPHERS);
+    
+    private final Queue<Cipher> decryptCiphers = new ArrayBlockingQueue<>(MAX_POOLED_CIPHERS);
+    
+    private SecretKeySpec secretKey;
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        secretKey = new SecretKeySpec(propsProvider.getSecretKey(), getType());
+        encryptCiphers.clear();
+        decryptCiphers.clear();
     }
     
     @HighFrequencyInvocation
@@ -49,13 +62,28 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return encode(result);
+        Cipher cipher = borrowCipher(encryptCiphers, Cipher.ENCRYPT_MODE);
+        String result = doEncrypt(cipher, plainValue);
+        encryptCiphers.offer(cipher);
+        return result;
     }
     
     @HighFrequencyInvocation
-    private String encode(final byte[] value) {
-        return Base64.getEncoder().encodeToString(value);
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> batchEncrypt(final List<Object> plainValues) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        Cipher cipher = borrowCipher(encryptCiphers, Cipher.ENCRYPT_MODE);
+        for (Object each : plainValues) {
+            result.add(null == each ? null : doEncrypt(cipher, each));
+        }
+        encryptCiphers.offer(cipher);
+        return result;
+    }
+    
+    @HighFrequencyInvocation
+    private String doEncrypt(final Cipher cipher, final Object plainValue) throws GeneralSecurityException {
+        return Base64.getEncoder().encodeToString(cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
     }
     
     @HighFrequencyInvocation
@@ -65,19 +93,27 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
+        Cipher cipher = borrowCipher(decryptCiphers, Cipher.DECRYPT_MODE);
+        String result = doDecrypt(cipher, cipherValue);
+        decryptCiphers.offer(cipher);
+        return result;
     }
     
     @HighFrequencyInvocation
-    private byte[] decode(final String value) {
-        return Base64.getDecoder().decode(value);
+    private String doDecrypt(final Cipher cipher, final Object cipherValue) throws GeneralSecurityException {
+        return new String(cipher.doFinal(Base64.getDecoder().decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
     }
     
     @HighFrequencyInvocation
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
+    private Cipher borrowCipher(final Queue<Cipher> ciphers, final int cipherMode) throws GeneralSecurityException {
+        // Cipher is not thread safe, borrowed cipher is returned only after successful doFinal which resets it, failed cipher is dropped because its state is undefined,
+        // and returned cipher is dropped too when the bounded pool is full, so bursts of concurrent calls do not keep ciphers forever
+        Cipher result = ciphers.poll();
+        if (null != result) {
+            return result;
+        }
+        result = Cipher.getInstance(getType());
+        result.init(cipherMode, secretKey);
         return result;
     }
     
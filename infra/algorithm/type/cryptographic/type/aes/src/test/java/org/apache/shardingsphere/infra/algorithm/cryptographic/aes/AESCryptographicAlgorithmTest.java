@@ -25,10 +25,19 @@ import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AESCryptographicAlgorithmTest {
     
@@ -75,4 +84,39 @@ class AESCryptographicAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
     }
+    
+    @Test
+    void assertBatchEncrypt() {
+        assertThat(cryptographicAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    void assertDecryptAfterFailedDecrypt() {
+        assertThrows(IllegalArgumentException.class, () -> cryptographicAlgorithm.decrypt("invalid cipher value"));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    @Test
+    void assertConcurrentEncryptAndDecrypt() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<Boolean>> futures = new LinkedList<>();
+            for (int i = 0; i < 16; i++) {
+                String plainValue = "value_" + i;
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        if (!plainValue.equals(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt(plainValue)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> each : futures) {
+                assertTrue(each.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
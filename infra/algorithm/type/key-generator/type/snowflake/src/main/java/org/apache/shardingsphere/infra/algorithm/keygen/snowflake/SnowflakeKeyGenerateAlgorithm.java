@@ -32,7 +32,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -48,6 +47,10 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one millis
  * </pre>
+ * 
+ * <p>Keys of one batch are reserved as a contiguous range by a single CAS on the packed last millis and sequence, without lock.
+ * The range continues into later millis when it exceeds the sequence space left in the current one,
+ * and clock rollback is detected against the last clock reading rather than the reserved millis.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -73,6 +76,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int DEFAULT_WORKER_ID = 0;
     
+    private static final long INITIAL_STATE = -1L;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
@@ -80,9 +85,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong state = new AtomicLong(INITIAL_STATE);
     
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong lastClockMillis = new AtomicLong();
     
     private Properties props;
     
@@ -124,57 +129,60 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     @HighFrequencyInvocation
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
+        long[] result = new long[keyGenerateCount];
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        long firstState = reserveStates(keyGenerateCount);
         for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+            long each = firstState + index;
+            result[index] = ((each >> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS) | workerIdBits | (each & SEQUENCE_MASK);
         }
-        return result;
+        return new SnowflakeKeys(result);
     }
     
     @HighFrequencyInvocation
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    private long reserveStates(final int keyGenerateCount) {
+        while (true) {
+            long currentMillis = getCurrentMillis();
+            long lastState = state.get();
+            int lastSequenceOffset = sequenceOffset.get();
+            boolean newMillis = getMillis(lastState) < currentMillis;
+            long result = newMillis ? ((currentMillis - EPOCH) << SEQUENCE_BITS) | getNextSequenceOffset(lastSequenceOffset) : lastState + 1L;
+            if (state.compareAndSet(lastState, result + keyGenerateCount - 1L)) {
+                if (newMillis) {
+                    sequenceOffset.compareAndSet(lastSequenceOffset, (int) (result & SEQUENCE_MASK));
+                }
+                return result;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
-    @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
-            return false;
-        }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
-        ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
-        Thread.sleep(timeDifferenceMillis);
-        return true;
+    private long getMillis(final long state) {
+        return (state >> SEQUENCE_BITS) + EPOCH;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
+    private long getCurrentMillis() {
+        long lastMillis = lastClockMillis.get();
         long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
+        while (result < lastMillis) {
+            waitTolerateTimeDifference(lastMillis, result);
             result = timeService.getCurrentMillis();
         }
+        if (result > lastMillis) {
+            lastClockMillis.compareAndSet(lastMillis, result);
+        }
         return result;
     }
     
-    @HighFrequencyInvocation
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
-        }
+    @SneakyThrows(InterruptedException.class)
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastMillis - currentMillis;
+        ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
+        Thread.sleep(timeDifferenceMillis);
+    }
+    
+    private int getNextSequenceOffset(final int lastSequenceOffset) {
+        return lastSequenceOffset >= maxVibrationOffset ? 0 : lastSequenceOffset + 1;
     }
     
     @HighFrequencyInvocation
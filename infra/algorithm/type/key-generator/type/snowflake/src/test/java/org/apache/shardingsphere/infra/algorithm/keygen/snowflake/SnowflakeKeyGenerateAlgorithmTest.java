@@ -37,19 +37,24 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SnowflakeKeyGenerateAlgorithmTest {
@@ -91,7 +96,9 @@ class SnowflakeKeyGenerateAlgorithmTest {
         }
         List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
-        actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+        }
         assertThat(actual, is(expected));
     }
     
@@ -143,8 +150,8 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
+        setState(algorithm, timeService.getCurrentMillis() + 2L, 0L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L, 8388612L, 8388613L, 8388614L, 8388615L, 8388616L, 8388617L, 8388618L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -158,7 +165,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
+        setState(algorithm, timeService.getCurrentMillis() + 2L, 0L);
         assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
     }
     
@@ -174,22 +181,73 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis());
-        setSequence(algorithm, (1L << DEFAULT_SEQUENCE_BITS) - 1L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
+        setState(algorithm, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 1L);
+        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 4194307L, 4194308L, 4194309L, 4194310L, 4194311L, 4194312L, 4194313L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
+    @Test
+    void assertGenerateKeysInOneContiguousReservation() throws ReflectiveOperationException {
+        TimeService timeService = new FixedTimeService(Integer.MAX_VALUE);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        setState(algorithm, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 3L);
+        AtomicLong state = spy((AtomicLong) Plugins.getMemberAccessor().get(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state"), algorithm));
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state"), algorithm, state);
+        List<Comparable<?>> expected = Arrays.asList(4094L, 4095L, 4194304L, 4194305L, 4194306L);
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5));
+        assertThat(actual, is(expected));
+        verify(state).compareAndSet(anyLong(), anyLong());
+        assertThat(state.get(), is((1L << DEFAULT_SEQUENCE_BITS) | 2L));
+    }
+    
+    @Test
+    void assertGenerateKeysInBatchWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        int taskNumber = threadNumber * 4;
+        int keyGenerateCount = 1000;
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), keyGenerateCount)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * keyGenerateCount, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * keyGenerateCount));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreadsWithoutToleratedTimeDifference() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("max-tolerate-time-difference-milliseconds", "0")));
+        int taskNumber = threadNumber * 4;
+        int keyGenerateCount = 10000;
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), keyGenerateCount)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * keyGenerateCount, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * keyGenerateCount));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
+    private void setState(final KeyGenerateAlgorithm algorithm, final long lastMillis, final long sequence) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state"), algorithm,
+                new AtomicLong(((lastMillis - SnowflakeKeyGenerateAlgorithm.EPOCH) << DEFAULT_SEQUENCE_BITS) | sequence));
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastClockMillis"), algorithm, new AtomicLong(lastMillis));
     }
     
     @Test
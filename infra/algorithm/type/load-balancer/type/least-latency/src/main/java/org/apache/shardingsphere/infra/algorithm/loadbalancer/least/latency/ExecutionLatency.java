@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.latency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution latency of target.
+ * 
+ * <p>Latency is kept as a peak-sensitive exponentially weighted moving average: a slower sample replaces the average at once,
+ * and a faster sample or idle time decays it with time constant of {@code DECAY_NANOS}.</p>
+ */
+final class ExecutionLatency {
+    
+    private static final long DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicLong averageNanos = new AtomicLong();
+    
+    private volatile long lastRecordedNanos;
+    
+    /**
+     * Record elapsed time of execution.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     * @param currentNanos current nanoseconds
+     */
+    void record(final long elapsedNanos, final long currentNanos) {
+        long previous;
+        long next;
+        do {
+            previous = averageNanos.get();
+            next = elapsedNanos >= previous ? elapsedNanos : (long) (elapsedNanos + (previous - elapsedNanos) * getDecayFactor(currentNanos));
+        } while (!averageNanos.compareAndSet(previous, next));
+        lastRecordedNanos = currentNanos;
+    }
+    
+    /**
+     * Get cost of target.
+     *
+     * @param currentNanos current nanoseconds
+     * @return cost of target, zero if no execution recorded
+     */
+    double getCost(final long currentNanos) {
+        long average = averageNanos.get();
+        return 0L == average ? 0D : average * getDecayFactor(currentNanos);
+    }
+    
+    private double getDecayFactor(final long currentNanos) {
+        return Math.exp(-(double) Math.max(0L, currentNanos - lastRecordedNanos) / DECAY_NANOS);
+    }
+}
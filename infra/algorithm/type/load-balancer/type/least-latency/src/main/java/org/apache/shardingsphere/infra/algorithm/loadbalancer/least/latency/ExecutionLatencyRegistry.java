@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.latency;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Execution latency registry.
+ * 
+ * <p>Latencies are kept by the connection properties instance of each storage unit, which is created per database, so storage units with the same name in different databases do not share latency.
+ * Keys are weak, so latencies go away together with their storage units.
+ * Only storage units which have been balanced by {@code LEAST_LATENCY} are registered, so executions on other storage units are not tracked.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ExecutionLatencyRegistry {
+    
+    private static final Map<ConnectionProperties, ExecutionLatency> LATENCIES = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Get or create execution latency.
+     *
+     * @param connectionProps connection properties of storage unit
+     * @return execution latency
+     */
+    static ExecutionLatency getOrCreate(final ConnectionProperties connectionProps) {
+        ExecutionLatency result = LATENCIES.get(connectionProps);
+        return null == result ? LATENCIES.computeIfAbsent(connectionProps, key -> new ExecutionLatency()) : result;
+    }
+    
+    /**
+     * Find execution latency.
+     *
+     * @param connectionProps connection properties of storage unit
+     * @return found execution latency
+     */
+    static Optional<ExecutionLatency> find(final ConnectionProperties connectionProps) {
+        return null == connectionProps ? Optional.empty() : Optional.ofNullable(LATENCIES.get(connectionProps));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.latency;
+
+import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+
+/**
+ * Execution latency SQL execution hook.
+ */
+public final class ExecutionLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    private ExecutionLatency executionLatency;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        executionLatency = ExecutionLatencyRegistry.find(connectionProps).orElse(null);
+        if (null != executionLatency) {
+            startNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish();
+    }
+    
+    private void finish() {
+        if (null == executionLatency) {
+            return;
+        }
+        long currentNanos = System.nanoTime();
+        executionLatency.record(currentNanos - startNanos, currentNanos);
+        executionLatency = null;
+    }
+}
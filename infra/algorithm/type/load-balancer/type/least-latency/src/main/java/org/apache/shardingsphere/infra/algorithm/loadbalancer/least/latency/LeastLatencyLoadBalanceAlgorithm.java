@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.latency;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnitsAware;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least latency load balance algorithm.
+ * 
+ * <p>Two distinct targets are picked at random and the one with lower execution latency wins, which keeps a slow target away from most requests
+ * without herding all requests onto the single fastest target.</p>
+ */
+public final class LeastLatencyLoadBalanceAlgorithm implements LoadBalanceAlgorithm, StorageUnitsAware {
+    
+    private final Map<String, ExecutionLatency> latencies = new ConcurrentHashMap<>();
+    
+    private Map<String, StorageUnit> storageUnits = Collections.emptyMap();
+    
+    @Override
+    public void setStorageUnits(final Map<String, StorageUnit> storageUnits) {
+        this.storageUnits = storageUnits;
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        long currentNanos = System.nanoTime();
+        return getExecutionLatency(secondTargetName).getCost(currentNanos) < getExecutionLatency(firstTargetName).getCost(currentNanos) ? secondTargetName : firstTargetName;
+    }
+    
+    private ExecutionLatency getExecutionLatency(final String targetName) {
+        ExecutionLatency result = latencies.get(targetName);
+        return null == result ? latencies.computeIfAbsent(targetName, this::createExecutionLatency) : result;
+    }
+    
+    private ExecutionLatency createExecutionLatency(final String targetName) {
+        StorageUnit storageUnit = storageUnits.get(targetName);
+        return null == storageUnit ? new ExecutionLatency() : ExecutionLatencyRegistry.getOrCreate(storageUnit.getConnectionProperties());
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_LATENCY";
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.latency;
+
+import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class ExecutionLatencySQLExecutionHookTest {
+    
+    @Test
+    void assertFinishSuccessWithUnregisteredDataSource() {
+        ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+        ExecutionLatencySQLExecutionHook hook = new ExecutionLatencySQLExecutionHook();
+        hook.start("foo_ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        hook.finishSuccess();
+        assertFalse(ExecutionLatencyRegistry.find(connectionProps).isPresent());
+    }
+    
+    @Test
+    void assertFinishSuccessWithRegisteredDataSource() throws InterruptedException {
+        ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+        ExecutionLatencyRegistry.getOrCreate(connectionProps);
+        ExecutionLatencySQLExecutionHook hook = new ExecutionLatencySQLExecutionHook();
+        hook.start("foo_ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        Thread.sleep(1L);
+        hook.finishSuccess();
+        assertThat(ExecutionLatencyRegistry.getOrCreate(connectionProps).getCost(System.nanoTime()), greaterThan(0D));
+    }
+    
+    @Test
+    void assertFinishSuccessWithSameDataSourceNameInOtherDatabase() throws InterruptedException {
+        ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+        ConnectionProperties otherConnectionProps = mock(ConnectionProperties.class);
+        ExecutionLatencyRegistry.getOrCreate(connectionProps);
+        ExecutionLatencyRegistry.getOrCreate(otherConnectionProps);
+        ExecutionLatencySQLExecutionHook hook = new ExecutionLatencySQLExecutionHook();
+        hook.start("foo_ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        Thread.sleep(1L);
+        hook.finishSuccess();
+        long currentNanos = System.nanoTime();
+        assertThat(ExecutionLatencyRegistry.getOrCreate(connectionProps).getCost(currentNanos), greaterThan(0D));
+        assertThat(ExecutionLatencyRegistry.getOrCreate(otherConnectionProps).getCost(currentNanos), is(0D));
+    }
+    
+    @Test
+    void assertFinishFailureWithRegisteredDataSource() throws InterruptedException {
+        ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+        ExecutionLatencyRegistry.getOrCreate(connectionProps);
+        ExecutionLatencySQLExecutionHook hook = new ExecutionLatencySQLExecutionHook();
+        hook.start("foo_ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        Thread.sleep(1L);
+        hook.finishFailure(new RuntimeException(""));
+        assertThat(ExecutionLatencyRegistry.getOrCreate(connectionProps).getCost(System.nanoTime()), greaterThan(0D));
+        hook.finishFailure(new RuntimeException(""));
+        assertThat(ExecutionLatencyRegistry.find(connectionProps).isPresent(), is(true));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.latency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+class ExecutionLatencyTest {
+    
+    private static final long DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    @Test
+    void assertGetCostWithoutRecord() {
+        assertThat(new ExecutionLatency().getCost(System.nanoTime()), is(0D));
+    }
+    
+    @Test
+    void assertRecordWithSlowerExecution() {
+        ExecutionLatency executionLatency = new ExecutionLatency();
+        executionLatency.record(100L, DECAY_NANOS);
+        executionLatency.record(1000L, DECAY_NANOS);
+        assertThat(executionLatency.getCost(DECAY_NANOS), is(1000D));
+    }
+    
+    @Test
+    void assertRecordWithFasterExecution() {
+        ExecutionLatency executionLatency = new ExecutionLatency();
+        executionLatency.record(1000L, DECAY_NANOS);
+        executionLatency.record(100L, DECAY_NANOS * 2L);
+        assertThat(executionLatency.getCost(DECAY_NANOS * 2L), closeTo(100D + 900D * Math.exp(-1D), 1D));
+    }
+    
+    @Test
+    void assertGetCostAfterIdle() {
+        ExecutionLatency executionLatency = new ExecutionLatency();
+        executionLatency.record(1000L, DECAY_NANOS);
+        assertThat(executionLatency.getCost(DECAY_NANOS * 2L), closeTo(1000D * Math.exp(-1D), 0.001D));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.latency;
+
+import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnitsAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeastLatencyLoadBalanceAlgorithmTest {
+    
+    private final LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY", new Properties());
+    
+    @Test
+    void assertGetSingleAvailableTargetName() {
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithoutLatency() {
+        List<String> availableTargetNames = Arrays.asList("idle_read_ds_0", "idle_read_ds_1");
+        assertTrue(availableTargetNames.contains(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames)));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithSlowTarget() {
+        Map<String, StorageUnit> storageUnits = createStorageUnits("read_ds_0", "read_ds_1", "read_ds_2");
+        ((StorageUnitsAware) loadBalanceAlgorithm).setStorageUnits(storageUnits);
+        long currentNanos = System.nanoTime();
+        ExecutionLatencyRegistry.getOrCreate(storageUnits.get("read_ds_0").getConnectionProperties()).record(1000L, currentNanos);
+        ExecutionLatencyRegistry.getOrCreate(storageUnits.get("read_ds_1").getConnectionProperties()).record(1000000000L, currentNanos);
+        ExecutionLatencyRegistry.getOrCreate(storageUnits.get("read_ds_2").getConnectionProperties()).record(2000L, currentNanos);
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2");
+        for (int i = 0; i < 100; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), not("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithSlowTargetInOtherDatabase() {
+        Map<String, StorageUnit> storageUnits = createStorageUnits("read_ds_0", "read_ds_1");
+        ((StorageUnitsAware) loadBalanceAlgorithm).setStorageUnits(storageUnits);
+        LoadBalanceAlgorithm otherLoadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY", new Properties());
+        Map<String, StorageUnit> otherStorageUnits = createStorageUnits("read_ds_0", "read_ds_1");
+        ((StorageUnitsAware) otherLoadBalanceAlgorithm).setStorageUnits(otherStorageUnits);
+        long currentNanos = System.nanoTime();
+        ExecutionLatencyRegistry.getOrCreate(storageUnits.get("read_ds_0").getConnectionProperties()).record(1000L, currentNanos);
+        ExecutionLatencyRegistry.getOrCreate(storageUnits.get("read_ds_1").getConnectionProperties()).record(1000000000L, currentNanos);
+        ExecutionLatencyRegistry.getOrCreate(otherStorageUnits.get("read_ds_0").getConnectionProperties()).record(1000000000L, currentNanos);
+        ExecutionLatencyRegistry.getOrCreate(otherStorageUnits.get("read_ds_1").getConnectionProperties()).record(1000L, currentNanos);
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1");
+        for (int i = 0; i < 100; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("read_ds_0"));
+            assertThat(otherLoadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("read_ds_1"));
+        }
+    }
+    
+    private Map<String, StorageUnit> createStorageUnits(final String... storageUnitNames) {
+        Map<String, StorageUnit> result = new HashMap<>(storageUnitNames.length, 1F);
+        for (String each : storageUnitNames) {
+            StorageUnit storageUnit = mock(StorageUnit.class);
+            ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+            when(storageUnit.getConnectionProperties()).thenReturn(connectionProps);
+            result.put(each, storageUnit);
+        }
+        return result;
+    }
+}
@@ -20,10 +20,12 @@ package org.apache.shardingsphere.infra.algorithm.loadbalancer.round.robin;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -39,6 +41,16 @@ class RoundRobinLoadBalanceAlgorithmTest {
         assertRoundRobinLoadBalance(availableTargetName1, availableTargetName2, loadBalanceAlgorithm, availableTargetNames);
     }
     
+    @Test
+    void assertGetAvailableTargetNameAfterCounterOverflow() throws ReflectiveOperationException {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ROUND_ROBIN", new Properties());
+        Plugins.getMemberAccessor().set(RoundRobinLoadBalanceAlgorithm.class.getDeclaredField("count"), loadBalanceAlgorithm, new AtomicInteger(Integer.MAX_VALUE));
+        List<String> availableTargetNames = Arrays.asList("test_read_ds_0", "test_read_ds_1", "test_read_ds_2");
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("test_read_ds_1"));
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("test_read_ds_0"));
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("test_read_ds_1"));
+    }
+    
     private void assertRoundRobinLoadBalance(final String availableTargetName1, final String availableTargetName2, final LoadBalanceAlgorithm loadBalanceAlgorithm,
                                              final List<String> availableTargetNames) {
         assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is(availableTargetName1));
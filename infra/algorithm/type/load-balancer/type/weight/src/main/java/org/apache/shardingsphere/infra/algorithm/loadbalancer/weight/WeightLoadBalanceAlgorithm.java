@@ -67,8 +67,11 @@ public final class WeightLoadBalanceAlgorithm implements LoadBalanceAlgorithm {
     @HighFrequencyInvocation
     @Override
     public String getTargetName(final String groupName, final List<String> availableTargetNames) {
-        double[] weight = weightMap.containsKey(groupName) && weightMap.get(groupName).length == availableTargetNames.size() ? weightMap.get(groupName) : initWeight(availableTargetNames);
-        weightMap.put(groupName, weight);
+        double[] weight = weightMap.get(groupName);
+        if (null == weight || weight.length != availableTargetNames.size()) {
+            weight = initWeight(availableTargetNames);
+            weightMap.put(groupName, weight);
+        }
         return getAvailableTargetName(availableTargetNames, weight);
     }
     
@@ -23,15 +23,23 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
 import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class WeightLoadBalanceAlgorithmTest {
     
@@ -75,4 +83,17 @@ class WeightLoadBalanceAlgorithmTest {
         loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("test_read_ds_1", "test_read_ds_1"));
         assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("test_read_ds_1")), is("test_read_ds_1"));
     }
+    
+    @Test
+    void assertGetAvailableTargetNameWithCachedWeight() throws ReflectiveOperationException {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class,
+                "WEIGHT", PropertiesBuilder.build(new Property("test_read_ds_1", "5"), new Property("test_read_ds_2", "5")));
+        Map<String, double[]> weightMap = spy(new ConcurrentHashMap<>());
+        Plugins.getMemberAccessor().set(WeightLoadBalanceAlgorithm.class.getDeclaredField("weightMap"), loadBalanceAlgorithm, weightMap);
+        List<String> availableTargetNames = Arrays.asList("test_read_ds_1", "test_read_ds_2");
+        loadBalanceAlgorithm.getTargetName("ds", availableTargetNames);
+        loadBalanceAlgorithm.getTargetName("ds", availableTargetNames);
+        loadBalanceAlgorithm.getTargetName("ds", availableTargetNames);
+        verify(weightMap, times(1)).put(eq("ds"), any(double[].class));
+    }
 }
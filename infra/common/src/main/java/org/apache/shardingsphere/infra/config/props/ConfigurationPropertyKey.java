@@ -48,6 +48,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether use virtual threads to execute SQL and proxy commands, only available on JDK 21 and above.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -69,6 +74,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Memory limit bytes of group by merge, spill to disk when exceeded, 0 means unlimited.
+     */
+    GROUP_BY_MERGE_MEMORY_LIMIT_BYTES("group-by-merge-memory-limit-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Memory limit bytes of SQL federation aggregate and join operators, spill to disk when exceeded, 0 means unlimited.
+     */
+    SQL_FEDERATION_MEMORY_LIMIT_BYTES("sql-federation-memory-limit-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max count of table scans executed concurrently by each SQL federation query, 0 means table scans are executed when they are enumerated.
+     */
+    SQL_FEDERATION_SCAN_PARALLELISM("sql-federation-scan-parallelism", String.valueOf(4), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -79,6 +99,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold of pending bytes for ShardingSphere-Proxy, 0 means disabled.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(64 * 1024), int.class, false),
+    
+    /**
+     * Max interval milliseconds between two flushes of query data for ShardingSphere-Proxy, 0 means disabled.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy-frontend-flush-interval-milliseconds", String.valueOf(50), long.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -50,7 +50,12 @@ public enum TemporaryConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Instance connection enabled.
      */
-    INSTANCE_CONNECTION_ENABLED("instance-connection-enabled", String.valueOf(Boolean.FALSE), boolean.class, false);
+    INSTANCE_CONNECTION_ENABLED("instance-connection-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Schema snapshot validation enabled.
+     */
+    SCHEMA_SNAPSHOT_VALIDATION_ENABLED("schema-snapshot-validation-enabled", String.valueOf(Boolean.FALSE), boolean.class, true);
     
     private final String key;
     
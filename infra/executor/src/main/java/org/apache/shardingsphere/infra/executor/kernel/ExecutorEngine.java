@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -47,6 +49,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -57,6 +63,18 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with configuration properties.
+     *
+     * <p>The executor size is ignored if virtual threads are used, because a new virtual thread is started for each execution group.</p>
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+    }
+    
     /**
      * Execute.
      *
@@ -40,4 +40,14 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return thread factory
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        return new ThreadFactoryBuilder().setThreadFactory(VirtualThreadUtils.newThreadFactory()).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
+    }
 }
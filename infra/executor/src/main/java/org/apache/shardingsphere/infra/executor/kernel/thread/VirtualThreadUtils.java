@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Virtual thread utility class.
+ *
+ * <p>Virtual threads are looked up by reflection, because ShardingSphere is still compiled for JDK 8.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class VirtualThreadUtils {
+    
+    private static final String TRACE_PINNED_THREADS_KEY = "jdk.tracePinnedThreads";
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method FACTORY_METHOD = findMethod(findClass("java.lang.Thread$Builder"), "factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static final AtomicBoolean LOGGED = new AtomicBoolean(false);
+    
+    private static Class<?> findClass(final String className) {
+        try {
+            return Class.forName(className);
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+    }
+    
+    private static Method findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        if (null == clazz) {
+            return null;
+        }
+        try {
+            return clazz.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual threads are supported by current JVM.
+     *
+     * @return virtual threads are supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD && null != FACTORY_METHOD && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Judge whether to use virtual threads.
+     *
+     * <p>Falls back to platform threads with a warning if virtual threads are enabled but not supported by current JVM.</p>
+     *
+     * @param virtualThreadEnabled virtual thread enabled or not
+     * @return use virtual threads or not
+     */
+    public static boolean isEnabled(final boolean virtualThreadEnabled) {
+        if (!virtualThreadEnabled) {
+            return false;
+        }
+        boolean result = isSupported();
+        if (LOGGED.compareAndSet(false, true)) {
+            if (!result) {
+                log.warn("Virtual threads are not supported by JDK `{}`, fall back to platform threads.", System.getProperty("java.version"));
+            } else if (null == System.getProperty(TRACE_PINNED_THREADS_KEY)) {
+                log.info("Virtual threads enabled, set `-D{}=short` to print stack traces of virtual threads pinned to carrier threads.", TRACE_PINNED_THREADS_KEY);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @return created thread factory
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ThreadFactory newThreadFactory() {
+        return (ThreadFactory) FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null));
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     *
+     * @param threadFactory virtual thread factory
+     * @return created executor service
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    }
+}
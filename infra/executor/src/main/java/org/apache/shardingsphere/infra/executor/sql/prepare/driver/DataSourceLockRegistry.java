@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Data source lock registry.
+ *
+ * <p>
+ * Guards creating several connections from the same data source at once, to avoid deadlock between queries which occupy part of the connection pool.
+ * Explicit locks are used instead of synchronizing on data source, so that virtual threads waiting for connections do not pin carrier threads.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceLockRegistry {
+    
+    private static final DataSourceLockRegistry INSTANCE = new DataSourceLockRegistry();
+    
+    private final ConcurrentMap<DataSource, Lock> locks = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Get data source lock registry.
+     *
+     * @return data source lock registry
+     */
+    public static DataSourceLockRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get lock of data source.
+     *
+     * @param dataSource data source
+     * @return lock of data source
+     */
+    public Lock getLock(final DataSource dataSource) {
+        return locks.computeIfAbsent(dataSource, key -> new ReentrantLock());
+    }
+}
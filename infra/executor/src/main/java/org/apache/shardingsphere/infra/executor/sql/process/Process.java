@@ -35,6 +35,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Process.
@@ -46,6 +47,8 @@ public final class Process {
     
     private final Map<Integer, Statement> processStatements = new ConcurrentHashMap<>();
     
+    private final AtomicLong usedMemoryBytes = new AtomicLong();
+    
     private final String id;
     
     private final long startMillis;
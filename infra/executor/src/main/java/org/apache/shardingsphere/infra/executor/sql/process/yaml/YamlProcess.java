@@ -44,6 +44,8 @@ public final class YamlProcess implements YamlConfiguration {
     
     private int completedUnitCount;
     
+    private long usedMemoryBytes;
+    
     private boolean idle;
     
     private boolean interrupted;
@@ -40,6 +40,7 @@ public final class YamlProcessSwapper implements YamlConfigurationSwapper<YamlPr
         result.setHostname(data.getHostname());
         result.setTotalUnitCount(data.getTotalUnitCount().get());
         result.setCompletedUnitCount(data.getCompletedUnitCount().get());
+        result.setUsedMemoryBytes(data.getUsedMemoryBytes().get());
         result.setIdle(data.isIdle());
         result.setInterrupted(data.isInterrupted());
         return result;
@@ -47,8 +48,10 @@ public final class YamlProcessSwapper implements YamlConfigurationSwapper<YamlPr
     
     @Override
     public Process swapToObject(final YamlProcess yamlConfig) {
-        return new Process(yamlConfig.getId(), yamlConfig.getStartMillis(), yamlConfig.getSql(), yamlConfig.getDatabaseName(), yamlConfig.getUsername(), yamlConfig.getHostname(),
+        Process result = new Process(yamlConfig.getId(), yamlConfig.getStartMillis(), yamlConfig.getSql(), yamlConfig.getDatabaseName(), yamlConfig.getUsername(), yamlConfig.getHostname(),
                 new AtomicInteger(yamlConfig.getTotalUnitCount()), new AtomicInteger(yamlConfig.getCompletedUnitCount()), new AtomicBoolean(yamlConfig.isIdle()),
                 new AtomicBoolean(yamlConfig.isInterrupted()));
+        result.getUsedMemoryBytes().set(yamlConfig.getUsedMemoryBytes());
+        return result;
     }
 }
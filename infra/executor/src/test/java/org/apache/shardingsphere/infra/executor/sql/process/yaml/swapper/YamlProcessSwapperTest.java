@@ -53,6 +53,7 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getCompletedUnitCount(), is(0));
         assertThat(actual.getTotalUnitCount(), is(0));
+        assertThat(actual.getUsedMemoryBytes(), is(0L));
         assertFalse(actual.isIdle());
     }
     
@@ -67,6 +68,7 @@ class YamlProcessSwapperTest {
         assertThat(actual.getHostname(), is("localhost"));
         assertThat(actual.getTotalUnitCount().get(), is(10));
         assertThat(actual.getCompletedUnitCount().get(), is(5));
+        assertThat(actual.getUsedMemoryBytes().get(), is(1024L));
         assertTrue(actual.isIdle());
     }
     
@@ -78,6 +80,7 @@ class YamlProcessSwapperTest {
         result.setDatabaseName("foo_db");
         result.setUsername("root");
         result.setHostname("localhost");
+        result.setUsedMemoryBytes(1024L);
         result.setTotalUnitCount(10);
         result.setCompletedUnitCount(5);
         result.setIdle(true);
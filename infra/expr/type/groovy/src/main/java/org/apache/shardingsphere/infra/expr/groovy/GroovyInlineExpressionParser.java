@@ -29,6 +29,8 @@ import groovy.util.Expando;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.expr.core.GroovyUtils;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.CompiledInlineExpression;
+import org.apache.shardingsphere.infra.expr.groovy.compiler.InlineExpressionCompiler;
 import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 
 import java.util.ArrayList;
@@ -39,6 +41,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -58,9 +61,12 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private String inlineExpression;
     
+    private CompiledInlineExpression compiledInlineExpression;
+    
     @Override
     public void init(final Properties props) {
         inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
+        compiledInlineExpression = isConstantExpression(inlineExpression) ? null : InlineExpressionCompiler.compile(handlePlaceHolder(inlineExpression)).orElse(null);
         long maxCacheSize = new ConfigurationProperties(props).getValue(ConfigurationPropertyKey.GROOVY_INLINE_EXPRESSION_PARSING_CACHE_MAX_SIZE);
         updateMaxCacheSize(maxCacheSize);
     }
@@ -111,6 +117,7 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     /**
      * Turn inline expression into Groovy Closure. This function will replace all inline expression placeholders.
      * For compatibility reasons, it does not check whether the unit of the input parameter map is null.
+     * Expressions in the arithmetic and string concat subset are evaluated by the compiled inline expression without Groovy.
      * @return The result of the Groovy Closure pattern.
      */
     @Override
@@ -118,6 +125,12 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
         if (isConstantExpression(inlineExpression)) {
             return inlineExpression;
         }
+        if (null != compiledInlineExpression) {
+            Optional<String> result = compiledInlineExpression.evaluate(map);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Object scriptResult = evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}");
         if (scriptResult instanceof Closure) {
             Closure<?> result = ((Closure<?>) scriptResult).rehydrate(new Expando(), null, null);
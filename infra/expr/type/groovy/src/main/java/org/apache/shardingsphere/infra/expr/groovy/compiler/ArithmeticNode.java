@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import java.util.Map;
+
+/**
+ * Arithmetic node of compiled inline expression.
+ */
+public interface ArithmeticNode {
+    
+    /**
+     * Judge whether node can be evaluated with arguments.
+     *
+     * @param args arguments
+     * @return can be evaluated or not
+     */
+    boolean isEvaluable(Map<String, Comparable<?>> args);
+    
+    /**
+     * Judge whether evaluated value is long type, otherwise it is int type as Groovy does.
+     *
+     * @param args arguments
+     * @return is long type or not
+     */
+    boolean isLongType(Map<String, Comparable<?>> args);
+    
+    /**
+     * Evaluate.
+     *
+     * @param args arguments
+     * @return evaluated value
+     */
+    long evaluate(Map<String, Comparable<?>> args);
+}
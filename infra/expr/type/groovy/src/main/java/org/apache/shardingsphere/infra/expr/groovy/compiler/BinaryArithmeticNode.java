@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Binary arithmetic node.
+ */
+@RequiredArgsConstructor
+public final class BinaryArithmeticNode implements ArithmeticNode {
+    
+    private final char operator;
+    
+    private final ArithmeticNode left;
+    
+    private final ArithmeticNode right;
+    
+    @Override
+    public boolean isEvaluable(final Map<String, Comparable<?>> args) {
+        return left.isEvaluable(args) && right.isEvaluable(args);
+    }
+    
+    @Override
+    public boolean isLongType(final Map<String, Comparable<?>> args) {
+        return left.isLongType(args) || right.isLongType(args);
+    }
+    
+    @Override
+    public long evaluate(final Map<String, Comparable<?>> args) {
+        long leftValue = left.evaluate(args);
+        long rightValue = right.evaluate(args);
+        long result;
+        switch (operator) {
+            case '+':
+                result = leftValue + rightValue;
+                break;
+            case '-':
+                result = leftValue - rightValue;
+                break;
+            case '*':
+                result = leftValue * rightValue;
+                break;
+            default:
+                result = leftValue % rightValue;
+                break;
+        }
+        return isLongType(args) ? result : (int) result;
+    }
+}
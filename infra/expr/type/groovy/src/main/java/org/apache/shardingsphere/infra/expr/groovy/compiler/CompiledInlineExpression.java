@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression, which evaluates the arithmetic and string concat subset of Groovy GString without Groovy.
+ */
+@RequiredArgsConstructor
+public final class CompiledInlineExpression {
+    
+    private final List<String> literals;
+    
+    private final List<ArithmeticNode> nodes;
+    
+    private final int literalLength;
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated result, empty if arguments can not be evaluated without Groovy
+     */
+    public Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder(literalLength + 8 * nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            result.append(literals.get(i));
+            if (!append(result, nodes.get(i), args)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result.append(literals.get(nodes.size())).toString());
+    }
+    
+    private boolean append(final StringBuilder result, final ArithmeticNode node, final Map<String, Comparable<?>> args) {
+        if (node instanceof VariableArithmeticNode) {
+            Comparable<?> value = args.get(((VariableArithmeticNode) node).getName());
+            if (value instanceof String) {
+                result.append((String) value);
+                return true;
+            }
+        }
+        if (!node.isEvaluable(args)) {
+            return false;
+        }
+        result.append(node.evaluate(args));
+        return true;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compiles GString templates whose placeholders only use variables, decimal integer literals, parentheses and {@code + - * %},
+ * such as {@code t_order_${order_id % 16}}. Other expressions are left to Groovy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_NAMES = new HashSet<>(Arrays.asList(
+            "it", "this", "super", "owner", "delegate", "thisObject", "class", "metaClass", "directive", "resolveStrategy", "parameterTypes", "maximumNumberOfParameters"));
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $} placeholders
+     * @return compiled inline expression, empty if inline expression is out of the compilable subset
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<ArithmeticNode> nodes = new ArrayList<>();
+        int literalLength = 0;
+        int index = 0;
+        while (true) {
+            int placeholderIndex = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, -1 == placeholderIndex ? inlineExpression.length() : placeholderIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            literalLength += literal.length();
+            if (-1 == placeholderIndex) {
+                break;
+            }
+            int placeholderEndIndex = inlineExpression.indexOf('}', placeholderIndex);
+            if (-1 == placeholderEndIndex) {
+                return Optional.empty();
+            }
+            Optional<ArithmeticNode> node = new Parser(inlineExpression.substring(placeholderIndex + 2, placeholderEndIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            nodes.add(node.get());
+            index = placeholderEndIndex + 1;
+        }
+        return nodes.isEmpty() ? Optional.empty() : Optional.of(new CompiledInlineExpression(literals, nodes, literalLength));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char each = literal.charAt(i);
+            if ('"' == each || '\\' == each || '$' == each || '\n' == each || '\r' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static final class Parser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Parser(final String expression) {
+            this.expression = expression;
+        }
+        
+        Optional<ArithmeticNode> parse() {
+            ArithmeticNode result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private ArithmeticNode parseAdditive() {
+            ArithmeticNode result = parseMultiplicative();
+            while (null != result) {
+                skipWhitespace();
+                if (!isCurrent('+') && !isCurrent('-')) {
+                    return result;
+                }
+                char operator = expression.charAt(position++);
+                ArithmeticNode right = parseMultiplicative();
+                result = null == right ? null : new BinaryArithmeticNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private ArithmeticNode parseMultiplicative() {
+            ArithmeticNode result = parsePrimary();
+            while (null != result) {
+                skipWhitespace();
+                if (!isCurrent('*') && !isCurrent('%')) {
+                    return result;
+                }
+                char operator = expression.charAt(position++);
+                ArithmeticNode right = parsePrimary();
+                result = null == right ? null : new BinaryArithmeticNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private ArithmeticNode parsePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                return null;
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                ArithmeticNode result = parseAdditive();
+                skipWhitespace();
+                if (null == result || !isCurrent(')')) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (isDigit(current)) {
+                return parseLiteral();
+            }
+            return Character.isJavaIdentifierStart(current) && '$' != current ? parseVariable() : null;
+        }
+        
+        private ArithmeticNode parseLiteral() {
+            int startIndex = position;
+            while (isDigit(charAt(position))) {
+                position++;
+            }
+            if (Character.isJavaIdentifierPart(charAt(position)) && '\0' != charAt(position) || isCurrent('.')) {
+                return null;
+            }
+            String literal = expression.substring(startIndex, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 18) {
+                return null;
+            }
+            long value = Long.parseLong(literal);
+            return new LiteralArithmeticNode(value, value > Integer.MAX_VALUE);
+        }
+        
+        private ArithmeticNode parseVariable() {
+            int startIndex = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+                position++;
+            }
+            String name = expression.substring(startIndex, position);
+            skipWhitespace();
+            if (RESERVED_NAMES.contains(name) || isCurrent('.') || isCurrent('(') || isCurrent('[')) {
+                return null;
+            }
+            return new VariableArithmeticNode(name);
+        }
+        
+        private boolean isDigit(final char value) {
+            return value >= '0' && value <= '9';
+        }
+        
+        private boolean isCurrent(final char expected) {
+            return expected == charAt(position);
+        }
+        
+        private char charAt(final int index) {
+            return index < expression.length() ? expression.charAt(index) : '\0';
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && (' ' == expression.charAt(position) || '\t' == expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Variable arithmetic node.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class VariableArithmeticNode implements ArithmeticNode {
+    
+    private final String name;
+    
+    @Override
+    public boolean isEvaluable(final Map<String, Comparable<?>> args) {
+        Comparable<?> value = args.get(name);
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    @Override
+    public boolean isLongType(final Map<String, Comparable<?>> args) {
+        return args.get(name) instanceof Long;
+    }
+    
+    @Override
+    public long evaluate(final Map<String, Comparable<?>> args) {
+        return ((Number) args.get(name)).longValue();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiler;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import groovy.util.Expando;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    private static final GroovyShell SHELL = new GroovyShell();
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"t_order", "t_order_${order_id / 2}", "t_order_${order_id.hashCode() % 2}", "t_order_${[0, 1]}", "t_order_$order_id", "t_order_${order_id ** 2}",
+            "t_order_${010}", "t_order_${it % 2}", "t_order_${-order_id}", "t_\"order_${order_id}", "t_order_${}", "t_order_${order_id % 2", "t_order_${order_id 2}",
+            "t_order_${1L}", "t_order_${1.5}", "t_order_${Math.abs(order_id)}", "t_order_${order_id % 2 ? 1 : 0}", "t_order_${10000000000000000000}"})
+    void assertCompileWithUnsupportedExpression(final String expression) {
+        assertFalse(InlineExpressionCompiler.compile(expression).isPresent());
+    }
+    
+    @ParameterizedTest(name = "{0} with {1}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertEvaluateSameAsGroovy(final String expression, final Comparable<?> value) {
+        Optional<CompiledInlineExpression> compiledInlineExpression = InlineExpressionCompiler.compile(expression);
+        assertTrue(compiledInlineExpression.isPresent());
+        Map<String, Comparable<?>> args = Collections.singletonMap("order_id", value);
+        assertThat(compiledInlineExpression.get().evaluate(args), is(Optional.of(evaluateWithGroovy(expression, args))));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedArgument() {
+        Optional<CompiledInlineExpression> compiledInlineExpression = InlineExpressionCompiler.compile("t_order_${order_id % 2}");
+        assertTrue(compiledInlineExpression.isPresent());
+        assertFalse(compiledInlineExpression.get().evaluate(Collections.singletonMap("order_id", BigInteger.ONE)).isPresent());
+        assertFalse(compiledInlineExpression.get().evaluate(Collections.singletonMap("order_id", "1")).isPresent());
+        assertFalse(compiledInlineExpression.get().evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+    }
+    
+    private static String evaluateWithGroovy(final String expression, final Map<String, Comparable<?>> args) {
+        Closure<?> closure = ((Closure<?>) SHELL.evaluate("{it -> \"" + expression + "\"}")).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        args.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+    
+    private static final class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ParameterDeclarations parameters, final ExtensionContext context) {
+            Collection<String> expressions = Arrays.asList("t_order_${order_id % 16}", "ds_${order_id}.t_order_${(order_id + 3) % 4 * 2 - 1}", "t_order_${order_id*order_id}_${order_id-7 %3}",
+                    "t_order_${ order_id % 2147483648 }", "t_order_${order_id}");
+            Collection<Comparable<?>> values = Arrays.asList(0, 7, -5, Integer.MAX_VALUE, Integer.MIN_VALUE, 9L, -9L, Long.MAX_VALUE, (short) 7, (byte) -3);
+            return expressions.stream().flatMap(each -> values.stream().map(value -> Arguments.of(each, value)));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory column for dictionary encoded string values.
+ */
+final class DictionaryStringMemoryColumn implements MemoryColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private final Map<String, Integer> codes = new HashMap<>();
+    
+    private int[] values = new int[PrimitiveMemoryColumn.INITIAL_CAPACITY];
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return rowIndex < values.length && 0 != values[rowIndex] ? dictionary.get(values[rowIndex] - 1) : null;
+    }
+    
+    @Override
+    public MemoryColumn set(final int rowIndex, final Object value) {
+        if (null != value && (!(value instanceof String) || !codes.containsKey(value) && dictionary.size() >= MAX_DICTIONARY_SIZE)) {
+            return new ObjectMemoryColumn(this).set(rowIndex, value);
+        }
+        if (rowIndex >= values.length) {
+            values = Arrays.copyOf(values, Math.max(rowIndex + 1, values.length << 1));
+        }
+        values[rowIndex] = null == value ? 0 : codes.computeIfAbsent((String) value, this::addToDictionary);
+        return this;
+    }
+    
+    private int addToDictionary(final String value) {
+        dictionary.add(value);
+        return dictionary.size();
+    }
+    
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import java.util.Arrays;
+
+/**
+ * Memory column for long values.
+ */
+final class LongMemoryColumn extends PrimitiveMemoryColumn {
+    
+    private long[] values = new long[INITIAL_CAPACITY];
+    
+    @Override
+    int compare(final int rowIndex1, final int rowIndex2) {
+        return Long.compare(values[rowIndex1], values[rowIndex2]);
+    }
+    
+    @Override
+    protected boolean isAcceptable(final Object value) {
+        return value instanceof Long;
+    }
+    
+    @Override
+    protected Object load(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    protected void store(final int rowIndex, final Object value) {
+        values[rowIndex] = (Long) value;
+    }
+    
+    @Override
+    protected void grow(final int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+    
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+}
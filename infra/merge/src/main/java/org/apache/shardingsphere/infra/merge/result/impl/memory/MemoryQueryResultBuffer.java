@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Memory query result buffer.
+ *
+ * <p>Cells are stored column by column: integer, long and double columns use primitive arrays and string columns are dictionary encoded.
+ * A column falls back to boxed storage once it receives a value of another type.</p>
+ */
+public final class MemoryQueryResultBuffer {
+    
+    private MemoryColumn[] columns;
+    
+    @Getter
+    private int rowCount;
+    
+    /**
+     * Add current row of query result.
+     *
+     * @param queryResult query result
+     * @return added row
+     * @throws SQLException SQL exception
+     */
+    public MemoryQueryResultRow add(final QueryResult queryResult) throws SQLException {
+        if (null == columns) {
+            columns = new MemoryColumn[queryResult.getMetaData().getColumnCount()];
+            Arrays.fill(columns, NullMemoryColumn.INSTANCE);
+        }
+        int rowIndex = rowCount++;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].set(rowIndex, queryResult.getValue(i + 1, Object.class));
+        }
+        return new MemoryQueryResultRow(this, rowIndex);
+    }
+    
+    int getColumnCount() {
+        return columns.length;
+    }
+    
+    Object getValue(final int rowIndex, final int columnIndex) {
+        return columns[columnIndex].get(rowIndex);
+    }
+    
+    void setValue(final int rowIndex, final int columnIndex, final Object value) {
+        columns[columnIndex] = columns[columnIndex].set(rowIndex, value);
+    }
+    
+    boolean isPrimitiveComparable(final int rowIndex1, final int rowIndex2, final int columnIndex) {
+        if (!(columns[columnIndex] instanceof PrimitiveMemoryColumn)) {
+            return false;
+        }
+        PrimitiveMemoryColumn column = (PrimitiveMemoryColumn) columns[columnIndex];
+        return !column.isNull(rowIndex1) && !column.isNull(rowIndex2);
+    }
+    
+    int comparePrimitive(final int rowIndex1, final int rowIndex2, final int columnIndex) {
+        return ((PrimitiveMemoryColumn) columns[columnIndex]).compare(rowIndex1, rowIndex2);
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.sql.SQLException;
@@ -26,16 +25,31 @@ import java.sql.SQLException;
 /**
  * Memory query result row.
  */
-@RequiredArgsConstructor
 public final class MemoryQueryResultRow {
     
     private final Object[] data;
     
+    private final MemoryQueryResultBuffer buffer;
+    
+    private final int rowIndex;
+    
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+        buffer = null;
+        rowIndex = -1;
+    }
+    
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
-        data = load(queryResult);
+        this(load(queryResult));
+    }
+    
+    MemoryQueryResultRow(final MemoryQueryResultBuffer buffer, final int rowIndex) {
+        data = null;
+        this.buffer = buffer;
+        this.rowIndex = rowIndex;
     }
     
-    private Object[] load(final QueryResult queryResult) throws SQLException {
+    private static Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getMetaData().getColumnCount();
         Object[] result = new Object[columnCount];
         for (int i = 0; i < columnCount; i++) {
@@ -51,8 +65,8 @@ public final class MemoryQueryResultRow {
      * @return data from cell
      */
     public Object getCell(final int columnIndex) {
-        Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
-        return data[columnIndex - 1];
+        checkColumnIndex(columnIndex);
+        return null == buffer ? data[columnIndex - 1] : buffer.getValue(rowIndex, columnIndex - 1);
     }
     
     /**
@@ -62,7 +76,39 @@ public final class MemoryQueryResultRow {
      * @param value data for cell
      */
     public void setCell(final int columnIndex, final Object value) {
-        Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
-        data[columnIndex - 1] = value;
+        checkColumnIndex(columnIndex);
+        if (null == buffer) {
+            data[columnIndex - 1] = value;
+        } else {
+            buffer.setValue(rowIndex, columnIndex - 1, value);
+        }
+    }
+    
+    /**
+     * Judge whether cell can be compared with cell of other row without boxing.
+     * Both cells must be non-null and stored in the same primitive column of {@link MemoryQueryResultBuffer}.
+     *
+     * @param other other row
+     * @param columnIndex column index
+     * @return can be compared without boxing or not
+     */
+    public boolean isPrimitiveComparable(final MemoryQueryResultRow other, final int columnIndex) {
+        return null != buffer && buffer == other.buffer && buffer.isPrimitiveComparable(rowIndex, other.rowIndex, columnIndex - 1);
+    }
+    
+    /**
+     * Compare cell with cell of other row without boxing.
+     *
+     * @param other other row
+     * @param columnIndex column index
+     * @return compare result
+     * @see #isPrimitiveComparable(MemoryQueryResultRow, int)
+     */
+    public int comparePrimitiveCell(final MemoryQueryResultRow other, final int columnIndex) {
+        return buffer.comparePrimitive(rowIndex, other.rowIndex, columnIndex - 1);
+    }
+    
+    private void checkColumnIndex(final int columnIndex) {
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < (null == buffer ? data.length : buffer.getColumnCount()) + 1);
     }
 }
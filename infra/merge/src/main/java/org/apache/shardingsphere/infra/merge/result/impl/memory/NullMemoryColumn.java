@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+/**
+ * Memory column which only contains null values, the storage type is decided by the first non-null value.
+ */
+final class NullMemoryColumn implements MemoryColumn {
+    
+    static final NullMemoryColumn INSTANCE = new NullMemoryColumn();
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return null;
+    }
+    
+    @Override
+    public MemoryColumn set(final int rowIndex, final Object value) {
+        return null == value ? this : createColumn(value).set(rowIndex, value);
+    }
+    
+    private MemoryColumn createColumn(final Object value) {
+        if (value instanceof Integer) {
+            return new IntMemoryColumn();
+        }
+        if (value instanceof Long) {
+            return new LongMemoryColumn();
+        }
+        if (value instanceof Double) {
+            return new DoubleMemoryColumn();
+        }
+        if (value instanceof String) {
+            return new DictionaryStringMemoryColumn();
+        }
+        return new ObjectMemoryColumn(this);
+    }
+    
+    @Override
+    public int getCapacity() {
+        return 0;
+    }
+}
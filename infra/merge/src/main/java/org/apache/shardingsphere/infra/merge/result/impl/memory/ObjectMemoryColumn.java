@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import java.util.Arrays;
+
+/**
+ * Memory column for boxed values.
+ */
+final class ObjectMemoryColumn implements MemoryColumn {
+    
+    private Object[] values;
+    
+    ObjectMemoryColumn(final MemoryColumn source) {
+        values = new Object[Math.max(source.getCapacity(), PrimitiveMemoryColumn.INITIAL_CAPACITY)];
+        for (int i = 0; i < source.getCapacity(); i++) {
+            values[i] = source.get(i);
+        }
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return rowIndex < values.length ? values[rowIndex] : null;
+    }
+    
+    @Override
+    public MemoryColumn set(final int rowIndex, final Object value) {
+        if (rowIndex >= values.length) {
+            values = Arrays.copyOf(values, Math.max(rowIndex + 1, values.length << 1));
+        }
+        values[rowIndex] = value;
+        return this;
+    }
+    
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+}
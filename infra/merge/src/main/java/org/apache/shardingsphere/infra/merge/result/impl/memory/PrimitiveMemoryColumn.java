@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import java.util.BitSet;
+
+/**
+ * Memory column for values which can be stored in primitive array.
+ */
+abstract class PrimitiveMemoryColumn implements MemoryColumn {
+    
+    static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nonNulls = new BitSet();
+    
+    @Override
+    public final Object get(final int rowIndex) {
+        return nonNulls.get(rowIndex) ? load(rowIndex) : null;
+    }
+    
+    @Override
+    public final MemoryColumn set(final int rowIndex, final Object value) {
+        if (null == value) {
+            nonNulls.clear(rowIndex);
+            return this;
+        }
+        if (!isAcceptable(value)) {
+            return new ObjectMemoryColumn(this).set(rowIndex, value);
+        }
+        if (rowIndex >= getCapacity()) {
+            grow(Math.max(rowIndex + 1, getCapacity() << 1));
+        }
+        store(rowIndex, value);
+        nonNulls.set(rowIndex);
+        return this;
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex row index
+     * @return is null or not
+     */
+    final boolean isNull(final int rowIndex) {
+        return !nonNulls.get(rowIndex);
+    }
+    
+    /**
+     * Compare two non-null values without boxing.
+     *
+     * @param rowIndex1 row index of first value
+     * @param rowIndex2 row index of second value
+     * @return compare result
+     */
+    abstract int compare(int rowIndex1, int rowIndex2);
+    
+    protected abstract boolean isAcceptable(Object value);
+    
+    protected abstract Object load(int rowIndex);
+    
+    protected abstract void store(int rowIndex, Object value);
+    
+    protected abstract void grow(int capacity);
+}
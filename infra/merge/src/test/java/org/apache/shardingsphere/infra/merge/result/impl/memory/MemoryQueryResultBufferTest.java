@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemoryQueryResultBufferTest {
+    
+    @Test
+    void assertAdd() throws SQLException {
+        MemoryQueryResultBuffer buffer = new MemoryQueryResultBuffer();
+        List<MemoryQueryResultRow> rows = addRows(buffer, 100);
+        assertThat(buffer.getRowCount(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(rows.get(i).getCell(1), is(i));
+            assertThat(rows.get(i).getCell(2), is((long) i * 10L));
+            assertThat(rows.get(i).getCell(3), is(i / 2D));
+            assertThat(rows.get(i).getCell(4), is("name_" + i % 3));
+            assertThat(rows.get(i).getCell(5), is(0 == i % 2 ? null : new BigDecimal(i)));
+        }
+        assertThat(rows.get(3).getCell(4), sameInstance(rows.get(0).getCell(4)));
+    }
+    
+    @Test
+    void assertAddWithNullValues() throws SQLException {
+        MemoryQueryResultBuffer buffer = new MemoryQueryResultBuffer();
+        MemoryQueryResultRow nullRow = buffer.add(mockQueryResult(null, null, null, null, null));
+        MemoryQueryResultRow row = buffer.add(mockQueryResult(1, 1L, 1D, "foo", null));
+        for (int i = 1; i <= 5; i++) {
+            assertThat(nullRow.getCell(i), nullValue());
+        }
+        assertThat(row.getCell(1), is(1));
+        assertThat(row.getCell(4), is("foo"));
+    }
+    
+    @Test
+    void assertSetCellWithSameType() throws SQLException {
+        MemoryQueryResultRow row = new MemoryQueryResultBuffer().add(mockQueryResult(1, 1L, 1D, "foo", null));
+        row.setCell(1, 2);
+        row.setCell(2, null);
+        row.setCell(4, "bar");
+        assertThat(row.getCell(1), is(2));
+        assertThat(row.getCell(2), nullValue());
+        assertThat(row.getCell(4), is("bar"));
+    }
+    
+    @Test
+    void assertSetCellWithOtherType() throws SQLException {
+        MemoryQueryResultBuffer buffer = new MemoryQueryResultBuffer();
+        List<MemoryQueryResultRow> rows = addRows(buffer, 20);
+        rows.get(5).setCell(2, new BigDecimal("1.5"));
+        rows.get(6).setCell(4, 1);
+        assertThat(rows.get(5).getCell(2), is(new BigDecimal("1.5")));
+        assertThat(rows.get(4).getCell(2), is(40L));
+        assertThat(rows.get(4).getCell(2), instanceOf(Long.class));
+        assertThat(rows.get(6).getCell(4), is(1));
+        assertThat(rows.get(7).getCell(4), is("name_1"));
+    }
+    
+    @Test
+    void assertGetCellWithColumnIndexOutOfRange() throws SQLException {
+        MemoryQueryResultRow row = new MemoryQueryResultBuffer().add(mockQueryResult(1, 1L, 1D, "foo", null));
+        assertThrows(IllegalArgumentException.class, () -> row.getCell(0));
+        assertThrows(IllegalArgumentException.class, () -> row.getCell(6));
+    }
+    
+    @Test
+    void assertComparePrimitiveCell() throws SQLException {
+        MemoryQueryResultBuffer buffer = new MemoryQueryResultBuffer();
+        List<MemoryQueryResultRow> rows = addRows(buffer, 4);
+        assertTrue(rows.get(1).isPrimitiveComparable(rows.get(3), 1));
+        assertTrue(rows.get(1).comparePrimitiveCell(rows.get(3), 1) < 0);
+        assertTrue(rows.get(3).comparePrimitiveCell(rows.get(1), 2) > 0);
+        assertThat(rows.get(2).comparePrimitiveCell(rows.get(2), 3), is(0));
+        assertFalse(rows.get(1).isPrimitiveComparable(rows.get(3), 4));
+        assertFalse(rows.get(1).isPrimitiveComparable(rows.get(3), 5));
+    }
+    
+    @Test
+    void assertIsNotPrimitiveComparableWithNullCell() throws SQLException {
+        MemoryQueryResultBuffer buffer = new MemoryQueryResultBuffer();
+        MemoryQueryResultRow row = buffer.add(mockQueryResult(1, 1L, 1D, "foo", null));
+        MemoryQueryResultRow nullRow = buffer.add(mockQueryResult(null, 1L, 1D, "foo", null));
+        assertFalse(row.isPrimitiveComparable(nullRow, 1));
+        assertTrue(row.isPrimitiveComparable(nullRow, 2));
+    }
+    
+    @Test
+    void assertIsNotPrimitiveComparableWithOtherBuffer() throws SQLException {
+        MemoryQueryResultRow row = new MemoryQueryResultBuffer().add(mockQueryResult(1, 1L, 1D, "foo", null));
+        MemoryQueryResultRow otherRow = new MemoryQueryResultBuffer().add(mockQueryResult(1, 1L, 1D, "foo", null));
+        assertFalse(row.isPrimitiveComparable(otherRow, 1));
+        assertFalse(row.isPrimitiveComparable(new MemoryQueryResultRow(new Object[]{1, 1L, 1D, "foo", null}), 1));
+    }
+    
+    private List<MemoryQueryResultRow> addRows(final MemoryQueryResultBuffer buffer, final int rowCount) throws SQLException {
+        List<MemoryQueryResultRow> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(buffer.add(mockQueryResult(i, (long) i * 10L, i / 2D, "name_" + i % 3, 0 == i % 2 ? null : new BigDecimal(i))));
+        }
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final Object... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(values.length);
+        for (int i = 0; i < values.length; i++) {
+            when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
+        }
+        return result;
+    }
+}
@@ -38,7 +38,11 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, null);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
+        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, sqlShapeCacheOption);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
@@ -36,12 +36,13 @@ public final class SQLStatementCacheBuilder {
      *
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
+     * @param sqlShapeCacheOption SQL shape cache option
      * @param databaseType database type
      * @return built SQL statement cache
      */
     public static CacheManager<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
-                                                           final CacheOption parseTreeCacheOption) {
-        SQLStatementCacheLoader sqlStatementCacheLoader = new SQLStatementCacheLoader(databaseType, parseTreeCacheOption);
+                                                           final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
+        SQLStatementCacheLoader sqlStatementCacheLoader = new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, sqlShapeCacheOption);
         LoadingCache<String, SQLStatement> loadingCache =
                 Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize()).build(sqlStatementCacheLoader);
         return new CacheManager<>(loadingCache, sqlStatementCacheLoader);
@@ -30,17 +30,18 @@ public final class SQLStatementCacheLoader implements CacheLoader<String, SQLSta
     
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
-    public SQLStatementCacheLoader(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
+    public SQLStatementCacheLoader(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, sqlShapeCacheOption);
     }
     
     /**
      * Update cache option.
      *
      * @param parseTreeCacheOption parse tree cache option
+     * @param sqlShapeCacheOption SQL shape cache option
      */
-    public void updateCacheOption(final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor.updateCacheOption(parseTreeCacheOption);
+    public void updateCacheOption(final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
+        sqlStatementParserExecutor.updateCacheOption(parseTreeCacheOption, sqlShapeCacheOption);
     }
     
     @Override
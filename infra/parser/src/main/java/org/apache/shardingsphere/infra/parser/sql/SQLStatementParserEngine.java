@@ -40,11 +40,15 @@ public final class SQLStatementParserEngine {
     @Getter
     private final CacheOption parseTreeCacheOption;
     
-    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
-        sqlStatementCacheManager = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+    @Getter
+    private final CacheOption sqlShapeCacheOption;
+    
+    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, sqlShapeCacheOption);
+        sqlStatementCacheManager = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, sqlShapeCacheOption);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
+        this.sqlShapeCacheOption = sqlShapeCacheOption;
     }
     
     /**
@@ -52,11 +56,12 @@ public final class SQLStatementParserEngine {
      *
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
+     * @param sqlShapeCacheOption SQL shape cache option
      */
-    public void updateCacheOption(final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+    public void updateCacheOption(final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
         sqlStatementCacheManager.getCache().policy().eviction().ifPresent(eviction -> eviction.setMaximum(sqlStatementCacheOption.getMaximumSize()));
-        ((SQLStatementCacheLoader) sqlStatementCacheManager.getCacheLoader()).updateCacheOption(parseTreeCacheOption);
-        sqlStatementParserExecutor.updateCacheOption(parseTreeCacheOption);
+        ((SQLStatementCacheLoader) sqlStatementCacheManager.getCacheLoader()).updateCacheOption(parseTreeCacheOption, sqlShapeCacheOption);
+        sqlStatementParserExecutor.updateCacheOption(parseTreeCacheOption, sqlShapeCacheOption);
     }
     
     /**
@@ -32,8 +32,8 @@ public final class SQLStatementParserExecutor {
     
     private final SQLStatementVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
-        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
+    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
+        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption, sqlShapeCacheOption);
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
     }
     
@@ -41,9 +41,11 @@ public final class SQLStatementParserExecutor {
      * Update cache option.
      *
      * @param parseTreeCacheOption parse tree cache option
+     * @param sqlShapeCacheOption SQL shape cache option
      */
-    public void updateCacheOption(final CacheOption parseTreeCacheOption) {
+    public void updateCacheOption(final CacheOption parseTreeCacheOption, final CacheOption sqlShapeCacheOption) {
         parserEngine.updateCacheOption(parseTreeCacheOption);
+        parserEngine.updateSQLShapeCacheOption(sqlShapeCacheOption);
     }
     
     /**
@@ -53,7 +55,7 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        SQLStatement result = visitorEngine.visit(parserEngine.parse(sql, false));
+        SQLStatement result = parserEngine.parse(sql, visitorEngine::visit);
         result.buildAttributes();
         return result;
     }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
 
-import lombok.Getter;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -35,9 +34,9 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,8 +54,7 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -64,7 +62,7 @@ public final class BatchPreparedStatementExecutor {
         this.database = database;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, database.getName()));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -82,44 +80,35 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+            BatchExecutionUnit oldBatchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == oldBatchExecutionUnit) {
+                handleNewBatchExecutionUnit(each);
+            } else {
+                reviseBatchExecutionUnit(oldBatchExecutionUnit, each);
             }
         }
+        batchCount++;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
+    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final ExecutionUnit newExecutionUnit) {
+        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newExecutionUnit.getSqlUnit().getParameters());
         oldBatchExecutionUnit.mapAddBatchCount(batchCount);
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+    private void handleNewBatchExecutionUnit(final ExecutionUnit newExecutionUnit) {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(newExecutionUnit);
+        batchExecutionUnit.mapAddBatchCount(batchCount);
+        batchExecutionUnits.put(newExecutionUnit, batchExecutionUnit);
+    }
+    
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -180,17 +169,8 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
-        }
-        return Collections.emptyMap();
-    }
-    
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        return null == result ? Collections.emptyMap() : result.getJdbcAndActualAddBatchCallTimesMap();
     }
     
     /**
@@ -235,12 +215,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == result) {
+            throw new IllegalStateException("Can not get value from parameter sets.");
         }
-        throw new IllegalStateException("Can not get value from parameter sets.");
+        return result.getParameterSets();
     }
     
     /**
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Batch route plan.
+ *
+ * <p>A single row insert whose rewrite neither generates keys nor changes parameters is rewritten to the same SQL for the same route unit.
+ * The rewritten SQL of each route unit is compiled from the first row routed to it, and later rows are only routed to find their shard target.
+ * Any other statement, or any row routed to more than one unit, goes through the full kernel pipeline.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchRoutePlan {
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final Map<RouteUnit, SQLUnit> compiledSQLUnits = new HashMap<>();
+    
+    private boolean reusable = true;
+    
+    /**
+     * Generate execution context.
+     *
+     * @param queryContext query context
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext) {
+        if (reusable && !compiledSQLUnits.isEmpty()) {
+            ShardingSphereDatabase database = queryContext.getUsedDatabase();
+            RouteContext routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(queryContext, globalRuleMetaData, database);
+            SQLUnit compiledSQLUnit = routeContext.isSingleRouting() ? compiledSQLUnits.get(routeContext.getRouteUnits().iterator().next()) : null;
+            if (null != compiledSQLUnit) {
+                String dataSourceName = routeContext.getRouteUnits().iterator().next().getDataSourceMapper().getActualName();
+                SQLUnit sqlUnit = new SQLUnit(compiledSQLUnit.getSql(), new ArrayList<>(queryContext.getParameters()), compiledSQLUnit.getTableRouteMappers());
+                return new ExecutionContext(queryContext, Collections.singleton(new ExecutionUnit(dataSourceName, sqlUnit)), routeContext);
+            }
+        }
+        ExecutionContext result = new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, props);
+        compile(queryContext, result);
+        return result;
+    }
+    
+    private void compile(final QueryContext queryContext, final ExecutionContext executionContext) {
+        reusable = reusable && isReusable(queryContext.getSqlStatementContext()) && isSingleUnitWithSameParameters(queryContext, executionContext);
+        if (reusable) {
+            compiledSQLUnits.put(executionContext.getRouteContext().getRouteUnits().iterator().next(), executionContext.getExecutionUnits().iterator().next().getSqlUnit());
+        }
+    }
+    
+    private boolean isReusable(final SQLStatementContext sqlStatementContext) {
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW) || !(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getValueListCount()
+                && !insertStatementContext.getGeneratedKeyContext().filter(GeneratedKeyContext::isGenerated).isPresent();
+    }
+    
+    private boolean isSingleUnitWithSameParameters(final QueryContext queryContext, final ExecutionContext executionContext) {
+        return executionContext.getRouteContext().isSingleRouting() && 1 == executionContext.getExecutionUnits().size()
+                && executionContext.getExecutionUnits().iterator().next().getSqlUnit().getParameters().equals(queryContext.getParameters());
+    }
+    
+    /**
+     * Clear compiled SQL units.
+     */
+    public void clear() {
+        compiledSQLUnits.clear();
+        reusable = true;
+    }
+}
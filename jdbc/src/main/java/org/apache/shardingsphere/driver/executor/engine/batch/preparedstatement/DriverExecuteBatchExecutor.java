@@ -24,7 +24,6 @@ import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConne
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
-import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -54,7 +53,7 @@ public final class DriverExecuteBatchExecutor {
     
     private final ShardingSphereConnection connection;
     
-    private final ShardingSphereMetaData metaData;
+    private final BatchRoutePlan batchRoutePlan;
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
@@ -65,7 +64,7 @@ public final class DriverExecuteBatchExecutor {
     public DriverExecuteBatchExecutor(final ShardingSphereConnection connection, final ShardingSphereMetaData metaData, final StatementOption statementOption, final StatementManager statementManager,
                                       final ShardingSphereDatabase usedDatabase) {
         this.connection = connection;
-        this.metaData = metaData;
+        batchRoutePlan = new BatchRoutePlan(metaData.getGlobalRuleMetaData(), metaData.getProps());
         JDBCExecutor jdbcExecutor = new JDBCExecutor(connection.getContextManager().getExecutorEngine(), connection.getDatabaseConnectionManager().getConnectionContext());
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(usedDatabase, jdbcExecutor, connection.getProcessId());
         prepareEngine = createDriverExecutionPrepareEngine(statementOption, statementManager, usedDatabase, metaData);
@@ -85,13 +84,9 @@ public final class DriverExecuteBatchExecutor {
      * @param database database
      */
     public void addBatch(final QueryContext queryContext, final ShardingSphereDatabase database) {
-        executionContext = createExecutionContext(queryContext, database);
-        batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
-    }
-    
-    private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database) {
         SQLAuditEngine.audit(queryContext, database);
-        return new KernelProcessor().generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps());
+        executionContext = batchRoutePlan.generateExecutionContext(queryContext);
+        batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
     }
     
     /**
@@ -158,5 +153,6 @@ public final class DriverExecuteBatchExecutor {
      */
     public void clear() {
         batchPreparedStatementExecutor.clear();
+        batchRoutePlan.clear();
     }
 }
@@ -398,6 +398,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     protected void closeExecutor() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+        }
         driverExecutorFacade.close();
     }
 }
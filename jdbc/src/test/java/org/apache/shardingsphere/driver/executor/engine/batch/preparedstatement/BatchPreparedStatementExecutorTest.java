@@ -48,11 +48,15 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -156,6 +160,25 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 2)));
+        executor.addBatchForExecutionUnits(Collections.singleton(createExecutionUnit("ds_0", 3)));
+        executor.addBatchForExecutionUnits(Collections.singleton(createExecutionUnit("ds_1", 4)));
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().keySet(), is(new LinkedHashSet<>(Arrays.asList(0, 1))));
+        assertThat(actual.get(1).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(actual.get(1).getParameterSets(), is(Arrays.asList(Collections.singletonList(2), Collections.singletonList(4))));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap().keySet(), is(new LinkedHashSet<>(Arrays.asList(0, 2))));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final Object parameter) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new ArrayList<>(Collections.singletonList(parameter))));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -166,19 +189,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor,
                 new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext(processId, "logic_db")));
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+class BatchRoutePlanTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    private final BatchRoutePlan batchRoutePlan = new BatchRoutePlan(new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+    
+    private final InsertStatementContext insertStatementContext = mock(InsertStatementContext.class);
+    
+    @Test
+    void assertGenerateExecutionContextWithCompiledRouteUnit() {
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        QueryContext firstQueryContext = createQueryContext(1, 10);
+        QueryContext secondQueryContext = createQueryContext(2, 10);
+        ExecutionContext firstExecutionContext = createExecutionContext(firstQueryContext, createRouteUnit("ds_0", "t_order_0"), Arrays.asList(1, 10));
+        RouteContext secondRouteContext = createRouteContext(createRouteUnit("ds_0", "t_order_0"));
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class,
+                        (mock, context) -> when(mock.generateExecutionContext(any(), any(), any())).thenReturn(firstExecutionContext));
+                MockedConstruction<SQLRouteEngine> ignored = mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(), any(), any())).thenReturn(secondRouteContext))) {
+            batchRoutePlan.generateExecutionContext(firstQueryContext);
+            ExecutionContext actual = batchRoutePlan.generateExecutionContext(secondQueryContext);
+            assertThat(kernelProcessors.constructed().size(), is(1));
+            ExecutionUnit actualExecutionUnit = actual.getExecutionUnits().iterator().next();
+            assertThat(actualExecutionUnit.getDataSourceName(), is("ds_0"));
+            assertThat(actualExecutionUnit.getSqlUnit().getSql(), is(SQL));
+            assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, 10)));
+            assertThat(actualExecutionUnit.getSqlUnit().getTableRouteMappers(), is(Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        }
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithNewRouteUnit() {
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        QueryContext firstQueryContext = createQueryContext(1, 10);
+        QueryContext secondQueryContext = createQueryContext(2, 11);
+        ExecutionContext firstExecutionContext = createExecutionContext(firstQueryContext, createRouteUnit("ds_0", "t_order_0"), Arrays.asList(1, 10));
+        ExecutionContext secondExecutionContext = createExecutionContext(secondQueryContext, createRouteUnit("ds_1", "t_order_1"), Arrays.asList(2, 11));
+        RouteContext secondRouteContext = createRouteContext(createRouteUnit("ds_1", "t_order_1"));
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class,
+                        (mock, context) -> when(mock.generateExecutionContext(any(), any(), any())).thenReturn(context.getCount() > 1 ? secondExecutionContext : firstExecutionContext));
+                MockedConstruction<SQLRouteEngine> ignored = mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(), any(), any())).thenReturn(secondRouteContext))) {
+            batchRoutePlan.generateExecutionContext(firstQueryContext);
+            assertThat(batchRoutePlan.generateExecutionContext(secondQueryContext), is(secondExecutionContext));
+            assertThat(kernelProcessors.constructed().size(), is(2));
+        }
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithGeneratedKey() {
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        GeneratedKeyContext generatedKeyContext = mock(GeneratedKeyContext.class);
+        when(generatedKeyContext.isGenerated()).thenReturn(true);
+        when(insertStatementContext.getGeneratedKeyContext()).thenReturn(Optional.of(generatedKeyContext));
+        assertFullPipelineForEachRow(createQueryContext(1, 10), createQueryContext(2, 10), Arrays.asList(1, 10));
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithRewrittenParameters() {
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        assertFullPipelineForEachRow(createQueryContext(1, 10), createQueryContext(2, 10), Arrays.asList(1, 10, "cipher"));
+    }
+    
+    private void assertFullPipelineForEachRow(final QueryContext firstQueryContext, final QueryContext secondQueryContext, final List<Object> rewrittenParams) {
+        ExecutionContext executionContext = createExecutionContext(firstQueryContext, createRouteUnit("ds_0", "t_order_0"), rewrittenParams);
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class,
+                        (mock, context) -> when(mock.generateExecutionContext(any(), any(), any())).thenReturn(executionContext));
+                MockedConstruction<SQLRouteEngine> routeEngines = mockConstruction(SQLRouteEngine.class)) {
+            batchRoutePlan.generateExecutionContext(firstQueryContext);
+            batchRoutePlan.generateExecutionContext(secondQueryContext);
+            assertThat(kernelProcessors.constructed().size(), is(2));
+            assertThat(routeEngines.constructed().size(), is(0));
+        }
+    }
+    
+    private QueryContext createQueryContext(final Object... params) {
+        QueryContext result = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatementContext()).thenReturn(insertStatementContext);
+        when(result.getParameters()).thenReturn(Arrays.asList(params));
+        return result;
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName, final String actualTableName) {
+        return new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singletonList(new RouteMapper("t_order", actualTableName)));
+    }
+    
+    private RouteContext createRouteContext(final RouteUnit routeUnit) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final QueryContext queryContext, final RouteUnit routeUnit, final List<Object> rewrittenParams) {
+        SQLUnit sqlUnit = new SQLUnit(SQL.replace("t_order_0", routeUnit.getTableMappers().iterator().next().getActualName()), new ArrayList<>(rewrittenParams),
+                new ArrayList<>(routeUnit.getTableMappers()));
+        return new ExecutionContext(queryContext, Collections.singleton(new ExecutionUnit(routeUnit.getDataSourceMapper().getActualName(), sqlUnit)), createRouteContext(routeUnit));
+    }
+}
@@ -59,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ShardingSphereResultSetTest {
@@ -106,6 +107,13 @@ class ShardingSphereResultSetTest {
         assertTrue(shardingSphereResultSet.next());
     }
     
+    @Test
+    void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        assertTrue(shardingSphereResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
     @Test
     void assertWasNull() throws SQLException {
         assertFalse(shardingSphereResultSet.wasNull());
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded memory pipeline channel.
+ * <p>Records are buffered in a lock-free multiple producers single consumer ring buffer, and the capacity is bounded by estimated bytes of records.
+ * A batch which is larger than max bytes could still be pushed when channel is empty.
+ * A batch merged by fetch is reused by the next fetch once it has been acked, so it must not be kept after the next fetch.</p>
+ */
+public final class BoundedMemoryPipelineChannel implements PipelineChannel {
+    
+    private static final int SPIN_TIMES = 64;
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private final AtomicReferenceArray<List<Record>> buffer;
+    
+    private final long[] bufferBytes;
+    
+    private final int mask;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    private final AtomicLong usedBytes = new AtomicLong();
+    
+    @Getter
+    private final long maxBytes;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicReference<RecordBatch> idleBatch = new AtomicReference<>();
+    
+    public BoundedMemoryPipelineChannel(final int bufferSize, final long maxBytes, final PipelineChannelAckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        buffer = new AtomicReferenceArray<>(capacity);
+        bufferBytes = new long[capacity];
+        mask = capacity - 1;
+        this.maxBytes = Math.max(maxBytes, 1L);
+        this.ackCallback = ackCallback;
+        BoundedMemoryPipelineChannelRegistry.register(this);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long bytes = RecordSizeEstimator.estimate(records);
+        reserveBytes(bytes);
+        long sequence;
+        try {
+            sequence = claimSequence();
+        } catch (final InterruptedException ex) {
+            usedBytes.addAndGet(-bytes);
+            throw ex;
+        }
+        int index = (int) sequence & mask;
+        bufferBytes[index] = bytes;
+        buffer.set(index, records);
+    }
+    
+    private void reserveBytes(final long bytes) throws InterruptedException {
+        int times = 0;
+        while (true) {
+            long current = usedBytes.get();
+            if (0L != current && current + bytes > maxBytes) {
+                backOff(times++, MAX_PARK_NANOS);
+                continue;
+            }
+            if (usedBytes.compareAndSet(current, current + bytes)) {
+                return;
+            }
+        }
+    }
+    
+    private long claimSequence() throws InterruptedException {
+        int times = 0;
+        while (true) {
+            long current = producerSequence.get();
+            if (current - consumerSequence.get() > mask) {
+                backOff(times++, MAX_PARK_NANOS);
+                continue;
+            }
+            if (producerSequence.compareAndSet(current, current + 1L)) {
+                return current;
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = null;
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int recordsCount = 0;
+        int times = 0;
+        do {
+            List<Record> records = pollBatch();
+            if (null == records) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos > 0L) {
+                    backOff(times++, Math.min(remainingNanos, MAX_PARK_NANOS));
+                }
+                continue;
+            }
+            times = 0;
+            if (records.isEmpty()) {
+                continue;
+            }
+            if (null == result && records.size() >= batchSize) {
+                return records;
+            }
+            if (null == result) {
+                result = borrowBatch(Math.max(batchSize, records.size()));
+            }
+            recordsCount += records.size();
+            result.addAll(records);
+        } while (recordsCount < batchSize && System.nanoTime() - deadlineNanos < 0L);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private RecordBatch borrowBatch(final int capacity) {
+        RecordBatch result = idleBatch.getAndSet(null);
+        if (null == result) {
+            return new RecordBatch(capacity);
+        }
+        result.clear();
+        result.ensureCapacity(capacity);
+        return result;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        List<Record> result = buffer.get((int) consumerSequence.get() & mask);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = pollBatch();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private List<Record> pollBatch() {
+        long sequence = consumerSequence.get();
+        int index = (int) sequence & mask;
+        List<Record> result = buffer.get(index);
+        if (null == result) {
+            return null;
+        }
+        long bytes = bufferBytes[index];
+        buffer.set(index, null);
+        consumerSequence.lazySet(sequence + 1L);
+        usedBytes.addAndGet(-bytes);
+        return result;
+    }
+    
+    private void backOff(final int times, final long maxParkNanos) throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+        if (times < SPIN_TIMES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(maxParkNanos, 1000L << Math.min(times - SPIN_TIMES, 10)));
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+        if (records instanceof RecordBatch) {
+            idleBatch.set((RecordBatch) records);
+        }
+    }
+    
+    /**
+     * Get estimated bytes of records buffered in channel.
+     *
+     * @return used bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+    
+    /**
+     * Get count of record batches buffered in channel.
+     *
+     * @return buffered batch count
+     */
+    public int getBufferedBatchCount() {
+        return (int) Math.max(0L, producerSequence.get() - consumerSequence.get());
+    }
+    
+    /**
+     * Get fill rate of channel, which is used bytes divided by max bytes.
+     *
+     * @return fill rate
+     */
+    public double getFillRate() {
+        return (double) usedBytes.get() / maxBytes;
+    }
+    
+    private static final class RecordBatch extends ArrayList<Record> {
+        
+        private static final long serialVersionUID = -3447519786151389826L;
+        
+        RecordBatch(final int initialCapacity) {
+            super(initialCapacity);
+        }
+    }
+}
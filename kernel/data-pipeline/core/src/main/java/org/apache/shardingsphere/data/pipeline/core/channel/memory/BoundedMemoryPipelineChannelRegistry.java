@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.WeakHashMap;
+
+/**
+ * Bounded memory pipeline channel registry.
+ * <p>Channels are weakly referenced, so they are released together with the tasks which use them.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BoundedMemoryPipelineChannelRegistry {
+    
+    private static final Collection<BoundedMemoryPipelineChannel> CHANNELS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    
+    static void register(final BoundedMemoryPipelineChannel channel) {
+        CHANNELS.add(channel);
+    }
+    
+    /**
+     * Get count of live channels.
+     *
+     * @return channel count
+     */
+    public static int getChannelCount() {
+        return CHANNELS.size();
+    }
+    
+    /**
+     * Get estimated bytes of records buffered in all live channels.
+     *
+     * @return used bytes
+     */
+    public static long getUsedBytes() {
+        long result = 0L;
+        synchronized (CHANNELS) {
+            for (BoundedMemoryPipelineChannel each : CHANNELS) {
+                result += each.getUsedBytes();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get max bytes of all live channels.
+     *
+     * @return max bytes
+     */
+    public static long getMaxBytes() {
+        long result = 0L;
+        synchronized (CHANNELS) {
+            for (BoundedMemoryPipelineChannel each : CHANNELS) {
+                result += each.getMaxBytes();
+            }
+        }
+        return result;
+    }
+}
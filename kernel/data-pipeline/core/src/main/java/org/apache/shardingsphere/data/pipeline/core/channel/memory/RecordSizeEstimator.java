@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Record size estimator, which estimates retained heap bytes of records roughly.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecordSizeEstimator {
+    
+    private static final long RECORD_OVERHEAD_BYTES = 96L;
+    
+    private static final long COLUMN_OVERHEAD_BYTES = 48L;
+    
+    private static final long OBJECT_OVERHEAD_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    /**
+     * Estimate bytes of records.
+     *
+     * @param records records
+     * @return estimated bytes
+     */
+    public static long estimate(final List<Record> records) {
+        long result = OBJECT_OVERHEAD_BYTES + REFERENCE_BYTES * records.size();
+        for (Record each : records) {
+            result += estimate(each);
+        }
+        return result;
+    }
+    
+    private static long estimate(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return RECORD_OVERHEAD_BYTES;
+        }
+        long result = RECORD_OVERHEAD_BYTES;
+        for (Column each : ((DataRecord) record).getColumns()) {
+            result += COLUMN_OVERHEAD_BYTES + estimateValue(each.getValue()) + estimateValue(each.getOldValue());
+        }
+        return result;
+    }
+    
+    private static long estimateValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES * 2L + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof char[]) {
+            return OBJECT_OVERHEAD_BYTES + ((char[]) value).length * 2L;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return OBJECT_OVERHEAD_BYTES * 3L + value.toString().length() / 2;
+        }
+        return OBJECT_OVERHEAD_BYTES + REFERENCE_BYTES;
+    }
+}
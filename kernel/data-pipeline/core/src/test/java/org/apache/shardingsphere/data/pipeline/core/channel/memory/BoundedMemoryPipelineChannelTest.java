@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BoundedMemoryPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, 1024L * 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+        assertThat(channel.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertFetchWithBatchSizeReached() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, 1024L * 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records1 = createRecords(2);
+        List<Record> records2 = createRecords(2);
+        channel.push(records1);
+        channel.push(records2);
+        List<Record> actual = channel.fetch(3, 1000L);
+        assertThat(actual.size(), is(4));
+        assertThat(channel.getBufferedBatchCount(), is(0));
+    }
+    
+    @Test
+    void assertFetchReusesAckedBatch() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, 1024L * 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(createRecords(1));
+        channel.push(createRecords(1));
+        List<Record> expected = channel.fetch(2, 1000L);
+        channel.ack(expected);
+        channel.push(createRecords(1));
+        channel.push(createRecords(2));
+        List<Record> actual = channel.fetch(3, 1000L);
+        assertThat(actual, sameInstance(expected));
+        assertThat(actual.size(), is(3));
+    }
+    
+    @Test
+    void assertFetchWithoutAckedBatch() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, 1024L * 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(createRecords(1));
+        channel.push(createRecords(1));
+        List<Record> fetched = channel.fetch(2, 1000L);
+        channel.push(createRecords(1));
+        channel.push(createRecords(1));
+        assertThat(channel.fetch(2, 1000L), not(sameInstance(fetched)));
+    }
+    
+    @Test
+    void assertFetchWithoutRecords() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, 1024L * 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertTrue(channel.fetch(10, 10L).isEmpty());
+    }
+    
+    @Test
+    void assertPushWhenRingBufferWrapped() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(2, 1024L * 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        for (int i = 0; i < 10; i++) {
+            List<Record> records = createRecords(1);
+            channel.push(records);
+            assertThat(channel.poll(), is(records));
+        }
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertPushBlockedWhenMaxBytesExceeded() {
+        List<Record> records1 = createRecords(1);
+        List<Record> records2 = createRecords(1);
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, RecordSizeEstimator.estimate(records1), new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(records1);
+        assertThat(channel.getFillRate(), is(1D));
+        Thread thread = new Thread(() -> channel.push(records2));
+        thread.start();
+        thread.join(100L);
+        assertTrue(thread.isAlive());
+        assertThat(channel.getBufferedBatchCount(), is(1));
+        assertThat(channel.poll(), is(records1));
+        thread.join(TimeUnit.SECONDS.toMillis(5L));
+        assertFalse(thread.isAlive());
+        assertThat(channel.poll(), is(records2));
+    }
+    
+    @Test
+    void assertPushOversizeBatchWhenEmpty() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, 1L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(10);
+        channel.push(records);
+        assertTrue(channel.getFillRate() > 1D);
+        assertThat(channel.poll(), is(records));
+    }
+    
+    @Test
+    void assertPeekWithRecords() {
+        BoundedMemoryPipelineChannel channel = new BoundedMemoryPipelineChannel(16, 1024L * 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.getBufferedBatchCount(), is(1));
+    }
+    
+    @Test
+    void assertPeekWithoutRecords() {
+        assertThat(new BoundedMemoryPipelineChannel(16, 1024L, new InventoryTaskAckCallback(new AtomicReference<>())).peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = createRecords(1);
+        new BoundedMemoryPipelineChannel(16, 1024L, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    private List<Record> createRecords(final int count) {
+        Record[] result = new Record[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new PlaceholderRecord(new IngestFinishedPosition());
+        }
+        return Arrays.asList(result);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+class RecordSizeEstimatorTest {
+    
+    @Test
+    void assertEstimateWithLargeColumnValue() {
+        long smallRecordBytes = RecordSizeEstimator.estimate(Collections.singletonList(createDataRecord(new byte[10])));
+        long largeRecordBytes = RecordSizeEstimator.estimate(Collections.singletonList(createDataRecord(new byte[10000])));
+        assertThat(largeRecordBytes - smallRecordBytes, greaterThan(9000L));
+    }
+    
+    @Test
+    void assertEstimateWithDataRecordAndPlaceholderRecord() {
+        Record placeholderRecord = new PlaceholderRecord(new IngestFinishedPosition());
+        assertThat(RecordSizeEstimator.estimate(Collections.singletonList(createDataRecord("foo"))), greaterThan(RecordSizeEstimator.estimate(Collections.singletonList(placeholderRecord))));
+    }
+    
+    private DataRecord createDataRecord(final Object value) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("id", 1, true, true));
+        result.addColumn(new NormalColumn("content", value, true, false));
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sqlfederation.compiler;
 
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
+import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompiler;
 import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompilerEngine;
 import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompilerEngineFactory;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
@@ -37,10 +38,11 @@ public final class SQLFederationCompilerEngine {
      * Compile sql statement to execution plan.
      *
      * @param cacheKey execution plan cache key
+     * @param sqlStatementCompiler SQL statement compiler
      * @param useCache use cache
      * @return sql federation execution plan
      */
-    public SQLFederationExecutionPlan compile(final ExecutionPlanCacheKey cacheKey, final boolean useCache) {
-        return sqlStatementCompilerEngine.compile(cacheKey, useCache);
+    public SQLFederationExecutionPlan compile(final ExecutionPlanCacheKey cacheKey, final SQLStatementCompiler sqlStatementCompiler, final boolean useCache) {
+        return sqlStatementCompilerEngine.compile(cacheKey, sqlStatementCompiler, useCache);
     }
 }
@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.Map;
 
 /**
  * SQL federation execution plan.
@@ -29,7 +32,14 @@ import org.apache.calcite.rel.type.RelDataType;
 @Getter
 public final class SQLFederationExecutionPlan {
     
+    /**
+     * Data context variable name of scan statement templates.
+     */
+    public static final String SCAN_STATEMENT_TEMPLATES_VARIABLE = "sqlFederationScanStatementTemplates";
+    
     private final RelNode physicalPlan;
     
     private final RelDataType resultColumnType;
+    
+    private final Map<String, SQLStatement> scanStatementTemplates;
 }
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.calcite.plan.Convention;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
 import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
 import org.apache.calcite.rel.type.RelDataType;
@@ -29,9 +30,15 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.builder.SQLFederationPlannerBuilder;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableScan;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.rewriter.LogicalScanRelRewriter;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNodeConverterEngine;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * SQL statement compiler.
  */
@@ -42,6 +49,12 @@ public final class SQLStatementCompiler {
     
     private final Convention convention;
     
+    private final Function<String, SQLStatement> scanStatementBinder;
+    
+    public SQLStatementCompiler(final SQLFederationRelConverter converter, final Convention convention) {
+        this(converter, convention, null);
+    }
+    
     /**
      * Compile SQL statement to execution plan.
      *
@@ -50,14 +63,42 @@ public final class SQLStatementCompiler {
      * @return SQL federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement, final String databaseType) {
+        return compile(SQLNodeConverterEngine.convert(sqlStatement), databaseType);
+    }
+    
+    /**
+     * Compile SQL node to execution plan.
+     *
+     * @param sqlNode SQL node
+     * @param databaseType database type
+     * @return SQL federation execution plan
+     */
+    public SQLFederationExecutionPlan compile(final SqlNode sqlNode, final String databaseType) {
         RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
-        SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = converter.getValidatedNodeType(sqlNode);
         RelNode rewrittenPlan = rewrite(logicalPlan, databaseType);
         RelNode physicalPlan = optimize(rewrittenPlan, converter, databaseType);
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
-        return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
+        return new SQLFederationExecutionPlan(physicalPlan, resultColumnType, createScanStatementTemplates(physicalPlan));
+    }
+    
+    private Map<String, SQLStatement> createScanStatementTemplates(final RelNode physicalPlan) {
+        if (null == scanStatementBinder) {
+            return Collections.emptyMap();
+        }
+        Map<String, SQLStatement> result = new HashMap<>();
+        new RelVisitor() {
+            
+            @Override
+            public void visit(final RelNode node, final int ordinal, final RelNode parent) {
+                if (node instanceof EnumerableScan) {
+                    result.computeIfAbsent(((EnumerableScan) node).getScanSQL(), scanStatementBinder);
+                }
+                super.visit(node, ordinal, parent);
+            }
+        }.go(physicalPlan);
+        return result;
     }
     
     private RelNode rewrite(final RelNode logicalPlan, final String databaseType) {
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.compiler;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheBuilder;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheLoader;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 
 /**
@@ -31,7 +33,7 @@ import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 @Slf4j
 public final class SQLStatementCompilerEngine {
     
-    private final LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> executionPlanCache;
+    private final Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> executionPlanCache;
     
     @Getter
     private final SQLFederationCacheOption cacheOption;
@@ -45,15 +47,26 @@ public final class SQLStatementCompilerEngine {
      * Compile SQL statement to execution plan.
      *
      * @param cacheKey execution plan cache key
+     * @param sqlStatementCompiler SQL statement compiler
      * @param useCache use cache
      * @return SQL federation execution plan
      */
-    public SQLFederationExecutionPlan compile(final ExecutionPlanCacheKey cacheKey, final boolean useCache) {
+    public SQLFederationExecutionPlan compile(final ExecutionPlanCacheKey cacheKey, final SQLStatementCompiler sqlStatementCompiler, final boolean useCache) {
         if (log.isDebugEnabled()) {
-            String cacheExists = null == executionPlanCache.get(cacheKey) ? "not exists" : "exists";
-            log.debug("Execution plan cache {} for SQL: {}, useCache: {}.", cacheExists, cacheKey.getSql(), useCache);
+            String cacheExists = null == executionPlanCache.getIfPresent(cacheKey) ? "not exists" : "exists";
+            log.debug("Execution plan cache {} for SQL: {}, parameterized SQL: {}, useCache: {}.", cacheExists, cacheKey.getSql(), cacheKey.getParameterizedSQLNode().getParameterizedSQL(), useCache);
         }
-        return useCache ? executionPlanCache.get(cacheKey) : cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlStatement(), cacheKey.getSqlStatement().getDatabaseType().getType());
+        ExecutionPlanCacheLoader cacheLoader = new ExecutionPlanCacheLoader(sqlStatementCompiler);
+        return useCache ? executionPlanCache.get(cacheKey, cacheLoader) : cacheLoader.apply(cacheKey);
+    }
+    
+    /**
+     * Get execution plan cache stats.
+     *
+     * @return execution plan cache stats
+     */
+    public CacheStats getExecutionPlanCacheStats() {
+        return executionPlanCache.stats();
     }
     
     /**
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.compiler;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
@@ -54,6 +55,15 @@ public final class SQLStatementCompilerEngineFactory {
         return result;
     }
     
+    /**
+     * Get execution plan cache stats of all SQL statement compiler engines.
+     *
+     * @return execution plan cache stats
+     */
+    public static CacheStats getExecutionPlanCacheStats() {
+        return COMPILER_ENGINES.values().stream().map(SQLStatementCompilerEngine::getExecutionPlanCacheStats).reduce(CacheStats.empty(), CacheStats::plus);
+    }
+    
     private static boolean isOnlyModifyMaximumSizeConfig(final SQLFederationCacheOption cacheOption, final SQLStatementCompilerEngine compilerEngine) {
         return cacheOption.getInitialCapacity() == compilerEngine.getCacheOption().getInitialCapacity()
                 && cacheOption.getMaximumSize() != compilerEngine.getCacheOption().getMaximumSize();
@@ -33,4 +33,6 @@ public final class ScanImplementorContext {
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    private final int[] columnTypes;
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.linq4j.Enumerator;
+
+/**
+ * Row source, which reads rows from enumerator or spill file.
+ */
+interface RowSource {
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if there is no more row
+     */
+    Object[] next();
+    
+    /**
+     * Close row source.
+     */
+    void close();
+    
+    /**
+     * Create row source of enumerator.
+     *
+     * @param enumerator enumerator
+     * @return created row source
+     */
+    static RowSource of(final Enumerator<Object[]> enumerator) {
+        return new RowSource() {
+            
+            @Override
+            public Object[] next() {
+                return enumerator.moveNext() ? enumerator.current() : null;
+            }
+            
+            @Override
+            public void close() {
+                enumerator.close();
+            }
+        };
+    }
+    
+    /**
+     * Create row source of spill file.
+     *
+     * @param spillFile spill file
+     * @return created row source
+     */
+    static RowSource of(final SpillFile spillFile) {
+        return new RowSource() {
+            
+            @Override
+            public Object[] next() {
+                return spillFile.read();
+            }
+            
+            @Override
+            public void close() {
+                spillFile.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file, rows are written once and then read once in written order.
+ */
+final class SpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final Path path;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private long writtenRowCount;
+    
+    private long remainingRowCount;
+    
+    SpillFile() {
+        try {
+            path = Files.createTempFile("shardingsphere-federation-", ".spill");
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            delete();
+            throw new SQLFederationSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws SQLFederationSpillException SQL federation spill exception
+     */
+    void write(final Object[] row) {
+        try {
+            outputStream.writeUnshared(row);
+            writtenRowCount++;
+            if (0 == writtenRowCount % RESET_INTERVAL) {
+                outputStream.reset();
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new SQLFederationSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Finish writing and prepare to read rows.
+     *
+     * @throws SQLFederationSpillException SQL federation spill exception
+     */
+    void finishWrite() {
+        try {
+            outputStream.close();
+            outputStream = null;
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            close();
+            throw new SQLFederationSpillException(ex.getMessage());
+        }
+        remainingRowCount = writtenRowCount;
+        // Unlink the opened file early so that it is reclaimed even if the enumerator is abandoned, file systems which refuse it delete on close.
+        delete();
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows have been read
+     * @throws SQLFederationSpillException SQL federation spill exception
+     */
+    Object[] read() {
+        if (0L == remainingRowCount) {
+            close();
+            return null;
+        }
+        try {
+            Object[] result = (Object[]) inputStream.readUnshared();
+            remainingRowCount--;
+            return result;
+        } catch (final IOException | ClassNotFoundException ex) {
+            close();
+            throw new SQLFederationSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Judge whether spill file is empty.
+     *
+     * @return is empty or not
+     */
+    boolean isEmpty() {
+        return 0L == writtenRowCount;
+    }
+    
+    /**
+     * Close streams and delete file.
+     */
+    void close() {
+        closeQuietly(outputStream);
+        closeQuietly(inputStream);
+        outputStream = null;
+        inputStream = null;
+        remainingRowCount = 0L;
+        delete();
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private void delete() {
+        if (null == path) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+/**
+ * Spill partitions, which hash partition rows into spill files.
+ */
+final class SpillPartitions {
+    
+    static final int PARTITION_COUNT = 16;
+    
+    static final int MAX_DEPTH = 4;
+    
+    private final SpillFile[] files = new SpillFile[PARTITION_COUNT];
+    
+    private final int depth;
+    
+    SpillPartitions(final int depth) {
+        this.depth = depth;
+    }
+    
+    /**
+     * Write row into partition of key.
+     *
+     * @param key key
+     * @param row row
+     */
+    void write(final Object key, final Object[] row) {
+        int index = getPartitionIndex(key, depth);
+        if (null == files[index]) {
+            files[index] = new SpillFile();
+        }
+        files[index].write(row);
+    }
+    
+    /**
+     * Finish writing all partitions.
+     *
+     * @return spill files indexed by partition, null if nothing written into partition
+     */
+    SpillFile[] finishWrite() {
+        for (SpillFile each : files) {
+            if (null != each) {
+                each.finishWrite();
+            }
+        }
+        return files;
+    }
+    
+    /**
+     * Close all partitions.
+     */
+    void close() {
+        for (SpillFile each : files) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    private static int getPartitionIndex(final Object key, final int depth) {
+        int result = key.hashCode() ^ (depth * 0x9E3779B9);
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        result ^= result >>> 16;
+        return result & (PARTITION_COUNT - 1);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Spill row size estimator, which estimates retained heap bytes of rows roughly.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SpillRowSizeEstimator {
+    
+    private static final long OBJECT_OVERHEAD_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    /**
+     * Estimate bytes of row.
+     *
+     * @param row row
+     * @return estimated bytes
+     */
+    static long estimate(final Object[] row) {
+        long result = OBJECT_OVERHEAD_BYTES + REFERENCE_BYTES * row.length;
+        for (Object each : row) {
+            result += estimateValue(each);
+        }
+        return result;
+    }
+    
+    private static long estimateValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES * 2L + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return OBJECT_OVERHEAD_BYTES * 3L;
+        }
+        return OBJECT_OVERHEAD_BYTES + REFERENCE_BYTES;
+    }
+}
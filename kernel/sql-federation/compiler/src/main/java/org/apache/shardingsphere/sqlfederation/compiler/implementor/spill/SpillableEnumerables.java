@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+/**
+ * Spillable enumerables, which are invoked by generated code of spillable enumerable operators.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillableEnumerables {
+    
+    /**
+     * Data context variable name of memory limit bytes.
+     */
+    public static final String MEMORY_LIMIT_BYTES_VARIABLE = "sqlFederationMemoryLimitBytes";
+    
+    public static final String COUNT = "COUNT";
+    
+    public static final String SUM = "SUM";
+    
+    public static final String SUM0 = "$SUM0";
+    
+    public static final String MIN = "MIN";
+    
+    public static final String MAX = "MAX";
+    
+    /**
+     * Aggregate input rows by group keys.
+     *
+     * @param root data context
+     * @param input input rows
+     * @param groupKeys indexes of group keys
+     * @param aggregateKinds kinds of aggregate functions
+     * @param aggregateArgs argument indexes of aggregate functions, -1 means no argument
+     * @param aggregateTypes SQL type names of aggregate functions
+     * @return aggregated rows, which consist of group keys and aggregate values
+     */
+    public static Enumerable<Object[]> aggregate(final DataContext root, final Enumerable<Object[]> input, final int[] groupKeys,
+                                                 final String[] aggregateKinds, final int[] aggregateArgs, final String[] aggregateTypes) {
+        long memoryLimitBytes = getMemoryLimitBytes(root);
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return new SpillableHashAggregateEnumerator(input, groupKeys, aggregateKinds, aggregateArgs, aggregateTypes, memoryLimitBytes);
+            }
+        };
+    }
+    
+    /**
+     * Inner join input rows by equal join keys.
+     *
+     * @param root data context
+     * @param left left rows, which probe the hash table
+     * @param right right rows, which build the hash table
+     * @param leftKeys indexes of left join keys
+     * @param rightKeys indexes of right join keys
+     * @return joined rows
+     */
+    public static Enumerable<Object[]> hashJoin(final DataContext root, final Enumerable<Object[]> left, final Enumerable<Object[]> right, final int[] leftKeys, final int[] rightKeys) {
+        long memoryLimitBytes = getMemoryLimitBytes(root);
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return new SpillableHashJoinEnumerator(left, right, leftKeys, rightKeys, memoryLimitBytes);
+            }
+        };
+    }
+    
+    private static long getMemoryLimitBytes(final DataContext root) {
+        Object result = null == root ? null : root.get(MEMORY_LIMIT_BYTES_VARIABLE);
+        return result instanceof Number ? ((Number) result).longValue() : 0L;
+    }
+}
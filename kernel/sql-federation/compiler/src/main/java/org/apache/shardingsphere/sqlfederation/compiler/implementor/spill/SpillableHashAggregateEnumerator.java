@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+
+/**
+ * Spillable hash aggregate enumerator.
+ *
+ * <p>Groups are aggregated in memory until the memory limit is reached, after that rows of groups which are not in memory are hash partitioned into spill files,
+ * and every spill file is aggregated in turn after the groups in memory have been emitted.</p>
+ */
+@RequiredArgsConstructor
+final class SpillableHashAggregateEnumerator implements Enumerator<Object[]> {
+    
+    private static final long GROUP_OVERHEAD_BYTES = 64L;
+    
+    private final Enumerable<Object[]> input;
+    
+    private final int[] groupKeys;
+    
+    private final String[] aggregateKinds;
+    
+    private final int[] aggregateArgs;
+    
+    private final String[] aggregateTypes;
+    
+    private final long memoryLimitBytes;
+    
+    private final Queue<PendingPartition> pendingPartitions = new LinkedList<>();
+    
+    private RowSource source;
+    
+    private SpillPartitions spillPartitions;
+    
+    private Iterator<Entry<List<Object>, Object[]>> groups;
+    
+    private Object[] current;
+    
+    private boolean started;
+    
+    @Override
+    public Object[] current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (!started) {
+            started = true;
+            groups = aggregate(RowSource.of(input.enumerator()), 0, true);
+        }
+        while (true) {
+            if (groups.hasNext()) {
+                current = toResultRow(groups.next());
+                return true;
+            }
+            PendingPartition partition = pendingPartitions.poll();
+            if (null == partition) {
+                current = null;
+                return false;
+            }
+            groups = aggregate(RowSource.of(partition.spillFile), partition.depth, false);
+        }
+    }
+    
+    private Iterator<Entry<List<Object>, Object[]>> aggregate(final RowSource rowSource, final int depth, final boolean compactRequired) {
+        source = rowSource;
+        Map<List<Object>, Object[]> result = new LinkedHashMap<>();
+        long usedBytes = 0L;
+        Object[] row;
+        while (null != (row = source.next())) {
+            Object[] compactRow = compactRequired ? compact(row) : row;
+            List<Object> key = Arrays.asList(Arrays.copyOf(compactRow, groupKeys.length));
+            Object[] accumulators = result.get(key);
+            if (null == accumulators) {
+                if (null == spillPartitions && memoryLimitBytes > 0L && usedBytes >= memoryLimitBytes && depth < SpillPartitions.MAX_DEPTH) {
+                    spillPartitions = new SpillPartitions(depth);
+                }
+                if (null != spillPartitions) {
+                    spillPartitions.write(key, compactRow);
+                    continue;
+                }
+                accumulators = new Object[aggregateKinds.length];
+                result.put(key, accumulators);
+                usedBytes += SpillRowSizeEstimator.estimate(compactRow) + GROUP_OVERHEAD_BYTES;
+            }
+            accumulate(accumulators, compactRow);
+        }
+        source.close();
+        source = null;
+        if (null != spillPartitions) {
+            for (SpillFile each : spillPartitions.finishWrite()) {
+                if (null != each) {
+                    pendingPartitions.add(new PendingPartition(each, depth + 1));
+                }
+            }
+            spillPartitions = null;
+        }
+        if (result.isEmpty() && 0 == groupKeys.length && 0 == depth) {
+            result.put(Collections.emptyList(), new Object[aggregateKinds.length]);
+        }
+        return result.entrySet().iterator();
+    }
+    
+    private Object[] compact(final Object[] row) {
+        Object[] result = new Object[groupKeys.length + aggregateArgs.length];
+        for (int i = 0; i < groupKeys.length; i++) {
+            result[i] = row[groupKeys[i]];
+        }
+        for (int i = 0; i < aggregateArgs.length; i++) {
+            result[groupKeys.length + i] = aggregateArgs[i] < 0 ? null : row[aggregateArgs[i]];
+        }
+        return result;
+    }
+    
+    private void accumulate(final Object[] accumulators, final Object[] compactRow) {
+        for (int i = 0; i < aggregateKinds.length; i++) {
+            Object value = compactRow[groupKeys.length + i];
+            accumulators[i] = accumulate(aggregateKinds[i], accumulators[i], value, aggregateArgs[i] < 0);
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object accumulate(final String aggregateKind, final Object accumulator, final Object value, final boolean withoutArgument) {
+        if (SpillableEnumerables.COUNT.equals(aggregateKind)) {
+            long count = null == accumulator ? 0L : (Long) accumulator;
+            return withoutArgument || null != value ? count + 1L : count;
+        }
+        if (null == value) {
+            return accumulator;
+        }
+        if (SpillableEnumerables.SUM.equals(aggregateKind) || SpillableEnumerables.SUM0.equals(aggregateKind)) {
+            return sum(accumulator, value);
+        }
+        if (null == accumulator) {
+            return value;
+        }
+        int compareResult = ((Comparable) accumulator).compareTo(value);
+        return SpillableEnumerables.MIN.equals(aggregateKind) && compareResult <= 0 || SpillableEnumerables.MAX.equals(aggregateKind) && compareResult >= 0 ? accumulator : value;
+    }
+    
+    private Object sum(final Object accumulator, final Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            return null == accumulator ? ((Number) value).doubleValue() : ((Number) accumulator).doubleValue() + ((Number) value).doubleValue();
+        }
+        BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        return null == accumulator ? decimal : ((BigDecimal) accumulator).add(decimal);
+    }
+    
+    private Object[] toResultRow(final Entry<List<Object>, Object[]> group) {
+        Object[] result = new Object[groupKeys.length + aggregateKinds.length];
+        for (int i = 0; i < groupKeys.length; i++) {
+            result[i] = group.getKey().get(i);
+        }
+        Object[] accumulators = group.getValue();
+        for (int i = 0; i < aggregateKinds.length; i++) {
+            result[groupKeys.length + i] = toResultValue(aggregateKinds[i], accumulators[i], aggregateTypes[i]);
+        }
+        return result;
+    }
+    
+    private Object toResultValue(final String aggregateKind, final Object accumulator, final String aggregateType) {
+        if (SpillableEnumerables.COUNT.equals(aggregateKind)) {
+            return null == accumulator ? 0L : accumulator;
+        }
+        if (SpillableEnumerables.SUM0.equals(aggregateKind) && null == accumulator) {
+            return convertNumber(BigDecimal.ZERO, aggregateType);
+        }
+        if (SpillableEnumerables.SUM.equals(aggregateKind) || SpillableEnumerables.SUM0.equals(aggregateKind)) {
+            return null == accumulator ? null : convertNumber((Number) accumulator, aggregateType);
+        }
+        return accumulator;
+    }
+    
+    private Object convertNumber(final Number value, final String aggregateType) {
+        switch (aggregateType) {
+            case "TINYINT":
+                return value.byteValue();
+            case "SMALLINT":
+                return value.shortValue();
+            case "INTEGER":
+                return value.intValue();
+            case "BIGINT":
+                return value.longValue();
+            case "DECIMAL":
+                return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+            case "DOUBLE":
+            case "FLOAT":
+                return value.doubleValue();
+            case "REAL":
+                return value.floatValue();
+            default:
+                return value;
+        }
+    }
+    
+    @Override
+    public void reset() {
+        close();
+        started = false;
+    }
+    
+    @Override
+    public void close() {
+        if (null != source) {
+            source.close();
+            source = null;
+        }
+        if (null != spillPartitions) {
+            spillPartitions.close();
+            spillPartitions = null;
+        }
+        PendingPartition partition;
+        while (null != (partition = pendingPartitions.poll())) {
+            partition.spillFile.close();
+        }
+        groups = null;
+        current = null;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingPartition {
+        
+        private final SpillFile spillFile;
+        
+        private final int depth;
+    }
+}
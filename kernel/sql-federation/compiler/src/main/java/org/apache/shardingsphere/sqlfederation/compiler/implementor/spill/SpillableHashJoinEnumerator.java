@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Spillable hash join enumerator for inner equi join.
+ *
+ * <p>The right input is built into hash table and the left input probes it. When the hash table exceeds the memory limit,
+ * both inputs are hash partitioned into spill files by join keys and each pair of partitions is joined in turn.</p>
+ */
+@RequiredArgsConstructor
+final class SpillableHashJoinEnumerator implements Enumerator<Object[]> {
+    
+    private final Enumerable<Object[]> left;
+    
+    private final Enumerable<Object[]> right;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+    
+    private final long memoryLimitBytes;
+    
+    private final Queue<PendingPartition> pendingPartitions = new LinkedList<>();
+    
+    private RowSource buildSource;
+    
+    private RowSource probeSource;
+    
+    private SpillPartitions buildPartitions;
+    
+    private SpillPartitions probePartitions;
+    
+    private Map<List<Object>, List<Object[]>> hashTable;
+    
+    private Object[] probeRow;
+    
+    private List<Object[]> matchedRows = Collections.emptyList();
+    
+    private int matchedIndex;
+    
+    private Object[] current;
+    
+    private boolean started;
+    
+    @Override
+    public Object[] current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (!started) {
+            started = true;
+            join(RowSource.of(right.enumerator()), RowSource.of(left.enumerator()), 0);
+        }
+        while (true) {
+            if (matchedIndex < matchedRows.size()) {
+                current = concat(probeRow, matchedRows.get(matchedIndex++));
+                return true;
+            }
+            if (null != probeSource && probe()) {
+                continue;
+            }
+            PendingPartition partition = pendingPartitions.poll();
+            if (null == partition) {
+                current = null;
+                return false;
+            }
+            join(RowSource.of(partition.buildFile), RowSource.of(partition.probeFile), partition.depth);
+        }
+    }
+    
+    private void join(final RowSource buildRowSource, final RowSource probeRowSource, final int depth) {
+        buildSource = buildRowSource;
+        probeSource = probeRowSource;
+        hashTable = new HashMap<>();
+        long usedBytes = 0L;
+        Object[] row;
+        while (null != (row = buildSource.next())) {
+            List<Object> key = getKey(row, rightKeys);
+            if (null == key) {
+                continue;
+            }
+            if (null != buildPartitions) {
+                buildPartitions.write(key, row);
+                continue;
+            }
+            hashTable.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(row);
+            usedBytes += SpillRowSizeEstimator.estimate(row);
+            if (memoryLimitBytes > 0L && usedBytes > memoryLimitBytes && depth < SpillPartitions.MAX_DEPTH) {
+                buildPartitions = new SpillPartitions(depth);
+                for (Map.Entry<List<Object>, List<Object[]>> entry : hashTable.entrySet()) {
+                    for (Object[] each : entry.getValue()) {
+                        buildPartitions.write(entry.getKey(), each);
+                    }
+                }
+                hashTable = null;
+            }
+        }
+        buildSource.close();
+        buildSource = null;
+        if (null != buildPartitions) {
+            spillProbeSide(depth);
+        }
+    }
+    
+    private void spillProbeSide(final int depth) {
+        probePartitions = new SpillPartitions(depth);
+        Object[] row;
+        while (null != (row = probeSource.next())) {
+            List<Object> key = getKey(row, leftKeys);
+            if (null != key) {
+                probePartitions.write(key, row);
+            }
+        }
+        probeSource.close();
+        probeSource = null;
+        SpillFile[] buildFiles = buildPartitions.finishWrite();
+        buildPartitions = null;
+        SpillFile[] probeFiles = probePartitions.finishWrite();
+        probePartitions = null;
+        for (int i = 0; i < SpillPartitions.PARTITION_COUNT; i++) {
+            if (null != buildFiles[i] && null != probeFiles[i]) {
+                pendingPartitions.add(new PendingPartition(buildFiles[i], probeFiles[i], depth + 1));
+            } else {
+                closeQuietly(buildFiles[i]);
+                closeQuietly(probeFiles[i]);
+            }
+        }
+    }
+    
+    private boolean probe() {
+        Object[] row;
+        while (null != (row = probeSource.next())) {
+            List<Object> key = getKey(row, leftKeys);
+            List<Object[]> matched = null == key ? null : hashTable.get(key);
+            if (null != matched) {
+                probeRow = row;
+                matchedRows = matched;
+                matchedIndex = 0;
+                return true;
+            }
+        }
+        probeSource.close();
+        probeSource = null;
+        hashTable = null;
+        probeRow = null;
+        matchedRows = Collections.emptyList();
+        matchedIndex = 0;
+        return false;
+    }
+    
+    private List<Object> getKey(final Object[] row, final int[] keys) {
+        Object[] result = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = row[keys[i]];
+            if (null == result[i]) {
+                return null;
+            }
+        }
+        return Arrays.asList(result);
+    }
+    
+    private Object[] concat(final Object[] leftRow, final Object[] rightRow) {
+        Object[] result = Arrays.copyOf(leftRow, leftRow.length + rightRow.length);
+        System.arraycopy(rightRow, 0, result, leftRow.length, rightRow.length);
+        return result;
+    }
+    
+    private void closeQuietly(final SpillFile spillFile) {
+        if (null != spillFile) {
+            spillFile.close();
+        }
+    }
+    
+    @Override
+    public void reset() {
+        close();
+        started = false;
+    }
+    
+    @Override
+    public void close() {
+        if (null != buildSource) {
+            buildSource.close();
+            buildSource = null;
+        }
+        if (null != probeSource) {
+            probeSource.close();
+            probeSource = null;
+        }
+        if (null != buildPartitions) {
+            buildPartitions.close();
+            buildPartitions = null;
+        }
+        if (null != probePartitions) {
+            probePartitions.close();
+            probePartitions = null;
+        }
+        PendingPartition partition;
+        while (null != (partition = pendingPartitions.poll())) {
+            partition.buildFile.close();
+            partition.probeFile.close();
+        }
+        hashTable = null;
+        probeRow = null;
+        matchedRows = Collections.emptyList();
+        matchedIndex = 0;
+        current = null;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingPartition {
+        
+        private final SpillFile buildFile;
+        
+        private final SpillFile probeFile;
+        
+        private final int depth;
+    }
+}
@@ -74,11 +74,12 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
      * @param root data context
      * @param sql SQL
      * @param paramIndexes param indexes
+     * @param columnTypes column types of scan row type
      * @return enumerable result
      */
     @SuppressWarnings("unused")
-    public Enumerable<Object> implement(final DataContext root, final String sql, final int[] paramIndexes) {
-        return null == SCAN_IMPLEMENTOR_HOLDER.get() ? createEmptyEnumerable() : SCAN_IMPLEMENTOR_HOLDER.get().implement(table, new ScanImplementorContext(root, sql, paramIndexes));
+    public Enumerable<Object> implement(final DataContext root, final String sql, final int[] paramIndexes, final int[] columnTypes) {
+        return null == SCAN_IMPLEMENTOR_HOLDER.get() ? createEmptyEnumerable() : SCAN_IMPLEMENTOR_HOLDER.get().implement(table, new ScanImplementorContext(root, sql, paramIndexes, columnTypes));
     }
     
     private AbstractEnumerable<Object> createEmptyEnumerable() {
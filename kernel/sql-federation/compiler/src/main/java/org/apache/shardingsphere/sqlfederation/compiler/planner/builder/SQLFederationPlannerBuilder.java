@@ -35,8 +35,12 @@ import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableAggregateConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableHashJoinConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushProjectIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushSortIntoScanRule;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -58,27 +62,43 @@ public final class SQLFederationPlannerBuilder {
      * @return volcano planner instance
      */
     public static RelOptPlanner buildVolcanoPlanner(final Convention convention) {
+        return buildVolcanoPlanner(convention, false);
+    }
+    
+    /**
+     * Build new instance of volcano planner.
+     *
+     * @param convention convention
+     * @param spillEnabled whether to use aggregate and join operators which spill to disk when memory limit is exceeded
+     * @return volcano planner instance
+     */
+    public static RelOptPlanner buildVolcanoPlanner(final Convention convention, final boolean spillEnabled) {
         RelOptPlanner result = new VolcanoPlanner();
-        setUpRules(result, convention);
+        setUpRules(result, convention, spillEnabled);
         return result;
     }
     
-    private static void setUpRules(final RelOptPlanner planner, final Convention convention) {
+    private static void setUpRules(final RelOptPlanner planner, final Convention convention, final boolean spillEnabled) {
         planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
         planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
         if (EnumerableConvention.INSTANCE == convention) {
-            setUpEnumerableConventionRules(planner);
+            setUpEnumerableConventionRules(planner, spillEnabled);
         }
     }
     
-    private static void setUpEnumerableConventionRules(final RelOptPlanner planner) {
-        planner.addRule(EnumerableRules.ENUMERABLE_JOIN_RULE);
+    private static void setUpEnumerableConventionRules(final RelOptPlanner planner, final boolean spillEnabled) {
+        planner.addRule(spillEnabled ? EnumerableSpillableHashJoinConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_MERGE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CORRELATE_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_PROJECT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_FILTER_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CALC_RULE);
-        planner.addRule(EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
+        if (spillEnabled) {
+            planner.addRule(EnumerableSpillableAggregateConverterRule.DEFAULT_CONFIG.toRule());
+            planner.addRule(EnumerableSpillableAggregateConverterRule.FALLBACK_CONFIG.toRule());
+        } else {
+            planner.addRule(EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
+        }
         planner.addRule(EnumerableRules.ENUMERABLE_SORT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_LIMIT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_COLLECT_RULE);
@@ -134,6 +154,9 @@ public final class SQLFederationPlannerBuilder {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(PushFilterIntoScanRule.Config.DEFAULT.toRule());
         result.add(PushProjectIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushAggregateIntoScanRule.Config.WITH_PROJECT.toRule());
+        result.add(PushSortIntoScanRule.Config.DEFAULT.toRule());
         return result;
     }
     
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
@@ -36,7 +36,7 @@ public final class ExecutionPlanCacheBuilder {
      * @param executionPlanCache execution plan cache option
      * @return built execution plan cache
      */
-    public static LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> build(final SQLFederationCacheOption executionPlanCache) {
-        return Caffeine.newBuilder().softValues().initialCapacity(executionPlanCache.getInitialCapacity()).maximumSize(executionPlanCache.getMaximumSize()).build(new ExecutionPlanCacheLoader());
+    public static Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> build(final SQLFederationCacheOption executionPlanCache) {
+        return Caffeine.newBuilder().softValues().initialCapacity(executionPlanCache.getInitialCapacity()).maximumSize(executionPlanCache.getMaximumSize()).recordStats().build();
     }
 }
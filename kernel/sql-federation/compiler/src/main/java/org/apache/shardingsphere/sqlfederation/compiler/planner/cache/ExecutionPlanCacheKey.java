@@ -20,8 +20,9 @@ package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
-import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.ParameterizedSQLNode;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -31,15 +32,15 @@ import java.util.Map;
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"parameterizedSQLNode", "tables"})
 public final class ExecutionPlanCacheKey {
     
-    // TODO replace sql with parameterized sql
     private final String sql;
     
     private final SQLStatement sqlStatement;
     
-    private final SQLStatementCompiler sqlStatementCompiler;
+    private final ParameterizedSQLNode parameterizedSQLNode;
     
-    private final Map<String, Integer> tableMetaDataVersions = new LinkedHashMap<>();
+    // meta data refresh replaces table instances, and tables are compared by identity
+    private final Map<String, ShardingSphereTable> tables = new LinkedHashMap<>();
 }
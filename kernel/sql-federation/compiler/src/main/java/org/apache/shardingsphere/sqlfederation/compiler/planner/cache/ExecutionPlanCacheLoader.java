@@ -17,16 +17,22 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
 
-import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
+import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompiler;
+
+import java.util.function.Function;
 
 /**
  * Execution plan cache loader.
  */
-public final class ExecutionPlanCacheLoader implements CacheLoader<ExecutionPlanCacheKey, SQLFederationExecutionPlan> {
+@RequiredArgsConstructor
+public final class ExecutionPlanCacheLoader implements Function<ExecutionPlanCacheKey, SQLFederationExecutionPlan> {
+    
+    private final SQLStatementCompiler sqlStatementCompiler;
     
     @Override
-    public SQLFederationExecutionPlan load(final ExecutionPlanCacheKey cacheKey) {
-        return cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlStatement(), cacheKey.getSqlStatement().getDatabaseType().getType());
+    public SQLFederationExecutionPlan apply(final ExecutionPlanCacheKey cacheKey) {
+        return sqlStatementCompiler.compile(cacheKey.getParameterizedSQLNode().getSqlNode(), cacheKey.getSqlStatement().getDatabaseType().getType());
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableAggregate;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableRules;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.InvalidRelException;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableSpillableAggregate;
+
+/**
+ * Enumerable spillable aggregate converter rule.
+ */
+public final class EnumerableSpillableAggregateConverterRule extends ConverterRule {
+    
+    public static final Config DEFAULT_CONFIG = Config.INSTANCE.withConversion(LogicalAggregate.class, EnumerableSpillableAggregate::isSupported, Convention.NONE, EnumerableConvention.INSTANCE,
+            EnumerableSpillableAggregateConverterRule.class.getSimpleName()).withRuleFactory(EnumerableSpillableAggregateConverterRule::new);
+    
+    /**
+     * Standard enumerable aggregate rule config which only converts aggregates not supported by spillable aggregate.
+     */
+    public static final Config FALLBACK_CONFIG = ((ConverterRule) EnumerableRules.ENUMERABLE_AGGREGATE_RULE).config.withConversion(LogicalAggregate.class,
+            each -> !EnumerableSpillableAggregate.isSupported(each), Convention.NONE, EnumerableConvention.INSTANCE, "EnumerableAggregateFallbackRule");
+    
+    private static final ConverterRule DELEGATE = EnumerableRules.ENUMERABLE_AGGREGATE_RULE;
+    
+    private EnumerableSpillableAggregateConverterRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        RelNode result = DELEGATE.convert(rel);
+        if (!(result instanceof EnumerableAggregate)) {
+            return result;
+        }
+        EnumerableAggregate aggregate = (EnumerableAggregate) result;
+        try {
+            return new EnumerableSpillableAggregate(
+                    aggregate.getCluster(), aggregate.getTraitSet(), aggregate.getInput(), aggregate.getGroupSet(), aggregate.getGroupSets(), aggregate.getAggCallList());
+        } catch (final InvalidRelException ignored) {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableFilter;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRules;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableSpillableHashJoin;
+
+import java.util.Collections;
+
+/**
+ * Enumerable spillable hash join converter rule.
+ */
+public final class EnumerableSpillableHashJoinConverterRule extends ConverterRule {
+    
+    public static final Config DEFAULT_CONFIG = Config.INSTANCE.withConversion(LogicalJoin.class, Convention.NONE, EnumerableConvention.INSTANCE,
+            EnumerableSpillableHashJoinConverterRule.class.getSimpleName()).withRuleFactory(EnumerableSpillableHashJoinConverterRule::new);
+    
+    private static final ConverterRule DELEGATE = (ConverterRule) EnumerableRules.ENUMERABLE_JOIN_RULE;
+    
+    private EnumerableSpillableHashJoinConverterRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        RelNode result = DELEGATE.convert(rel);
+        if (result instanceof EnumerableFilter) {
+            EnumerableFilter filter = (EnumerableFilter) result;
+            RelNode input = replaceHashJoin(filter.getInput());
+            return input == filter.getInput() ? filter : filter.copy(filter.getTraitSet(), Collections.singletonList(input));
+        }
+        return replaceHashJoin(result);
+    }
+    
+    private RelNode replaceHashJoin(final RelNode rel) {
+        if (!(rel instanceof EnumerableHashJoin) || !EnumerableSpillableHashJoin.isSupported((EnumerableHashJoin) rel)) {
+            return rel;
+        }
+        EnumerableHashJoin join = (EnumerableHashJoin) rel;
+        return new EnumerableSpillableHashJoin(join.getCluster(), join.getTraitSet(), join.getLeft(), join.getRight(), join.getCondition(), join.getVariablesSet(), join.getJoinType());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Push aggregate into scan rule.
+ *
+ * <p>Each shard returns aggregated rows and the merge engine combines them, so only aggregate functions which the merge engine can combine are pushed down.
+ * {@code $SUM0} is pushed down as {@code SUM} and its empty result is replaced with zero above the scan, and merged results are cast to the types derived by Calcite.</p>
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private static final Collection<SqlKind> PUSHABLE_AGGREGATE_KINDS = EnumSet.of(SqlKind.COUNT, SqlKind.SUM, SqlKind.SUM0, SqlKind.MIN, SqlKind.MAX);
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = getLogicalScan(call);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        if (logicalScan.isAggregatePushedDown() || logicalScan.isSortPushedDown()) {
+            return false;
+        }
+        LogicalAggregate logicalAggregate = call.rel(0);
+        if (Group.SIMPLE != logicalAggregate.getGroupType()) {
+            return false;
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (!isPushable(each)) {
+                return false;
+            }
+        }
+        return !(call.rel(1) instanceof LogicalProject) || isPushable(logicalAggregate, call.rel(1));
+    }
+    
+    private LogicalScan getLogicalScan(final RelOptRuleCall call) {
+        return call.rel(1) instanceof LogicalProject ? call.rel(2) : call.rel(1);
+    }
+    
+    private boolean isPushable(final AggregateCall aggregateCall) {
+        return PUSHABLE_AGGREGATE_KINDS.contains(aggregateCall.getAggregation().getKind())
+                && !aggregateCall.isDistinct() && !aggregateCall.hasFilter() && !aggregateCall.isApproximate() && aggregateCall.getCollation().getFieldCollations().isEmpty();
+    }
+    
+    private boolean isPushable(final LogicalAggregate logicalAggregate, final LogicalProject logicalProject) {
+        int previousSourceIndex = -1;
+        for (int each : logicalAggregate.getGroupSet()) {
+            RexNode groupKey = logicalProject.getProjects().get(each);
+            if (!(groupKey instanceof RexInputRef) || ((RexInputRef) groupKey).getIndex() <= previousSourceIndex) {
+                return false;
+            }
+            previousSourceIndex = ((RexInputRef) groupKey).getIndex();
+        }
+        return logicalProject.getProjects().stream().allMatch(each -> each instanceof RexInputRef || isNumericCast(each));
+    }
+    
+    private boolean isNumericCast(final RexNode rexNode) {
+        return SqlKind.CAST == rexNode.getKind() && ((RexCall) rexNode).getOperands().get(0) instanceof RexInputRef
+                && SqlTypeUtil.isExactNumeric(rexNode.getType()) && SqlTypeUtil.isExactNumeric(((RexCall) rexNode).getOperands().get(0).getType());
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = getLogicalScan(call);
+        boolean withProject = call.rel(1) instanceof LogicalProject;
+        if (!withProject && logicalAggregate.getAggCallList().stream().noneMatch(each -> SqlKind.SUM0 == each.getAggregation().getKind())) {
+            logicalScan.pushDown(logicalAggregate);
+            call.transformTo(logicalScan);
+            return;
+        }
+        List<Integer> sourceIndexes = withProject
+                ? ((LogicalProject) call.rel(1)).getProjects().stream().map(this::getSourceIndex).collect(Collectors.toList())
+                : ImmutableBitSet.range(logicalScan.getRowType().getFieldCount()).asList();
+        logicalScan.pushDown(createPushedAggregate(logicalAggregate, logicalScan, sourceIndexes));
+        call.transformTo(call.builder().push(logicalScan).project(createCastProjects(logicalAggregate, logicalScan), logicalAggregate.getRowType().getFieldNames()).build());
+    }
+    
+    private int getSourceIndex(final RexNode rexNode) {
+        return rexNode instanceof RexInputRef ? ((RexInputRef) rexNode).getIndex() : ((RexInputRef) ((RexCall) rexNode).getOperands().get(0)).getIndex();
+    }
+    
+    private LogicalAggregate createPushedAggregate(final LogicalAggregate logicalAggregate, final LogicalScan logicalScan, final List<Integer> sourceIndexes) {
+        ImmutableBitSet groupSet = ImmutableBitSet.of(logicalAggregate.getGroupSet().asList().stream().map(sourceIndexes::get).collect(Collectors.toList()));
+        List<AggregateCall> aggregateCalls = new ArrayList<>(logicalAggregate.getAggCallList().size());
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            List<Integer> argList = each.getArgList().stream().map(sourceIndexes::get).collect(Collectors.toList());
+            aggregateCalls.add(AggregateCall.create(getPushedAggregation(each), false, false, false, each.rexList, argList, -1, null, each.getCollation(),
+                    groupSet.cardinality(), logicalScan, getPushedType(logicalAggregate, each), each.getName()));
+        }
+        return LogicalAggregate.create(logicalScan, Collections.emptyList(), groupSet, null, aggregateCalls);
+    }
+    
+    private SqlAggFunction getPushedAggregation(final AggregateCall aggregateCall) {
+        return SqlKind.SUM0 == aggregateCall.getAggregation().getKind() ? SqlStdOperatorTable.SUM : aggregateCall.getAggregation();
+    }
+    
+    private RelDataType getPushedType(final LogicalAggregate logicalAggregate, final AggregateCall aggregateCall) {
+        SqlKind kind = aggregateCall.getAggregation().getKind();
+        // Sum keeps the type derived by Calcite to avoid overflow of storage column type, MIN and MAX keep the storage column type
+        return SqlKind.SUM == kind || SqlKind.SUM0 == kind ? logicalAggregate.getCluster().getTypeFactory().createTypeWithNullability(aggregateCall.getType(), true) : null;
+    }
+    
+    private List<RexNode> createCastProjects(final LogicalAggregate logicalAggregate, final LogicalScan logicalScan) {
+        RexBuilder rexBuilder = logicalAggregate.getCluster().getRexBuilder();
+        List<RelDataType> pushedTypes = logicalScan.getRowType().getFieldList().stream().map(RelDataTypeField::getType).collect(Collectors.toList());
+        List<RelDataType> expectedTypes = logicalAggregate.getRowType().getFieldList().stream().map(RelDataTypeField::getType).collect(Collectors.toList());
+        List<RexNode> result = new ArrayList<>(pushedTypes.size());
+        for (int i = 0; i < pushedTypes.size(); i++) {
+            RexNode project = rexBuilder.makeInputRef(pushedTypes.get(i), i);
+            int aggregateCallIndex = i - logicalAggregate.getGroupCount();
+            if (aggregateCallIndex >= 0 && SqlKind.SUM0 == logicalAggregate.getAggCallList().get(aggregateCallIndex).getAggregation().getKind()) {
+                project = rexBuilder.makeCall(SqlStdOperatorTable.COALESCE, project, rexBuilder.makeZeroLiteral(pushedTypes.get(i)));
+            }
+            result.add(project.getType().equals(expectedTypes.get(i)) ? project : rexBuilder.makeCast(expectedTypes.get(i), project));
+        }
+        return result;
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        Config WITH_PROJECT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName() + "WithProject")
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalProject.class).inputs(b2 -> b2.operand(LogicalScan.class).anyInputs()))).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
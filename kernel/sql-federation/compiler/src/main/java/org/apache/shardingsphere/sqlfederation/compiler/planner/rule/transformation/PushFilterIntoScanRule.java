@@ -54,6 +54,9 @@ public final class PushFilterIntoScanRule extends RelRule<PushFilterIntoScanRule
                 return false;
             }
         }
+        if (logicalScan.isAggregatePushedDown() || logicalScan.isSortPushedDown()) {
+            return false;
+        }
         LogicalFilter logicalFilter = call.rel(0);
         RexNode condition = logicalFilter.getCondition();
         if (isConditionContainsRexSubQuery(condition)) {
@@ -23,6 +23,7 @@ import org.apache.calcite.plan.RelRule;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rel.rules.TransformationRule;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexSubQuery;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
@@ -54,8 +55,9 @@ public final class PushProjectIntoScanRule extends RelRule<PushProjectIntoScanRu
             }
         }
         LogicalProject logicalProject = call.rel(0);
+        boolean reduced = logicalScan.isAggregatePushedDown() || logicalScan.isSortPushedDown();
         for (RexNode each : logicalProject.getProjects()) {
-            if (each instanceof RexSubQuery || containsCastFunction(each)) {
+            if (each instanceof RexSubQuery || containsCastFunction(each) || reduced && !(each instanceof RexInputRef)) {
                 return false;
             }
         }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.config.NullCollation;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.dialect.SQLDialectFactory;
+import org.immutables.value.Value;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Push sort into scan rule.
+ *
+ * <p>Each shard returns sorted top-N rows and the merge engine merges them in order and applies the final offset and fetch.
+ * Sort keys which need null direction emulation in the generated SQL are kept in federation, because the merge engine can not order by the emulated expressions.</p>
+ */
+@Value.Enclosing
+public final class PushSortIntoScanRule extends RelRule<PushSortIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushSortIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        if (logicalScan.isSortPushedDown()) {
+            return false;
+        }
+        LogicalSort logicalSort = call.rel(0);
+        if (null != logicalSort.offset && null == logicalSort.fetch) {
+            return false;
+        }
+        return isPaginationValue(logicalSort.offset) && isPaginationValue(logicalSort.fetch) && isDefaultNullDirection(logicalSort.getCollation(), logicalScan.getDatabaseType());
+    }
+    
+    private boolean isPaginationValue(final RexNode rexNode) {
+        return null == rexNode || rexNode instanceof RexLiteral || rexNode instanceof RexDynamicParam;
+    }
+    
+    private boolean isDefaultNullDirection(final RelCollation collation, final String databaseType) {
+        NullCollation nullCollation = SQLDialectFactory.getSQLDialect(databaseType).getNullCollation();
+        for (RelFieldCollation each : collation.getFieldCollations()) {
+            if (NullDirection.UNSPECIFIED != each.nullDirection && !nullCollation.isDefaultOrder(NullDirection.FIRST == each.nullDirection, each.direction.isDescending())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalSort logicalSort = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(logicalSort);
+        call.transformTo(logicalScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushSortIntoScanRule.Config.builder().description(PushSortIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalSort.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushSortIntoScanRule toRule() {
+            return new PushSortIntoScanRule(this);
+        }
+    }
+}
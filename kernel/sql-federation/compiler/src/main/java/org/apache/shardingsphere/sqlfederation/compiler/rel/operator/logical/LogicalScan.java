@@ -20,9 +20,13 @@ package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical;
 import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Sort;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.builder.LogicalScanPushDownRelBuilder;
 
 import java.util.Collections;
@@ -70,6 +74,55 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        RelNode input = pushDownRelBuilder.build();
+        pushDownRelBuilder.push(logicalAggregate.copy(logicalAggregate.getTraitSet(), Collections.singletonList(input)));
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical sort.
+     *
+     * @param logicalSort logical sort
+     */
+    public void pushDown(final LogicalSort logicalSort) {
+        RelNode input = pushDownRelBuilder.build();
+        pushDownRelBuilder.push(logicalSort.copy(logicalSort.getTraitSet(), input, logicalSort.getCollation(), logicalSort.offset, logicalSort.fetch));
+        resetRowType(logicalSort);
+    }
+    
+    /**
+     * Judge whether aggregate has been pushed down.
+     *
+     * @return whether aggregate has been pushed down
+     */
+    public boolean isAggregatePushedDown() {
+        return isPushedDown(Aggregate.class);
+    }
+    
+    /**
+     * Judge whether sort has been pushed down.
+     *
+     * @return whether sort has been pushed down
+     */
+    public boolean isSortPushedDown() {
+        return isPushedDown(Sort.class);
+    }
+    
+    private boolean isPushedDown(final Class<? extends RelNode> relNodeClass) {
+        for (RelNode each = peek(); null != each; each = each.getInputs().isEmpty() ? null : each.getInput(0)) {
+            if (relNodeClass.isInstance(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Peek rel node.
      *
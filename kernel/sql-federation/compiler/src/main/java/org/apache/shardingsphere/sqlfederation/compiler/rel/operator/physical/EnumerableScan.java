@@ -85,7 +85,21 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
         int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
         return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "implement", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+                Expressions.constant(getScanSQL()), Expressions.constant(paramIndexes), Expressions.constant(getColumnTypes()))));
+    }
+    
+    /**
+     * Get scan SQL which is executed by storage units.
+     *
+     * @return scan SQL
+     */
+    public String getScanSQL() {
+        return sqlString.getSql().replace("u&'\\", "'\\u").replace(System.lineSeparator(), " ");
+    }
+    
+    private int[] getColumnTypes() {
+        // Values of reduced scans are merged by kernel merge engine, and have to be converted to the types derived by Calcite
+        return getPushDownRowType().getFieldList().stream().mapToInt(each -> each.getType().getSqlTypeName().getJdbcOrdinal()).toArray();
     }
     
     private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableAggregate;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.InvalidRelException;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableEnumerables;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Enumerable spillable aggregate, which spills groups to disk when memory limit is exceeded.
+ */
+public final class EnumerableSpillableAggregate extends EnumerableAggregate {
+    
+    private static final Collection<String> SUPPORTED_AGGREGATE_KINDS = new HashSet<>(
+            Arrays.asList(SpillableEnumerables.COUNT, SpillableEnumerables.SUM, SpillableEnumerables.SUM0, SpillableEnumerables.MIN, SpillableEnumerables.MAX));
+    
+    public EnumerableSpillableAggregate(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final ImmutableBitSet groupSet,
+                                        final List<ImmutableBitSet> groupSets, final List<AggregateCall> aggCalls) throws InvalidRelException {
+        super(cluster, traitSet, input, groupSet, groupSets, aggCalls);
+    }
+    
+    /**
+     * Judge whether aggregate is supported by spillable aggregate.
+     *
+     * @param aggregate aggregate
+     * @return supported or not
+     */
+    public static boolean isSupported(final Aggregate aggregate) {
+        if (Group.SIMPLE != aggregate.getGroupType()) {
+            return false;
+        }
+        for (AggregateCall each : aggregate.getAggCallList()) {
+            if (!SUPPORTED_AGGREGATE_KINDS.contains(each.getAggregation().getName()) || each.isDistinct() || each.hasFilter()
+                    || each.getArgList().size() > 1 || !each.getCollation().getFieldCollations().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public EnumerableAggregate copy(final RelTraitSet traitSet, final RelNode input, final ImmutableBitSet groupSet, final List<ImmutableBitSet> groupSets, final List<AggregateCall> aggCalls) {
+        try {
+            return new EnumerableSpillableAggregate(getCluster(), traitSet, input, groupSet, groupSets, aggCalls);
+        } catch (final InvalidRelException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result inputResult = implementor.visitChild(this, 0, (EnumerableRel) getInput(), Prefer.ARRAY);
+        Expression inputExpression = inputResult.physType.convertTo(builder.append("input", inputResult.block), JavaRowFormat.ARRAY);
+        int aggregateCount = aggCalls.size();
+        String[] aggregateKinds = new String[aggregateCount];
+        int[] aggregateArgs = new int[aggregateCount];
+        String[] aggregateTypes = new String[aggregateCount];
+        for (int i = 0; i < aggregateCount; i++) {
+            AggregateCall aggCall = aggCalls.get(i);
+            aggregateKinds[i] = aggCall.getAggregation().getName();
+            aggregateArgs[i] = aggCall.getArgList().isEmpty() ? -1 : aggCall.getArgList().get(0);
+            aggregateTypes[i] = aggCall.getType().getSqlTypeName().getName();
+        }
+        builder.add(Expressions.return_(null, Expressions.call(SpillableEnumerables.class, "aggregate", implementor.getRootExpression(), inputExpression,
+                Expressions.constant(groupSet.toArray()), Expressions.constant(aggregateKinds), Expressions.constant(aggregateArgs), Expressions.constant(aggregateTypes))));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        return implementor.result(physType, builder.toBlock());
+    }
+}
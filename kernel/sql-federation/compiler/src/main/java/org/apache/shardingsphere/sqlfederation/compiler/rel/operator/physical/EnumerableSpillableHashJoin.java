@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableEnumerables;
+
+import java.util.Set;
+
+/**
+ * Enumerable spillable hash join, which spills partitions of both inputs to disk when memory limit is exceeded.
+ */
+public final class EnumerableSpillableHashJoin extends EnumerableHashJoin {
+    
+    public EnumerableSpillableHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right, final RexNode condition,
+                                       final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        super(cluster, traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    /**
+     * Judge whether join is supported by spillable hash join.
+     *
+     * @param join join
+     * @return supported or not
+     */
+    public static boolean isSupported(final Join join) {
+        return JoinRelType.INNER == join.getJoinType() && join.getVariablesSet().isEmpty() && !join.analyzeCondition().leftKeys.isEmpty() && join.analyzeCondition().isEqui();
+    }
+    
+    @Override
+    public EnumerableHashJoin copy(final RelTraitSet traitSet, final RexNode condition, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new EnumerableSpillableHashJoin(getCluster(), traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) left, Prefer.ARRAY);
+        Expression leftExpression = leftResult.physType.convertTo(builder.append("left", leftResult.block), JavaRowFormat.ARRAY);
+        Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) right, Prefer.ARRAY);
+        Expression rightExpression = rightResult.physType.convertTo(builder.append("right", rightResult.block), JavaRowFormat.ARRAY);
+        JoinInfo joinInfo = analyzeCondition();
+        builder.add(Expressions.return_(null, Expressions.call(SpillableEnumerables.class, "hashJoin", implementor.getRootExpression(), leftExpression, rightExpression,
+                Expressions.constant(joinInfo.leftKeys.toIntArray()), Expressions.constant(joinInfo.rightKeys.toIntArray()))));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        return implementor.result(physType, builder.toBlock());
+    }
+}
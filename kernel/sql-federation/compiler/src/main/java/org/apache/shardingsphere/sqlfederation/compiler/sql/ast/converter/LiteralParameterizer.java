@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Literal parameterizer.
+ *
+ * <p>Replaces character and integer literals compared with columns by dynamic parameters, so statements which only differ in these literals share the same shape.
+ * A literal is only replaced when its type family matches the data type of the compared column, other literals stay inline and keep their implicit conversion.</p>
+ */
+@RequiredArgsConstructor
+public final class LiteralParameterizer extends SqlBasicVisitor<Void> {
+    
+    private static final Collection<SqlKind> COMPARISON_KINDS = EnumSet.of(
+            SqlKind.EQUALS, SqlKind.NOT_EQUALS, SqlKind.LESS_THAN, SqlKind.LESS_THAN_OR_EQUAL, SqlKind.GREATER_THAN, SqlKind.GREATER_THAN_OR_EQUAL);
+    
+    private static final Collection<Integer> CHARACTER_TYPES = new HashSet<>(Arrays.asList(Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR));
+    
+    private static final Collection<Integer> INTEGER_TYPES = new HashSet<>(Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT));
+    
+    private final int parameterCount;
+    
+    private final Map<String, Integer> columnDataTypes;
+    
+    @Getter
+    private final List<Object> literalParameters = new ArrayList<>();
+    
+    @Override
+    public Void visit(final SqlCall call) {
+        if (call instanceof SqlBasicCall) {
+            parameterize((SqlBasicCall) call);
+        }
+        return super.visit(call);
+    }
+    
+    private void parameterize(final SqlBasicCall call) {
+        SqlKind kind = call.getKind();
+        if (COMPARISON_KINDS.contains(kind) && 2 == call.operandCount()) {
+            if (call.operand(0) instanceof SqlIdentifier) {
+                parameterizeOperand(call, call.operand(0), 1);
+            } else if (call.operand(1) instanceof SqlIdentifier) {
+                parameterizeOperand(call, call.operand(1), 0);
+            }
+        } else if ((SqlKind.IN == kind || SqlKind.NOT_IN == kind) && call.operand(0) instanceof SqlIdentifier && call.operand(1) instanceof SqlNodeList) {
+            SqlNodeList values = call.operand(1);
+            for (int i = 0; i < values.size(); i++) {
+                if (isParameterizable(call.operand(0), values.get(i))) {
+                    values.set(i, createDynamicParam((SqlLiteral) values.get(i)));
+                }
+            }
+        } else if (SqlKind.BETWEEN == kind && 3 == call.operandCount() && call.operand(0) instanceof SqlIdentifier) {
+            parameterizeOperand(call, call.operand(0), 1);
+            parameterizeOperand(call, call.operand(0), 2);
+        }
+    }
+    
+    private void parameterizeOperand(final SqlBasicCall call, final SqlIdentifier column, final int index) {
+        if (isParameterizable(column, call.operand(index))) {
+            call.setOperand(index, createDynamicParam(call.operand(index)));
+        }
+    }
+    
+    private boolean isParameterizable(final SqlIdentifier column, final SqlNode sqlNode) {
+        Integer dataType = column.isStar() ? null : columnDataTypes.get(column.names.get(column.names.size() - 1).toLowerCase());
+        if (null == dataType) {
+            return false;
+        }
+        if (sqlNode instanceof SqlCharStringLiteral) {
+            return CHARACTER_TYPES.contains(dataType);
+        }
+        return sqlNode instanceof SqlNumericLiteral && ((SqlNumericLiteral) sqlNode).isExact() && ((SqlNumericLiteral) sqlNode).isInteger() && INTEGER_TYPES.contains(dataType);
+    }
+    
+    private SqlDynamicParam createDynamicParam(final SqlLiteral literal) {
+        SqlDynamicParam result = new SqlDynamicParam(parameterCount + literalParameters.size(), SqlParserPos.ZERO);
+        literalParameters.add(literal instanceof SqlCharStringLiteral ? literal.getValueAs(String.class) : getIntegerValue(literal.getValueAs(BigDecimal.class)));
+        return result;
+    }
+    
+    private Object getIntegerValue(final BigDecimal value) {
+        BigInteger result = value.toBigInteger();
+        if (result.bitLength() < Integer.SIZE) {
+            return result.intValue();
+        }
+        if (result.bitLength() < Long.SIZE) {
+            return result.longValue();
+        }
+        return result;
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.dialect.AnsiSqlDialect;
+import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dal.DALStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dal.ExplainStatement;
@@ -37,6 +39,8 @@ import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.statem
 import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.statement.type.SelectStatementConverter;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.statement.type.UpdateStatementConverter;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -87,4 +91,21 @@ public final class SQLNodeConverterEngine {
         }
         return Optional.empty();
     }
+    
+    /**
+     * Convert SQL statement to parameterized SQL node.
+     *
+     * @param sqlStatement SQL statement to be converted
+     * @param parameterCount parameter count of SQL statement
+     * @param columnDataTypes lower case column names and their JDBC data types, literals compared with other columns are not parameterized
+     * @return parameterized SQL node
+     */
+    public static ParameterizedSQLNode convertWithParameterizedLiterals(final SQLStatement sqlStatement, final int parameterCount, final Map<String, Integer> columnDataTypes) {
+        SqlNode sqlNode = convert(sqlStatement);
+        LiteralParameterizer parameterizer = new LiteralParameterizer(parameterCount, columnDataTypes);
+        sqlNode.accept(parameterizer);
+        SqlString sqlString = sqlNode.toSqlString(AnsiSqlDialect.DEFAULT);
+        return new ParameterizedSQLNode(sqlNode, sqlString.getSql(),
+                null == sqlString.getDynamicParameters() ? Collections.emptyList() : sqlString.getDynamicParameters(), parameterizer.getLiteralParameters());
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCom
 import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompilerEngine;
 import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompilerEngineFactory;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.ParameterizedSQLNode;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
@@ -41,19 +42,20 @@ class SQLFederationCompilerEngineTest {
     @Test
     void assertCompileDelegatesForCacheFlags() {
         SQLFederationCacheOption cacheOption = new SQLFederationCacheOption(1, 1L);
-        ExecutionPlanCacheKey cacheKey = new ExecutionPlanCacheKey("select 1", mock(SQLStatement.class), mock(SQLStatementCompiler.class));
+        ExecutionPlanCacheKey cacheKey = new ExecutionPlanCacheKey("select 1", mock(SQLStatement.class), mock(ParameterizedSQLNode.class));
+        SQLStatementCompiler sqlStatementCompiler = mock(SQLStatementCompiler.class);
         SQLStatementCompilerEngine statementCompilerEngine = mock(SQLStatementCompilerEngine.class);
         SQLFederationExecutionPlan expectedPlanWithCache = mock(SQLFederationExecutionPlan.class);
         SQLFederationExecutionPlan expectedPlanWithoutCache = mock(SQLFederationExecutionPlan.class);
         when(SQLStatementCompilerEngineFactory.getSQLStatementCompilerEngine("foo_db", "foo_schema", cacheOption)).thenReturn(statementCompilerEngine);
-        when(statementCompilerEngine.compile(cacheKey, true)).thenReturn(expectedPlanWithCache);
-        when(statementCompilerEngine.compile(cacheKey, false)).thenReturn(expectedPlanWithoutCache);
+        when(statementCompilerEngine.compile(cacheKey, sqlStatementCompiler, true)).thenReturn(expectedPlanWithCache);
+        when(statementCompilerEngine.compile(cacheKey, sqlStatementCompiler, false)).thenReturn(expectedPlanWithoutCache);
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine("foo_db", "foo_schema", cacheOption);
-        SQLFederationExecutionPlan actualPlanWithCache = compilerEngine.compile(cacheKey, true);
-        SQLFederationExecutionPlan actualPlanWithoutCache = compilerEngine.compile(cacheKey, false);
+        SQLFederationExecutionPlan actualPlanWithCache = compilerEngine.compile(cacheKey, sqlStatementCompiler, true);
+        SQLFederationExecutionPlan actualPlanWithoutCache = compilerEngine.compile(cacheKey, sqlStatementCompiler, false);
         assertThat(actualPlanWithCache, is(expectedPlanWithCache));
         assertThat(actualPlanWithoutCache, is(expectedPlanWithoutCache));
-        verify(statementCompilerEngine).compile(cacheKey, true);
-        verify(statementCompilerEngine).compile(cacheKey, false);
+        verify(statementCompilerEngine).compile(cacheKey, sqlStatementCompiler, true);
+        verify(statementCompilerEngine).compile(cacheKey, sqlStatementCompiler, false);
     }
 }
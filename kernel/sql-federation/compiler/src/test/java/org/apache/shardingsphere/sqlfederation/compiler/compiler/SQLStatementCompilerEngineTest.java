@@ -17,15 +17,19 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.compiler;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheBuilder;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheLoader;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.ParameterizedSQLNode;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
@@ -35,11 +39,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,44 +62,57 @@ class SQLStatementCompilerEngineTest {
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private SQLStatement sqlStatement;
     
+    @Mock
+    private SqlNode sqlNode;
+    
     private ExecutionPlanCacheKey cacheKey;
     
     @BeforeEach
     void setUp() {
         when(sqlStatement.getDatabaseType()).thenReturn(databaseType);
-        cacheKey = new ExecutionPlanCacheKey("select 1", sqlStatement, sqlStatementCompiler);
+        cacheKey = new ExecutionPlanCacheKey("select 1", sqlStatement, new ParameterizedSQLNode(sqlNode, "select 1", Collections.emptyList(), Collections.emptyList()));
     }
     
     @Test
     void assertCompileWithoutCache() {
         SQLFederationExecutionPlan expectedPlan = mock(SQLFederationExecutionPlan.class);
-        when(sqlStatementCompiler.compile(sqlStatement, "FIXTURE")).thenReturn(expectedPlan);
+        when(sqlStatementCompiler.compile(sqlNode, "FIXTURE")).thenReturn(expectedPlan);
         SQLStatementCompilerEngine engine = new SQLStatementCompilerEngine(new SQLFederationCacheOption(1, 1L));
-        assertThat(engine.compile(cacheKey, false), is(expectedPlan));
-        verify(sqlStatementCompiler).compile(sqlStatement, "FIXTURE");
+        assertThat(engine.compile(cacheKey, sqlStatementCompiler, false), is(expectedPlan));
+        verify(sqlStatementCompiler).compile(sqlNode, "FIXTURE");
     }
     
     @SuppressWarnings("unchecked")
     @Test
     void assertCompileWithCache() {
-        LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cache = mock(LoadingCache.class);
+        Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cache = mock(Cache.class);
         SQLFederationExecutionPlan expectedCachedPlan = mock(SQLFederationExecutionPlan.class);
-        when(cache.get(cacheKey)).thenReturn(expectedCachedPlan);
+        when(cache.get(eq(cacheKey), any(ExecutionPlanCacheLoader.class))).thenReturn(expectedCachedPlan);
         when(ExecutionPlanCacheBuilder.build(any(SQLFederationCacheOption.class))).thenReturn(cache);
         SQLStatementCompilerEngine engine = new SQLStatementCompilerEngine(new SQLFederationCacheOption(1, 1L));
-        assertThat(engine.compile(cacheKey, true), is(expectedCachedPlan));
-        assertThat(engine.compile(cacheKey, true), is(expectedCachedPlan));
+        assertThat(engine.compile(cacheKey, sqlStatementCompiler, true), is(expectedCachedPlan));
+        assertThat(engine.compile(cacheKey, sqlStatementCompiler, true), is(expectedCachedPlan));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertGetExecutionPlanCacheStats() {
+        Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cache = mock(Cache.class);
+        CacheStats expected = CacheStats.of(1L, 1L, 1L, 0L, 0L, 0L, 0L);
+        when(cache.stats()).thenReturn(expected);
+        when(ExecutionPlanCacheBuilder.build(any(SQLFederationCacheOption.class))).thenReturn(cache);
+        assertThat(new SQLStatementCompilerEngine(new SQLFederationCacheOption(1, 1L)).getExecutionPlanCacheStats(), is(expected));
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Test
     void assertUpdateCacheOption() {
-        LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cacheWithEviction = mock(LoadingCache.class);
+        Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cacheWithEviction = mock(Cache.class);
         Policy cachePolicyWithEviction = mock(Policy.class);
         Policy.Eviction eviction = mock(Eviction.class);
         when(cachePolicyWithEviction.eviction()).thenReturn(Optional.of(eviction));
         when(cacheWithEviction.policy()).thenReturn(cachePolicyWithEviction);
-        LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cacheWithoutEviction = mock(LoadingCache.class);
+        Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cacheWithoutEviction = mock(Cache.class);
         Policy cachePolicyWithoutEviction = mock(Policy.class);
         when(cachePolicyWithoutEviction.eviction()).thenReturn(Optional.empty());
         when(cacheWithoutEviction.policy()).thenReturn(cachePolicyWithoutEviction);
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillableEnumerablesTest {
+    
+    private static final String[] AGGREGATE_KINDS = {SpillableEnumerables.COUNT, SpillableEnumerables.COUNT, SpillableEnumerables.SUM, SpillableEnumerables.SUM0,
+            SpillableEnumerables.MIN, SpillableEnumerables.MAX};
+    
+    private static final int[] AGGREGATE_ARGS = {-1, 1, 1, 1, 1, 1};
+    
+    private static final String[] AGGREGATE_TYPES = {"BIGINT", "BIGINT", "INTEGER", "BIGINT", "INTEGER", "INTEGER"};
+    
+    @Test
+    void assertAggregateInMemory() {
+        List<Object[]> actual = sortByFirstColumn(aggregate(createDataContext(0L), createGroupRows(100, 10)));
+        assertGroups(actual, 100, 10);
+    }
+    
+    @Test
+    void assertAggregateWithSpill() {
+        List<Object[]> actual = sortByFirstColumn(aggregate(createDataContext(1L), createGroupRows(1000, 5)));
+        assertGroups(actual, 1000, 5);
+    }
+    
+    @Test
+    void assertAggregateWithNullValues() {
+        List<Object[]> rows = Arrays.asList(new Object[]{1, null}, new Object[]{1, null});
+        List<Object[]> actual = aggregate(createDataContext(1L), rows);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(new Object[]{1, 2L, 0L, null, 0L, null, null}));
+    }
+    
+    @Test
+    void assertAggregateWithoutGroupKeysOnEmptyInput() {
+        List<Object[]> actual = toList(SpillableEnumerables.aggregate(createDataContext(1L), Linq4j.asEnumerable(Collections.<Object[]>emptyList()), new int[0],
+                new String[]{SpillableEnumerables.COUNT, SpillableEnumerables.SUM}, new int[]{-1, 0}, new String[]{"BIGINT", "DECIMAL"}));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(new Object[]{0L, null}));
+    }
+    
+    @Test
+    void assertAggregateSumDecimalAndDouble() {
+        List<Object[]> rows = Arrays.asList(new Object[]{new BigDecimal("1.5"), 1.5D}, new Object[]{new BigDecimal("2.5"), 2.5D});
+        List<Object[]> actual = toList(SpillableEnumerables.aggregate(createDataContext(0L), Linq4j.asEnumerable(rows), new int[0],
+                new String[]{SpillableEnumerables.SUM, SpillableEnumerables.SUM}, new int[]{0, 1}, new String[]{"DECIMAL", "DOUBLE"}));
+        assertThat(actual.get(0), is(new Object[]{new BigDecimal("4.0"), 4.0D}));
+    }
+    
+    @Test
+    void assertAggregateWithoutDataContext() {
+        List<Object[]> actual = toList(SpillableEnumerables.aggregate(null, Linq4j.asEnumerable(createGroupRows(3, 2)), new int[]{0},
+                new String[]{SpillableEnumerables.MAX}, new int[]{1}, new String[]{"INTEGER"}));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0)[1], is(1));
+    }
+    
+    @Test
+    void assertHashJoinInMemory() {
+        assertJoin(createDataContext(0L));
+    }
+    
+    @Test
+    void assertHashJoinWithSpill() {
+        assertJoin(createDataContext(1L));
+    }
+    
+    @Test
+    void assertHashJoinSkipsNullKeys() {
+        List<Object[]> left = Arrays.asList(new Object[]{null, "l0"}, new Object[]{1, "l1"});
+        List<Object[]> right = Arrays.asList(new Object[]{null, "r0"}, new Object[]{1, "r1"});
+        List<Object[]> actual = toList(SpillableEnumerables.hashJoin(createDataContext(1L), Linq4j.asEnumerable(left), Linq4j.asEnumerable(right), new int[]{0}, new int[]{0}));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(new Object[]{1, "l1", 1, "r1"}));
+    }
+    
+    private void assertJoin(final DataContext dataContext) {
+        List<Object[]> left = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            left.add(new Object[]{i, "left_" + i});
+        }
+        List<Object[]> right = new ArrayList<>(600);
+        for (int i = 0; i < 300; i++) {
+            right.add(new Object[]{"right_" + i, i * 2});
+            right.add(new Object[]{"other_" + i, i * 2});
+        }
+        List<Object[]> actual = toList(SpillableEnumerables.hashJoin(dataContext, Linq4j.asEnumerable(left), Linq4j.asEnumerable(right), new int[]{0}, new int[]{1}));
+        assertThat(actual.size(), is(600));
+        Map<Integer, Integer> matchedCounts = new HashMap<>();
+        for (Object[] each : actual) {
+            assertThat(each.length, is(4));
+            assertThat(each[0], is(each[3]));
+            assertThat(each[1], is("left_" + each[0]));
+            matchedCounts.merge((Integer) each[0], 1, Integer::sum);
+        }
+        assertThat(matchedCounts.size(), is(300));
+        assertThat(matchedCounts.values().stream().allMatch(each -> 2 == each), is(true));
+    }
+    
+    private DataContext createDataContext(final long memoryLimitBytes) {
+        DataContext result = mock(DataContext.class);
+        when(result.get(SpillableEnumerables.MEMORY_LIMIT_BYTES_VARIABLE)).thenReturn(memoryLimitBytes);
+        return result;
+    }
+    
+    private List<Object[]> createGroupRows(final int groupCount, final int rowsPerGroup) {
+        List<Object[]> result = new ArrayList<>(groupCount * rowsPerGroup);
+        for (int i = 0; i < rowsPerGroup; i++) {
+            for (int j = 0; j < groupCount; j++) {
+                result.add(new Object[]{j, i});
+            }
+        }
+        return result;
+    }
+    
+    private List<Object[]> aggregate(final DataContext dataContext, final List<Object[]> rows) {
+        return toList(SpillableEnumerables.aggregate(dataContext, Linq4j.asEnumerable(rows), new int[]{0}, AGGREGATE_KINDS, AGGREGATE_ARGS, AGGREGATE_TYPES));
+    }
+    
+    private void assertGroups(final List<Object[]> actual, final int groupCount, final int rowsPerGroup) {
+        assertThat(actual.size(), is(groupCount));
+        int expectedSum = rowsPerGroup * (rowsPerGroup - 1) / 2;
+        for (int i = 0; i < groupCount; i++) {
+            assertThat(actual.get(i), is(new Object[]{i, (long) rowsPerGroup, (long) rowsPerGroup, expectedSum, (long) expectedSum, 0, rowsPerGroup - 1}));
+        }
+    }
+    
+    private List<Object[]> sortByFirstColumn(final List<Object[]> rows) {
+        rows.sort(Comparator.comparing(each -> (Integer) each[0]));
+        return rows;
+    }
+    
+    private List<Object[]> toList(final Enumerable<Object[]> enumerable) {
+        List<Object[]> result = new ArrayList<>();
+        for (Object[] each : enumerable) {
+            result.add(each);
+        }
+        return result;
+    }
+}
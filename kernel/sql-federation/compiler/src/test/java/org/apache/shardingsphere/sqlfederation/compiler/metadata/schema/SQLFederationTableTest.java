@@ -106,7 +106,7 @@ class SQLFederationTableTest {
     
     @Test
     void assertImplementWithoutScanImplementorReturnsEmptyEnumerator() {
-        Enumerable<Object> actual = new SQLFederationTable(table, databaseType).implement(mock(DataContext.class), "SELECT 1", new int[0]);
+        Enumerable<Object> actual = new SQLFederationTable(table, databaseType).implement(mock(DataContext.class), "SELECT 1", new int[0], new int[0]);
         Enumerator<Object> enumerator = actual.enumerator();
         assertThat(enumerator, isA(EmptyDataRowEnumerator.class));
         assertFalse(enumerator.moveNext());
@@ -120,7 +120,7 @@ class SQLFederationTableTest {
         ScanImplementor scanImplementor = mock(ScanImplementor.class);
         when(scanImplementor.implement(any(ShardingSphereTable.class), any(ScanImplementorContext.class))).thenReturn(expectedEnumerable);
         federationTable.setScanImplementor(scanImplementor);
-        Enumerable<Object> actual = federationTable.implement(mock(DataContext.class), "SELECT 1", new int[0]);
+        Enumerable<Object> actual = federationTable.implement(mock(DataContext.class), "SELECT 1", new int[0], new int[0]);
         assertThat(actual, is(expectedEnumerable));
         verify(scanImplementor).implement(any(ShardingSphereTable.class), any(ScanImplementorContext.class));
     }
@@ -28,6 +28,8 @@ import org.apache.calcite.plan.hep.HepProgram;
 import org.apache.calcite.rel.RelCollationTraitDef;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableAggregateConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableHashJoinConverterRule;
 import org.junit.jupiter.api.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
 
@@ -53,6 +55,16 @@ class SQLFederationPlannerBuilderTest {
         assertTrue(actual.getRules().stream().anyMatch(each -> each instanceof ConverterRule));
     }
     
+    @Test
+    void assertBuildVolcanoPlannerWithSpillEnabledReplacesAggregateAndJoinRules() {
+        RelOptPlanner actual = SQLFederationPlannerBuilder.buildVolcanoPlanner(EnumerableConvention.INSTANCE, true);
+        assertFalse(actual.getRules().contains(EnumerableRules.ENUMERABLE_JOIN_RULE));
+        assertFalse(actual.getRules().contains(EnumerableRules.ENUMERABLE_AGGREGATE_RULE));
+        assertTrue(actual.getRules().stream().anyMatch(EnumerableSpillableHashJoinConverterRule.class::isInstance));
+        assertTrue(actual.getRules().stream().anyMatch(EnumerableSpillableAggregateConverterRule.class::isInstance));
+        assertTrue(actual.getRules().stream().anyMatch(each -> each.toString().startsWith("EnumerableAggregateFallbackRule")));
+    }
+    
     @Test
     void assertBuildVolcanoPlannerWithCustomConventionSkipsEnumerableRules() {
         Convention customConvention = new Convention.Impl("CUSTOM", RelNode.class);
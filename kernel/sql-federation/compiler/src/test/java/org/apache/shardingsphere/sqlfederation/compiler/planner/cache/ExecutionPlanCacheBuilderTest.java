@@ -17,16 +17,20 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Policy;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.ParameterizedSQLNode;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -41,15 +45,43 @@ class ExecutionPlanCacheBuilderTest {
     
     @Test
     void assertBuildCreatesCacheAndLoadsWithConfiguredLimits() {
-        LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> actual = ExecutionPlanCacheBuilder.build(new SQLFederationCacheOption(2, 3L));
+        Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> actual = ExecutionPlanCacheBuilder.build(new SQLFederationCacheOption(2, 3L));
         SQLStatementCompiler compiler = mock(SQLStatementCompiler.class);
         SQLStatement sqlStatement = mock(SQLStatement.class);
         when(sqlStatement.getDatabaseType()).thenReturn(databaseType);
         SQLFederationExecutionPlan executionPlan = mock(SQLFederationExecutionPlan.class);
-        when(compiler.compile(sqlStatement, "FIXTURE")).thenReturn(executionPlan);
-        assertThat(actual.get(new ExecutionPlanCacheKey("select 1", sqlStatement, compiler)), is(executionPlan));
+        SqlNode sqlNode = mock(SqlNode.class);
+        when(compiler.compile(sqlNode, "FIXTURE")).thenReturn(executionPlan);
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(sqlNode, "select ?", Collections.singletonList(0), Collections.singletonList(1));
+        ExecutionPlanCacheLoader cacheLoader = new ExecutionPlanCacheLoader(compiler);
+        assertThat(actual.get(new ExecutionPlanCacheKey("select 1", sqlStatement, parameterizedSQLNode), cacheLoader), is(executionPlan));
+        ParameterizedSQLNode otherParameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), "select ?", Collections.singletonList(0), Collections.singletonList(2));
+        assertThat(actual.get(new ExecutionPlanCacheKey("select 2", sqlStatement, otherParameterizedSQLNode), cacheLoader), is(executionPlan));
+        assertThat(actual.stats().hitCount(), is(1L));
+        assertThat(actual.stats().missCount(), is(1L));
         Optional<Policy.Eviction<ExecutionPlanCacheKey, SQLFederationExecutionPlan>> evictionPolicy = actual.policy().eviction();
         assertTrue(evictionPolicy.isPresent());
         assertThat(evictionPolicy.get().getMaximum(), is(3L));
     }
+    
+    @Test
+    void assertNotHitCacheWithReplacedTable() {
+        SQLStatementCompiler compiler = mock(SQLStatementCompiler.class);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        when(sqlStatement.getDatabaseType()).thenReturn(databaseType);
+        SqlNode sqlNode = mock(SqlNode.class);
+        SQLFederationExecutionPlan executionPlan = mock(SQLFederationExecutionPlan.class);
+        SQLFederationExecutionPlan refreshedExecutionPlan = mock(SQLFederationExecutionPlan.class);
+        when(compiler.compile(sqlNode, "FIXTURE")).thenReturn(executionPlan, refreshedExecutionPlan);
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(sqlNode, "select * from foo_tbl", Collections.emptyList(), Collections.emptyList());
+        ExecutionPlanCacheKey cacheKey = new ExecutionPlanCacheKey("select * from foo_tbl", sqlStatement, parameterizedSQLNode);
+        cacheKey.getTables().put("foo_db.foo_schema.foo_tbl", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        ExecutionPlanCacheKey refreshedCacheKey = new ExecutionPlanCacheKey("select * from foo_tbl", sqlStatement, parameterizedSQLNode);
+        refreshedCacheKey.getTables().put("foo_db.foo_schema.foo_tbl", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        ExecutionPlanCacheLoader cacheLoader = new ExecutionPlanCacheLoader(compiler);
+        Cache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> actual = ExecutionPlanCacheBuilder.build(new SQLFederationCacheOption(2, 3L));
+        assertThat(actual.get(cacheKey, cacheLoader), is(executionPlan));
+        assertThat(actual.get(refreshedCacheKey, cacheLoader), is(refreshedExecutionPlan));
+        assertThat(actual.get(cacheKey, cacheLoader), is(executionPlan));
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PushAggregateIntoScanRuleTest {
+    
+    private final PushAggregateIntoScanRule rule = PushAggregateIntoScanRule.Config.DEFAULT.toRule();
+    
+    @Mock
+    private RelOptRuleCall call;
+    
+    @Mock
+    private LogicalScan logicalScan;
+    
+    @Mock
+    private LogicalAggregate logicalAggregate;
+    
+    @Test
+    void assertNotMatchWhenSystemSchema() {
+        mockQualifiedName("information_schema", "tables");
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenAggregatePushedDown() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.isAggregatePushedDown()).thenReturn(true);
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenSortPushedDown() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.isSortPushedDown()).thenReturn(true);
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenGroupingSets() {
+        mockQualifiedName("public", "t_order");
+        when(logicalAggregate.getGroupType()).thenReturn(Group.CUBE);
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenAggregateFunctionIsNotPushable() {
+        mockQualifiedName("public", "t_order");
+        when(logicalAggregate.getGroupType()).thenReturn(Group.SIMPLE);
+        AggregateCall aggregateCall = mockAggregateCall(SqlKind.STDDEV_POP);
+        when(logicalAggregate.getAggCallList()).thenReturn(Collections.singletonList(aggregateCall));
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenAggregateFunctionIsDistinct() {
+        mockQualifiedName("public", "t_order");
+        when(logicalAggregate.getGroupType()).thenReturn(Group.SIMPLE);
+        AggregateCall aggregateCall = mockAggregateCall(SqlKind.COUNT);
+        when(aggregateCall.isDistinct()).thenReturn(true);
+        when(logicalAggregate.getAggCallList()).thenReturn(Collections.singletonList(aggregateCall));
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertMatchAndOnMatch() {
+        mockQualifiedName("public", "t_order");
+        when(logicalAggregate.getGroupType()).thenReturn(Group.SIMPLE);
+        List<AggregateCall> aggregateCalls = Arrays.asList(mockAggregateCall(SqlKind.COUNT), mockAggregateCall(SqlKind.SUM), mockAggregateCall(SqlKind.MIN), mockAggregateCall(SqlKind.MAX));
+        when(logicalAggregate.getAggCallList()).thenReturn(aggregateCalls);
+        assertTrue(rule.matches(call));
+        rule.onMatch(call);
+        verify(logicalScan).pushDown(logicalAggregate);
+        verify(call).transformTo(logicalScan);
+    }
+    
+    private AggregateCall mockAggregateCall(final SqlKind kind) {
+        AggregateCall result = mock(AggregateCall.class);
+        SqlAggFunction aggFunction = mock(SqlAggFunction.class);
+        when(aggFunction.getKind()).thenReturn(kind);
+        when(result.getAggregation()).thenReturn(aggFunction);
+        when(result.getCollation()).thenReturn(RelCollations.EMPTY);
+        return result;
+    }
+    
+    private void mockQualifiedName(final String... names) {
+        RelOptTable relOptTable = mock(RelOptTable.class);
+        when(relOptTable.getQualifiedName()).thenReturn(Arrays.asList(names));
+        when(logicalScan.getTable()).thenReturn(relOptTable);
+        when(call.rel(1)).thenReturn(logicalScan);
+        when(call.rel(0)).thenReturn(logicalAggregate);
+    }
+}
@@ -58,6 +58,13 @@ class PushFilterIntoScanRuleTest {
         assertFalse(rule.matches(call));
     }
     
+    @Test
+    void assertNotMatchWhenAggregatePushedDown() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.isAggregatePushedDown()).thenReturn(true);
+        assertFalse(rule.matches(call));
+    }
+    
     @Test
     void assertNotMatchWhenConditionIsRexSubQuery() {
         mockQualifiedName("public", "t_order");
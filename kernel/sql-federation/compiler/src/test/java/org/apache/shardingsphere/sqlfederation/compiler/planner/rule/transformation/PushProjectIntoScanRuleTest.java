@@ -21,6 +21,7 @@ import org.apache.calcite.plan.RelOptRuleCall;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexSubQuery;
 import org.apache.calcite.sql.SqlOperator;
@@ -94,6 +95,22 @@ class PushProjectIntoScanRuleTest {
         assertTrue(rule.matches(call));
     }
     
+    @Test
+    void assertNotMatchWhenSortPushedDownAndProjectContainsExpression() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.isSortPushedDown()).thenReturn(true);
+        when(logicalProject.getProjects()).thenReturn(Collections.singletonList(mock(RexNode.class)));
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertMatchWhenAggregatePushedDownAndProjectContainsInputRef() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.isAggregatePushedDown()).thenReturn(true);
+        when(logicalProject.getProjects()).thenReturn(Collections.singletonList(mock(RexInputRef.class)));
+        assertTrue(rule.matches(call));
+    }
+    
     @Test
     void assertMatchAndOnMatchWhenProjectWithoutSubQueryOrCast() {
         mockQualifiedName("public", "t_order");
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PushSortIntoScanRuleTest {
+    
+    private final PushSortIntoScanRule rule = PushSortIntoScanRule.Config.DEFAULT.toRule();
+    
+    @Mock
+    private RelOptRuleCall call;
+    
+    @Mock
+    private LogicalScan logicalScan;
+    
+    @Mock
+    private LogicalSort logicalSort;
+    
+    @Test
+    void assertNotMatchWhenSystemSchema() {
+        mockQualifiedName("pg_catalog", "pg_class");
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenSortPushedDown() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.isSortPushedDown()).thenReturn(true);
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenOffsetWithoutFetch() {
+        mockQualifiedName("public", "t_order");
+        mockSort(NullDirection.UNSPECIFIED, mock(RexLiteral.class), null);
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenFetchIsExpression() {
+        mockQualifiedName("public", "t_order");
+        mockSort(NullDirection.UNSPECIFIED, null, mock(RexCall.class));
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertNotMatchWhenNullDirectionNeedsEmulation() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.getDatabaseType()).thenReturn("MySQL");
+        mockSort(NullDirection.LAST, null, mock(RexLiteral.class));
+        assertFalse(rule.matches(call));
+    }
+    
+    @Test
+    void assertMatchWhenNullDirectionIsDefault() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.getDatabaseType()).thenReturn("PostgreSQL");
+        mockSort(NullDirection.LAST, mock(RexDynamicParam.class), mock(RexDynamicParam.class));
+        assertTrue(rule.matches(call));
+    }
+    
+    @Test
+    void assertMatchAndOnMatchWhenNullDirectionUnspecified() {
+        mockQualifiedName("public", "t_order");
+        when(logicalScan.getDatabaseType()).thenReturn("MySQL");
+        mockSort(NullDirection.UNSPECIFIED, null, mock(RexLiteral.class));
+        assertTrue(rule.matches(call));
+        rule.onMatch(call);
+        verify(logicalScan).pushDown(logicalSort);
+        verify(call).transformTo(logicalScan);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void mockSort(final NullDirection nullDirection, final RexNode offset, final RexNode fetch) {
+        when(logicalSort.getCollation()).thenReturn(RelCollations.of(new RelFieldCollation(0, Direction.ASCENDING, nullDirection)));
+        Plugins.getMemberAccessor().set(Sort.class.getDeclaredField("offset"), logicalSort, offset);
+        Plugins.getMemberAccessor().set(Sort.class.getDeclaredField("fetch"), logicalSort, fetch);
+    }
+    
+    private void mockQualifiedName(final String... names) {
+        RelOptTable relOptTable = mock(RelOptTable.class);
+        when(relOptTable.getQualifiedName()).thenReturn(Arrays.asList(names));
+        when(logicalScan.getTable()).thenReturn(relOptTable);
+        when(call.rel(1)).thenReturn(logicalScan);
+        when(call.rel(0)).thenReturn(logicalSort);
+    }
+}
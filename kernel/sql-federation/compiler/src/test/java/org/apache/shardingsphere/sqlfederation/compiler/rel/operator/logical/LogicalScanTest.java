@@ -26,12 +26,15 @@ import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.volcano.VolcanoPlanner;
 import org.apache.calcite.prepare.RelOptTableImpl;
 import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.externalize.RelWriterImpl;
 import org.apache.calcite.rel.hint.RelHint;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
@@ -42,6 +45,7 @@ import org.apache.calcite.schema.ModifiableTable;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.sql.SqlExplainLevel;
 import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
@@ -50,6 +54,7 @@ import org.mockito.plugins.MemberAccessor;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Objects;
 
@@ -110,6 +115,28 @@ class LogicalScanTest {
         assertThat(logicalScan.getRowType(), is(logicalProject.getRowType()));
     }
     
+    @Test
+    void assertPushDownAggregate() {
+        LogicalAggregate logicalAggregate = LogicalAggregate.create(tableScan, Collections.emptyList(), ImmutableBitSet.of(0), null, Collections.emptyList());
+        LogicalScan logicalScan = new LogicalScan(tableScan, "MySQL");
+        assertFalse(logicalScan.isAggregatePushedDown());
+        logicalScan.pushDown(logicalAggregate);
+        assertThat(logicalScan.getRowType(), is(logicalAggregate.getRowType()));
+        assertTrue(logicalScan.isAggregatePushedDown());
+        assertFalse(logicalScan.isSortPushedDown());
+    }
+    
+    @Test
+    void assertPushDownSort() {
+        LogicalSort logicalSort = LogicalSort.create(tableScan, RelCollations.of(0), null, rexBuilder.makeExactLiteral(BigDecimal.ONE));
+        LogicalScan logicalScan = new LogicalScan(tableScan, "MySQL");
+        assertFalse(logicalScan.isSortPushedDown());
+        logicalScan.pushDown(logicalSort);
+        assertThat(logicalScan.getRowType(), is(logicalSort.getRowType()));
+        assertTrue(logicalScan.isSortPushedDown());
+        assertFalse(logicalScan.isAggregatePushedDown());
+    }
+    
     @Test
     void assertPeek() {
         assertNotNull(new LogicalScan(tableScan, "MySQL").peek());
@@ -86,7 +86,7 @@ class EnumerableScanTest {
                 invocation -> LogicalTableScan.create(invocation.getArgument(0, RelOptTable.ToRelContext.class).getCluster(), invocation.getArgument(1, RelOptTable.class), Collections.emptyList()));
         when(federationTable.getStatistic()).thenReturn(Statistics.of(1D, ImmutableList.of()));
         when(federationTable.getJdbcTableType()).thenReturn(Schema.TableType.TABLE);
-        when(federationTable.implement(any(DataContext.class), any(), any(int[].class))).thenReturn(Linq4j.emptyEnumerable());
+        when(federationTable.implement(any(DataContext.class), any(), any(int[].class), any(int[].class))).thenReturn(Linq4j.emptyEnumerable());
         RelOptSchema schema = mock(RelOptSchema.class);
         when(schema.getTypeFactory()).thenReturn(typeFactory);
         relOptTable = RelOptTableImpl.create(schema, rowType, ImmutableList.of("test", "tbl"), federationTable, each -> Expressions.constant(federationTable));
@@ -121,6 +121,12 @@ class EnumerableScanTest {
         assertThat(writer.toString(), containsString("dynamicParameters"));
     }
     
+    @Test
+    void assertGetScanSQL() {
+        SqlString sqlString = new SqlString(SQLDialectFactory.getSQLDialect("MySQL"), "SELECT u&'\\4E2D'" + System.lineSeparator() + "FROM t_order");
+        assertThat(new EnumerableScan(cluster, cluster.traitSet(), relOptTable, sqlString, rowType).getScanSQL(), is("SELECT '\\u4E2D' FROM t_order"));
+    }
+    
     @Test
     void assertDeriveRowType() {
         SqlString sqlString = new SqlString(SQLDialectFactory.getSQLDialect("MySQL"), "SELECT 1");
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel.Prefer;
+import org.apache.calcite.adapter.enumerable.EnumerableValues;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.ConventionTraitDef;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.InvalidRelException;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableEnumerables;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableAggregateConverterRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EnumerableSpillableAggregateTest {
+    
+    private RelOptCluster cluster;
+    
+    private EnumerableValues values;
+    
+    @BeforeEach
+    void setUp() {
+        JavaTypeFactoryImpl typeFactory = new JavaTypeFactoryImpl();
+        VolcanoPlanner planner = new VolcanoPlanner();
+        planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
+        cluster = RelOptCluster.create(planner, new RexBuilder(typeFactory));
+        RelDataType intType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+        RelDataType rowType = typeFactory.builder().add("k", intType).add("v", intType).build();
+        ImmutableList.Builder<ImmutableList<RexLiteral>> tuples = ImmutableList.builder();
+        for (int i = 0; i < 50; i++) {
+            for (int j = 0; j < 4; j++) {
+                tuples.add(ImmutableList.of(createLiteral(i), createLiteral(j)));
+            }
+        }
+        values = EnumerableValues.create(cluster, rowType, tuples.build());
+    }
+    
+    private RexLiteral createLiteral(final int value) {
+        return cluster.getRexBuilder().makeExactLiteral(BigDecimal.valueOf(value));
+    }
+    
+    @Test
+    void assertIsSupported() throws InvalidRelException {
+        assertTrue(EnumerableSpillableAggregate.isSupported(createAggregate(ImmutableBitSet.of(0), createAggregateCall(SqlStdOperatorTable.SUM, false, 1))));
+        assertFalse(EnumerableSpillableAggregate.isSupported(createLogicalAggregate(createAggregateCall(SqlStdOperatorTable.SUM, true, 1))));
+        assertFalse(EnumerableSpillableAggregate.isSupported(createLogicalAggregate(createAggregateCall(SqlStdOperatorTable.AVG, false, 1))));
+    }
+    
+    @Test
+    void assertConverterRulesMatchBySupportedAggregate() {
+        RelOptRule spillableRule = EnumerableSpillableAggregateConverterRule.DEFAULT_CONFIG.toRule();
+        RelOptRule fallbackRule = EnumerableSpillableAggregateConverterRule.FALLBACK_CONFIG.toRule();
+        LogicalAggregate supportedAggregate = createLogicalAggregate(createAggregateCall(SqlStdOperatorTable.SUM, false, 1));
+        LogicalAggregate unsupportedAggregate = createLogicalAggregate(createAggregateCall(SqlStdOperatorTable.AVG, false, 1));
+        assertTrue(spillableRule.getOperand().matches(supportedAggregate));
+        assertFalse(spillableRule.getOperand().matches(unsupportedAggregate));
+        assertFalse(fallbackRule.getOperand().matches(supportedAggregate));
+        assertTrue(fallbackRule.getOperand().matches(unsupportedAggregate));
+    }
+    
+    @Test
+    void assertCopy() throws InvalidRelException {
+        EnumerableSpillableAggregate aggregate = createAggregate(ImmutableBitSet.of(0), createAggregateCall(SqlStdOperatorTable.COUNT, false));
+        RelNode actual = aggregate.copy(aggregate.getTraitSet(), aggregate.getInput(), aggregate.getGroupSet(), null, aggregate.getAggCallList());
+        assertThat(actual, instanceOf(EnumerableSpillableAggregate.class));
+    }
+    
+    @Test
+    void assertImplementWithSpill() throws InvalidRelException {
+        EnumerableSpillableAggregate aggregate = createAggregate(ImmutableBitSet.of(0), createAggregateCall(SqlStdOperatorTable.COUNT, false),
+                createAggregateCall(SqlStdOperatorTable.SUM, false, 1), createAggregateCall(SqlStdOperatorTable.MIN, false, 1), createAggregateCall(SqlStdOperatorTable.MAX, false, 1));
+        List<Object[]> actual = execute(aggregate);
+        actual.sort(Comparator.comparing(each -> (Integer) each[0]));
+        assertThat(actual.size(), is(50));
+        for (int i = 0; i < 50; i++) {
+            assertThat(actual.get(i), is(new Object[]{i, 4L, 6, 0, 3}));
+        }
+    }
+    
+    @Test
+    void assertImplementWithoutGroupKeys() throws InvalidRelException {
+        EnumerableSpillableAggregate aggregate = createAggregate(ImmutableBitSet.of(), createAggregateCall(SqlStdOperatorTable.COUNT, false));
+        List<Object[]> actual = execute(aggregate);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(new Object[]{200L}));
+    }
+    
+    private EnumerableSpillableAggregate createAggregate(final ImmutableBitSet groupSet, final AggregateCall... aggregateCalls) throws InvalidRelException {
+        List<AggregateCall> calls = new ArrayList<>(aggregateCalls.length);
+        for (AggregateCall each : aggregateCalls) {
+            calls.add(AggregateCall.create(each.getAggregation(), each.isDistinct(), each.isApproximate(), each.ignoreNulls(), each.rexList, each.getArgList(), each.filterArg,
+                    each.distinctKeys, each.getCollation(), groupSet.cardinality(), values, null, each.getName()));
+        }
+        return new EnumerableSpillableAggregate(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE), values, groupSet, null, calls);
+    }
+    
+    private LogicalAggregate createLogicalAggregate(final AggregateCall aggregateCall) {
+        return LogicalAggregate.create(values, Collections.emptyList(), ImmutableBitSet.of(0), null, Collections.singletonList(aggregateCall));
+    }
+    
+    private AggregateCall createAggregateCall(final SqlAggFunction function, final boolean distinct, final Integer... args) {
+        return AggregateCall.create(function, distinct, false, false, Collections.emptyList(), ImmutableList.copyOf(args), -1, null, RelCollations.EMPTY, 1, values, null, null);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Object[]> execute(final EnumerableSpillableAggregate aggregate) {
+        DataContext dataContext = mock(DataContext.class);
+        when(dataContext.get(SpillableEnumerables.MEMORY_LIMIT_BYTES_VARIABLE)).thenReturn(1L);
+        List<Object[]> result = new ArrayList<>();
+        for (Object each : EnumerableInterpretable.toBindable(Collections.emptyMap(), null, aggregate, Prefer.ARRAY).bind(dataContext)) {
+            result.add(each instanceof Object[] ? (Object[]) each : new Object[]{each});
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel.Prefer;
+import org.apache.calcite.adapter.enumerable.EnumerableValues;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableEnumerables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EnumerableSpillableHashJoinTest {
+    
+    private RexBuilder rexBuilder;
+    
+    private EnumerableValues left;
+    
+    private EnumerableValues right;
+    
+    @BeforeEach
+    void setUp() {
+        JavaTypeFactoryImpl typeFactory = new JavaTypeFactoryImpl();
+        rexBuilder = new RexBuilder(typeFactory);
+        RelOptCluster cluster = RelOptCluster.create(new VolcanoPlanner(), rexBuilder);
+        RelDataType intType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+        RelDataType stringType = typeFactory.createSqlType(SqlTypeName.VARCHAR, 20);
+        ImmutableList.Builder<ImmutableList<RexLiteral>> leftTuples = ImmutableList.builder();
+        for (int i = 0; i < 100; i++) {
+            leftTuples.add(ImmutableList.of(rexBuilder.makeExactLiteral(BigDecimal.valueOf(i)), rexBuilder.makeLiteral("order_" + i)));
+        }
+        left = EnumerableValues.create(cluster, typeFactory.builder().add("order_id", intType).add("order_name", stringType).build(), leftTuples.build());
+        ImmutableList.Builder<ImmutableList<RexLiteral>> rightTuples = ImmutableList.builder();
+        for (int i = 0; i < 50; i++) {
+            rightTuples.add(ImmutableList.of(rexBuilder.makeExactLiteral(BigDecimal.valueOf(i * 2))));
+        }
+        right = EnumerableValues.create(cluster, typeFactory.builder().add("item_order_id", intType).build(), rightTuples.build());
+    }
+    
+    @Test
+    void assertIsSupported() {
+        assertTrue(EnumerableSpillableHashJoin.isSupported(createJoin(createEquiCondition(), JoinRelType.INNER)));
+        assertFalse(EnumerableSpillableHashJoin.isSupported(createJoin(createEquiCondition(), JoinRelType.LEFT)));
+        RexNode nonEquiCondition = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeInputRef(left, 0), rexBuilder.makeInputRef(right.getRowType().getFieldList().get(0).getType(), 2));
+        assertFalse(EnumerableSpillableHashJoin.isSupported(createJoin(nonEquiCondition, JoinRelType.INNER)));
+    }
+    
+    @Test
+    void assertCopy() {
+        EnumerableSpillableHashJoin join = createJoin(createEquiCondition(), JoinRelType.INNER);
+        RelNode actual = join.copy(join.getTraitSet(), join.getCondition(), right, left, JoinRelType.INNER, false);
+        assertThat(actual, instanceOf(EnumerableSpillableHashJoin.class));
+    }
+    
+    @Test
+    void assertImplementWithSpill() {
+        DataContext dataContext = mock(DataContext.class);
+        when(dataContext.get(SpillableEnumerables.MEMORY_LIMIT_BYTES_VARIABLE)).thenReturn(1L);
+        List<Object[]> actual = new ArrayList<>();
+        for (Object each : EnumerableInterpretable.toBindable(Collections.emptyMap(), null, createJoin(createEquiCondition(), JoinRelType.INNER), Prefer.ARRAY).bind(dataContext)) {
+            actual.add((Object[]) each);
+        }
+        assertThat(actual.size(), is(50));
+        for (Object[] each : actual) {
+            assertThat(each[0], is(each[2]));
+            assertThat(each[1], is("order_" + each[0]));
+            assertThat((Integer) each[0] % 2, is(0));
+        }
+    }
+    
+    private RexNode createEquiCondition() {
+        return rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(left, 0), rexBuilder.makeInputRef(right.getRowType().getFieldList().get(0).getType(), 2));
+    }
+    
+    private EnumerableSpillableHashJoin createJoin(final RexNode condition, final JoinRelType joinType) {
+        return new EnumerableSpillableHashJoin(left.getCluster(), left.getCluster().traitSetOf(EnumerableConvention.INSTANCE), left, right, condition, Collections.emptySet(), joinType);
+    }
+}
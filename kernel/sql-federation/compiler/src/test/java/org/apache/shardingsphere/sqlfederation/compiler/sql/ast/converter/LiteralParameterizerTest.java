@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.dialect.AnsiSqlDialect;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class LiteralParameterizerTest {
+    
+    private final Map<String, Integer> columnDataTypes = createColumnDataTypes();
+    
+    private Map<String, Integer> createColumnDataTypes() {
+        Map<String, Integer> result = new HashMap<>(8, 1F);
+        result.put("order_id", Types.BIGINT);
+        result.put("user_id", Types.INTEGER);
+        result.put("status", Types.VARCHAR);
+        result.put("amount", Types.DECIMAL);
+        result.put("create_date", Types.DATE);
+        result.put("create_time", Types.TIMESTAMP);
+        return result;
+    }
+    
+    @Test
+    void assertParameterizeComparisonLiterals() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT * FROM t_order WHERE 1 < order_id AND status <> 'foo' AND amount > 1.5").parseQuery();
+        LiteralParameterizer parameterizer = new LiteralParameterizer(0, columnDataTypes);
+        sqlNode.accept(parameterizer);
+        assertThat(parameterizer.getLiteralParameters(), is(Arrays.<Object>asList(1, "foo")));
+        assertThat(sqlNode.toSqlString(AnsiSqlDialect.DEFAULT).getDynamicParameters(), is(Arrays.asList(0, 1)));
+    }
+    
+    @Test
+    void assertParameterizeInAndBetweenLiterals() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT * FROM t_order WHERE user_id IN (1, 10000000000, 100000000000000000000) AND order_id BETWEEN 1 AND ?").parseQuery();
+        LiteralParameterizer parameterizer = new LiteralParameterizer(1, columnDataTypes);
+        sqlNode.accept(parameterizer);
+        assertThat(parameterizer.getLiteralParameters(), is(Arrays.<Object>asList(1, 10000000000L, new BigInteger("100000000000000000000"), 1)));
+        assertThat(sqlNode.toSqlString(AnsiSqlDialect.DEFAULT).getDynamicParameters(), is(Arrays.asList(1, 2, 3, 4, 0)));
+    }
+    
+    @Test
+    void assertNotParameterizeLiteralsWithoutColumn() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT order_id + 1 FROM t_order WHERE 1 = 1 GROUP BY order_id HAVING COUNT(*) > 1").parseQuery();
+        LiteralParameterizer parameterizer = new LiteralParameterizer(0, columnDataTypes);
+        sqlNode.accept(parameterizer);
+        assertThat(parameterizer.getLiteralParameters(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertNotParameterizeCharacterLiteralsWithTemporalColumns() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT * FROM t_order WHERE create_date = '2020-01-01' AND create_time BETWEEN '2020-01-01 00:00:00' AND '2020-01-02 00:00:00' AND status = 'foo'")
+                .parseQuery();
+        LiteralParameterizer parameterizer = new LiteralParameterizer(0, columnDataTypes);
+        sqlNode.accept(parameterizer);
+        assertThat(parameterizer.getLiteralParameters(), is(Collections.<Object>singletonList("foo")));
+        assertThat(sqlNode.toSqlString(AnsiSqlDialect.DEFAULT).getDynamicParameters(), is(Collections.singletonList(0)));
+    }
+    
+    @Test
+    void assertNotParameterizeMismatchedLiteralsWithNumericColumns() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT * FROM t_order WHERE user_id = '1' AND order_id IN ('1', 2) AND amount > 1 AND status = 1").parseQuery();
+        LiteralParameterizer parameterizer = new LiteralParameterizer(0, columnDataTypes);
+        sqlNode.accept(parameterizer);
+        assertThat(parameterizer.getLiteralParameters(), is(Collections.<Object>singletonList(2)));
+        assertThat(sqlNode.toSqlString(AnsiSqlDialect.DEFAULT).getDynamicParameters(), is(Collections.singletonList(0)));
+    }
+    
+    @Test
+    void assertNotParameterizeLiteralsWithUnknownColumns() throws SqlParseException {
+        SqlNode sqlNode = SqlParser.create("SELECT * FROM t_order WHERE o.foo_col = 'foo' AND bar_col = 1").parseQuery();
+        LiteralParameterizer parameterizer = new LiteralParameterizer(0, columnDataTypes);
+        sqlNode.accept(parameterizer);
+        assertThat(parameterizer.getLiteralParameters(), is(Collections.emptyList()));
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter;
 
 import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
@@ -39,6 +41,11 @@ import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.statem
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedConstruction;
 
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -98,6 +105,26 @@ class SQLNodeConverterEngineTest {
         }
     }
     
+    @Test
+    void assertConvertWithParameterizedLiterals() throws SqlParseException {
+        SqlNode fooSqlNode = SqlParser.create("SELECT * FROM t_order WHERE user_id = ? AND order_id = 1 AND status = 'foo'").parseQuery();
+        SqlNode barSqlNode = SqlParser.create("SELECT * FROM t_order WHERE user_id = ? AND order_id = 2 AND status = 'bar'").parseQuery();
+        try (
+                MockedConstruction<SelectStatementConverter> ignored = mockConstruction(SelectStatementConverter.class,
+                        (mock, context) -> when(mock.convert(any(SelectStatement.class))).thenReturn(1 == context.getCount() ? fooSqlNode : barSqlNode))) {
+            Map<String, Integer> columnDataTypes = new HashMap<>(2, 1F);
+            columnDataTypes.put("order_id", Types.BIGINT);
+            columnDataTypes.put("status", Types.VARCHAR);
+            ParameterizedSQLNode actualFoo = SQLNodeConverterEngine.convertWithParameterizedLiterals(new SelectStatement(databaseType), 1, columnDataTypes);
+            assertThat(actualFoo.getSqlNode(), is(fooSqlNode));
+            assertThat(actualFoo.getParameterIndexes(), is(Arrays.asList(0, 1, 2)));
+            assertThat(actualFoo.getLiteralParameters(), is(Arrays.<Object>asList(1, "foo")));
+            ParameterizedSQLNode actualBar = SQLNodeConverterEngine.convertWithParameterizedLiterals(new SelectStatement(databaseType), 1, columnDataTypes);
+            assertThat(actualBar.getLiteralParameters(), is(Arrays.<Object>asList(2, "bar")));
+            assertThat(actualFoo, is(actualBar));
+        }
+    }
+    
     @Test
     void assertConvertUnsupportedDMLThrowsException() {
         assertThrows(SQLFederationSQLNodeConvertException.class, () -> SQLNodeConverterEngine.convert(mock(DMLStatement.class)));
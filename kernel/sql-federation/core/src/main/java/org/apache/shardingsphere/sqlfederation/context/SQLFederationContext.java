@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.session.query.QueryContext;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * SQL federation context.
@@ -35,6 +36,8 @@ public final class SQLFederationContext {
     
     private final Collection<ExecutionUnit> previewExecutionUnits = new LinkedList<>();
     
+    private final List<Object> literalParameters = new LinkedList<>();
+    
     private final boolean preview;
     
     private final QueryContext queryContext;
@@ -25,6 +25,7 @@ import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.SqlExplainLevel;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.database.exception.core.exception.syntax.table.NoSuchTableException;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
@@ -45,6 +46,7 @@ import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -61,9 +63,12 @@ import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationUnsupportedSQLException;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.ParameterizedSQLNode;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.engine.processor.SQLFederationProcessor;
 import org.apache.shardingsphere.sqlfederation.engine.processor.SQLFederationProcessorFactory;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.ScanStatementContextBuilder;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
 
@@ -71,15 +76,19 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * SQL federation engine.
@@ -210,7 +219,7 @@ public final class SQLFederationEngine implements AutoCloseable {
                     : queryContext.getSqlStatementContext();
             CompilerContext compilerContext = sqlFederationRule.getCompilerContext();
             SQLFederationRelConverter converter = new SQLFederationRelConverter(compilerContext, getSchemaPath(sqlStatementContext),
-                    sqlStatementContext.getSqlStatement().getDatabaseType(), processor.getConvention());
+                    sqlStatementContext.getSqlStatement().getDatabaseType(), processor.getConvention(), isSpillEnabled(federationContext.getMetaData().getProps()));
             schemaPlus = converter.getSchemaPlus();
             processor.prepare(prepareEngine, queryCallback, currentDatabaseName, currentSchemaName, federationContext, compilerContext, schemaPlus);
             SQLFederationExecutionPlan executionPlan = compileQuery(converter, currentDatabaseName,
@@ -263,6 +272,10 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
+    private boolean isSpillEnabled(final ConfigurationProperties props) {
+        return props.<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_MEMORY_LIMIT_BYTES) > 0L;
+    }
+    
     private List<String> getSchemaPath(final SQLStatementContext sqlStatementContext) {
         DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(sqlStatementContext.getSqlStatement().getDatabaseType()).getDialectDatabaseMetaData();
         // TODO set default schema according to search path result
@@ -276,21 +289,46 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private SQLFederationExecutionPlan compileQuery(final SQLFederationRelConverter converter, final String databaseName, final String schemaName, final SQLFederationContext federationContext,
                                                     final SQLStatementContext sqlStatementContext, final String sql, final Convention convention) {
-        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter, convention);
+        Map<String, ShardingSphereTable> tables = getTables(federationContext, sqlStatementContext);
+        ParameterizedSQLNode parameterizedSQLNode = SQLNodeConverterEngine.convertWithParameterizedLiterals(
+                sqlStatementContext.getSqlStatement(), federationContext.getQueryContext().getParameters().size(), getColumnDataTypes(tables.values()));
+        federationContext.getLiteralParameters().addAll(parameterizedSQLNode.getLiteralParameters());
+        ExecutionPlanCacheKey cacheKey = new ExecutionPlanCacheKey(sql, sqlStatementContext.getSqlStatement(), parameterizedSQLNode);
+        cacheKey.getTables().putAll(tables);
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
-        return compilerEngine.compile(buildCacheKey(federationContext, sqlStatementContext, sql, sqlStatementCompiler), false);
+        return compilerEngine.compile(cacheKey, new SQLStatementCompiler(converter, convention, createScanStatementBinder(databaseName, federationContext, sqlStatementContext)), true);
+    }
+    
+    private Function<String, SQLStatement> createScanStatementBinder(final String databaseName, final SQLFederationContext federationContext, final SQLStatementContext sqlStatementContext) {
+        return sql -> isSystemSchemaQuery(sqlStatementContext) ? null : new ScanStatementContextBuilder(federationContext.getMetaData(), databaseName,
+                sqlFederationRule.getCompilerContext().getSqlParserRule().getSQLParserEngine(sqlStatementContext.getSqlStatement().getDatabaseType()), Collections.emptyMap())
+                .buildTemplate(sql, federationContext.getQueryContext().isUseCache());
+    }
+    
+    private boolean isSystemSchemaQuery(final SQLStatementContext sqlStatementContext) {
+        // Tables of system schemas are scanned from statistics in memory, so their scan SQL is never bound
+        Collection<String> systemSchemas = new SystemDatabase(sqlStatementContext.getSqlStatement().getDatabaseType()).getSystemSchemas();
+        return sqlStatementContext.getTablesContext().getSchemaNames().stream().anyMatch(systemSchemas::contains);
     }
     
-    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationContext federationContext, final SQLStatementContext sqlStatementContext,
-                                                final String sql, final SQLStatementCompiler sqlStatementCompiler) {
-        ExecutionPlanCacheKey result = new ExecutionPlanCacheKey(sql, sqlStatementContext.getSqlStatement(), sqlStatementCompiler);
-        Collection<SimpleTableSegment> tableSegments = sqlStatementContext.getTablesContext().getSimpleTables();
-        for (SimpleTableSegment each : tableSegments) {
+    private Map<String, ShardingSphereTable> getTables(final SQLFederationContext federationContext, final SQLStatementContext sqlStatementContext) {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>();
+        for (SimpleTableSegment each : sqlStatementContext.getTablesContext().getSimpleTables()) {
             String originalDatabase = each.getTableName().getTableBoundInfo().map(optional -> optional.getOriginalDatabase().getValue()).orElse(currentDatabaseName);
             String originalSchema = each.getTableName().getTableBoundInfo().map(optional -> optional.getOriginalSchema().getValue()).orElse(currentSchemaName);
             ShardingSphereTable table = federationContext.getMetaData().getDatabase(originalDatabase).getSchema(originalSchema).getTable(each.getTableName().getIdentifier().getValue());
             ShardingSpherePreconditions.checkNotNull(table, () -> new NoSuchTableException(each.getTableName().getIdentifier().getValue()));
-            result.getTableMetaDataVersions().put(Joiner.on(".").join(Arrays.asList(originalDatabase, originalSchema, table.getName())), 0);
+            result.put(Joiner.on(".").join(Arrays.asList(originalDatabase, originalSchema, table.getName())), table);
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> getColumnDataTypes(final Collection<ShardingSphereTable> tables) {
+        Map<String, Integer> result = new HashMap<>();
+        for (ShardingSphereTable each : tables) {
+            for (ShardingSphereColumn column : each.getAllColumns()) {
+                result.merge(column.getName().toLowerCase(), column.getDataType(), (oldValue, newValue) -> oldValue.equals(newValue) ? oldValue : Types.OTHER);
+            }
         }
         return result;
     }
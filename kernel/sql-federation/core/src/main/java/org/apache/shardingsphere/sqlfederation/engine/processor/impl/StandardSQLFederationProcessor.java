@@ -33,6 +33,7 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegist
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -45,6 +46,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSchemaNotFoundException;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableEnumerables;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
 import org.apache.shardingsphere.sqlfederation.context.SQLFederationContext;
@@ -82,7 +84,7 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
             return;
         }
         executorContext = new ExecutorContext(prepareEngine, jdbcExecutor, queryCallback, statistics, currentDatabaseName, currentSchemaName,
-                federationContext.isPreview(), federationContext.getProcessId());
+                federationContext.isPreview(), federationContext.getProcessId(), getScanParallelism(federationContext));
         EnumerableScanImplementor scanImplementor = new EnumerableScanImplementor(federationContext.getQueryContext(), compilerContext, executorContext);
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         Collection<SimpleTableSegment> simpleTables = sqlStatementContext.getTablesContext().getSimpleTables();
@@ -94,6 +96,13 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         }
     }
     
+    private int getScanParallelism(final SQLFederationContext federationContext) {
+        // Distributed transaction resources are bound to current thread, so table scans must be executed in it
+        return federationContext.getQueryContext().getConnectionContext().getTransactionContext().isDistributedTransactionStarted()
+                ? 0
+                : federationContext.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SCAN_PARALLELISM);
+    }
+    
     private Table getTable(final String currentDatabaseName, final String currentSchemaName, final SchemaPlus schemaPlus, final SimpleTableSegment tableSegment, final DatabaseType databaseType,
                            final String sql) {
         DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData();
@@ -117,6 +126,9 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     
     @Override
     public void release(final String currentDatabaseName, final String currentSchemaName, final QueryContext queryContext, final SchemaPlus schemaPlus) {
+        if (null != executorContext) {
+            executorContext.closePrefetchedEnumerators();
+        }
         Collection<SimpleTableSegment> simpleTables = queryContext.getSqlStatementContext().getTablesContext().getSimpleTables();
         for (SimpleTableSegment each : simpleTables) {
             Table table = getTable(currentDatabaseName, currentSchemaName, schemaPlus,
@@ -132,7 +144,9 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     public ResultSet executePlan(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> queryCallback,
                                  final SQLFederationExecutionPlan executionPlan, final SQLFederationRelConverter converter, final SQLFederationContext federationContext, final SchemaPlus schemaPlus) {
         Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
-        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters(), federationContext.getLiteralParameters());
+        params.put(SpillableEnumerables.MEMORY_LIMIT_BYTES_VARIABLE, federationContext.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_MEMORY_LIMIT_BYTES));
+        params.put(SQLFederationExecutionPlan.SCAN_STATEMENT_TEMPLATES_VARIABLE, executionPlan.getScanStatementTemplates());
         Enumerator<Object> enumerator = executablePlan.bind(new ExecutorBindContext(converter, params)).enumerator();
         SelectStatementContext selectStatementContext = (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext();
         List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
@@ -144,12 +158,15 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         return result;
     }
     
-    private Map<String, Object> createParameters(final List<Object> params) {
-        Map<String, Object> result = new HashMap<>(params.size(), 1F);
+    private Map<String, Object> createParameters(final List<Object> params, final List<Object> literalParams) {
+        Map<String, Object> result = new HashMap<>(params.size() + literalParams.size() + 1, 1F);
         int index = 0;
         for (Object each : params) {
             result.put("?" + index++, each);
         }
+        for (Object each : literalParams) {
+            result.put("?" + index++, each);
+        }
         return result;
     }
     
@@ -21,6 +21,7 @@ import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.SqlExplainLevel;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
@@ -54,15 +55,19 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.Owner
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.TableSegmentBoundInfo;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dal.ExplainStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.table.CreateTableStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationCompilerEngine;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
+import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompiler;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationUnsupportedSQLException;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.ParameterizedSQLNode;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.context.SQLFederationContext;
@@ -96,6 +101,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -224,8 +231,9 @@ class SQLFederationEngineTest {
                     when(mock.getSchemaPlus()).thenReturn(mock(SchemaPlus.class));
                 });
                 MockedConstruction<SQLFederationCompilerEngine> ignoredCompiler = mockConstruction(SQLFederationCompilerEngine.class,
-                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(false))).thenReturn(mock(SQLFederationExecutionPlan.class)));
-                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), any(SQLStatementCompiler.class), eq(true))).thenReturn(mock(SQLFederationExecutionPlan.class)));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class);
+                MockedStatic<SQLNodeConverterEngine> ignoredConverterEngine = mockSQLNodeConverterEngine()) {
             relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
             engine.executeQuery(mock(), mock(), federationContext);
             assertThat(actualSchemaPath.get(), is(Arrays.asList("foo_db", "foo_schema")));
@@ -263,13 +271,15 @@ class SQLFederationEngineTest {
                 MockedConstruction<SQLFederationRelConverter> converterMocked = mockConstruction(SQLFederationRelConverter.class,
                         (mock, context) -> when(mock.getSchemaPlus()).thenReturn(mock(SchemaPlus.class)));
                 MockedConstruction<SQLFederationCompilerEngine> compilerMocked = mockConstruction(SQLFederationCompilerEngine.class,
-                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(false))).thenReturn(mock(SQLFederationExecutionPlan.class, RETURNS_DEEP_STUBS)));
-                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), any(SQLStatementCompiler.class), eq(true)))
+                                .thenReturn(mock(SQLFederationExecutionPlan.class, RETURNS_DEEP_STUBS)));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class);
+                MockedStatic<SQLNodeConverterEngine> ignoredConverterEngine = mockSQLNodeConverterEngine()) {
             relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
             assertThat(engine.executeQuery(prepareEngine, callback, federationContext), is(resultSet));
             ArgumentCaptor<ExecutionPlanCacheKey> cacheKeyCaptor = ArgumentCaptor.forClass(ExecutionPlanCacheKey.class);
-            verify(compilerMocked.constructed().get(0)).compile(cacheKeyCaptor.capture(), eq(false));
-            assertThat(cacheKeyCaptor.getValue().getTableMetaDataVersions().size(), is(1));
+            verify(compilerMocked.constructed().get(0)).compile(cacheKeyCaptor.capture(), any(SQLStatementCompiler.class), eq(true));
+            assertThat(cacheKeyCaptor.getValue().getTables().size(), is(1));
             assertThat(engine.getResultSet(), is(resultSet));
             engine.close();
             verify(processor).release("foo_db", "foo_schema", queryContext, converterMocked.constructed().get(0).getSchemaPlus());
@@ -301,8 +311,10 @@ class SQLFederationEngineTest {
                 MockedConstruction<SQLFederationRelConverter> ignoredConverter = mockConstruction(SQLFederationRelConverter.class,
                         (mock, context) -> when(mock.getSchemaPlus()).thenReturn(mock(SchemaPlus.class)));
                 MockedConstruction<SQLFederationCompilerEngine> ignoredCompiler = mockConstruction(SQLFederationCompilerEngine.class,
-                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(false))).thenReturn(mock(SQLFederationExecutionPlan.class, RETURNS_DEEP_STUBS)));
-                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), any(SQLStatementCompiler.class), eq(true)))
+                                .thenReturn(mock(SQLFederationExecutionPlan.class, RETURNS_DEEP_STUBS)));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class);
+                MockedStatic<SQLNodeConverterEngine> ignoredConverterEngine = mockSQLNodeConverterEngine()) {
             relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
             engine.executeQuery(mock(), mock(), new SQLFederationContext(false, queryContext, actualMetaData, "process_2"));
             assertNull(engine.getResultSet());
@@ -338,8 +350,9 @@ class SQLFederationEngineTest {
                 MockedConstruction<SQLFederationRelConverter> ignoredConverter = mockConstruction(SQLFederationRelConverter.class,
                         (mock, context) -> actualSchemaPath.set((List<String>) context.arguments().get(1)));
                 MockedConstruction<SQLFederationCompilerEngine> ignoredCompiler = mockConstruction(SQLFederationCompilerEngine.class,
-                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(false))).thenReturn(executionPlan));
-                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), any(SQLStatementCompiler.class), eq(true))).thenReturn(executionPlan));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class);
+                MockedStatic<SQLNodeConverterEngine> ignoredConverterEngine = mockSQLNodeConverterEngine()) {
             relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
             engine.executeQuery(prepareEngine, callback, federationContext);
         }
@@ -372,8 +385,9 @@ class SQLFederationEngineTest {
                 MockedConstruction<SQLFederationRelConverter> ignored = mockConstruction(SQLFederationRelConverter.class,
                         (mock, context) -> when(mock.getSchemaPlus()).thenReturn(mock(SchemaPlus.class)));
                 MockedConstruction<SQLFederationCompilerEngine> ignoredCompiler = mockConstruction(SQLFederationCompilerEngine.class,
-                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(false))).thenReturn(executionPlan));
-                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), any(SQLStatementCompiler.class), eq(true))).thenReturn(executionPlan));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class);
+                MockedStatic<SQLNodeConverterEngine> ignoredConverterEngine = mockSQLNodeConverterEngine()) {
             relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
             engine.executeQuery(prepareEngine, callback, federationContext);
         }
@@ -402,8 +416,9 @@ class SQLFederationEngineTest {
                 MockedConstruction<SQLFederationRelConverter> ignored = mockConstruction(SQLFederationRelConverter.class,
                         (mock, context) -> when(mock.getSchemaPlus()).thenReturn(mock(SchemaPlus.class)));
                 MockedConstruction<SQLFederationCompilerEngine> ignoredCompiler = mockConstruction(SQLFederationCompilerEngine.class,
-                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(false))).thenReturn(executionPlan));
-                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), any(SQLStatementCompiler.class), eq(true))).thenReturn(executionPlan));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class);
+                MockedStatic<SQLNodeConverterEngine> ignoredConverterEngine = mockSQLNodeConverterEngine()) {
             relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
             doAnswer(invocation -> {
                 throw new SQLIntegrityConstraintViolationException();
@@ -458,8 +473,9 @@ class SQLFederationEngineTest {
                 MockedConstruction<SQLFederationRelConverter> ignoredConverter = mockConstruction(SQLFederationRelConverter.class,
                         (mock, context) -> when(mock.getSchemaPlus()).thenReturn(mock(SchemaPlus.class)));
                 MockedConstruction<SQLFederationCompilerEngine> ignoredCompiler = mockConstruction(SQLFederationCompilerEngine.class,
-                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(false))).thenReturn(mock(SQLFederationExecutionPlan.class)));
-                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), any(SQLStatementCompiler.class), eq(true))).thenReturn(mock(SQLFederationExecutionPlan.class)));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class);
+                MockedStatic<SQLNodeConverterEngine> ignoredConverterEngine = mockSQLNodeConverterEngine()) {
             relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
             doThrow(RuntimeException.class).when(processor).prepare(eq(prepareEngine), eq(callback), anyString(), anyString(), eq(federationContext), any(), any(SchemaPlus.class));
             assertThrows(SQLFederationUnsupportedSQLException.class, () -> engine.executeQuery(prepareEngine, callback, federationContext));
@@ -484,6 +500,13 @@ class SQLFederationEngineTest {
         }
     }
     
+    private MockedStatic<SQLNodeConverterEngine> mockSQLNodeConverterEngine() {
+        MockedStatic<SQLNodeConverterEngine> result = mockStatic(SQLNodeConverterEngine.class);
+        ParameterizedSQLNode parameterizedSQLNode = new ParameterizedSQLNode(mock(SqlNode.class), "SELECT * FROM foo_tbl", Collections.emptyList(), Collections.emptyList());
+        result.when(() -> SQLNodeConverterEngine.convertWithParameterizedLiterals(any(SQLStatement.class), anyInt(), anyMap())).thenReturn(parameterizedSQLNode);
+        return result;
+    }
+    
     private ShardingSphereMetaData createMetaData(final Properties props) {
         ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
         return createMetaData(Collections.singleton(table), props);
@@ -32,11 +32,14 @@ import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoa
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.TableSegmentBoundInfo;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
@@ -63,6 +66,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -291,7 +295,10 @@ class StandardSQLFederationProcessorTest {
         when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
         when(queryContext.getSql()).thenReturn("SELECT 1");
         when(queryContext.getParameters()).thenReturn(new ArrayList<>(Collections.singletonList(1)));
-        return new SQLFederationContext(preview, queryContext, mock(), "pid");
+        when(queryContext.getConnectionContext()).thenReturn(mock(ConnectionContext.class, RETURNS_DEEP_STUBS));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        return new SQLFederationContext(preview, queryContext, metaData, "pid");
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.context;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -33,12 +36,17 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Executor context.
  */
 @RequiredArgsConstructor
 @Getter
+@Slf4j
 public final class ExecutorContext {
     
     private final ProcessEngine processEngine = new ProcessEngine();
@@ -62,4 +70,73 @@ public final class ExecutorContext {
     private final boolean preview;
     
     private final String processId;
+    
+    private final int scanParallelism;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger runningScanCount = new AtomicInteger();
+    
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentLinkedQueue<Future<Enumerator<Object>>> prefetchedEnumerators = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Try to acquire permit for executing table scan concurrently.
+     *
+     * @return whether permit is acquired or not
+     */
+    public boolean tryAcquireScanPermit() {
+        int current;
+        do {
+            current = runningScanCount.get();
+            if (current >= scanParallelism) {
+                return false;
+            }
+        } while (!runningScanCount.compareAndSet(current, current + 1));
+        return true;
+    }
+    
+    /**
+     * Release permit for executing table scan concurrently.
+     */
+    public void releaseScanPermit() {
+        runningScanCount.decrementAndGet();
+    }
+    
+    /**
+     * Register prefetched enumerator which is not consumed yet.
+     *
+     * @param prefetchedEnumerator prefetched enumerator
+     */
+    public void registerPrefetchedEnumerator(final Future<Enumerator<Object>> prefetchedEnumerator) {
+        prefetchedEnumerators.add(prefetchedEnumerator);
+    }
+    
+    /**
+     * Unregister prefetched enumerator when it is consumed.
+     *
+     * @param prefetchedEnumerator prefetched enumerator
+     */
+    public void unregisterPrefetchedEnumerator(final Future<Enumerator<Object>> prefetchedEnumerator) {
+        prefetchedEnumerators.remove(prefetchedEnumerator);
+    }
+    
+    /**
+     * Close prefetched enumerators which are never consumed.
+     */
+    public void closePrefetchedEnumerators() {
+        Future<Enumerator<Object>> each;
+        while (null != (each = prefetchedEnumerators.poll())) {
+            closePrefetchedEnumerator(each);
+        }
+    }
+    
+    private void closePrefetchedEnumerator(final Future<Enumerator<Object>> prefetchedEnumerator) {
+        try {
+            prefetchedEnumerator.get().close();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            log.warn("Prefetched table scan failed before consumed: {}", ex.getCause().getMessage());
+        }
+    }
 }
@@ -25,9 +25,11 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.Collection;
 
@@ -43,6 +45,8 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     
     private final Collection<Statement> statements;
     
+    private final int[] columnTypes;
+    
     private Object currentRow;
     
     @Override
@@ -70,7 +74,34 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     
     private Object getValue(final int index) throws SQLException {
         Object result = queryResult.getValue(index + 1, Object.class);
-        return result instanceof LocalDateTime ? ResultSetUtils.convertValue(result, Timestamp.class) : result;
+        if (result instanceof LocalDateTime) {
+            return ResultSetUtils.convertValue(result, Timestamp.class);
+        }
+        return result instanceof Number && null != columnTypes && index < columnTypes.length ? convertNumber((Number) result, columnTypes[index]) : result;
+    }
+    
+    private Object convertNumber(final Number value, final int columnType) {
+        // Merged values of pushed down aggregations are accumulated with the storage result types, which may differ from the types derived by Calcite
+        switch (columnType) {
+            case Types.TINYINT:
+                return value instanceof Byte ? value : value.byteValue();
+            case Types.SMALLINT:
+                return value instanceof Short ? value : value.shortValue();
+            case Types.INTEGER:
+                return value instanceof Integer ? value : value.intValue();
+            case Types.BIGINT:
+                return value instanceof Long ? value : value.longValue();
+            case Types.REAL:
+                return value instanceof Float ? value : value.floatValue();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return value instanceof Double ? value : value.doubleValue();
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+            default:
+                return value;
+        }
     }
     
     @Override
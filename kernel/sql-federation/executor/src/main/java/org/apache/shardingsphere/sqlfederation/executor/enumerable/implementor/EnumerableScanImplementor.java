@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
@@ -27,13 +28,14 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.syste
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
-import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -49,6 +51,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementor;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
@@ -65,9 +68,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +84,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class EnumerableScanImplementor implements ScanImplementor {
     
+    private static final ExecutorServiceManager SCAN_EXECUTOR_SERVICE_MANAGER = new ExecutorServiceManager(0, "SQL-Federation-Scan-%d");
+    
     private final QueryContext queryContext;
     
     private final CompilerContext compilerContext;
@@ -99,7 +109,7 @@ public final class EnumerableScanImplementor implements ScanImplementor {
             executorContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(scanQueryContext, queryContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName()), executionContext);
+        return createJDBCEnumerable(scanQueryContext, queryContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName()), executionContext, scanContext.getColumnTypes());
     }
     
     private Enumerable<Object> createMemoryEnumerable(final SQLStatementContext sqlStatementContext, final DatabaseType databaseType, final ShardingSphereTable table) {
@@ -126,16 +136,28 @@ public final class EnumerableScanImplementor implements ScanImplementor {
     
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanImplementorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
-        SQLStatement sqlStatement = compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, useCache);
+        List<Object> params = getParameters(sqlString.getRoot(), sqlString.getParamIndexes());
         HintValueContext hintValueContext = new HintValueContext();
-        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement);
-        return new QueryContext(sqlStatementContext, sql, getParameters(sqlString.getParamIndexes()), hintValueContext, queryContext.getConnectionContext(), metaData, useCache);
+        SQLStatementContext sqlStatementContext = new ScanStatementContextBuilder(metaData, executorContext.getCurrentDatabaseName(),
+                compilerContext.getSqlParserRule().getSQLParserEngine(databaseType), getScanStatementTemplates(sqlString.getRoot())).build(sql, params, hintValueContext, useCache);
+        return new QueryContext(sqlStatementContext, sql, params, hintValueContext, queryContext.getConnectionContext(), metaData, useCache);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, SQLStatement> getScanStatementTemplates(final DataContext root) {
+        Object result = null == root ? null : root.get(SQLFederationExecutionPlan.SCAN_STATEMENT_TEMPLATES_VARIABLE);
+        return result instanceof Map ? (Map<String, SQLStatement>) result : new HashMap<>();
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
+    private List<Object> getParameters(final DataContext root, final int[] paramIndexes) {
         return null == paramIndexes
                 ? Collections.emptyList()
-                : Arrays.stream(paramIndexes).mapToObj(each -> queryContext.getParameters().get(each)).collect(Collectors.toCollection(() -> new ArrayList<>(paramIndexes.length)));
+                : Arrays.stream(paramIndexes).mapToObj(each -> getParameter(root, each)).collect(Collectors.toCollection(() -> new ArrayList<>(paramIndexes.length)));
+    }
+    
+    private Object getParameter(final DataContext root, final int paramIndex) {
+        // Parameters after the ones of query context are literals parameterized by SQL federation compiler
+        return paramIndex < queryContext.getParameters().size() || null == root ? queryContext.getParameters().get(paramIndex) : root.get("?" + paramIndex);
     }
     
     private AbstractEnumerable<Object> createEmptyEnumerable() {
@@ -148,28 +170,84 @@ public final class EnumerableScanImplementor implements ScanImplementor {
         };
     }
     
-    private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext) {
+    private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext, final int[] columnTypes) {
+        AtomicReference<Future<Enumerator<Object>>> prefetchedEnumerator = new AtomicReference<>(prefetch(queryContext, database, executionContext, columnTypes));
         return new AbstractEnumerable<Object>() {
             
             @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(executionContext);
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, executionContext);
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, queryContext);
-                List<QueryResult> queryResults =
-                        executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getQueryCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(),
-                        queryContext.getConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext);
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                Future<Enumerator<Object>> prefetched = prefetchedEnumerator.getAndSet(null);
+                if (null == prefetched) {
+                    return execute(queryContext, database, createExecutionGroupContext(queryContext, database, executionContext), columnTypes);
+                }
+                executorContext.unregisterPrefetchedEnumerator(prefetched);
+                return getPrefetchedEnumerator(prefetched);
             }
         };
     }
     
+    @SneakyThrows(SQLException.class)
+    private Future<Enumerator<Object>> prefetch(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext, final int[] columnTypes) {
+        if (!executorContext.tryAcquireScanPermit()) {
+            return null;
+        }
+        Future<Enumerator<Object>> result = null;
+        try {
+            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(queryContext, database, executionContext);
+            result = SCAN_EXECUTOR_SERVICE_MANAGER.getExecutorService().submit(() -> {
+                try {
+                    return execute(queryContext, database, executionGroupContext, columnTypes);
+                } finally {
+                    executorContext.releaseScanPermit();
+                }
+            });
+            executorContext.registerPrefetchedEnumerator(result);
+            return result;
+        } finally {
+            if (null == result) {
+                executorContext.releaseScanPermit();
+            }
+        }
+    }
+    
+    private Enumerator<Object> getPrefetchedEnumerator(final Future<Enumerator<Object>> prefetchedEnumerator) throws SQLException {
+        try {
+            return prefetchedEnumerator.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                                                 final ExecutionContext executionContext) throws SQLException {
+        computeConnectionOffsets(executionContext);
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepare(database, executionContext);
+        setParameters(result.getInputGroups());
+        ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+        processEngine.executeSQL(result, queryContext);
+        return result;
+    }
+    
+    private Enumerator<Object> execute(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                       final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final int[] columnTypes) throws SQLException {
+        List<QueryResult> queryResults =
+                executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getQueryCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(), queryContext.getConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext);
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements, columnTypes);
+    }
+    
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
             int connectionOffset = executorContext.getConnectionOffsets().containsKey(each.getDataSourceName()) ? executorContext.getConnectionOffsets().get(each.getDataSourceName()) + 1 : 0;
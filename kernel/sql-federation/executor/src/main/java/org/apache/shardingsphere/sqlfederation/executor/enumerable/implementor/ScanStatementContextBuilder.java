@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scan statement context builder.
+ */
+@RequiredArgsConstructor
+public final class ScanStatementContextBuilder {
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final String currentDatabaseName;
+    
+    private final SQLParserEngine parserEngine;
+    
+    private final Map<String, SQLStatement> scanStatementTemplates;
+    
+    /**
+     * Build SQL statement template of scan SQL.
+     *
+     * <p>Templates are built when execution plan is compiled, and reused by every execution of the plan.</p>
+     *
+     * @param sql scan SQL
+     * @param useCache whether to use parse cache
+     * @return bound SQL statement
+     */
+    public SQLStatement buildTemplate(final String sql, final boolean useCache) {
+        return new SQLBindEngine(metaData, currentDatabaseName, new HintValueContext()).bind(parserEngine.parse(sql, useCache)).getSqlStatement();
+    }
+    
+    /**
+     * Build SQL statement context of scan SQL.
+     *
+     * @param sql scan SQL
+     * @param params parameters of scan SQL
+     * @param hintValueContext hint value context
+     * @param useCache whether to use parse cache
+     * @return SQL statement context
+     */
+    public SQLStatementContext build(final String sql, final List<Object> params, final HintValueContext hintValueContext, final boolean useCache) {
+        SQLStatement template = HintManager.getDataSourceName().isPresent() ? null : scanStatementTemplates.get(sql);
+        SQLStatementContext result = null == template
+                ? new SQLBindEngine(metaData, currentDatabaseName, hintValueContext).bind(parserEngine.parse(sql, useCache))
+                : SQLStatementContextFactory.newInstance(metaData, template, currentDatabaseName);
+        if (result instanceof ParameterAware) {
+            ((ParameterAware) result).bindParameters(params);
+        }
+        return result;
+    }
+}
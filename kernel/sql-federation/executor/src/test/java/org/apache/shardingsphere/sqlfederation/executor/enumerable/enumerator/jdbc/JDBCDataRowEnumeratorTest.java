@@ -22,9 +22,11 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -55,7 +57,7 @@ class JDBCDataRowEnumeratorTest {
         when(firstMetaData.getColumnCount()).thenReturn(2);
         Statement firstStatement = mock(Statement.class);
         Statement secondStatement = mock(Statement.class);
-        JDBCDataRowEnumerator enumerator = new JDBCDataRowEnumerator(firstQueryResult, firstMetaData, Arrays.asList(firstStatement, secondStatement));
+        JDBCDataRowEnumerator enumerator = new JDBCDataRowEnumerator(firstQueryResult, firstMetaData, Arrays.asList(firstStatement, secondStatement), null);
         assertTrue(enumerator.moveNext());
         Object actualRow = enumerator.current();
         assertThat(actualRow, instanceOf(Object[].class));
@@ -79,18 +81,37 @@ class JDBCDataRowEnumeratorTest {
         when(singleColumnMetaData.getColumnCount()).thenReturn(1);
         when(singleColumnResult.next()).thenReturn(true);
         when(singleColumnResult.getValue(1, Object.class)).thenReturn(10);
-        JDBCDataRowEnumerator enumerator = new JDBCDataRowEnumerator(singleColumnResult, singleColumnMetaData, Collections.emptyList());
+        JDBCDataRowEnumerator enumerator = new JDBCDataRowEnumerator(singleColumnResult, singleColumnMetaData, Collections.emptyList(), null);
         assertTrue(enumerator.moveNext());
         assertThat(enumerator.current(), is(10));
         enumerator.close();
         assertNull(enumerator.current());
     }
     
+    @Test
+    void assertEnumerateRowsConvertsMergedValuesToColumnTypes() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(4);
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(new BigDecimal("10"));
+        when(mergedResult.getValue(2, Object.class)).thenReturn(new BigDecimal("20"));
+        when(mergedResult.getValue(3, Object.class)).thenReturn(30L);
+        when(mergedResult.getValue(4, Object.class)).thenReturn(new BigDecimal("1.5"));
+        JDBCDataRowEnumerator enumerator = new JDBCDataRowEnumerator(mergedResult, metaData, Collections.emptyList(), new int[]{Types.BIGINT, Types.INTEGER, Types.DECIMAL, Types.DOUBLE});
+        assertTrue(enumerator.moveNext());
+        Object[] actualRowValues = (Object[]) enumerator.current();
+        assertThat(actualRowValues[0], is(10L));
+        assertThat(actualRowValues[1], is(20));
+        assertThat(actualRowValues[2], is(new BigDecimal("30")));
+        assertThat(actualRowValues[3], is(1.5D));
+    }
+    
     @Test
     void assertCloseWrapsSQLException() throws SQLException {
         Statement statement = mock(Statement.class);
         doThrow(SQLException.class).when(statement).close();
-        JDBCDataRowEnumerator enumerator = new JDBCDataRowEnumerator(mock(MergedResult.class), mock(QueryResultMetaData.class), Collections.singleton(statement));
+        JDBCDataRowEnumerator enumerator = new JDBCDataRowEnumerator(mock(MergedResult.class), mock(QueryResultMetaData.class), Collections.singleton(statement), null);
         SQLWrapperException actualException = assertThrows(SQLWrapperException.class, enumerator::close);
         assertThat(actualException.getCause(), isA(SQLException.class));
     }
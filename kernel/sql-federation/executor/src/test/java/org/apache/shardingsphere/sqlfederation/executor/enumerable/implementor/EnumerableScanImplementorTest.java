@@ -70,6 +70,7 @@ import org.mockito.MockedStatic;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
@@ -91,11 +92,13 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -132,7 +135,8 @@ class EnumerableScanImplementorTest {
                         (constructed, context) -> when(constructed.getDialectDatabaseMetaData()).thenReturn(dialectDatabaseMetaData));
                 MockedStatic<MemoryTableStatisticsBuilder> memoryBuilderMockedStatic = mockStatic(MemoryTableStatisticsBuilder.class)) {
             memoryBuilderMockedStatic.when(() -> MemoryTableStatisticsBuilder.buildTableStatistics(table, metaData, driverOption)).thenReturn(tableStatistics);
-            Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, mock(), mock()).implement(table, new ScanImplementorContext(mock(), "SELECT datname FROM pg_database", null));
+            Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, mock(), mock())
+                    .implement(table, new ScanImplementorContext(mock(), "SELECT datname FROM pg_database", null, null));
             try (Enumerator<Object> actual = enumerable.enumerator()) {
                 assertTrue(actual.moveNext());
                 assertThat(((Object[]) actual.current())[0], is("foo_db"));
@@ -174,7 +178,7 @@ class EnumerableScanImplementorTest {
                 MockedConstruction<DatabaseTypeRegistry> mockedTypeRegistry = mockConstruction(DatabaseTypeRegistry.class,
                         (constructed, context) -> when(constructed.getDialectDatabaseMetaData()).thenReturn(dialectDatabaseMetaData))) {
             Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, mock(), executorContext)
-                    .implement(table, new ScanImplementorContext(mock(), "SELECT id FROM custom_stats", null));
+                    .implement(table, new ScanImplementorContext(mock(), "SELECT id FROM custom_stats", null, null));
             try (Enumerator<Object> actual = enumerable.enumerator()) {
                 assertTrue(actual.moveNext());
                 assertThat(((Object[]) actual.current())[0], is(2));
@@ -207,7 +211,7 @@ class EnumerableScanImplementorTest {
         try (
                 MockedConstruction<SystemDatabase> ignored = mockConstruction(SystemDatabase.class,
                         (constructed, context) -> when(constructed.getSystemSchemas()).thenReturn(Collections.singletonList("pg_catalog")))) {
-            Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, mock(), executorContext).implement(table, new ScanImplementorContext(mock(), "SELECT 1", null));
+            Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, mock(), executorContext).implement(table, new ScanImplementorContext(mock(), "SELECT 1", null, null));
             try (Enumerator<Object> actual = enumerable.enumerator()) {
                 assertTrue(actual.moveNext());
             }
@@ -243,7 +247,7 @@ class EnumerableScanImplementorTest {
                 MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
                         (constructed, context) -> when(constructed.generateExecutionContext(any(), any(), any())).thenReturn(executionContext))) {
             Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, compilerContext, executorContext)
-                    .implement(mock(ShardingSphereTable.class), new ScanImplementorContext(mock(), "SELECT 1", null));
+                    .implement(mock(ShardingSphereTable.class), new ScanImplementorContext(mock(), "SELECT 1", null, null));
             assertThat(executorContext.getPreviewExecutionUnits(), is(Collections.singletonList(executionUnit)));
             try (Enumerator<Object> actual = enumerable.enumerator()) {
                 assertFalse(actual.moveNext());
@@ -252,6 +256,41 @@ class EnumerableScanImplementorTest {
         }
     }
     
+    @Test
+    void assertImplementWithParameterizedLiterals() {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement().getDatabaseType()).thenReturn(databaseType);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.singletonList("custom_schema"));
+        QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(queryContext.getParameters()).thenReturn(Collections.singletonList("param_0"));
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        CompilerContext compilerContext = mock(CompilerContext.class, RETURNS_DEEP_STUBS);
+        when(compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse("SELECT ?, ? FROM tbl", false)).thenReturn(sqlStatement);
+        ExecutorContext executorContext = mock(ExecutorContext.class);
+        when(executorContext.isPreview()).thenReturn(true);
+        when(executorContext.getPreviewExecutionUnits()).thenReturn(new LinkedList<>());
+        when(executorContext.getCurrentDatabaseName()).thenReturn("foo_db");
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT ?, ? FROM tbl", Arrays.asList("param_0", "literal_1")));
+        ExecutionContext executionContext = mock(ExecutionContext.class);
+        when(executionContext.getExecutionUnits()).thenReturn(Collections.singleton(executionUnit));
+        SQLStatementContext boundStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(boundStatementContext.getTablesContext().getDatabaseNames()).thenReturn(Collections.singletonList("foo_db"));
+        when(boundStatementContext.getSqlStatement()).thenReturn(sqlStatement);
+        DataContext root = mock(DataContext.class);
+        when(root.get("?1")).thenReturn("literal_1");
+        try (
+                MockedConstruction<SQLBindEngine> ignoredSQLBindEngine = mockConstruction(SQLBindEngine.class,
+                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(boundStatementContext));
+                MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
+                        (constructed, context) -> when(constructed.generateExecutionContext(argThat(actual -> Arrays.asList("param_0", "literal_1").equals(actual.getParameters())), any(), any()))
+                                .thenReturn(executionContext))) {
+            new EnumerableScanImplementor(queryContext, compilerContext, executorContext)
+                    .implement(mock(ShardingSphereTable.class), new ScanImplementorContext(root, "SELECT ?, ? FROM tbl", new int[]{0, 1}, null));
+            assertThat(executorContext.getPreviewExecutionUnits(), is(Collections.singletonList(executionUnit)));
+        }
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Test
     void assertImplementWithJDBCEnumerable() throws SQLException {
@@ -297,7 +336,7 @@ class EnumerableScanImplementorTest {
         doAnswer(invocation -> executionGroupContext).when(prepareEngine).prepare(anyString(), any(), anyMap(), anyCollection(), any());
         when(jdbcExecutor.execute(executionGroupContext, queryCallback)).thenReturn(Collections.singletonList(mock(QueryResult.class)));
         ProcessRegistry.getInstance().add(new Process(new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("process_id", "foo_db"))));
-        ScanImplementorContext scanContext = new ScanImplementorContext(mock(DataContext.class), "SELECT ? FROM tbl", new int[]{0});
+        ScanImplementorContext scanContext = new ScanImplementorContext(mock(DataContext.class), "SELECT ? FROM tbl", new int[]{0}, null);
         ShardingSphereTable table = mock(ShardingSphereTable.class, RETURNS_DEEP_STUBS);
         when(table.getAllColumns()).thenReturn(Collections.singleton(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, false, true, false)));
         try (
@@ -318,6 +357,118 @@ class EnumerableScanImplementorTest {
         }
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void assertImplementWithPrefetchedJDBCEnumerable() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement().getDatabaseType()).thenReturn(databaseType);
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        when(queryContext.getMetaData()).thenReturn(metaData);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        CompilerContext compilerContext = mock(CompilerContext.class, RETURNS_DEEP_STUBS);
+        when(compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse("SELECT id FROM tbl", false)).thenReturn(sqlStatement);
+        ExecutorContext executorContext = mock(ExecutorContext.class);
+        when(executorContext.tryAcquireScanPermit()).thenReturn(true);
+        Map<String, Integer> connectionOffsets = new LinkedHashMap<>();
+        when(executorContext.getConnectionOffsets()).thenReturn(connectionOffsets);
+        when(executorContext.getCurrentDatabaseName()).thenReturn("foo_db");
+        when(executorContext.getProcessId()).thenReturn("process_prefetch");
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mock(DriverExecutionPrepareEngine.class);
+        when(executorContext.getPrepareEngine()).thenReturn(prepareEngine);
+        JDBCExecutor jdbcExecutor = mock(JDBCExecutor.class);
+        when(executorContext.getJdbcExecutor()).thenReturn(jdbcExecutor);
+        JDBCExecutorCallback<QueryResult> queryCallback = (JDBCExecutorCallback<QueryResult>) mock(JDBCExecutorCallback.class);
+        when(executorContext.getQueryCallback()).thenReturn((JDBCExecutorCallback) queryCallback);
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT id FROM tbl_0", Collections.emptyList()));
+        ExecutionContext executionContext = mock(ExecutionContext.class);
+        when(executionContext.getExecutionUnits()).thenReturn(Collections.singleton(executionUnit));
+        ExecutionGroup<JDBCExecutionUnit> executionGroup = new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, mock())));
+        ExecutionGroupReportContext reportContext = new ExecutionGroupReportContext("process_prefetch", "foo_db");
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.singleton(executionGroup), reportContext);
+        when(prepareEngine.prepare(anyString(), any(), anyMap(), anyCollection(), any())).thenReturn(executionGroupContext);
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(jdbcExecutor.execute(executionGroupContext, queryCallback)).thenReturn(Collections.singletonList(queryResult));
+        ProcessRegistry.getInstance().add(new Process(new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("process_prefetch", "foo_db"))));
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        try (
+                MockedConstruction<SQLBindEngine> ignoredSQLBindEngine = mockConstruction(SQLBindEngine.class,
+                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(mock(SQLStatementContext.class, RETURNS_DEEP_STUBS)));
+                MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
+                        (constructed, context) -> when(constructed.generateExecutionContext(any(), any(), any())).thenReturn(executionContext))) {
+            Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, compilerContext, executorContext)
+                    .implement(table, new ScanImplementorContext(mock(DataContext.class), "SELECT id FROM tbl", null, null));
+            verify(jdbcExecutor, timeout(5000L)).execute(executionGroupContext, queryCallback);
+            verify(executorContext, timeout(5000L)).releaseScanPermit();
+            assertThat(connectionOffsets.get("ds_0"), is(0));
+            try (Enumerator<Object> actual = enumerable.enumerator()) {
+                assertTrue(actual.moveNext());
+                assertThat(actual.current(), is(1));
+                assertFalse(actual.moveNext());
+            }
+            try (Enumerator<Object> ignored = enumerable.enumerator()) {
+                assertThat(connectionOffsets.get("ds_0"), is(1));
+            }
+        } finally {
+            ProcessRegistry.getInstance().remove("process_prefetch");
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void assertCloseUnconsumedPrefetchedJDBCEnumerable() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement().getDatabaseType()).thenReturn(databaseType);
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        when(queryContext.getMetaData()).thenReturn(metaData);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        CompilerContext compilerContext = mock(CompilerContext.class, RETURNS_DEEP_STUBS);
+        when(compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse("SELECT id FROM tbl", false)).thenReturn(sqlStatement);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mock(DriverExecutionPrepareEngine.class);
+        JDBCExecutor jdbcExecutor = mock(JDBCExecutor.class);
+        JDBCExecutorCallback<QueryResult> queryCallback = (JDBCExecutorCallback<QueryResult>) mock(JDBCExecutorCallback.class);
+        ExecutorContext executorContext = new ExecutorContext(prepareEngine, jdbcExecutor, (JDBCExecutorCallback) queryCallback, mock(), "foo_db", "foo_db", false, "process_unconsumed", 1);
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT id FROM tbl_0", Collections.emptyList()));
+        ExecutionContext executionContext = mock(ExecutionContext.class);
+        when(executionContext.getExecutionUnits()).thenReturn(Collections.singleton(executionUnit));
+        Statement statement = mock(Statement.class);
+        ExecutionGroup<JDBCExecutionUnit> executionGroup = new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, statement)));
+        ExecutionGroupReportContext reportContext = new ExecutionGroupReportContext("process_unconsumed", "foo_db");
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.singleton(executionGroup), reportContext);
+        when(prepareEngine.prepare(anyString(), any(), anyMap(), anyCollection(), any())).thenReturn(executionGroupContext);
+        when(jdbcExecutor.execute(executionGroupContext, queryCallback)).thenReturn(Collections.singletonList(mock(QueryResult.class, RETURNS_DEEP_STUBS)));
+        ProcessRegistry.getInstance().add(new Process(new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("process_unconsumed", "foo_db"))));
+        try (
+                MockedConstruction<SQLBindEngine> ignoredSQLBindEngine = mockConstruction(SQLBindEngine.class,
+                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(mock(SQLStatementContext.class, RETURNS_DEEP_STUBS)));
+                MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
+                        (constructed, context) -> when(constructed.generateExecutionContext(any(), any(), any())).thenReturn(executionContext));
+                MockedConstruction<MergeEngine> ignoredMergeEngine = mockConstruction(MergeEngine.class,
+                        (constructed, context) -> when(constructed.merge(anyList(), any(QueryContext.class))).thenReturn(mock(MergedResult.class)))) {
+            new EnumerableScanImplementor(queryContext, compilerContext, executorContext)
+                    .implement(mock(ShardingSphereTable.class), new ScanImplementorContext(mock(DataContext.class), "SELECT id FROM tbl", null, null));
+            executorContext.closePrefetchedEnumerators();
+            verify(jdbcExecutor).execute(executionGroupContext, queryCallback);
+            verify(statement).close();
+        } finally {
+            ProcessRegistry.getInstance().remove("process_unconsumed");
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     void assertImplementWithInterruptedProcess() throws SQLException {
@@ -348,7 +499,7 @@ class EnumerableScanImplementorTest {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mock(DriverExecutionPrepareEngine.class);
         when(prepareEngine.prepare(any(), any(), anyMap(), anyCollection(), any())).thenReturn(executionGroupContext);
         when(executorContext.getPrepareEngine()).thenReturn(prepareEngine);
-        ScanImplementorContext scanContext = new ScanImplementorContext(mock(DataContext.class), "SELECT ? FROM tbl", new int[]{0});
+        ScanImplementorContext scanContext = new ScanImplementorContext(mock(DataContext.class), "SELECT ? FROM tbl", new int[]{0}, null);
         ShardingSphereTable table = mock(ShardingSphereTable.class, RETURNS_DEEP_STUBS);
         when(table.getAllColumns()).thenReturn(Collections.singleton(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, false, true, false)));
         ProcessRegistry processRegistry = mock(ProcessRegistry.class);
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor;
+
+import org.apache.shardingsphere.infra.binder.context.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScanStatementContextBuilderTest {
+    
+    private final ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+    
+    private final SQLParserEngine parserEngine = mock(SQLParserEngine.class);
+    
+    private final SQLStatement sqlStatement = mock(SQLStatement.class);
+    
+    private final SQLStatement boundSQLStatement = mock(SQLStatement.class);
+    
+    @Test
+    void assertBuildTemplate() {
+        when(parserEngine.parse("SELECT id FROM t_order", true)).thenReturn(sqlStatement);
+        SQLStatementContext boundStatementContext = mock(SQLStatementContext.class);
+        when(boundStatementContext.getSqlStatement()).thenReturn(boundSQLStatement);
+        ScanStatementContextBuilder builder = new ScanStatementContextBuilder(metaData, "foo_db", parserEngine, Collections.emptyMap());
+        try (
+                MockedConstruction<SQLBindEngine> ignored = mockConstruction(SQLBindEngine.class,
+                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(boundStatementContext))) {
+            assertThat(builder.buildTemplate("SELECT id FROM t_order", true), is(boundSQLStatement));
+        }
+    }
+    
+    @Test
+    void assertBuildWithTemplate() {
+        SelectStatementContext templateStatementContext = mock(SelectStatementContext.class);
+        ScanStatementContextBuilder builder = new ScanStatementContextBuilder(metaData, "foo_db", parserEngine, Collections.singletonMap("SELECT id FROM t_order", boundSQLStatement));
+        List<Object> params = Collections.singletonList(1);
+        try (MockedStatic<SQLStatementContextFactory> mockedFactory = mockStatic(SQLStatementContextFactory.class)) {
+            mockedFactory.when(() -> SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, "foo_db")).thenReturn(templateStatementContext);
+            assertThat(builder.build("SELECT id FROM t_order", params, new HintValueContext(), true), is(templateStatementContext));
+        }
+        verify(parserEngine, never()).parse("SELECT id FROM t_order", true);
+        verify(templateStatementContext).bindParameters(params);
+    }
+    
+    @Test
+    void assertBuildWithoutTemplate() {
+        when(parserEngine.parse("SELECT id FROM t_order", true)).thenReturn(sqlStatement);
+        SQLStatementContext boundStatementContext = mock(SQLStatementContext.class);
+        ScanStatementContextBuilder builder = new ScanStatementContextBuilder(metaData, "foo_db", parserEngine, Collections.emptyMap());
+        try (
+                MockedConstruction<SQLBindEngine> ignored = mockConstruction(SQLBindEngine.class,
+                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(boundStatementContext))) {
+            assertThat(builder.build("SELECT id FROM t_order", Collections.emptyList(), new HintValueContext(), true), is(boundStatementContext));
+        }
+    }
+    
+    @Test
+    void assertBuildWithHintDataSourceName() {
+        when(parserEngine.parse("SELECT id FROM t_order", false)).thenReturn(sqlStatement);
+        SQLStatementContext boundStatementContext = mock(SQLStatementContext.class);
+        ScanStatementContextBuilder builder = new ScanStatementContextBuilder(metaData, "foo_db", parserEngine, Collections.singletonMap("SELECT id FROM t_order", boundSQLStatement));
+        try (
+                HintManager hintManager = HintManager.getInstance();
+                MockedConstruction<SQLBindEngine> ignored = mockConstruction(SQLBindEngine.class,
+                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(boundStatementContext))) {
+            hintManager.setDataSourceName("ds_0");
+            assertThat(builder.build("SELECT id FROM t_order", Collections.emptyList(), new HintValueContext(), false), is(boundStatementContext));
+        }
+    }
+}
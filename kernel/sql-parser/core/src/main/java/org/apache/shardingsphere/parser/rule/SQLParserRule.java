@@ -38,10 +38,13 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final CacheOption sqlShapeCache;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        sqlShapeCache = ruleConfig.getSqlShapeCache();
     }
     
     /**
@@ -51,7 +54,7 @@ public final class SQLParserRule implements GlobalRule {
      * @return SQL parser engine
      */
     public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
-        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache);
+        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlShapeCache);
     }
     
     @Override
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.factory.init.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.manager.database.DatabaseMetaDataManager;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.DatabaseMetaDataPersistFacade;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Schema snapshot validator.
+ *
+ * <p>Schemas restored from repository are served immediately, while physical meta data is validated in background after context manager initialized.
+ * Only one compute node validates at a time through an exclusive operation, the others receive the persisted changes from repository.
+ * Cheap checksums of table columns are compared first, and only the tables whose checksums differ from the snapshot are fully loaded.
+ * Each of them is applied only if the table in memory is still the restored one, so a newer table from concurrent DDL is never overwritten.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaSnapshotValidator {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("schema-snapshot-validator-%d"));
+    
+    private static final long EXCLUSIVE_OPERATION_TIMEOUT_MILLIS = 5000L;
+    
+    private final ContextManager contextManager;
+    
+    /**
+     * Validate all databases in background.
+     *
+     * @return validation future
+     */
+    public CompletableFuture<Void> validateAsync() {
+        return CompletableFuture.runAsync(this::validateExclusively, EXECUTOR_SERVICE);
+    }
+    
+    private void validateExclusively() {
+        try {
+            contextManager.getExclusiveOperatorEngine().operate(new SchemaSnapshotValidateOperation(), EXCLUSIVE_OPERATION_TIMEOUT_MILLIS,
+                    () -> contextManager.getAllDatabaseNames().forEach(this::validate));
+        } catch (final SQLException ex) {
+            log.warn("Validate schema snapshots failed, keep the restored schemas", ex);
+        }
+    }
+    
+    /**
+     * Validate database.
+     *
+     * @param databaseName database name
+     */
+    public void validate(final String databaseName) {
+        ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
+        if (!metaData.containsDatabase(databaseName)) {
+            return;
+        }
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        if (database.getResourceMetaData().getStorageUnits().isEmpty()) {
+            return;
+        }
+        String defaultSchemaName = new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(databaseName);
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getResourceMetaData().getStorageUnits(),
+                database.getRuleMetaData().getRules(), metaData.getProps(), defaultSchemaName);
+        Map<String, ShardingSphereSchema> restoredSchemas = getRestoredSchemas(database);
+        ShardingSphereSchema restoredDefaultSchema = restoredSchemas.getOrDefault(defaultSchemaName, new ShardingSphereSchema(defaultSchemaName, database.getProtocolType()));
+        Collection<String> logicTableNames = getLogicTableNames(database.getRuleMetaData().getRules());
+        Collection<String> toBeLoadedTableNames;
+        Collection<String> toBeCheckedTableNames;
+        try {
+            toBeLoadedTableNames = getChangedTableNames(logicTableNames, TableChecksumLoader.load(logicTableNames, material), restoredDefaultSchema);
+            toBeCheckedTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            toBeCheckedTableNames.addAll(toBeLoadedTableNames);
+            restoredDefaultSchema.getAllTables().stream().map(ShardingSphereTable::getName).filter(each -> !logicTableNames.contains(each)).forEach(toBeCheckedTableNames::add);
+        } catch (final SQLException ex) {
+            log.warn("Load table checksums of database: {} failed, load all tables", databaseName, ex);
+            toBeLoadedTableNames = logicTableNames;
+            toBeCheckedTableNames = null;
+        }
+        if (null != toBeCheckedTableNames && toBeCheckedTableNames.isEmpty()) {
+            return;
+        }
+        Map<String, ShardingSphereSchema> loadedSchemas = new LinkedHashMap<>();
+        loadedSchemas.put(defaultSchemaName, new ShardingSphereSchema(defaultSchemaName, database.getProtocolType()));
+        try {
+            loadedSchemas.putAll(toBeLoadedTableNames.isEmpty() ? Collections.emptyMap() : GenericSchemaBuilder.build(toBeLoadedTableNames, database.getProtocolType(), material));
+        } catch (final SQLException ex) {
+            log.warn("Validate schema snapshot of database: {} failed, keep the restored schemas", databaseName, ex);
+            return;
+        }
+        for (ShardingSphereSchema each : loadedSchemas.values()) {
+            ShardingSphereSchema restoredSchema = restoredSchemas.getOrDefault(each.getName(), new ShardingSphereSchema(each.getName(), database.getProtocolType()));
+            validate(databaseName, each, restoredSchema, restoredSchemas.containsKey(each.getName()), toBeCheckedTableNames);
+        }
+    }
+    
+    private void validate(final String databaseName, final ShardingSphereSchema loadedSchema, final ShardingSphereSchema restoredSchema, final boolean restored,
+                          final Collection<String> toBeCheckedTableNames) {
+        String schemaName = loadedSchema.getName();
+        Collection<ShardingSphereTable> toBeAlteredTables = GenericSchemaManager.getToBeAddedTables(loadedSchema, restoredSchema);
+        Collection<ShardingSphereTable> toBeDroppedTables = new LinkedList<>();
+        for (ShardingSphereTable each : restoredSchema.getAllTables()) {
+            if (!loadedSchema.containsTable(each.getName()) && (null == toBeCheckedTableNames || toBeCheckedTableNames.contains(each.getName()))) {
+                toBeDroppedTables.add(each);
+            }
+        }
+        if (toBeAlteredTables.isEmpty() && toBeDroppedTables.isEmpty()) {
+            return;
+        }
+        DatabaseMetaDataManager databaseMetaDataManager = contextManager.getMetaDataContextManager().getDatabaseMetaDataManager();
+        DatabaseMetaDataPersistFacade databaseMetaDataPersistFacade = contextManager.getPersistServiceFacade().getMetaDataFacade().getDatabaseMetaDataFacade();
+        Collection<ShardingSphereTable> alteredTables = new LinkedList<>();
+        Collection<ShardingSphereTable> droppedTables = new LinkedList<>();
+        synchronized (databaseMetaDataManager) {
+            ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
+            if (!metaData.containsDatabase(databaseName)) {
+                return;
+            }
+            ShardingSphereDatabase currentDatabase = metaData.getDatabase(databaseName);
+            if (restored != currentDatabase.containsSchema(schemaName)) {
+                return;
+            }
+            if (!restored) {
+                databaseMetaDataManager.addSchema(databaseName, schemaName);
+                databaseMetaDataPersistFacade.getSchema().add(databaseName, schemaName);
+            }
+            ShardingSphereSchema currentSchema = currentDatabase.getSchema(schemaName);
+            for (ShardingSphereTable each : toBeAlteredTables) {
+                if (isUnchanged(currentSchema, restoredSchema, each.getName())) {
+                    databaseMetaDataManager.alterTable(databaseName, schemaName, each);
+                    alteredTables.add(each);
+                }
+            }
+            for (ShardingSphereTable each : toBeDroppedTables) {
+                if (isUnchanged(currentSchema, restoredSchema, each.getName())) {
+                    databaseMetaDataManager.dropTable(databaseName, schemaName, each.getName());
+                    droppedTables.add(each);
+                }
+            }
+        }
+        databaseMetaDataPersistFacade.getTable().persist(databaseName, schemaName, alteredTables);
+        databaseMetaDataPersistFacade.getTable().drop(databaseName, schemaName, droppedTables);
+        log.info("Schema snapshot of database: {} schema: {} is stale, {} tables altered and {} tables dropped, {} tables skipped for concurrent changes",
+                databaseName, schemaName, alteredTables.size(), droppedTables.size(), toBeAlteredTables.size() + toBeDroppedTables.size() - alteredTables.size() - droppedTables.size());
+    }
+    
+    private Map<String, ShardingSphereSchema> getRestoredSchemas(final ShardingSphereDatabase database) {
+        Map<String, ShardingSphereSchema> result = new LinkedHashMap<>();
+        for (ShardingSphereSchema each : database.getAllSchemas()) {
+            result.put(each.getName(), new ShardingSphereSchema(each.getName(), each.getProtocolType(), new LinkedList<>(each.getAllTables()), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private Collection<String> getLogicTableNames(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (ShardingSphereRule each : rules) {
+            each.getAttributes().findAttribute(TableMapperRuleAttribute.class).ifPresent(optional -> result.addAll(optional.getLogicTableNames()));
+        }
+        return result;
+    }
+    
+    private Collection<String> getChangedTableNames(final Collection<String> logicTableNames, final Map<String, Long> physicalChecksums, final ShardingSphereSchema restoredSchema) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : logicTableNames) {
+            Long restoredChecksum = restoredSchema.containsTable(each) ? TableChecksumLoader.calculate(restoredSchema.getTable(each)) : null;
+            if (null == restoredChecksum || !Objects.equals(restoredChecksum, physicalChecksums.get(each))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isUnchanged(final ShardingSphereSchema currentSchema, final ShardingSphereSchema restoredSchema, final String tableName) {
+        return currentSchema.getTable(tableName) == restoredSchema.getTable(tableName);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.factory.init.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaDataUtils;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+/**
+ * Table checksum loader.
+ *
+ * <p>Checksums cover the names and data types of columns in ordinal order. Physical checksums are loaded with one column meta data query per storage unit,
+ * which is much cheaper than loading full table meta data.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TableChecksumLoader {
+    
+    /**
+     * Load checksums of physical tables.
+     *
+     * @param logicTableNames logic table names
+     * @param material generic schema builder material
+     * @return checksums of tables which exist in storage units, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    static Map<String, Long> load(final Collection<String> logicTableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        Map<String, Map<String, String>> logicTableNamesByStorageUnit = new HashMap<>();
+        for (String each : logicTableNames) {
+            for (MetaDataLoaderMaterial loaderMaterial : SchemaMetaDataUtils.getMetaDataLoaderMaterials(Collections.singleton(each), material)) {
+                if (!loaderMaterial.getActualTableNames().isEmpty()) {
+                    dataSources.putIfAbsent(loaderMaterial.getStorageUnitName(), loaderMaterial.getDataSource());
+                    logicTableNamesByStorageUnit.computeIfAbsent(loaderMaterial.getStorageUnitName(), key -> new HashMap<>())
+                            .put(loaderMaterial.getActualTableNames().iterator().next().toLowerCase(), each);
+                    break;
+                }
+            }
+        }
+        Map<String, Long> result = new HashMap<>(logicTableNames.size(), 1F);
+        for (Entry<String, DataSource> entry : dataSources.entrySet()) {
+            result.putAll(load(entry.getValue(), logicTableNamesByStorageUnit.get(entry.getKey())));
+        }
+        return result;
+    }
+    
+    private static Map<String, Long> load(final DataSource dataSource, final Map<String, String> logicTableNames) throws SQLException {
+        Map<String, CRC32> checksums = new HashMap<>(logicTableNames.size(), 1F);
+        try (
+                Connection connection = dataSource.getConnection();
+                ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), "%", "%")) {
+            while (resultSet.next()) {
+                String logicTableName = logicTableNames.get(resultSet.getString("TABLE_NAME").toLowerCase());
+                if (null != logicTableName) {
+                    update(checksums.computeIfAbsent(logicTableName, key -> new CRC32()), resultSet.getString("COLUMN_NAME"), resultSet.getInt("DATA_TYPE"));
+                }
+            }
+        }
+        Map<String, Long> result = new HashMap<>(checksums.size(), 1F);
+        checksums.forEach((key, value) -> result.put(key, value.getValue()));
+        return result;
+    }
+    
+    /**
+     * Calculate checksum of table.
+     *
+     * @param table table
+     * @return checksum
+     */
+    static long calculate(final ShardingSphereTable table) {
+        CRC32 result = new CRC32();
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            update(result, each.getName(), each.getDataType());
+        }
+        return result.getValue();
+    }
+    
+    private static void update(final CRC32 checksum, final String columnName, final int dataType) {
+        checksum.update((columnName.toLowerCase() + ':' + dataType + ';').getBytes(StandardCharsets.UTF_8));
+    }
+}
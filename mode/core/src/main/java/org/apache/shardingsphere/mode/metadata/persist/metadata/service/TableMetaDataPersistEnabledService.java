@@ -30,6 +30,8 @@ import org.apache.shardingsphere.mode.persist.service.TableMetaDataPersistServic
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -46,8 +48,9 @@ public final class TableMetaDataPersistEnabledService implements TableMetaDataPe
     
     @Override
     public Collection<ShardingSphereTable> load(final String databaseName, final String schemaName) {
-        return repository.getChildrenKeys(NodePathGenerator.toPath(new TableMetaDataNodePath(databaseName, schemaName, null))).stream()
-                .map(each -> load(databaseName, schemaName, each)).collect(Collectors.toList());
+        Collection<VersionNodePath> versionNodePaths = repository.getChildrenKeys(NodePathGenerator.toPath(new TableMetaDataNodePath(databaseName, schemaName, null))).stream()
+                .map(each -> new VersionNodePath(new TableMetaDataNodePath(databaseName, schemaName, each))).collect(Collectors.toList());
+        return versionPersistService.loadContents(versionNodePaths).stream().map(each -> swapper.swapToObject(YamlEngine.unmarshal(each, YamlShardingSphereTable.class))).collect(Collectors.toList());
     }
     
     @Override
@@ -60,11 +63,11 @@ public final class TableMetaDataPersistEnabledService implements TableMetaDataPe
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables) {
+        Map<VersionNodePath, String> contents = new LinkedHashMap<>(tables.size(), 1F);
         for (ShardingSphereTable each : tables) {
-            String tableName = each.getName().toLowerCase();
-            VersionNodePath versionNodePath = new VersionNodePath(new TableMetaDataNodePath(databaseName, schemaName, tableName));
-            versionPersistService.persist(versionNodePath, YamlEngine.marshal(swapper.swapToYamlConfiguration(each)));
+            contents.put(new VersionNodePath(new TableMetaDataNodePath(databaseName, schemaName, each.getName().toLowerCase())), YamlEngine.marshal(swapper.swapToYamlConfiguration(each)));
         }
+        versionPersistService.persist(contents);
     }
     
     @Override
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.mode.node.path.version.VersionNodePath;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -51,8 +53,9 @@ public final class ViewMetaDataPersistService {
      * @return loaded views
      */
     public Collection<ShardingSphereView> load(final String databaseName, final String schemaName) {
-        return repository.getChildrenKeys(NodePathGenerator.toPath(new ViewMetaDataNodePath(databaseName, schemaName, null))).stream()
-                .map(each -> load(databaseName, schemaName, each)).collect(Collectors.toList());
+        Collection<VersionNodePath> versionNodePaths = repository.getChildrenKeys(NodePathGenerator.toPath(new ViewMetaDataNodePath(databaseName, schemaName, null))).stream()
+                .map(each -> new VersionNodePath(new ViewMetaDataNodePath(databaseName, schemaName, each))).collect(Collectors.toList());
+        return versionPersistService.loadContents(versionNodePaths).stream().map(each -> swapper.swapToObject(YamlEngine.unmarshal(each, YamlShardingSphereView.class))).collect(Collectors.toList());
     }
     
     /**
@@ -78,11 +81,11 @@ public final class ViewMetaDataPersistService {
      * @param views views
      */
     public void persist(final String databaseName, final String schemaName, final Collection<ShardingSphereView> views) {
+        Map<VersionNodePath, String> contents = new LinkedHashMap<>(views.size(), 1F);
         for (ShardingSphereView each : views) {
-            String viewName = each.getName().toLowerCase();
-            VersionNodePath versionNodePath = new VersionNodePath(new ViewMetaDataNodePath(databaseName, schemaName, viewName));
-            versionPersistService.persist(versionNodePath, YamlEngine.marshal(swapper.swapToYamlConfiguration(each)));
+            contents.put(new VersionNodePath(new ViewMetaDataNodePath(databaseName, schemaName, each.getName().toLowerCase())), YamlEngine.marshal(swapper.swapToYamlConfiguration(each)));
         }
+        versionPersistService.persist(contents);
     }
     
     /**
@@ -23,8 +23,13 @@ import org.apache.shardingsphere.mode.node.path.version.MetaDataVersion;
 import org.apache.shardingsphere.mode.node.path.version.VersionNodePath;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 /**
@@ -50,8 +55,32 @@ public final class VersionPersistService {
         return nextVersion;
     }
     
+    /**
+     * Persist in batch.
+     *
+     * <p>Contents of all paths are persisted before their active versions are switched, in one repository batch.</p>
+     *
+     * @param contents to be persisted contents, key is version node path and value is content
+     */
+    public void persist(final Map<VersionNodePath, String> contents) {
+        Map<VersionNodePath, Integer> nextVersions = new LinkedHashMap<>(contents.size(), 1F);
+        Map<String, String> keyValues = new LinkedHashMap<>(contents.size() * 2, 1F);
+        for (Entry<VersionNodePath, String> entry : contents.entrySet()) {
+            int nextVersion = getNextVersion(entry.getKey().getVersionsPath());
+            nextVersions.put(entry.getKey(), nextVersion);
+            keyValues.put(entry.getKey().getVersionPath(nextVersion), entry.getValue());
+        }
+        nextVersions.forEach((key, value) -> keyValues.put(key.getActiveVersionPath(), String.valueOf(value)));
+        repository.persist(keyValues);
+        nextVersions.forEach(this::deletePreviousVersions);
+    }
+    
     private void switchActiveVersion(final VersionNodePath versionNodePath, final int currentVersion) {
         repository.persist(versionNodePath.getActiveVersionPath(), String.valueOf(currentVersion));
+        deletePreviousVersions(versionNodePath, currentVersion);
+    }
+    
+    private void deletePreviousVersions(final VersionNodePath versionNodePath, final int currentVersion) {
         if (MetaDataVersion.INIT_VERSION != currentVersion) {
             getVersions(versionNodePath.getVersionsPath()).stream().filter(version -> version < currentVersion)
                     .forEach(version -> repository.delete(versionNodePath.getVersionPath(version)));
@@ -88,4 +117,24 @@ public final class VersionPersistService {
         String version = repository.query(versionNodePath.getActiveVersionPath());
         return null == version ? null : repository.query(versionNodePath.getVersionPath(Integer.parseInt(version)));
     }
+    
+    /**
+     * Load contents in batch.
+     *
+     * @param versionNodePaths version node paths
+     * @return loaded contents of paths with active version
+     */
+    public Collection<String> loadContents(final Collection<VersionNodePath> versionNodePaths) {
+        Collection<String> activeVersionPaths = new LinkedList<>();
+        versionNodePaths.forEach(each -> activeVersionPaths.add(each.getActiveVersionPath()));
+        Map<String, String> activeVersions = repository.query(activeVersionPaths);
+        Collection<String> versionPaths = new LinkedList<>();
+        for (VersionNodePath each : versionNodePaths) {
+            String version = activeVersions.get(each.getActiveVersionPath());
+            if (null != version) {
+                versionPaths.add(each.getVersionPath(Integer.parseInt(version)));
+            }
+        }
+        return repository.query(versionPaths).values();
+    }
 }
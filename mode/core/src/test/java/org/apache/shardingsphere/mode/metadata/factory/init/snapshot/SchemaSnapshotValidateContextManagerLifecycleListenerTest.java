@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.factory.init.snapshot;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchemaSnapshotValidateContextManagerLifecycleListenerTest {
+    
+    @Test
+    void assertOnInitializedWithValidationEnabled() {
+        ContextManager contextManager = mockContextManager(true);
+        try (MockedConstruction<SchemaSnapshotValidator> mocked = mockConstruction(SchemaSnapshotValidator.class)) {
+            new SchemaSnapshotValidateContextManagerLifecycleListener().onInitialized(contextManager);
+            assertThat(mocked.constructed(), hasSize(1));
+            verify(mocked.constructed().get(0)).validateAsync();
+        }
+    }
+    
+    @Test
+    void assertOnInitializedWithValidationDisabled() {
+        ContextManager contextManager = mockContextManager(false);
+        try (MockedConstruction<SchemaSnapshotValidator> mocked = mockConstruction(SchemaSnapshotValidator.class)) {
+            new SchemaSnapshotValidateContextManagerLifecycleListener().onInitialized(contextManager);
+            assertThat(mocked.constructed(), empty());
+        }
+    }
+    
+    private ContextManager mockContextManager(final boolean validationEnabled) {
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED)).thenReturn(true);
+        when(result.getMetaDataContexts().getMetaData().getTemporaryProps().getValue(TemporaryConfigurationPropertyKey.SCHEMA_SNAPSHOT_VALIDATION_ENABLED)).thenReturn(validationEnabled);
+        return result;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.factory.init.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.exclusive.ExclusiveOperatorEngine;
+import org.apache.shardingsphere.mode.exclusive.callback.ExclusiveOperationVoidCallback;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.manager.database.DatabaseMetaDataManager;
+import org.apache.shardingsphere.mode.metadata.persist.metadata.DatabaseMetaDataPersistFacade;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({GenericSchemaBuilder.class, TableChecksumLoader.class})
+class SchemaSnapshotValidatorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    private DatabaseMetaDataManager databaseMetaDataManager;
+    
+    private DatabaseMetaDataPersistFacade databaseMetaDataPersistFacade;
+    
+    @BeforeEach
+    void setUp() {
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        databaseMetaDataManager = contextManager.getMetaDataContextManager().getDatabaseMetaDataManager();
+        databaseMetaDataPersistFacade = contextManager.getPersistServiceFacade().getMetaDataFacade().getDatabaseMetaDataFacade();
+    }
+    
+    @Test
+    void assertValidateWithoutDatabase() {
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(contextManager.getMetaDataContexts().getMetaData(), never()).getDatabase("foo_db");
+    }
+    
+    @Test
+    void assertValidateWithoutStorageUnits() {
+        mockDatabase(new ShardingSphereDatabase("foo_db", databaseType,
+                new ResourceMetaData(Collections.emptyMap(), Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Collections.emptyList()));
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataPersistFacade, never()).getTable();
+    }
+    
+    @Test
+    void assertValidateWithSameChecksums() throws SQLException {
+        ShardingSphereTable restoredTable = createTable("foo_tbl", "foo_col");
+        mockDatabase(createDatabase(createSchema(restoredTable), "foo_tbl"));
+        when(TableChecksumLoader.load(anyCollection(), any(GenericSchemaBuilderMaterial.class))).thenReturn(Collections.singletonMap("foo_tbl", 1L));
+        when(TableChecksumLoader.calculate(restoredTable)).thenReturn(1L);
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataManager, never()).alterTable(anyString(), anyString(), any(ShardingSphereTable.class));
+        verify(databaseMetaDataPersistFacade, never()).getTable();
+    }
+    
+    @Test
+    void assertValidateWithStaleSnapshot() throws SQLException {
+        ShardingSphereTable droppedTable = createTable("bar_tbl", "bar_col");
+        mockDatabase(createDatabase(createSchema(createTable("foo_tbl", "foo_col"), droppedTable), "foo_tbl", "bar_tbl", "new_tbl"));
+        Map<String, Long> physicalChecksums = new HashMap<>(2, 1F);
+        physicalChecksums.put("foo_tbl", 1L);
+        physicalChecksums.put("new_tbl", 1L);
+        when(TableChecksumLoader.load(anyCollection(), any(GenericSchemaBuilderMaterial.class))).thenReturn(physicalChecksums);
+        ShardingSphereTable alteredTable = createTable("foo_tbl", "new_col");
+        ShardingSphereTable addedTable = createTable("new_tbl", "new_col");
+        when(GenericSchemaBuilder.build(argThat(tableNames -> 3 == tableNames.size()), any(), any(GenericSchemaBuilderMaterial.class)))
+                .thenReturn(Collections.singletonMap("foo_db", createSchema(alteredTable, addedTable)));
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataManager).alterTable("foo_db", "foo_db", alteredTable);
+        verify(databaseMetaDataManager).alterTable("foo_db", "foo_db", addedTable);
+        verify(databaseMetaDataManager).dropTable("foo_db", "foo_db", "bar_tbl");
+        verify(databaseMetaDataPersistFacade.getTable()).persist(eq("foo_db"), eq("foo_db"), argThat(tables -> 2 == tables.size() && tables.contains(alteredTable) && tables.contains(addedTable)));
+        verify(databaseMetaDataPersistFacade.getTable()).drop("foo_db", "foo_db", Collections.singletonList(droppedTable));
+    }
+    
+    @Test
+    void assertValidateWithOrphanTable() throws SQLException {
+        ShardingSphereTable orphanTable = createTable("bar_tbl", "bar_col");
+        mockDatabase(createDatabase(createSchema(orphanTable)));
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataManager).dropTable("foo_db", "foo_db", "bar_tbl");
+        verify(databaseMetaDataPersistFacade.getTable()).drop("foo_db", "foo_db", Collections.singletonList(orphanTable));
+    }
+    
+    @Test
+    void assertValidateWithConcurrentChange() throws SQLException {
+        ShardingSphereSchema liveSchema = createSchema(createTable("foo_tbl", "foo_col"));
+        mockDatabase(createDatabase(liveSchema, "foo_tbl", "bar_tbl"));
+        ShardingSphereTable loadedTable = createTable("foo_tbl", "new_col");
+        ShardingSphereTable addedTable = createTable("bar_tbl", "bar_col");
+        when(GenericSchemaBuilder.build(anyCollection(), any(), any(GenericSchemaBuilderMaterial.class))).thenAnswer(invocation -> {
+            liveSchema.putTable(createTable("foo_tbl", "ddl_col"));
+            return Collections.singletonMap("foo_db", createSchema(loadedTable, addedTable));
+        });
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataManager, never()).alterTable("foo_db", "foo_db", loadedTable);
+        verify(databaseMetaDataManager).alterTable("foo_db", "foo_db", addedTable);
+        verify(databaseMetaDataPersistFacade.getTable()).persist("foo_db", "foo_db", Collections.singletonList(addedTable));
+    }
+    
+    @Test
+    void assertValidateWithNewSchema() throws SQLException {
+        ShardingSphereDatabase database = createDatabase(createSchema(), "bar_tbl");
+        mockDatabase(database);
+        doAnswer(invocation -> {
+            database.addSchema(new ShardingSphereSchema("bar_schema", databaseType));
+            return null;
+        }).when(databaseMetaDataManager).addSchema("foo_db", "bar_schema");
+        ShardingSphereTable newTable = createTable("bar_tbl", "bar_col");
+        ShardingSphereSchema newSchema = new ShardingSphereSchema("bar_schema", databaseType, Collections.singleton(newTable), Collections.emptyList());
+        when(GenericSchemaBuilder.build(anyCollection(), any(), any(GenericSchemaBuilderMaterial.class))).thenReturn(Collections.singletonMap("bar_schema", newSchema));
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataManager).addSchema("foo_db", "bar_schema");
+        verify(databaseMetaDataManager).alterTable("foo_db", "bar_schema", newTable);
+        verify(databaseMetaDataPersistFacade.getSchema()).add("foo_db", "bar_schema");
+        verify(databaseMetaDataPersistFacade.getTable()).persist("foo_db", "bar_schema", Collections.singletonList(newTable));
+    }
+    
+    @Test
+    void assertValidateWithChecksumLoadFailure() throws SQLException {
+        ShardingSphereTable droppedTable = createTable("bar_tbl", "bar_col");
+        mockDatabase(createDatabase(createSchema(createTable("foo_tbl", "foo_col"), droppedTable), "foo_tbl"));
+        when(TableChecksumLoader.load(anyCollection(), any(GenericSchemaBuilderMaterial.class))).thenThrow(SQLException.class);
+        ShardingSphereTable alteredTable = createTable("foo_tbl", "new_col");
+        when(GenericSchemaBuilder.build(eq(Collections.singleton("foo_tbl")), any(), any(GenericSchemaBuilderMaterial.class)))
+                .thenReturn(Collections.singletonMap("foo_db", createSchema(alteredTable)));
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataManager).alterTable("foo_db", "foo_db", alteredTable);
+        verify(databaseMetaDataManager).dropTable("foo_db", "foo_db", "bar_tbl");
+    }
+    
+    @Test
+    void assertValidateWithLoadFailure() throws SQLException {
+        mockDatabase(createDatabase(createSchema(createTable("foo_tbl", "foo_col")), "foo_tbl"));
+        when(GenericSchemaBuilder.build(anyCollection(), any(), any(GenericSchemaBuilderMaterial.class))).thenThrow(SQLException.class);
+        new SchemaSnapshotValidator(contextManager).validate("foo_db");
+        verify(databaseMetaDataManager, never()).dropTable(anyString(), anyString(), anyString());
+        verify(databaseMetaDataPersistFacade, never()).getTable();
+    }
+    
+    @Test
+    void assertValidateAsync() throws SQLException, ExecutionException, InterruptedException, TimeoutException {
+        mockDatabase(new ShardingSphereDatabase("foo_db", databaseType,
+                new ResourceMetaData(Collections.emptyMap(), Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Collections.emptyList()));
+        when(contextManager.getAllDatabaseNames()).thenReturn(Collections.singleton("foo_db"));
+        ExclusiveOperatorEngine exclusiveOperatorEngine = contextManager.getExclusiveOperatorEngine();
+        doAnswer(invocation -> {
+            invocation.getArgument(2, ExclusiveOperationVoidCallback.class).execute();
+            return null;
+        }).when(exclusiveOperatorEngine).operate(any(SchemaSnapshotValidateOperation.class), anyLong(), any(ExclusiveOperationVoidCallback.class));
+        new SchemaSnapshotValidator(contextManager).validateAsync().get(10L, TimeUnit.SECONDS);
+        verify(contextManager.getMetaDataContexts().getMetaData()).getDatabase("foo_db");
+    }
+    
+    @Test
+    void assertValidateAsyncWithoutExclusiveOperation() throws ExecutionException, InterruptedException, TimeoutException {
+        new SchemaSnapshotValidator(contextManager).validateAsync().get(10L, TimeUnit.SECONDS);
+        verify(contextManager, never()).getAllDatabaseNames();
+    }
+    
+    private void mockDatabase(final ShardingSphereDatabase database) {
+        when(contextManager.getMetaDataContexts().getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db")).thenReturn(database);
+    }
+    
+    private ShardingSphereDatabase createDatabase(final ShardingSphereSchema schema, final String... logicTableNames) {
+        ResourceMetaData resourceMetaData = new ResourceMetaData(Collections.emptyMap(), Collections.singletonMap("foo_ds", mock(StorageUnit.class)));
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableNames()).thenReturn(Arrays.asList(logicTableNames));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(ruleAttribute));
+        return new ShardingSphereDatabase("foo_db", databaseType, resourceMetaData, new RuleMetaData(Collections.singleton(rule)), Collections.singleton(schema));
+    }
+    
+    private ShardingSphereSchema createSchema(final ShardingSphereTable... tables) {
+        return new ShardingSphereSchema("foo_db", databaseType, Arrays.asList(tables), Collections.emptyList());
+    }
+    
+    private ShardingSphereTable createTable(final String tableName, final String columnName) {
+        Collection<ShardingSphereColumn> columns = Collections.singleton(new ShardingSphereColumn(columnName, Types.INTEGER, true, false, false, true, false, false));
+        return new ShardingSphereTable(tableName, columns, Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.factory.init.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TableChecksumLoaderTest {
+    
+    @Test
+    void assertLoad() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        Connection connection = dataSource.getConnection();
+        when(connection.getCatalog()).thenReturn("foo_catalog");
+        when(connection.getSchema()).thenReturn("foo_schema");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.getMetaData().getColumns("foo_catalog", "foo_schema", "%", "%")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("FOO_TBL", "foo_tbl", "other_tbl");
+        when(resultSet.getString("COLUMN_NAME")).thenReturn("id", "name", "id");
+        when(resultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR, Types.INTEGER);
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(storageUnit.getDataSource()).thenReturn(dataSource);
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(
+                Collections.singletonMap("foo_ds", storageUnit), Collections.emptyList(), new ConfigurationProperties(new Properties()), "foo_db");
+        Map<String, Long> actual = TableChecksumLoader.load(Arrays.asList("foo_tbl", "bar_tbl"), material);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_tbl"), is(TableChecksumLoader.calculate(createTable("ID", "NAME"))));
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertCalculateWithDifferentColumns() {
+        assertThat(TableChecksumLoader.calculate(createTable("id", "name")), not(TableChecksumLoader.calculate(createTable("id", "new_name"))));
+    }
+    
+    private ShardingSphereTable createTable(final String... columnNames) {
+        return new ShardingSphereTable("foo_tbl", Arrays.asList(new ShardingSphereColumn(columnNames[0], Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn(columnNames[1], Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+    }
+}
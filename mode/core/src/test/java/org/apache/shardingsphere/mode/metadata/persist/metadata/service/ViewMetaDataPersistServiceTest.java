@@ -28,6 +28,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -52,8 +54,10 @@ class ViewMetaDataPersistServiceTest {
     @Test
     void assertLoad() {
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/views")).thenReturn(Collections.singletonList("foo_view"));
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version")).thenReturn("0");
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/0")).thenReturn("{name: foo_view}");
+        when(repository.query(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version", "0"));
+        when(repository.query(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/0")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/0", "{name: foo_view}"));
         Collection<ShardingSphereView> actual = persistService.load("foo_db", "foo_schema");
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next().getName(), is("foo_view"));
@@ -64,8 +68,10 @@ class ViewMetaDataPersistServiceTest {
         ShardingSphereView view = mock(ShardingSphereView.class);
         when(view.getName()).thenReturn("foo_view");
         persistService.persist("foo_db", "foo_schema", Collections.singleton(view));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/0", "name: foo_view" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version", "0");
+        Map<String, String> expected = new LinkedHashMap<>(2, 1F);
+        expected.put("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/0", "name: foo_view" + System.lineSeparator());
+        expected.put("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version", "0");
+        verify(repository).persist(expected);
     }
     
     @Test
@@ -74,8 +80,10 @@ class ViewMetaDataPersistServiceTest {
         ShardingSphereView view = mock(ShardingSphereView.class);
         when(view.getName()).thenReturn("foo_view");
         persistService.persist("foo_db", "foo_schema", Collections.singleton(view));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/11", "name: foo_view" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version", "11");
+        Map<String, String> expected = new LinkedHashMap<>(2, 1F);
+        expected.put("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/11", "name: foo_view" + System.lineSeparator());
+        expected.put("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version", "11");
+        verify(repository).persist(expected);
     }
     
     @Test
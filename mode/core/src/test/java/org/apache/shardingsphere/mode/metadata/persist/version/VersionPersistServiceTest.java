@@ -24,14 +24,20 @@ import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -68,6 +74,38 @@ class VersionPersistServiceTest {
         verify(repository).delete("/foo/versions/2");
     }
     
+    @Test
+    void assertPersistInBatch() {
+        when(repository.getChildrenKeys("/metadata/foo_db/rules/fixture/foo_item/versions")).thenReturn(Collections.emptyList());
+        when(repository.getChildrenKeys("/metadata/foo_db/rules/fixture/bar_item/versions")).thenReturn(Arrays.asList("1", "0"));
+        Map<VersionNodePath, String> contents = new LinkedHashMap<>(2, 1F);
+        contents.put(new VersionNodePath(new DatabaseRuleNodePath("foo_db", "fixture", new DatabaseRuleItem("foo_item"))), "foo_value");
+        contents.put(new VersionNodePath(new DatabaseRuleNodePath("foo_db", "fixture", new DatabaseRuleItem("bar_item"))), "bar_value");
+        persistService.persist(contents);
+        Map<String, String> expected = new LinkedHashMap<>(4, 1F);
+        expected.put("/metadata/foo_db/rules/fixture/foo_item/versions/0", "foo_value");
+        expected.put("/metadata/foo_db/rules/fixture/bar_item/versions/2", "bar_value");
+        expected.put("/metadata/foo_db/rules/fixture/foo_item/active_version", "0");
+        expected.put("/metadata/foo_db/rules/fixture/bar_item/active_version", "2");
+        ArgumentCaptor<Map<String, String>> keyValuesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(repository).persist(keyValuesCaptor.capture());
+        assertThat(new ArrayList<>(keyValuesCaptor.getValue().entrySet()), is(new ArrayList<>(expected.entrySet())));
+        verify(repository, never()).persist(anyString(), anyString());
+        verify(repository).delete("/metadata/foo_db/rules/fixture/bar_item/versions/0");
+        verify(repository).delete("/metadata/foo_db/rules/fixture/bar_item/versions/1");
+    }
+    
+    @Test
+    void assertLoadContents() {
+        VersionNodePath fooVersionNodePath = new VersionNodePath(new DatabaseRuleNodePath("foo_db", "fixture", new DatabaseRuleItem("foo_item")));
+        VersionNodePath barVersionNodePath = new VersionNodePath(new DatabaseRuleNodePath("foo_db", "fixture", new DatabaseRuleItem("bar_item")));
+        when(repository.query(Arrays.asList("/metadata/foo_db/rules/fixture/foo_item/active_version", "/metadata/foo_db/rules/fixture/bar_item/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/rules/fixture/foo_item/active_version", "1"));
+        when(repository.query(Collections.singletonList("/metadata/foo_db/rules/fixture/foo_item/versions/1")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/rules/fixture/foo_item/versions/1", "foo_value"));
+        assertThat(new ArrayList<>(persistService.loadContents(Arrays.asList(fooVersionNodePath, barVersionNodePath))), is(Collections.singletonList("foo_value")));
+    }
+    
     @Test
     void assertLoadContentContent() {
         when(repository.query("/metadata/foo_db/rules/fixture/foo_item/active_version")).thenReturn("1");
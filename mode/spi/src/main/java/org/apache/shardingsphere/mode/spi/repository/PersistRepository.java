@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.spi.repository;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Persist repository.
@@ -39,6 +43,23 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     String query(String key);
     
+    /**
+     * Query values of keys.
+     *
+     * @param keys keys of data
+     * @return values of existed keys, key is data key and value is data value
+     */
+    default Map<String, String> query(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = query(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -63,6 +84,17 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * @param keyValues key and values of data, persisted in iteration order
+     */
+    default void persist(final Map<String, String> keyValues) {
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            persist(entry.getKey(), entry.getValue());
+        }
+    }
+    
     /**
      * Update data.
      *
@@ -36,12 +36,20 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * JDBC repository.
@@ -55,6 +63,12 @@ public final class JDBCRepository implements StandalonePersistRepository {
     
     private HikariDataSource dataSource;
     
+    private final Map<String, String> cachedValues = new ConcurrentHashMap<>();
+    
+    private final Map<String, List<String>> cachedChildrenKeys = new ConcurrentHashMap<>();
+    
+    private final AtomicLong cacheVersion = new AtomicLong();
+    
     @SneakyThrows(SQLException.class)
     @Override
     public void init(final Properties props) {
@@ -74,6 +88,7 @@ public final class JDBCRepository implements StandalonePersistRepository {
             }
             // Finish TODO
         }
+        loadCacheByPrefix(SEPARATOR);
     }
     
     private HikariConfig createHikariConfiguration(final Properties props, final JDBCRepositoryProperties jdbcRepositoryProps) {
@@ -96,13 +111,20 @@ public final class JDBCRepository implements StandalonePersistRepository {
     
     @Override
     public String query(final String key) {
+        String cachedValue = cachedValues.get(key);
+        if (null != cachedValue) {
+            return cachedValue;
+        }
+        long version = cacheVersion.get();
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL())) {
             preparedStatement.setString(1, key);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    return resultSet.getString("value");
+                    String result = resultSet.getString("value");
+                    cacheValue(version, key, result);
+                    return result;
                 }
             }
         } catch (final SQLException ex) {
@@ -111,24 +133,90 @@ public final class JDBCRepository implements StandalonePersistRepository {
         return "";
     }
     
+    @Override
+    public Map<String, String> query(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        Collection<String> uncachedKeys = new LinkedList<>();
+        for (String each : keys) {
+            String cachedValue = cachedValues.get(each);
+            if (null == cachedValue) {
+                uncachedKeys.add(each);
+            } else {
+                result.put(each, cachedValue);
+            }
+        }
+        if (uncachedKeys.isEmpty()) {
+            return result;
+        }
+        long version = cacheVersion.get();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL())) {
+            for (String each : uncachedKeys) {
+                preparedStatement.setString(1, each);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next()) {
+                        String value = resultSet.getString("value");
+                        cacheValue(version, each, value);
+                        result.put(each, value);
+                    }
+                }
+            }
+        } catch (final SQLException ex) {
+            log.error("Get {} data by keys: {} failed", getType(), uncachedKeys, ex);
+        }
+        return result;
+    }
+    
+    private void loadCacheByPrefix(final String prefix) {
+        long version = cacheVersion.get();
+        String childPrefix = prefix.endsWith(SEPARATOR) ? prefix : prefix + SEPARATOR;
+        Map<String, String> result = new LinkedHashMap<>();
+        Map<String, Collection<String>> childrenKeys = new LinkedHashMap<>();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getSelectByPrefixSQL())) {
+            preparedStatement.setString(1, prefix + "%");
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String key = resultSet.getString("key");
+                    if (Strings.isNullOrEmpty(key) || !key.equals(prefix) && !key.startsWith(childPrefix)) {
+                        continue;
+                    }
+                    result.put(key, Strings.nullToEmpty(resultSet.getString("value")));
+                    childrenKeys.computeIfAbsent(resultSet.getString("parent"), unused -> new LinkedList<>()).add(key);
+                }
+            }
+        } catch (final SQLException ex) {
+            log.error("Get {} data by prefix: {} failed", getType(), prefix, ex);
+            return;
+        }
+        // All children of a loaded key start with the key itself, so their children keys are complete and can be cached.
+        for (Entry<String, String> entry : result.entrySet()) {
+            cacheValue(version, entry.getKey(), entry.getValue());
+            cacheChildrenKeys(version, entry.getKey(), toChildrenKeys(childrenKeys.getOrDefault(entry.getKey(), Collections.emptyList())));
+        }
+    }
+    
     @Override
     public List<String> getChildrenKeys(final String key) {
+        List<String> cachedChildren = cachedChildrenKeys.get(key);
+        if (null != cachedChildren) {
+            return new ArrayList<>(cachedChildren);
+        }
+        long version = cacheVersion.get();
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getSelectByParentKeySQL())) {
             preparedStatement.setString(1, key);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                List<String> resultChildren = new LinkedList<>();
+                Collection<String> childrenKeys = new LinkedList<>();
                 while (resultSet.next()) {
-                    String childrenKey = resultSet.getString("key");
-                    if (Strings.isNullOrEmpty(childrenKey)) {
-                        continue;
-                    }
-                    int lastIndexOf = childrenKey.lastIndexOf(SEPARATOR);
-                    resultChildren.add(childrenKey.substring(lastIndexOf + 1));
+                    childrenKeys.add(resultSet.getString("key"));
                 }
-                resultChildren.sort(Comparator.reverseOrder());
-                return new ArrayList<>(resultChildren);
+                List<String> result = toChildrenKeys(childrenKeys);
+                cacheChildrenKeys(version, key, result);
+                return new ArrayList<>(result);
             }
         } catch (final SQLException ex) {
             log.error("Get children {} data by key: {} failed", getType(), key, ex);
@@ -136,8 +224,24 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    private List<String> toChildrenKeys(final Collection<String> childrenKeys) {
+        List<String> result = new LinkedList<>();
+        for (String each : childrenKeys) {
+            if (Strings.isNullOrEmpty(each)) {
+                continue;
+            }
+            int lastIndexOf = each.lastIndexOf(SEPARATOR);
+            result.add(each.substring(lastIndexOf + 1));
+        }
+        result.sort(Comparator.reverseOrder());
+        return new ArrayList<>(result);
+    }
+    
     @Override
     public boolean isExisted(final String key) {
+        if (cachedValues.containsKey(key)) {
+            return true;
+        }
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL())) {
@@ -176,6 +280,82 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    @Override
+    public void persist(final Map<String, String> keyValues) {
+        if (keyValues.isEmpty()) {
+            return;
+        }
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement selectStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL());
+                PreparedStatement insertStatement = connection.prepareStatement(repositorySQL.getInsertSQL());
+                PreparedStatement updateStatement = connection.prepareStatement(repositorySQL.getUpdateSQL())) {
+            Collection<String> existedKeys = new HashSet<>();
+            Map<String, String> insertedParents = new LinkedHashMap<>();
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                if (isExistedWithStatement(selectStatement, existedKeys, entry.getKey())) {
+                    addUpdateBatch(updateStatement, entry.getKey(), entry.getValue());
+                    continue;
+                }
+                String parent = SEPARATOR;
+                String[] paths = Arrays.stream(entry.getKey().split(SEPARATOR)).filter(each -> !Strings.isNullOrEmpty(each)).toArray(String[]::new);
+                for (int i = 0; i < paths.length - 1; i++) {
+                    String tempKey = (SEPARATOR.equals(parent) ? "" : parent) + SEPARATOR + paths[i];
+                    if (!isExistedWithStatement(selectStatement, existedKeys, tempKey)) {
+                        addInsertBatch(insertStatement, tempKey, "", parent);
+                        existedKeys.add(tempKey);
+                        insertedParents.put(tempKey, parent);
+                    }
+                    parent = tempKey;
+                }
+                addInsertBatch(insertStatement, entry.getKey(), entry.getValue(), parent);
+                existedKeys.add(entry.getKey());
+                insertedParents.put(entry.getKey(), parent);
+            }
+            insertStatement.executeBatch();
+            updateStatement.executeBatch();
+            for (Entry<String, String> entry : insertedParents.entrySet()) {
+                invalidateCache(entry.getKey(), entry.getValue());
+            }
+            for (String each : keyValues.keySet()) {
+                invalidateCache(each, null);
+            }
+        } catch (final SQLException ex) {
+            log.error("Persist {} data to keys: {} failed", getType(), keyValues.keySet(), ex);
+            cacheVersion.incrementAndGet();
+            cachedValues.clear();
+            cachedChildrenKeys.clear();
+        }
+    }
+    
+    private boolean isExistedWithStatement(final PreparedStatement selectStatement, final Collection<String> existedKeys, final String key) throws SQLException {
+        if (existedKeys.contains(key) || cachedValues.containsKey(key)) {
+            return true;
+        }
+        selectStatement.setString(1, key);
+        try (ResultSet resultSet = selectStatement.executeQuery()) {
+            if (resultSet.next()) {
+                existedKeys.add(key);
+                return true;
+            }
+            return false;
+        }
+    }
+    
+    private void addInsertBatch(final PreparedStatement insertStatement, final String key, final String value, final String parent) throws SQLException {
+        insertStatement.setString(1, UUID.randomUUID().toString());
+        insertStatement.setString(2, key);
+        insertStatement.setString(3, value);
+        insertStatement.setString(4, parent);
+        insertStatement.addBatch();
+    }
+    
+    private void addUpdateBatch(final PreparedStatement updateStatement, final String key, final String value) throws SQLException {
+        updateStatement.setString(1, value);
+        updateStatement.setString(2, key);
+        updateStatement.addBatch();
+    }
+    
     private void insert(final String key, final String value, final String parent) throws SQLException {
         try (
                 Connection connection = dataSource.getConnection();
@@ -185,6 +365,8 @@ public final class JDBCRepository implements StandalonePersistRepository {
             preparedStatement.setString(3, value);
             preparedStatement.setString(4, parent);
             preparedStatement.executeUpdate();
+        } finally {
+            invalidateCache(key, parent);
         }
     }
     
@@ -198,6 +380,8 @@ public final class JDBCRepository implements StandalonePersistRepository {
             preparedStatement.executeUpdate();
         } catch (final SQLException ex) {
             log.error("Update {} data to key: {} failed", getType(), key, ex);
+        } finally {
+            invalidateCache(key, null);
         }
     }
     
@@ -220,11 +404,51 @@ public final class JDBCRepository implements StandalonePersistRepository {
             preparedStatement.executeUpdate();
         } catch (final SQLException ex) {
             log.error("Delete {} data by key: {} failed", getType(), key, ex);
+        } finally {
+            cacheVersion.incrementAndGet();
+            String parent = getParentKey(key);
+            cachedValues.keySet().removeIf(each -> each.startsWith(key));
+            cachedChildrenKeys.keySet().removeIf(each -> each.startsWith(key) || each.equals(parent));
         }
     }
     
+    private String getParentKey(final String key) {
+        int lastIndexOf = key.lastIndexOf(SEPARATOR);
+        return lastIndexOf > 0 ? key.substring(0, lastIndexOf) : SEPARATOR;
+    }
+    
+    private void cacheValue(final long version, final String key, final String value) {
+        if (null == value || version != cacheVersion.get()) {
+            return;
+        }
+        cachedValues.putIfAbsent(key, value);
+        // Writers bump the version before evicting, so a value loaded before a concurrent write is dropped here if the eviction ran ahead of the put.
+        if (version != cacheVersion.get()) {
+            cachedValues.remove(key, value);
+        }
+    }
+    
+    private void cacheChildrenKeys(final long version, final String key, final List<String> childrenKeys) {
+        if (version != cacheVersion.get()) {
+            return;
+        }
+        List<String> value = Collections.unmodifiableList(childrenKeys);
+        cachedChildrenKeys.putIfAbsent(key, value);
+        if (version != cacheVersion.get()) {
+            cachedChildrenKeys.remove(key, value);
+        }
+    }
+    
+    private void invalidateCache(final String key, final String parent) {
+        cacheVersion.incrementAndGet();
+        cachedValues.remove(key);
+        Optional.ofNullable(parent).ifPresent(cachedChildrenKeys::remove);
+    }
+    
     @Override
     public void close() {
+        cachedValues.clear();
+        cachedChildrenKeys.clear();
         dataSource.close();
     }
     
@@ -56,6 +56,10 @@ public final class JDBCRepositorySQL {
     @JacksonXmlProperty(localName = "select-by-parent")
     private String selectByParentKeySQL;
     
+    @JsonProperty(required = true)
+    @JacksonXmlProperty(localName = "select-by-prefix")
+    private String selectByPrefixSQL;
+    
     @JsonProperty(required = true)
     @JacksonXmlProperty(localName = "insert")
     private String insertSQL;
@@ -35,7 +35,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -67,9 +71,15 @@ class JDBCRepositoryTest {
     @Mock
     private PreparedStatement mockPreparedStatementForPersist;
     
+    @Mock
+    private PreparedStatement mockPreparedStatementForPrefix;
+    
     @Mock
     private ResultSet mockResultSet;
     
+    @Mock
+    private ResultSet mockResultSetForPrefix;
+    
     private MockedConstruction<HikariDataSource> mockedConstruction;
     
     private JDBCRepository repository;
@@ -78,14 +88,19 @@ class JDBCRepositoryTest {
     void setup() throws SQLException {
         mockedConstruction = mockConstruction(HikariDataSource.class, (mock, context) -> when(mock.getConnection()).thenReturn(mockJdbcConnection));
         when(mockJdbcConnection.createStatement()).thenReturn(mockStatement);
+        repositorySQL = JDBCRepositorySQLLoader.load("H2");
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByPrefixSQL())).thenReturn(mockPreparedStatementForPrefix);
+        when(mockPreparedStatementForPrefix.executeQuery()).thenReturn(mockResultSetForPrefix);
         repository = new JDBCRepository();
-        Properties props = PropertiesBuilder.build(
+        repository.init(createProperties());
+    }
+    
+    private Properties createProperties() {
+        return PropertiesBuilder.build(
                 new Property("jdbc_url", "jdbc:h2:mem:config;DB_CLOSE_DELAY=0;DATABASE_TO_UPPER=false;MODE=MYSQL"),
                 new Property("username", "sa"),
                 new Property("password", ""),
                 new Property("provider", "H2"));
-        repository.init(props);
-        repositorySQL = JDBCRepositorySQLLoader.load("H2");
     }
     
     @AfterEach
@@ -96,6 +111,7 @@ class JDBCRepositoryTest {
     @Test
     void assertInit() throws SQLException {
         verify(mockStatement).execute(repositorySQL.getCreateTableSQL());
+        verify(mockPreparedStatementForPrefix).setString(1, "/%");
     }
     
     @Test
@@ -111,6 +127,74 @@ class JDBCRepositoryTest {
         assertThat(actual, is(value));
     }
     
+    @Test
+    void assertQueryWithCache() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getString("value")).thenReturn("value");
+        assertThat(repository.query("key"), is("value"));
+        assertThat(repository.query("key"), is("value"));
+        assertTrue(repository.isExisted("key"));
+        verify(mockPreparedStatement).executeQuery();
+    }
+    
+    @Test
+    void assertQueryAfterUpdate() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getUpdateSQL())).thenReturn(mockPreparedStatementForPersist);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getString("value")).thenReturn("value", "new_value");
+        assertThat(repository.query("key"), is("value"));
+        repository.update("key", "new_value");
+        assertThat(repository.query("key"), is("new_value"));
+        verify(mockPreparedStatement, times(2)).executeQuery();
+    }
+    
+    @Test
+    void assertQueryAfterDelete() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getDeleteSQL())).thenReturn(mockPreparedStatementForPersist);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getString("value")).thenReturn("value");
+        assertThat(repository.query("/parent/child"), is("value"));
+        repository.delete("/parent");
+        assertThat(repository.query("/parent/child"), is(""));
+    }
+    
+    @Test
+    void assertQueryWithKeys() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getString("value")).thenReturn("value1");
+        Map<String, String> actual = repository.query(Arrays.asList("key1", "key2"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("key1"), is("value1"));
+        verify(mockJdbcConnection).prepareStatement(repositorySQL.getSelectByKeySQL());
+        verify(mockPreparedStatement).setString(1, "key1");
+        verify(mockPreparedStatement).setString(1, "key2");
+    }
+    
+    @Test
+    void assertInitWithCache() throws SQLException {
+        when(mockResultSetForPrefix.next()).thenReturn(true, true, true, true, false);
+        when(mockResultSetForPrefix.getString("key")).thenReturn("/parent", "/parent/child1", "/parent/child2", "/parent_other");
+        when(mockResultSetForPrefix.getString("value")).thenReturn("", "value1", "value2", "other");
+        when(mockResultSetForPrefix.getString("parent")).thenReturn("/", "/parent", "/parent", "/");
+        JDBCRepository actual = new JDBCRepository();
+        actual.init(createProperties());
+        assertThat(actual.query("/parent/child1"), is("value1"));
+        assertThat(actual.query("/parent_other"), is("other"));
+        assertTrue(actual.isExisted("/parent/child2"));
+        assertThat(actual.getChildrenKeys("/parent"), is(Arrays.asList("child2", "child1")));
+        assertTrue(actual.getChildrenKeys("/parent/child1").isEmpty());
+        verify(mockJdbcConnection, never()).prepareStatement(repositorySQL.getSelectByKeySQL());
+        verify(mockJdbcConnection, never()).prepareStatement(repositorySQL.getSelectByParentKeySQL());
+    }
+    
     @Test
     void assertQueryWithoutValue() throws SQLException {
         when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
@@ -157,6 +241,21 @@ class JDBCRepositoryTest {
         assertTrue(actual.contains("test2"));
     }
     
+    @Test
+    void assertGetChildrenKeysWithCache() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByParentKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatementForPrefix);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getInsertSQL())).thenReturn(mockPreparedStatementForPersist);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false, true, true, false);
+        when(mockResultSet.getString("key")).thenReturn("/parent/test1", "/parent/test1", "/parent/test2");
+        assertThat(repository.getChildrenKeys("/parent"), is(Collections.singletonList("test1")));
+        assertThat(repository.getChildrenKeys("/parent"), is(Collections.singletonList("test1")));
+        repository.persist("/parent/test2", "value");
+        assertThat(repository.getChildrenKeys("/parent"), is(Arrays.asList("test2", "test1")));
+        verify(mockPreparedStatement, times(2)).executeQuery();
+    }
+    
     @Test
     void assertPersistAndGetChildrenKeysFailed() throws SQLException {
         when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByParentKeySQL())).thenReturn(mockPreparedStatement);
@@ -250,6 +349,32 @@ class JDBCRepositoryTest {
         verify(mockPreparedStatementForPersist, never()).executeUpdate();
     }
     
+    @Test
+    void assertPersistWithKeyValues() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getInsertSQL())).thenReturn(mockPreparedStatementForPersist);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getUpdateSQL())).thenReturn(mockPreparedStatementForPrefix);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false, false);
+        Map<String, String> keyValues = new LinkedHashMap<>(3, 1F);
+        keyValues.put("/existed", "existed_value");
+        keyValues.put("/parent/child1", "value1");
+        keyValues.put("/parent/child2", "value2");
+        repository.persist(keyValues);
+        verify(mockJdbcConnection).prepareStatement(repositorySQL.getSelectByKeySQL());
+        verify(mockPreparedStatementForPrefix).setString(1, "existed_value");
+        verify(mockPreparedStatementForPrefix).setString(2, "/existed");
+        verify(mockPreparedStatementForPrefix).addBatch();
+        verify(mockPreparedStatementForPrefix).executeBatch();
+        verify(mockPreparedStatementForPersist).setString(2, "/parent");
+        verify(mockPreparedStatementForPersist).setString(3, "");
+        verify(mockPreparedStatementForPersist).setString(2, "/parent/child1");
+        verify(mockPreparedStatementForPersist).setString(2, "/parent/child2");
+        verify(mockPreparedStatementForPersist, times(2)).setString(4, "/parent");
+        verify(mockPreparedStatementForPersist, times(3)).addBatch();
+        verify(mockPreparedStatementForPersist).executeBatch();
+    }
+    
     @Test
     void assertUpdate() throws SQLException {
         String key = "key";
@@ -22,8 +22,12 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.engine.core.database.cache.ParseTreeCacheBuilder;
+import org.apache.shardingsphere.sql.parser.engine.core.database.cache.SQLShapeCache;
 import org.apache.shardingsphere.sql.parser.engine.core.database.parser.SQLParserExecutor;
 
+import java.util.Optional;
+import java.util.function.Function;
+
 /**
  * SQL parser engine.
  */
@@ -33,9 +37,19 @@ public final class SQLParserEngine {
     
     private final LoadingCache<String, ParseASTNode> parseTreeCache;
     
+    private final DatabaseType databaseType;
+    
+    private volatile SQLShapeCache sqlShapeCache;
+    
     public SQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption) {
+        this(databaseType, cacheOption, null);
+    }
+    
+    public SQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption, final CacheOption sqlShapeCacheOption) {
         sqlParserExecutor = new SQLParserExecutor(databaseType);
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType);
+        this.databaseType = databaseType;
+        sqlShapeCache = null == sqlShapeCacheOption ? null : new SQLShapeCache(databaseType, sqlShapeCacheOption);
     }
     
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption) {
@@ -51,6 +65,30 @@ public final class SQLParserEngine {
         parseTreeCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(cacheOption.getMaximumSize()));
     }
     
+    /**
+     * Update SQL shape cache option.
+     *
+     * @param sqlShapeCacheOption SQL shape cache option, null means disable SQL shape cache
+     */
+    public synchronized void updateSQLShapeCacheOption(final CacheOption sqlShapeCacheOption) {
+        if (null == sqlShapeCacheOption) {
+            sqlShapeCache = null;
+        } else if (null == sqlShapeCache) {
+            sqlShapeCache = new SQLShapeCache(databaseType, sqlShapeCacheOption);
+        } else {
+            sqlShapeCache.updateCacheOption(sqlShapeCacheOption);
+        }
+    }
+    
+    /**
+     * Get SQL shape cache.
+     *
+     * @return SQL shape cache, empty if SQL shape cache is disabled
+     */
+    public Optional<SQLShapeCache> getSQLShapeCache() {
+        return Optional.ofNullable(sqlShapeCache);
+    }
+    
     /**
      * Parse SQL.
      *
@@ -61,4 +99,19 @@ public final class SQLParserEngine {
     public ParseASTNode parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL and visit parse AST node.
+     *
+     * <p>SQL shape cache is used if enabled, so the parse AST node must not be held after visited.</p>
+     *
+     * @param sql SQL to be parsed
+     * @param visitor visitor of parse AST node
+     * @param <T> type of visited result
+     * @return visited result
+     */
+    public <T> T parse(final String sql, final Function<ParseASTNode, T> visitor) {
+        SQLShapeCache currentSQLShapeCache = sqlShapeCache;
+        return null == currentSQLShapeCache ? visitor.apply(sqlParserExecutor.parse(sql)) : currentSQLShapeCache.parse(sql, visitor);
+    }
 }
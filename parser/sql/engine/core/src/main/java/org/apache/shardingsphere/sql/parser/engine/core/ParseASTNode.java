@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.engine.core;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Token;
@@ -32,8 +33,10 @@ import java.util.LinkedList;
 @RequiredArgsConstructor
 public final class ParseASTNode implements ASTNode {
     
+    @Getter
     private final ParseTree parseTree;
     
+    @Getter
     private final CommonTokenStream tokenStream;
     
     /**
@@ -49,19 +49,33 @@ public final class SQLParserFactory {
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return newInstance(createTokenStream(sql, lexerClass), parserClass);
     }
     
+    /**
+     * Create new instance of SQL parser with lexed token stream.
+     *
+     * @param tokenStream token stream
+     * @param parserClass parser class
+     * @return created instance
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+    public static SQLParser newInstance(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
         ((Parser) result).setErrorHandler(new BailErrorStrategy());
         ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
         return result;
     }
     
+    /**
+     * Create token stream.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @return created token stream
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
+    public static CommonTokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
         Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
         lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
         return new CommonTokenStream(lexer);
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.cache;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Parse tree template.
+ *
+ * <p>The parse tree of ANTLR only depends on the types of default channel tokens, so a parsed tree can be reused for another SQL with the same token types
+ * by binding terminal nodes, rule context boundaries and token labels to the tokens of that SQL.</p>
+ */
+final class ParseTreeTemplate {
+    
+    private static final Map<Class<?>, Collection<Field>> TOKEN_LABEL_FIELDS = new ConcurrentHashMap<>();
+    
+    private final ParseTree parseTree;
+    
+    private final Collection<Consumer<List<Token>>> tokenBindings = new ArrayList<>();
+    
+    @Getter
+    private boolean rebindable = true;
+    
+    ParseTreeTemplate(final ParseASTNode parseASTNode) {
+        parseTree = parseASTNode.getParseTree();
+        collectTokenBindings(parseTree, getDefaultChannelOrdinals(parseASTNode.getTokenStream()));
+    }
+    
+    private int[] getDefaultChannelOrdinals(final CommonTokenStream tokenStream) {
+        List<Token> tokens = tokenStream.getTokens();
+        int[] result = new int[tokens.size()];
+        int ordinal = 0;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Token.DEFAULT_CHANNEL == tokens.get(i).getChannel() ? ordinal++ : -1;
+        }
+        return result;
+    }
+    
+    private void collectTokenBindings(final ParseTree node, final int[] ordinals) {
+        if (node instanceof TerminalNodeImpl) {
+            TerminalNodeImpl terminalNode = (TerminalNodeImpl) node;
+            int ordinal = getOrdinal(terminalNode.getSymbol(), ordinals);
+            tokenBindings.add(tokens -> terminalNode.symbol = tokens.get(ordinal));
+            return;
+        }
+        if (!(node instanceof ParserRuleContext)) {
+            rebindable = false;
+            return;
+        }
+        collectRuleContextTokenBindings((ParserRuleContext) node, ordinals);
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectTokenBindings(node.getChild(i), ordinals);
+        }
+    }
+    
+    private void collectRuleContextTokenBindings(final ParserRuleContext ruleContext, final int[] ordinals) {
+        if (null != ruleContext.start) {
+            int startOrdinal = getOrdinal(ruleContext.start, ordinals);
+            tokenBindings.add(tokens -> ruleContext.start = tokens.get(startOrdinal));
+        }
+        if (null != ruleContext.stop) {
+            int stopOrdinal = getOrdinal(ruleContext.stop, ordinals);
+            tokenBindings.add(tokens -> ruleContext.stop = tokens.get(stopOrdinal));
+        }
+        for (Field each : TOKEN_LABEL_FIELDS.computeIfAbsent(ruleContext.getClass(), this::findTokenLabelFields)) {
+            collectTokenLabelBindings(ruleContext, each, ordinals);
+        }
+    }
+    
+    private Collection<Field> findTokenLabelFields(final Class<?> ruleContextClass) {
+        return Arrays.stream(ruleContextClass.getFields())
+                .filter(each -> ParserRuleContext.class != each.getDeclaringClass() && !Modifier.isStatic(each.getModifiers()) && (isTokenField(each) || isTokenListField(each)))
+                .collect(Collectors.toList());
+    }
+    
+    private boolean isTokenField(final Field field) {
+        return Token.class == field.getType();
+    }
+    
+    private boolean isTokenListField(final Field field) {
+        return List.class == field.getType() && field.getGenericType() instanceof ParameterizedType
+                && Token.class == ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(IllegalAccessException.class)
+    private void collectTokenLabelBindings(final ParserRuleContext ruleContext, final Field field, final int[] ordinals) {
+        Object value = field.get(ruleContext);
+        if (value instanceof Token) {
+            int ordinal = getOrdinal((Token) value, ordinals);
+            tokenBindings.add(tokens -> setTokenLabel(ruleContext, field, tokens.get(ordinal)));
+        } else if (value instanceof List) {
+            List<Token> labels = (List<Token>) value;
+            for (int i = 0; i < labels.size(); i++) {
+                int index = i;
+                int ordinal = getOrdinal(labels.get(i), ordinals);
+                tokenBindings.add(tokens -> labels.set(index, tokens.get(ordinal)));
+            }
+        }
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private void setTokenLabel(final ParserRuleContext ruleContext, final Field field, final Token token) {
+        field.set(ruleContext, token);
+    }
+    
+    private int getOrdinal(final Token token, final int[] ordinals) {
+        int tokenIndex = token.getTokenIndex();
+        int result = tokenIndex >= 0 && tokenIndex < ordinals.length ? ordinals[tokenIndex] : -1;
+        if (result < 0) {
+            rebindable = false;
+        }
+        return result;
+    }
+    
+    /**
+     * Bind parse tree to tokens of another SQL with the same shape.
+     *
+     * @param defaultChannelTokens default channel tokens of SQL
+     * @param tokenStream token stream of SQL
+     * @return parse AST node
+     */
+    ParseASTNode bind(final List<Token> defaultChannelTokens, final CommonTokenStream tokenStream) {
+        for (Consumer<List<Token>> each : tokenBindings) {
+            each.accept(defaultChannelTokens);
+        }
+        return new ParseASTNode(parseTree, tokenStream);
+    }
+}
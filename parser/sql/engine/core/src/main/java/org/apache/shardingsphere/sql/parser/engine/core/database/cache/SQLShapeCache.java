@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.engine.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.engine.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * SQL shape cache.
+ *
+ * <p>SQL shape is the sequence of default channel token types, so SQL only differ in literal values, whitespaces or comments share the same shape.
+ * The parse tree of a shape is parsed only once, and reused by binding it to the tokens of every later SQL with the same shape.
+ * SQL with literals which change the structure of statement (such as different count of values) produce different shapes and are parsed as usual.</p>
+ */
+public final class SQLShapeCache {
+    
+    private static final int MAX_TEMPLATES_PER_SHAPE = 16;
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Cache<String, Queue<ParseTreeTemplate>> templates;
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    public SQLShapeCache(final DatabaseType databaseType, final CacheOption cacheOption) {
+        lexerClass = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType).getLexerClass();
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        templates = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build();
+    }
+    
+    /**
+     * Update cache option.
+     *
+     * @param cacheOption cache option
+     */
+    public void updateCacheOption(final CacheOption cacheOption) {
+        templates.policy().eviction().ifPresent(eviction -> eviction.setMaximum(cacheOption.getMaximumSize()));
+    }
+    
+    /**
+     * Parse SQL and visit parse AST node.
+     *
+     * <p>The parse AST node is only valid in visitor, because its parse tree will be reused by other SQL after visited.</p>
+     *
+     * @param sql SQL to be parsed
+     * @param visitor visitor of parse AST node
+     * @param <T> type of visited result
+     * @return visited result
+     */
+    public <T> T parse(final String sql, final Function<ParseASTNode, T> visitor) {
+        CommonTokenStream tokenStream = SQLParserFactory.createTokenStream(sql, lexerClass);
+        tokenStream.fill();
+        List<Token> defaultChannelTokens = getDefaultChannelTokens(tokenStream);
+        String shape = getShape(defaultChannelTokens);
+        Queue<ParseTreeTemplate> pooledTemplates = templates.getIfPresent(shape);
+        ParseTreeTemplate template = null == pooledTemplates ? null : pooledTemplates.poll();
+        ParseASTNode parseASTNode;
+        if (null == template) {
+            missCount.increment();
+            parseASTNode = sqlParserExecutor.parse(sql, tokenStream);
+            template = new ParseTreeTemplate(parseASTNode);
+        } else {
+            hitCount.increment();
+            parseASTNode = template.bind(defaultChannelTokens, tokenStream);
+        }
+        try {
+            return visitor.apply(parseASTNode);
+        } finally {
+            release(shape, template);
+        }
+    }
+    
+    private List<Token> getDefaultChannelTokens(final CommonTokenStream tokenStream) {
+        List<Token> result = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private String getShape(final List<Token> defaultChannelTokens) {
+        char[] result = new char[defaultChannelTokens.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (char) defaultChannelTokens.get(i).getType();
+        }
+        return new String(result);
+    }
+    
+    private void release(final String shape, final ParseTreeTemplate template) {
+        if (!template.isRebindable()) {
+            return;
+        }
+        Queue<ParseTreeTemplate> pooledTemplates = templates.get(shape, key -> new ConcurrentLinkedQueue<>());
+        if (pooledTemplates.size() < MAX_TEMPLATES_PER_SHAPE) {
+            pooledTemplates.offer(template);
+        }
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sql.parser.engine.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
@@ -46,16 +47,27 @@ public final class SQLParserExecutor {
      * @throws SQLParsingException SQL parsing exception
      */
     public ParseASTNode parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        return parse(sql, SQLParserFactory.createTokenStream(sql, getSQLParserFacade().getLexerClass()));
+    }
+    
+    /**
+     * Parse SQL with lexed token stream.
+     *
+     * @param sql SQL to be parsed
+     * @param tokenStream token stream lexed from SQL
+     * @return parse AST node
+     * @throws SQLParsingException SQL parsing exception
+     */
+    public ParseASTNode parse(final String sql, final CommonTokenStream tokenStream) {
+        ParseASTNode result = twoPhaseParse(sql, tokenStream);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException(sql);
         }
         return result;
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+    private ParseASTNode twoPhaseParse(final String sql, final CommonTokenStream tokenStream) {
+        SQLParser sqlParser = SQLParserFactory.newInstance(tokenStream, getSQLParserFacade().getParserClass());
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -71,4 +83,8 @@ public final class SQLParserExecutor {
             }
         }
     }
+    
+    private DialectSQLParserFacade getSQLParserFacade() {
+        return DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+    }
 }
@@ -20,9 +20,15 @@ package org.apache.shardingsphere.sql.parser.engine.api;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.engine.core.database.cache.SQLShapeCache;
 import org.apache.shardingsphere.sql.parser.engine.core.database.parser.SQLParserExecutor;
 import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,4 +48,27 @@ class SQLParserEngineTest {
         sqlParserExecutor.parse("");
         verify(sqlParserExecutor, times(2)).parse("");
     }
+    
+    @Test
+    void assertParseWithVisitorWithoutSQLShapeCache() throws ReflectiveOperationException {
+        SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class);
+        ParseASTNode parseASTNode = mock(ParseASTNode.class);
+        when(sqlParserExecutor.parse("")).thenReturn(parseASTNode);
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("FIXTURE", new CacheOption(128, 1024L));
+        Plugins.getMemberAccessor().set(SQLParserEngine.class.getDeclaredField("sqlParserExecutor"), sqlParserEngine, sqlParserExecutor);
+        assertFalse(sqlParserEngine.getSQLShapeCache().isPresent());
+        assertThat(sqlParserEngine.parse("", node -> node), is(parseASTNode));
+    }
+    
+    @Test
+    void assertUpdateSQLShapeCacheOption() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("FIXTURE", new CacheOption(128, 1024L));
+        sqlParserEngine.updateSQLShapeCacheOption(new CacheOption(128, 1024L));
+        assertTrue(sqlParserEngine.getSQLShapeCache().isPresent());
+        SQLShapeCache sqlShapeCache = sqlParserEngine.getSQLShapeCache().get();
+        sqlParserEngine.updateSQLShapeCacheOption(new CacheOption(128, 2048L));
+        assertThat(sqlParserEngine.getSQLShapeCache().get(), is(sqlShapeCache));
+        sqlParserEngine.updateSQLShapeCacheOption(null);
+        assertFalse(sqlParserEngine.getSQLShapeCache().isPresent());
+    }
 }
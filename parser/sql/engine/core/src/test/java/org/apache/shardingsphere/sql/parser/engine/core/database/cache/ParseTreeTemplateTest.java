@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.cache;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.engine.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.engine.fixture.LexerFixture;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParseTreeTemplateTest {
+    
+    @Test
+    void assertBind() {
+        ParseASTNode parseASTNode = createParseASTNode(createTokenStream("SELECT 1 FROM t"));
+        ParseTreeTemplate template = new ParseTreeTemplate(parseASTNode);
+        assertTrue(template.isRebindable());
+        CommonTokenStream tokenStream = createTokenStream("SELECT   100 FROM   orders");
+        ParseASTNode actual = template.bind(getDefaultChannelTokens(tokenStream), tokenStream);
+        assertThat(actual.getTokenStream(), is(tokenStream));
+        LabelContext actualContext = (LabelContext) actual.getRootNode();
+        assertThat(actualContext.getText(), is("SELECT100FROMorders"));
+        assertThat(actualContext.start.getStartIndex(), is(0));
+        assertThat(actualContext.stop.getStopIndex(), is(25));
+        assertThat(actualContext.value.getText(), is("100"));
+        assertThat(actualContext.value.getStartIndex(), is(9));
+        assertThat(actualContext.names.get(0).getText(), is("orders"));
+        assertThat(((TerminalNode) actualContext.getChild(3)).getSymbol().getStartIndex(), is(20));
+    }
+    
+    @Test
+    void assertBindRepeatedly() {
+        ParseTreeTemplate template = new ParseTreeTemplate(createParseASTNode(createTokenStream("SELECT 1 FROM t")));
+        CommonTokenStream firstTokenStream = createTokenStream("SELECT 2 FROM users");
+        template.bind(getDefaultChannelTokens(firstTokenStream), firstTokenStream);
+        CommonTokenStream secondTokenStream = createTokenStream("SELECT 3 FROM orders");
+        LabelContext actual = (LabelContext) template.bind(getDefaultChannelTokens(secondTokenStream), secondTokenStream).getRootNode();
+        assertThat(actual.getText(), is("SELECT3FROMorders"));
+        assertThat(actual.value.getText(), is("3"));
+    }
+    
+    @Test
+    void assertNotRebindableWithTokenOutOfStream() {
+        CommonTokenStream tokenStream = createTokenStream("SELECT 1 FROM t");
+        ParseASTNode parseASTNode = createParseASTNode(tokenStream);
+        ((LabelContext) parseASTNode.getRootNode()).value = new CommonToken(LexerFixture.NUMBER, "1");
+        assertFalse(new ParseTreeTemplate(parseASTNode).isRebindable());
+    }
+    
+    private CommonTokenStream createTokenStream(final String sql) {
+        CommonTokenStream result = SQLParserFactory.createTokenStream(sql, LexerFixture.class);
+        result.fill();
+        return result;
+    }
+    
+    private List<Token> getDefaultChannelTokens(final CommonTokenStream tokenStream) {
+        List<Token> result = new ArrayList<>();
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private ParseASTNode createParseASTNode(final CommonTokenStream tokenStream) {
+        List<Token> tokens = getDefaultChannelTokens(tokenStream);
+        ParserRuleContext root = new ParserRuleContext();
+        LabelContext labelContext = new LabelContext(root);
+        for (int i = 0; i < tokens.size() - 1; i++) {
+            labelContext.addChild(new TerminalNodeImpl(tokens.get(i)));
+        }
+        labelContext.start = tokens.get(0);
+        labelContext.stop = tokens.get(tokens.size() - 2);
+        labelContext.value = tokens.get(1);
+        labelContext.names.add(tokens.get(3));
+        root.addChild(labelContext);
+        root.addChild(new TerminalNodeImpl(tokens.get(tokens.size() - 1)));
+        root.start = tokens.get(0);
+        root.stop = tokens.get(tokens.size() - 1);
+        return new ParseASTNode(root, tokenStream);
+    }
+    
+    public static final class LabelContext extends ParserRuleContext {
+        
+        // CHECKSTYLE:OFF
+        public Token value;
+        
+        public List<Token> names = new ArrayList<>();
+        // CHECKSTYLE:ON
+        
+        LabelContext(final ParserRuleContext parent) {
+            super(parent, 0);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.cache;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.engine.core.database.parser.SQLParserExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLShapeCacheTest {
+    
+    private final SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class);
+    
+    private SQLShapeCache sqlShapeCache;
+    
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        sqlShapeCache = new SQLShapeCache(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), new CacheOption(128, 1024L));
+        Plugins.getMemberAccessor().set(SQLShapeCache.class.getDeclaredField("sqlParserExecutor"), sqlShapeCache, sqlParserExecutor);
+        when(sqlParserExecutor.parse(anyString(), any(CommonTokenStream.class))).thenAnswer(invocation -> createParseASTNode(invocation.getArgument(1)));
+    }
+    
+    @Test
+    void assertParseWithSameShape() {
+        assertThat(sqlShapeCache.parse("SELECT name FROM t WHERE id = 1", this::getTerminals), is(Arrays.asList("SELECT@0", "name@7", "FROM@12", "t@17", "WHERE@19", "id@25", "=@28", "1@30")));
+        assertThat(sqlShapeCache.parse("SELECT  name FROM t WHERE id = 12345 ", this::getTerminals),
+                is(Arrays.asList("SELECT@0", "name@8", "FROM@13", "t@18", "WHERE@20", "id@26", "=@29", "12345@31")));
+        assertThat(sqlShapeCache.parse("SELECT status FROM t_order WHERE id = 2", node -> ((ParserRuleContext) node.getRootNode()).stop.getText()), is("2"));
+        verify(sqlParserExecutor, times(2)).parse(anyString(), any(CommonTokenStream.class));
+        assertThat(sqlShapeCache.getHitCount(), is(1L));
+        assertThat(sqlShapeCache.getMissCount(), is(2L));
+    }
+    
+    @Test
+    void assertParseWithDifferentShape() {
+        sqlShapeCache.parse("SELECT name FROM t WHERE id = 1", this::getTerminals);
+        assertThat(sqlShapeCache.parse("SELECT name FROM t WHERE id = a", this::getTerminals), is(Arrays.asList("SELECT@0", "name@7", "FROM@12", "t@17", "WHERE@19", "id@25", "=@28", "a@30")));
+        assertThat(sqlShapeCache.getHitCount(), is(0L));
+        assertThat(sqlShapeCache.getMissCount(), is(2L));
+    }
+    
+    @Test
+    void assertParseAfterVisitFailed() {
+        Function<ParseASTNode, Object> failedVisitor = node -> {
+            throw new IllegalStateException("visit failed");
+        };
+        assertThrows(IllegalStateException.class, () -> sqlShapeCache.parse("SELECT name FROM t WHERE id = 1", failedVisitor));
+        assertThat(sqlShapeCache.parse("SELECT name FROM t WHERE id = 2", this::getTerminals), is(Arrays.asList("SELECT@0", "name@7", "FROM@12", "t@17", "WHERE@19", "id@25", "=@28", "2@30")));
+        assertThat(sqlShapeCache.getHitCount(), is(1L));
+        assertThat(sqlShapeCache.getMissCount(), is(1L));
+    }
+    
+    private List<String> getTerminals(final ParseASTNode parseASTNode) {
+        List<String> result = new LinkedList<>();
+        ParseTree rootNode = parseASTNode.getRootNode();
+        for (int i = 0; i < rootNode.getChildCount(); i++) {
+            Token token = ((TerminalNode) rootNode.getChild(i)).getSymbol();
+            result.add(token.getText() + "@" + token.getStartIndex());
+        }
+        return result;
+    }
+    
+    private ParseASTNode createParseASTNode(final CommonTokenStream tokenStream) {
+        ParserRuleContext root = new ParserRuleContext();
+        ParserRuleContext statement = new ParserRuleContext(root, 0);
+        Token eof = null;
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.EOF == each.getType()) {
+                eof = each;
+            } else if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                statement.addChild(new TerminalNodeImpl(each));
+                statement.start = null == statement.start ? each : statement.start;
+                statement.stop = each;
+            }
+        }
+        root.addChild(statement);
+        root.addChild(new TerminalNodeImpl(eof));
+        root.start = statement.start;
+        root.stop = eof;
+        return new ParseASTNode(root, tokenStream);
+    }
+}
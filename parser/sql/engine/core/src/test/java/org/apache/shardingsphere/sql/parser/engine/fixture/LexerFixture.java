@@ -18,16 +18,60 @@
 package org.apache.shardingsphere.sql.parser.engine.fixture;
 
 import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.atn.ATN;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 
 public final class LexerFixture extends Lexer implements SQLLexer {
     
+    public static final int WHITESPACE = 1;
+    
+    public static final int NUMBER = 2;
+    
+    public static final int IDENTIFIER = 3;
+    
+    public static final int SYMBOL = 4;
+    
     public LexerFixture(final CharStream input) {
         super(input);
     }
     
+    @Override
+    public Token nextToken() {
+        CharStream input = getInputStream();
+        int start = input.index();
+        if (IntStream.EOF == input.LA(1)) {
+            return _factory.create(_tokenFactorySourcePair, Token.EOF, null, Token.DEFAULT_CHANNEL, start, start - 1, 1, start);
+        }
+        int type = getTokenType(input.LA(1));
+        do {
+            input.consume();
+        } while (SYMBOL != type && IntStream.EOF != input.LA(1) && type == getTokenType(input.LA(1)));
+        return _factory.create(_tokenFactorySourcePair, type, null, WHITESPACE == type ? Token.HIDDEN_CHANNEL : Token.DEFAULT_CHANNEL, start, input.index() - 1, 1, start);
+    }
+    
+    @Override
+    public int getLine() {
+        return 1;
+    }
+    
+    @Override
+    public int getCharPositionInLine() {
+        return getInputStream().index();
+    }
+    
+    private int getTokenType(final int codePoint) {
+        if (Character.isWhitespace(codePoint)) {
+            return WHITESPACE;
+        }
+        if (Character.isDigit(codePoint)) {
+            return NUMBER;
+        }
+        return Character.isLetter(codePoint) ? IDENTIFIER : SYMBOL;
+    }
+    
     @Override
     public String[] getRuleNames() {
         return new String[0];
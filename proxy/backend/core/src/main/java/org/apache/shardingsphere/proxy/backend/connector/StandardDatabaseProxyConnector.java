@@ -361,9 +361,19 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        Object[] result = new Object[queryHeaders.size()];
+        for (int columnIndex = 1; columnIndex <= result.length; columnIndex++) {
+            result[columnIndex - 1] = mergedResult.getValue(columnIndex, Object.class);
+        }
+        return result;
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -375,6 +385,17 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.proxy.backend.handler;
 
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Proxy backend handler.
@@ -56,6 +58,24 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row values.
+     * 
+     * <p>Values are ordered as query headers, without wrapping each of them as query response cell.</p>
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    default Object[] getRowValues() throws SQLException {
+        List<QueryResponseCell> cells = getRowData().getCells();
+        Object[] result = new Object[cells.size()];
+        int index = 0;
+        for (QueryResponseCell each : cells) {
+            result[index++] = each.getData();
+        }
+        return result;
+    }
+    
     /**
      * Close.
      *
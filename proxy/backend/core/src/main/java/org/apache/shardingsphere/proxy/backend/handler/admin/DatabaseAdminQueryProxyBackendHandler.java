@@ -85,4 +85,13 @@ public final class DatabaseAdminQueryProxyBackendHandler implements ProxyBackend
         }
         return new QueryResponseRow(result);
     }
+    
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        Object[] result = new Object[queryResultMetaData.getColumnCount()];
+        for (int columnIndex = 1; columnIndex <= result.length; columnIndex++) {
+            result[columnIndex - 1] = mergedResult.getValue(columnIndex, Object.class);
+        }
+        return result;
+    }
 }
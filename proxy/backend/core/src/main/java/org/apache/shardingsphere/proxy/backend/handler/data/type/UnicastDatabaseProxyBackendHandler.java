@@ -90,6 +90,11 @@ public final class UnicastDatabaseProxyBackendHandler implements DatabaseProxyBa
         return databaseProxyConnector.getRowData();
     }
     
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        return databaseProxyConnector.getRowValues();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseProxyConnector) {
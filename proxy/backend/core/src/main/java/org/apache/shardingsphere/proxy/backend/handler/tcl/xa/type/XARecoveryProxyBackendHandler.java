@@ -43,6 +43,11 @@ public final class XARecoveryProxyBackendHandler implements ProxyBackendHandler
         return databaseProxyConnector.getRowData();
     }
     
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        return databaseProxyConnector.getRowValues();
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         return databaseProxyConnector.execute();
@@ -89,7 +89,21 @@ public final class ConnectionSession {
      * @param grantee grantee
      */
     public void setGrantee(final Grantee grantee) {
-        connectionContext.set(new ConnectionContext(databaseConnectionManager::getUsedDataSourceNames, grantee));
+        ConnectionContext newConnectionContext = new ConnectionContext(databaseConnectionManager::getUsedDataSourceNames, grantee);
+        newConnectionContext.setProcessId(processId);
+        connectionContext.set(newConnectionContext);
+    }
+    
+    /**
+     * Set process ID.
+     *
+     * @param processId process ID
+     */
+    public void setProcessId(final String processId) {
+        this.processId = processId;
+        if (null != connectionContext.get()) {
+            connectionContext.get().setProcessId(processId);
+        }
     }
     
     /**
@@ -104,4 +104,14 @@ class DatabaseAdminQueryProxyBackendHandlerTest {
             assertThat(handler.getRowData().getData().size(), is(1));
         }
     }
+    
+    @Test
+    void assertGetRowValues() throws SQLException {
+        try (MockedStatic<DatabaseTypedSPILoader> spiLoader = mockStatic(DatabaseTypedSPILoader.class)) {
+            spiLoader.when(() -> DatabaseTypedSPILoader.getService(QueryHeaderBuilder.class, databaseType)).thenReturn(mock(QueryHeaderBuilder.class));
+            handler.execute();
+            assertTrue(handler.next());
+            assertThat(handler.getRowValues(), is(new Object[]{"ds_0"}));
+        }
+    }
 }
@@ -52,7 +52,7 @@ class ShowDistVariablesExecutorTest {
         executor.setConnectionContext(new DistSQLConnectionContext(mock(QueryContext.class), 1,
                 mock(DatabaseType.class), mock(DatabaseConnectionManager.class), mock(ExecutorStatementManager.class)));
         Collection<LocalDataQueryResultRow> actual = executor.getRows(mock(ShowDistVariablesStatement.class), contextManager);
-        assertThat(actual.size(), is(22));
+        assertThat(actual.size(), is(28));
         LocalDataQueryResultRow row = actual.iterator().next();
         assertThat(row.getCell(1), is("agent_plugins_enabled"));
         assertThat(row.getCell(2), is("false"));
@@ -64,8 +64,10 @@ class ShowDistVariablesExecutorTest {
         executor.setConnectionContext(new DistSQLConnectionContext(mock(QueryContext.class), 1,
                 mock(DatabaseType.class), mock(DatabaseConnectionManager.class), mock(ExecutorStatementManager.class)));
         Collection<LocalDataQueryResultRow> actual = executor.getRows(new ShowDistVariablesStatement(false, "sql_%"), contextManager);
-        assertThat(actual.size(), is(2));
+        assertThat(actual.size(), is(4));
         Iterator<LocalDataQueryResultRow> iterator = actual.iterator();
+        assertThat(iterator.next().getCell(1), is("sql_federation_memory_limit_bytes"));
+        assertThat(iterator.next().getCell(1), is("sql_federation_scan_parallelism"));
         assertThat(iterator.next().getCell(1), is("sql_show"));
         assertThat(iterator.next().getCell(1), is("sql_simple"));
     }
@@ -76,7 +78,7 @@ class ShowDistVariablesExecutorTest {
         ShowDistVariablesExecutor executor = new ShowDistVariablesExecutor();
         ShowDistVariablesStatement sqlStatement = new ShowDistVariablesStatement(true, null);
         Collection<LocalDataQueryResultRow> actual = executor.getRows(sqlStatement, contextManager);
-        assertThat(actual.size(), is(4));
+        assertThat(actual.size(), is(5));
         LocalDataQueryResultRow row = actual.iterator().next();
         assertThat(row.getCell(1), is("instance_connection_enabled"));
         assertThat(row.getCell(2), is("false"));
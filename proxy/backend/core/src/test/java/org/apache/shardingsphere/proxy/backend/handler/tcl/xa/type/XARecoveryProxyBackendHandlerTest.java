@@ -47,6 +47,14 @@ class XARecoveryProxyBackendHandlerTest {
         assertThat(new XARecoveryProxyBackendHandler(databaseProxyConnector).getRowData(), is(expectedRow));
     }
     
+    @Test
+    void assertGetRowValues() throws SQLException {
+        DatabaseProxyConnector databaseProxyConnector = mock(DatabaseProxyConnector.class);
+        Object[] expectedRowValues = {"foo_xid"};
+        when(databaseProxyConnector.getRowValues()).thenReturn(expectedRowValues);
+        assertThat(new XARecoveryProxyBackendHandler(databaseProxyConnector).getRowValues(), is(expectedRowValues));
+    }
+    
     @Test
     void assertExecute() throws SQLException {
         DatabaseProxyConnector databaseProxyConnector = mock(DatabaseProxyConnector.class);
@@ -66,7 +66,7 @@ public final class MySQLShowProcessListExecutor implements DatabaseAdminQueryExe
         rowValues.add(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - process.getStartMillis()));
         String sql = null;
         if (process.isIdle()) {
-            rowValues.add("");
+            rowValues.add(getMemoryState(process));
         } else {
             int processDoneCount = process.getCompletedUnitCount().get();
             String statePrefix = "Executing ";
@@ -80,6 +80,11 @@ public final class MySQLShowProcessListExecutor implements DatabaseAdminQueryExe
         return new LocalDataQueryResultRow(rowValues.toArray());
     }
     
+    private String getMemoryState(final Process process) {
+        long usedMemoryBytes = process.getUsedMemoryBytes().get();
+        return 0L == usedMemoryBytes ? "" : "Merging, used memory " + usedMemoryBytes + " bytes";
+    }
+    
     @Override
     public QueryResultMetaData getQueryResultMetaData() {
         List<RawQueryResultColumnMetaData> columns = new ArrayList<>(8);
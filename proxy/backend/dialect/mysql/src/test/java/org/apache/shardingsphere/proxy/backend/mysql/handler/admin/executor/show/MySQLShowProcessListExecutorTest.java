@@ -101,6 +101,23 @@ class MySQLShowProcessListExecutorTest {
         assertThat(rowCount, is(2));
     }
     
+    @Test
+    void assertExecuteWithMergingProcess() throws SQLException {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        Process process = new Process("merging-id", System.currentTimeMillis(), "", "foo_db", "root", "127.0.0.1",
+                new AtomicInteger(0), new AtomicInteger(0), new AtomicBoolean(true), new AtomicBoolean());
+        process.getUsedMemoryBytes().set(2048L);
+        when(contextManager.getPersistServiceFacade().getModeFacade().getProcessService().getProcessList()).thenReturn(Collections.singleton(process));
+        MySQLShowProcessListExecutor executor = new MySQLShowProcessListExecutor(new MySQLShowProcessListStatement(databaseType, false));
+        executor.execute(new ConnectionSession(databaseType, new DefaultAttributeMap()), mock());
+        MergedResult mergedResult = executor.getMergedResult();
+        assertThat(mergedResult.next(), is(true));
+        assertThat(mergedResult.getValue(5, String.class), is("Sleep"));
+        assertThat(mergedResult.getValue(7, String.class), is("Merging, used memory 2048 bytes"));
+        assertThat(mergedResult.next(), is(false));
+    }
+    
     @Test
     void assertExecuteWithFullOutputKeepsLongSql() throws SQLException {
         ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
@@ -39,6 +39,8 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -60,6 +62,7 @@ public final class ShardingSphereProxy {
     public ShardingSphereProxy() {
         bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
         workerGroup = getWorkerGroup();
+        initCommandExecutors();
         Runtime.getRuntime().addShutdownHook(new Thread(this::close));
     }
     
@@ -68,6 +71,13 @@ public final class ShardingSphereProxy {
         return Epoll.isAvailable() ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
     }
     
+    private void initCommandExecutors() {
+        boolean virtualThreadEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED);
+        UserExecutorGroup.getInstance().init(virtualThreadEnabled);
+        ConnectionThreadExecutorGroup.getInstance().init(virtualThreadEnabled);
+    }
+    
     /**
      * Start ShardingSphere-Proxy.
      *
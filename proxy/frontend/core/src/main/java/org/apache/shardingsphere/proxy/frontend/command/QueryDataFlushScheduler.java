@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Query data flush scheduler.
+ * 
+ * <p>Flush written query data once row count or pending bytes of channel since last flush reaches its threshold,
+ * and flush the remaining data on channel event loop at fixed interval, whichever comes first.</p>
+ */
+public final class QueryDataFlushScheduler implements AutoCloseable {
+    
+    private final ChannelHandlerContext context;
+    
+    private final int rowsThreshold;
+    
+    private final int bytesThreshold;
+    
+    private final AtomicInteger unflushedRows = new AtomicInteger();
+    
+    private final ScheduledFuture<?> intervalFlushFuture;
+    
+    private long pendingBytesAfterLastFlush;
+    
+    public QueryDataFlushScheduler(final ChannelHandlerContext context, final ConfigurationProperties props) {
+        this.context = context;
+        rowsThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        bytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        long intervalMillis = props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS);
+        intervalFlushFuture = intervalMillis > 0L ? context.channel().eventLoop().scheduleAtFixedRate(this::flushUnflushedRows, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS) : null;
+    }
+    
+    /**
+     * Notify one row was written, and flush if any threshold reached.
+     */
+    public void rowWritten() {
+        if (rowsThreshold == unflushedRows.incrementAndGet() || isBytesThresholdReached()) {
+            flush();
+        }
+    }
+    
+    private boolean isBytesThresholdReached() {
+        if (bytesThreshold <= 0) {
+            return false;
+        }
+        long pendingBytes = getPendingBytes();
+        pendingBytesAfterLastFlush = Math.min(pendingBytesAfterLastFlush, pendingBytes);
+        return pendingBytes - pendingBytesAfterLastFlush >= bytesThreshold;
+    }
+    
+    private long getPendingBytes() {
+        ChannelOutboundBuffer outboundBuffer = context.channel().unsafe().outboundBuffer();
+        return null == outboundBuffer ? 0L : outboundBuffer.totalPendingWriteBytes();
+    }
+    
+    private void flushUnflushedRows() {
+        if (unflushedRows.getAndSet(0) > 0) {
+            context.flush();
+        }
+    }
+    
+    /**
+     * Flush.
+     */
+    public void flush() {
+        unflushedRows.set(0);
+        context.flush();
+        if (bytesThreshold > 0) {
+            pendingBytesAfterLastFlush = getPendingBytes();
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != intervalFlushFuture) {
+            intervalFlushFuture.cancel(false);
+        }
+    }
+}
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadUtils;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +44,8 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private volatile boolean virtualThreadEnabled;
+    
     /**
      * Get connection thread executor group.
      *
@@ -51,6 +55,15 @@ public final class ConnectionThreadExecutorGroup {
         return INSTANCE;
     }
     
+    /**
+     * Initialize connection thread executor group.
+     *
+     * @param virtualThreadEnabled virtual thread enabled or not
+     */
+    public void init(final boolean virtualThreadEnabled) {
+        this.virtualThreadEnabled = VirtualThreadUtils.isEnabled(virtualThreadEnabled);
+    }
+    
     /**
      * Register connection.
      *
@@ -61,7 +74,17 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), virtualThreadEnabled ? newVirtualThreadFactory(threadName) : runnable -> new Thread(runnable, threadName));
+    }
+    
+    private ThreadFactory newVirtualThreadFactory(final String threadName) {
+        ThreadFactory virtualThreadFactory = VirtualThreadUtils.newThreadFactory();
+        return runnable -> {
+            Thread result = virtualThreadFactory.newThread(runnable);
+            result.setName(threadName);
+            return result;
+        };
     }
     
     /**
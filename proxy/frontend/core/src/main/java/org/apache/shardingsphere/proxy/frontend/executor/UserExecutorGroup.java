@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadUtils;
 
 import java.util.concurrent.ExecutorService;
 
@@ -31,11 +32,13 @@ public final class UserExecutorGroup {
     
     private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
     
+    private ExecutorServiceManager executorServiceManager;
+    
     @Getter
-    private final ExecutorService executorService;
+    private volatile ExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
         executorService = executorServiceManager.getExecutorService();
     }
     
@@ -47,4 +50,21 @@ public final class UserExecutorGroup {
     public static UserExecutorGroup getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Initialize user executor group.
+     *
+     * <p>Should be invoked before accepting connections, the platform thread executor service will be closed if virtual threads are used.</p>
+     *
+     * @param virtualThreadEnabled virtual thread enabled or not
+     */
+    public synchronized void init(final boolean virtualThreadEnabled) {
+        if (!VirtualThreadUtils.isEnabled(virtualThreadEnabled)) {
+            return;
+        }
+        ExecutorServiceManager previousExecutorServiceManager = executorServiceManager;
+        executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, true);
+        executorService = executorServiceManager.getExecutorService();
+        previousExecutorServiceManager.close();
+    }
 }
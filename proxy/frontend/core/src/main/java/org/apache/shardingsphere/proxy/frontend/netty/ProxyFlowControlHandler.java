@@ -23,14 +23,31 @@ import org.apache.shardingsphere.proxy.frontend.event.WriteCompleteEvent;
 
 /**
  * Flow control handler for ShardingSphere-Proxy.
+ * 
+ * <p>Reading of next command is resumed after the previous command completed, and deferred until channel becomes writable again if client is slow to consume data.</p>
  */
 public final class ProxyFlowControlHandler extends FlowControlHandler {
     
+    private boolean readDeferredUntilWritable;
+    
     @Override
     public void userEventTriggered(final ChannelHandlerContext ctx, final Object event) {
         if (event instanceof WriteCompleteEvent) {
-            ctx.channel().config().setAutoRead(true);
+            if (ctx.channel().isWritable()) {
+                ctx.channel().config().setAutoRead(true);
+            } else {
+                readDeferredUntilWritable = true;
+            }
         }
         ctx.fireUserEventTriggered(event);
     }
+    
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        if (readDeferredUntilWritable && ctx.channel().isWritable()) {
+            readDeferredUntilWritable = false;
+            ctx.channel().config().setAutoRead(true);
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryDataFlushSchedulerTest {
+    
+    private final ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+    
+    @Test
+    void assertFlushWhenRowsThresholdReached() {
+        QueryDataFlushScheduler scheduler = new QueryDataFlushScheduler(context, createProperties(2, 0, 0L));
+        scheduler.rowWritten();
+        verify(context, never()).flush();
+        scheduler.rowWritten();
+        verify(context).flush();
+        scheduler.rowWritten();
+        scheduler.rowWritten();
+        verify(context, times(2)).flush();
+        verify(context.channel().eventLoop(), never()).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+    }
+    
+    @Test
+    void assertFlushWhenBytesThresholdReached() {
+        ChannelOutboundBuffer outboundBuffer = mock(ChannelOutboundBuffer.class);
+        when(outboundBuffer.totalPendingWriteBytes()).thenReturn(0L, 50L, 100L, 100L, 150L, 200L);
+        when(context.channel().unsafe().outboundBuffer()).thenReturn(outboundBuffer);
+        QueryDataFlushScheduler scheduler = new QueryDataFlushScheduler(context, createProperties(128, 100, 0L));
+        scheduler.rowWritten();
+        scheduler.rowWritten();
+        verify(context, never()).flush();
+        scheduler.rowWritten();
+        verify(context).flush();
+        scheduler.rowWritten();
+        verify(context).flush();
+        scheduler.rowWritten();
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    void assertNotFlushByBytesWhenChannelClosed() {
+        when(context.channel().unsafe().outboundBuffer()).thenReturn(null);
+        QueryDataFlushScheduler scheduler = new QueryDataFlushScheduler(context, createProperties(128, 100, 0L));
+        scheduler.rowWritten();
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    void assertFlushWhenIntervalReached() {
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(context.channel().eventLoop()).thenReturn(eventLoop);
+        ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        doReturn(future).when(eventLoop).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        QueryDataFlushScheduler scheduler = new QueryDataFlushScheduler(context, createProperties(128, 0, 50L));
+        ArgumentCaptor<Runnable> intervalFlushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).scheduleAtFixedRate(intervalFlushTask.capture(), anyLong(), anyLong(), any(TimeUnit.class));
+        scheduler.rowWritten();
+        verify(context, never()).flush();
+        intervalFlushTask.getValue().run();
+        verify(context).flush();
+        intervalFlushTask.getValue().run();
+        verify(context).flush();
+        scheduler.close();
+        verify(future).cancel(false);
+    }
+    
+    private ConfigurationProperties createProperties(final int rowsThreshold, final int bytesThreshold, final long intervalMilliseconds) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(rowsThreshold)),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), String.valueOf(bytesThreshold)),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), String.valueOf(intervalMilliseconds))));
+    }
+}
@@ -46,6 +46,18 @@ class ProxyFlowControlHandlerTest {
         assertTrue(eventReceived.get());
     }
     
+    @Test
+    void assertUserEventTriggeredWhenChannelIsNotWritable() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProxyFlowControlHandler());
+        channel.config().setAutoRead(false);
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        channel.pipeline().fireUserEventTriggered(new WriteCompleteEvent());
+        assertFalse(channel.config().isAutoRead());
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+    }
+    
     @Test
     void assertUserEventTriggeredWithoutWriteCompleteEvent() {
         AtomicBoolean eventReceived = new AtomicBoolean(false);
@@ -217,7 +217,9 @@ class FirebirdCommandExecuteEngineTest {
     }
     
     private void mockProxyContextFlushThreshold(final int threshold) {
-        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(threshold)));
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(threshold)),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "0"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), "0"));
         MetaDataContexts metaDataContexts = new MetaDataContexts(new ShardingSphereMetaData(Collections.emptyList(), new ResourceMetaData(Collections.emptyMap()),
                 new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(props)), new ShardingSphereStatistics());
         when(mockContextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
@@ -30,7 +30,6 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -178,7 +177,7 @@ class OpenGaussComQueryExecutorTest {
     
     @Test
     void assertGetQueryRowPacket() throws SQLException {
-        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(new LinkedList<>()));
+        when(proxyBackendHandler.getRowValues()).thenReturn(new Object[0]);
         assertThat(queryExecutor.getQueryRowPacket(), is(isA(PostgreSQLDataRowPacket.class)));
     }
     
@@ -30,11 +30,11 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.que
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataFlushScheduler;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -99,20 +99,15 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0L;
-        int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            flushCount++;
-            databaseConnectionManager.getConnectionResourceLock().doAwait(context);
-            DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
-            if (resultValue instanceof PostgreSQLDataRowPacket) {
-                dataRows++;
+        try (QueryDataFlushScheduler flushScheduler = new QueryDataFlushScheduler(context, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps())) {
+            while (queryCommandExecutor.next()) {
+                databaseConnectionManager.getConnectionResourceLock().doAwait(context);
+                DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
+                context.write(resultValue);
+                flushScheduler.rowWritten();
+                if (resultValue instanceof PostgreSQLDataRowPacket) {
+                    dataRows++;
+                }
             }
         }
         return dataRows;
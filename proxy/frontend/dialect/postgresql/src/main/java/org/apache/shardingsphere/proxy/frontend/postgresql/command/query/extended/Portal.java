@@ -43,8 +43,6 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -80,6 +78,10 @@ public final class Portal {
     
     private ResponseHeader responseHeader;
     
+    private PostgreSQLColumnType[] bitOrBoolColumnTypes;
+    
+    private PostgreSQLColumnType[] binaryColumnTypes;
+    
     public Portal(final String name, final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params, final List<PostgreSQLValueFormat> resultFormats,
                   final ProxyDatabaseConnectionManager databaseConnectionManager) throws SQLException {
         this.name = name;
@@ -171,36 +173,47 @@ public final class Portal {
     }
     
     private PostgreSQLPacket nextPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(getData(proxyBackendHandler.getRowData()));
-    }
-    
-    private List<Object> getData(final QueryResponseRow queryResponseRow) {
-        Collection<QueryResponseCell> cells = queryResponseRow.getCells();
-        List<Object> result = new ArrayList<>(cells.size());
-        List<QueryResponseCell> columns = new ArrayList<>(cells);
-        for (int i = 0; i < columns.size(); i++) {
-            PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : getCellData(columns.get(i)));
+        if (null == bitOrBoolColumnTypes) {
+            createColumnEncodingPlan(((QueryResponseHeader) responseHeader).getQueryHeaders());
+        }
+        Object[] rowValues = proxyBackendHandler.getRowValues();
+        List<Object> result = new ArrayList<>(rowValues.length);
+        for (int i = 0; i < rowValues.length; i++) {
+            Object cellData = getCellData(i, rowValues[i]);
+            result.add(null == binaryColumnTypes[i] ? cellData : new BinaryCell(binaryColumnTypes[i], cellData));
+        }
+        return new PostgreSQLDataRowPacket(result);
+    }
+    
+    private void createColumnEncodingPlan(final List<QueryHeader> queryHeaders) {
+        bitOrBoolColumnTypes = new PostgreSQLColumnType[queryHeaders.size()];
+        binaryColumnTypes = new PostgreSQLColumnType[queryHeaders.size()];
+        int index = 0;
+        for (QueryHeader each : queryHeaders) {
+            if (PostgreSQLColumnType.isBit(each.getColumnType(), each.getColumnTypeName())) {
+                bitOrBoolColumnTypes[index] = PostgreSQLColumnType.BIT;
+            } else if (PostgreSQLColumnType.isBool(each.getColumnType(), each.getColumnTypeName())) {
+                bitOrBoolColumnTypes[index] = PostgreSQLColumnType.BOOL;
+            }
+            if (PostgreSQLValueFormat.BINARY == determineValueFormat(index)) {
+                binaryColumnTypes[index] = PostgreSQLColumnType.valueOfJDBCType(each.getColumnType(), each.getColumnTypeName());
+            }
+            index++;
         }
-        return result;
     }
     
     private PostgreSQLValueFormat determineValueFormat(final int columnIndex) {
         return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
     }
     
-    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType(), cell.getColumnTypeName().orElse(null)), getCellData(cell));
-    }
-    
-    private Object getCellData(final QueryResponseCell cell) {
-        if (PostgreSQLColumnType.isBit(cell.getJdbcType(), cell.getColumnTypeName().orElse(null))) {
-            return PostgreSQLTextBitUtils.getTextValue(cell.getData());
+    private Object getCellData(final int columnIndex, final Object value) {
+        if (PostgreSQLColumnType.BIT == bitOrBoolColumnTypes[columnIndex]) {
+            return PostgreSQLTextBitUtils.getTextValue(value);
         }
-        if (PostgreSQLColumnType.isBool(cell.getJdbcType(), cell.getColumnTypeName().orElse(null))) {
-            return PostgreSQLTextBoolUtils.getTextValue(cell.getData());
+        if (PostgreSQLColumnType.BOOL == bitOrBoolColumnTypes[columnIndex]) {
+            return PostgreSQLTextBoolUtils.getTextValue(value);
         }
-        return cell.getData();
+        return value;
     }
     
     private PostgreSQLIdentifierPacket createExecutionCompletedPacket(final boolean isSuspended, final int fetchedRows) {
@@ -51,6 +51,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.type.tcl.Ro
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -127,7 +128,7 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     
     @Override
     public PostgreSQLPacket getQueryRowPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData());
+        return new PostgreSQLDataRowPacket(Arrays.asList(proxyBackendHandler.getRowValues()));
     }
     
     @Override
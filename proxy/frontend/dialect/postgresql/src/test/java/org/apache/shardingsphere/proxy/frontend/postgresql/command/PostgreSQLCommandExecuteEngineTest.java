@@ -247,7 +247,9 @@ class PostgreSQLCommandExecuteEngineTest {
     private void mockProxyContextFlushThreshold(final int threshold) {
         ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
         when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps())
-                .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), threshold))));
+                .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), threshold),
+                        new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), 0),
+                        new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), 0))));
         when(ProxyContext.getInstance()).thenReturn(proxyContext);
     }
     
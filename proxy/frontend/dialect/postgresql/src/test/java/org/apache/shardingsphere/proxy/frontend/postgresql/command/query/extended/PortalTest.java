@@ -45,8 +45,6 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -139,8 +137,7 @@ class PortalTest {
         when(responseHeader.getQueryHeaders()).thenReturn(Arrays.asList(queryHeader, intColumnQueryHeader));
         when(proxyBackendHandler.execute()).thenReturn(responseHeader);
         when(proxyBackendHandler.next()).thenReturn(true, true, false);
-        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 0))),
-                new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 1))));
+        when(proxyBackendHandler.getRowValues()).thenReturn(new Object[]{0}, new Object[]{1});
         SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
         when(sqlStatementContext.getSqlStatement()).thenReturn(new SelectStatement(databaseType));
         when(sqlStatementContext.getTablesContext().getDatabaseName()).thenReturn(Optional.empty());
@@ -168,9 +165,7 @@ class PortalTest {
         when(responseHeader.getQueryHeaders()).thenReturn(Collections.singletonList(queryHeader));
         when(proxyBackendHandler.execute()).thenReturn(responseHeader);
         when(proxyBackendHandler.next()).thenReturn(true);
-        when(proxyBackendHandler.getRowData()).thenReturn(
-                new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 0))),
-                new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 1))));
+        when(proxyBackendHandler.getRowValues()).thenReturn(new Object[]{0}, new Object[]{1});
         SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
         when(selectStatementContext.getSqlStatement()).thenReturn(new SelectStatement(databaseType));
         when(selectStatementContext.getTablesContext().getDatabaseName()).thenReturn(Optional.empty());
@@ -286,10 +281,7 @@ class PortalTest {
         when(responseHeader.getQueryHeaders()).thenReturn(Arrays.asList(bitHeader, boolHeader, varcharHeader));
         when(proxyBackendHandler.execute()).thenReturn(responseHeader);
         when(proxyBackendHandler.next()).thenReturn(true, false);
-        QueryResponseCell bitCell = new QueryResponseCell(Types.BIT, Boolean.TRUE, "bit");
-        QueryResponseCell boolCell = new QueryResponseCell(Types.BIT, Boolean.FALSE, "bool");
-        QueryResponseCell varcharCell = new QueryResponseCell(Types.VARCHAR, "foo");
-        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Arrays.asList(bitCell, boolCell, varcharCell)));
+        when(proxyBackendHandler.getRowValues()).thenReturn(new Object[]{Boolean.TRUE, Boolean.FALSE, "foo"});
         SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
         when(sqlStatementContext.getSqlStatement()).thenReturn(new SelectStatement(databaseType));
         when(sqlStatementContext.getTablesContext().getDatabaseName()).thenReturn(Optional.empty());
@@ -32,7 +32,6 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -191,7 +190,7 @@ class PostgreSQLComQueryExecutorTest {
     
     @Test
     void assertGetQueryRowPacket() throws SQLException {
-        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Collections.emptyList()));
+        when(proxyBackendHandler.getRowValues()).thenReturn(new Object[0]);
         PostgreSQLPacket actual = queryExecutor.getQueryRowPacket();
         assertThat(actual, is(isA(PostgreSQLDataRowPacket.class)));
     }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch add benchmark, which adds routed rows of one prepared statement batch to measure how batch execution units are merged as the batch grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BatchAddBenchmark {
+    
+    private static final int DATA_SOURCE_COUNT = 2;
+    
+    private static final int TABLE_COUNT = 8;
+    
+    @Param({"1000", "10000"})
+    private int rowCount;
+    
+    private KernelBenchmarkEnvironment environment;
+    
+    private JDBCExecutor jdbcExecutor;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        environment = new KernelBenchmarkEnvironment();
+        jdbcExecutor = new JDBCExecutor(environment.getExecutorEngine(), new ConnectionContext(Collections::emptySet));
+    }
+    
+    /**
+     * Add batch for all rows.
+     *
+     * @return batch prepared statement executor
+     */
+    @Benchmark
+    public BatchPreparedStatementExecutor addBatch() {
+        BatchPreparedStatementExecutor result = new BatchPreparedStatementExecutor(environment.getDatabase(), jdbcExecutor, "benchmark");
+        for (int i = 0; i < rowCount; i++) {
+            String sql = String.format("INSERT INTO t_order_%d (order_id, user_id, status) VALUES (?, ?, ?)", i % TABLE_COUNT);
+            ExecutionUnit executionUnit = new ExecutionUnit("ds_" + i % DATA_SOURCE_COUNT, new SQLUnit(sql, new ArrayList<>(Arrays.asList(i, i, "OK"))));
+            result.addBatchForExecutionUnits(Collections.singleton(executionUnit));
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        environment.close();
+    }
+}
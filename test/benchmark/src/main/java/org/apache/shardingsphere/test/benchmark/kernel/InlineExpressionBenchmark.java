@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inline expression benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class InlineExpressionBenchmark {
+    
+    private static final GroovyShell SHELL = new GroovyShell();
+    
+    @Param({"t_order_${order_id % 16}", "ds_${order_id % 2}.t_order_${order_id % 16}", "t_order_${order_id.intdiv(16) % 16}"})
+    private String algorithmExpression;
+    
+    private InlineExpressionParser parser;
+    
+    private Closure<?> closure;
+    
+    private long orderId;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        parser = InlineExpressionParserFactory.newInstance(algorithmExpression);
+        closure = (Closure<?>) SHELL.evaluate("{it -> \"" + algorithmExpression + "\"}");
+    }
+    
+    /**
+     * Evaluate sharding value with inline expression parser.
+     *
+     * @return evaluated target name
+     */
+    @Benchmark
+    public String evaluateWithParser() {
+        return parser.evaluateWithArgs(createArgs());
+    }
+    
+    /**
+     * Evaluate sharding value with Groovy closure only, which was the only path before simple expressions were compiled.
+     *
+     * @return evaluated target name
+     */
+    @Benchmark
+    public String evaluateWithGroovyClosure() {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        createArgs().forEach(result::setProperty);
+        return result.call().toString();
+    }
+    
+    private Map<String, Comparable<?>> createArgs() {
+        return Collections.singletonMap("order_id", orderId++);
+    }
+}
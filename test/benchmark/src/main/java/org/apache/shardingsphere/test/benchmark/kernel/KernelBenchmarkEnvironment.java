@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.metadata.jdbc.JDBCInstanceMetaData;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
+import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.kernel.fixture.BenchmarkSQLCase;
+import org.apache.shardingsphere.test.benchmark.kernel.fixture.InMemoryExecutorCallback;
+import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Kernel benchmark environment.
+ *
+ * <p>Builds a sharded logic database backed by mocked data sources, and exposes every kernel stage
+ * (parse, bind, route, rewrite, execute and merge) separately so that benchmarks can measure a single stage or the whole pipeline.</p>
+ */
+@Getter
+public final class KernelBenchmarkEnvironment implements AutoCloseable {
+    
+    public static final String DATABASE_NAME = "sharding_db";
+    
+    private static final int DATA_SOURCE_COUNT = 2;
+    
+    private static final int TABLE_COUNT = 8;
+    
+    private final DatabaseType databaseType;
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    private final ConfigurationProperties props;
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ExecutorEngine executorEngine;
+    
+    public KernelBenchmarkEnvironment() {
+        databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        sqlParserEngine = new ShardingSphereSQLParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+        props = new ConfigurationProperties(new Properties());
+        globalRuleMetaData = new RuleMetaData(GlobalRulesBuilder.buildRules(Collections.emptyList(), Collections.emptyList(), props));
+        database = createDatabase();
+        metaData = new ShardingSphereMetaData(Collections.singleton(database), new ResourceMetaData(Collections.emptyMap()), globalRuleMetaData, props);
+        executorEngine = ExecutorEngine.createExecutorEngineWithSize(DATA_SOURCE_COUNT * TABLE_COUNT);
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(createDataSources(), Collections.singleton(createShardingRuleConfiguration()));
+        ResourceMetaData resourceMetaData = new ResourceMetaData(databaseConfig.getDataSources(), databaseConfig.getStorageUnits());
+        ComputeNodeInstanceContext computeNodeInstanceContext = new ComputeNodeInstanceContext(
+                new ComputeNodeInstance(new JDBCInstanceMetaData("benchmark", DATABASE_NAME)), new ModeConfiguration("Standalone", null), new EventBusContext());
+        computeNodeInstanceContext.init(unused -> 0);
+        Collection<ShardingSphereRule> rules = DatabaseRulesBuilder.build(DATABASE_NAME, databaseType, databaseConfig, computeNodeInstanceContext, resourceMetaData);
+        return new ShardingSphereDatabase(DATABASE_NAME, databaseType, resourceMetaData, new RuleMetaData(rules), Collections.singleton(createSchema()));
+    }
+    
+    private Map<String, DataSource> createDataSources() {
+        Map<String, DataSource> result = new LinkedHashMap<>(DATA_SOURCE_COUNT, 1F);
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            MockedDataSource dataSource = new MockedDataSource();
+            dataSource.setUrl("jdbc:mysql://127.0.0.1:3306/ds_" + i);
+            result.put("ds_" + i, dataSource);
+        }
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", String.format("ds_${0..%d}.t_order_${0..%d}", DATA_SOURCE_COUNT - 1, TABLE_COUNT - 1));
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        result.getTables().add(tableRuleConfig);
+        result.getShardingAlgorithms().put("database_inline",
+                new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % " + DATA_SOURCE_COUNT + "}"))));
+        result.getShardingAlgorithms().put("table_inline",
+                new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % " + TABLE_COUNT + "}"))));
+        return result;
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(DATABASE_NAME, databaseType, Collections.singleton(table), Collections.emptyList());
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sqlCase SQL case
+     * @param useCache whether to use SQL statement cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final BenchmarkSQLCase sqlCase, final boolean useCache) {
+        return sqlParserEngine.parse(sqlCase.getSql(), useCache);
+    }
+    
+    /**
+     * Bind SQL statement.
+     *
+     * @param sqlCase SQL case
+     * @param sqlStatement SQL statement
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final BenchmarkSQLCase sqlCase, final SQLStatement sqlStatement) {
+        SQLStatementContext result = new SQLBindEngine(metaData, DATABASE_NAME, new HintValueContext()).bind(sqlStatement);
+        if (result instanceof ParameterAware) {
+            ((ParameterAware) result).bindParameters(sqlCase.getParams());
+        }
+        return result;
+    }
+    
+    /**
+     * Create query context.
+     *
+     * @param sqlCase SQL case
+     * @param sqlStatementContext SQL statement context
+     * @return query context
+     */
+    public QueryContext createQueryContext(final BenchmarkSQLCase sqlCase, final SQLStatementContext sqlStatementContext) {
+        return new QueryContext(sqlStatementContext, sqlCase.getSql(), sqlCase.getParams(), new HintValueContext(), createConnectionContext(), metaData);
+    }
+    
+    private ConnectionContext createConnectionContext() {
+        ConnectionContext result = new ConnectionContext(() -> database.getResourceMetaData().getStorageUnits().keySet());
+        result.setCurrentDatabaseName(DATABASE_NAME);
+        return result;
+    }
+    
+    /**
+     * Route.
+     *
+     * @param queryContext query context
+     * @return route context
+     */
+    public RouteContext route(final QueryContext queryContext) {
+        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(queryContext, globalRuleMetaData, database);
+    }
+    
+    /**
+     * Rewrite.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return SQL rewrite result
+     */
+    public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
+        return new SQLRewriteEntry(database, globalRuleMetaData, props).rewrite(queryContext, routeContext);
+    }
+    
+    /**
+     * Generate execution context with route and rewrite.
+     *
+     * @param queryContext query context
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext) {
+        return new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, props);
+    }
+    
+    /**
+     * Execute execution units grouped by data source in parallel.
+     *
+     * @param executionContext execution context
+     * @param callback executor callback
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResult> execute(final ExecutionContext executionContext, final InMemoryExecutorCallback callback) throws SQLException {
+        Map<String, List<ExecutionUnit>> groupedExecutionUnits = executionContext.getExecutionUnits().stream()
+                .collect(Collectors.groupingBy(ExecutionUnit::getDataSourceName, LinkedHashMap::new, Collectors.toList()));
+        Collection<ExecutionGroup<ExecutionUnit>> executionGroups = new ArrayList<>(groupedExecutionUnits.size());
+        for (List<ExecutionUnit> each : groupedExecutionUnits.values()) {
+            executionGroups.add(new ExecutionGroup<>(each));
+        }
+        ExecutionGroupContext<ExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("benchmark", DATABASE_NAME));
+        return executorEngine.execute(executionGroupContext, null, callback, false);
+    }
+    
+    /**
+     * Merge query results and consume all merged rows.
+     *
+     * @param queryResults query results
+     * @param queryContext query context
+     * @return merged row count
+     * @throws SQLException SQL exception
+     */
+    public int mergeAndConsume(final List<QueryResult> queryResults, final QueryContext queryContext) throws SQLException {
+        MergedResult mergedResult = new MergeEngine(metaData, database, props, queryContext.getConnectionContext()).merge(queryResults, queryContext);
+        int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        int result = 0;
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                mergedResult.getValue(i, Object.class);
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        executorEngine.close();
+    }
+}
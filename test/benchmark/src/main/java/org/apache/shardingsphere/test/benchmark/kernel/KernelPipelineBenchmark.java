@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.test.benchmark.kernel.fixture.BenchmarkSQLCase;
+import org.apache.shardingsphere.test.benchmark.kernel.fixture.InMemoryExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kernel pipeline benchmark, which drives parse, bind, route, rewrite, execute and merge end to end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class KernelPipelineBenchmark {
+    
+    @Param({"POINT_SELECT", "ORDER_BY_SELECT", "GROUP_BY_SELECT", "INSERT"})
+    private BenchmarkSQLCase sqlCase;
+    
+    @Param("100")
+    private int rowsPerShard;
+    
+    @Param({"true", "false"})
+    private boolean useParseCache;
+    
+    private KernelBenchmarkEnvironment environment;
+    
+    private InMemoryExecutorCallback callback;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        environment = new KernelBenchmarkEnvironment();
+        callback = new InMemoryExecutorCallback(sqlCase, rowsPerShard);
+    }
+    
+    /**
+     * Run whole kernel pipeline.
+     *
+     * @return merged row count for query, execution unit count for others
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int process() throws SQLException {
+        QueryContext queryContext = environment.createQueryContext(sqlCase, environment.bind(sqlCase, environment.parse(sqlCase, useParseCache)));
+        ExecutionContext executionContext = environment.generateExecutionContext(queryContext);
+        return sqlCase.isQuery() ? environment.mergeAndConsume(environment.execute(executionContext, callback), queryContext) : executionContext.getExecutionUnits().size();
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        environment.close();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.test.benchmark.kernel.fixture.BenchmarkSQLCase;
+import org.apache.shardingsphere.test.benchmark.kernel.fixture.InMemoryExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merge benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MergeBenchmark {
+    
+    @Param({"POINT_SELECT", "ORDER_BY_SELECT", "GROUP_BY_SELECT"})
+    private BenchmarkSQLCase sqlCase;
+    
+    @Param({"100", "10000"})
+    private int rowsPerShard;
+    
+    private KernelBenchmarkEnvironment environment;
+    
+    private ExecutionContext executionContext;
+    
+    private InMemoryExecutorCallback callback;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        environment = new KernelBenchmarkEnvironment();
+        executionContext = environment.generateExecutionContext(environment.createQueryContext(sqlCase, environment.bind(sqlCase, environment.parse(sqlCase, false))));
+        callback = new InMemoryExecutorCallback(sqlCase, rowsPerShard);
+    }
+    
+    /**
+     * Merge and consume all merged rows.
+     *
+     * <p>Query results are cursors, so they are re-created from the cached shard rows before each merge.</p>
+     *
+     * @return merged row count
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int merge() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(executionContext.getExecutionUnits().size());
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            queryResults.add(callback.createQueryResult(each));
+        }
+        return environment.mergeAndConsume(queryResults, executionContext.getQueryContext());
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        environment.close();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL shape cache benchmark, which parses SQL with inlined literals that always miss SQL statement cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SQLShapeCacheBenchmark {
+    
+    private SQLStatementParserExecutor parserExecutor;
+    
+    private SQLStatementParserExecutor shapeCachedParserExecutor;
+    
+    private long orderId;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        parserExecutor = new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L), null);
+        shapeCachedParserExecutor = new SQLStatementParserExecutor(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+    }
+    
+    /**
+     * Parse without SQL shape cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return parserExecutor.parse(createSQL());
+    }
+    
+    /**
+     * Parse with SQL shape cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithSQLShapeCache() {
+        return shapeCachedParserExecutor.parse(createSQL());
+    }
+    
+    private String createSQL() {
+        orderId++;
+        return "SELECT order_id, user_id, status FROM t_order WHERE user_id = " + orderId % 10 + " AND order_id = " + orderId + " AND status = 'OK_" + orderId + "'";
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark SQL case.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkSQLCase {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList(10, 1000L), Arrays.asList("order_id", "user_id", "status")),
+    
+    ORDER_BY_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id IN (?, ?) ORDER BY order_id", Arrays.asList(10, 11), Arrays.asList("order_id", "user_id", "status")),
+    
+    GROUP_BY_SELECT("SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id", Collections.emptyList(), Arrays.asList("user_id", "order_count")),
+    
+    INSERT("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)", Arrays.asList(1000L, 10, "OK"), Collections.emptyList());
+    
+    private final String sql;
+    
+    private final List<Object> params;
+    
+    private final List<String> columnLabels;
+    
+    /**
+     * Judge whether SQL case returns query result.
+     *
+     * @return returns query result or not
+     */
+    public boolean isQuery() {
+        return !columnLabels.isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel.fixture;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory executor callback, which replaces physical database execution with pre-generated query results.
+ */
+public final class InMemoryExecutorCallback implements ExecutorCallback<ExecutionUnit, QueryResult> {
+    
+    private final BenchmarkSQLCase sqlCase;
+    
+    private final int rowsPerShard;
+    
+    private final RawQueryResultMetaData queryResultMetaData;
+    
+    private final Map<ExecutionUnit, List<MemoryQueryResultDataRow>> shardRows = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger shardSequence = new AtomicInteger();
+    
+    public InMemoryExecutorCallback(final BenchmarkSQLCase sqlCase, final int rowsPerShard) {
+        this.sqlCase = sqlCase;
+        this.rowsPerShard = rowsPerShard;
+        queryResultMetaData = createQueryResultMetaData(sqlCase);
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData(final BenchmarkSQLCase sqlCase) {
+        List<RawQueryResultColumnMetaData> result = new ArrayList<>(sqlCase.getColumnLabels().size());
+        for (String each : sqlCase.getColumnLabels()) {
+            result.add("status".equals(each)
+                    ? new RawQueryResultColumnMetaData("t_order", each, each, Types.VARCHAR, "VARCHAR", 50, 0)
+                    : new RawQueryResultColumnMetaData("t_order", each, each, Types.BIGINT, "BIGINT", 20, 0));
+        }
+        return new RawQueryResultMetaData(result);
+    }
+    
+    @Override
+    public Collection<QueryResult> execute(final Collection<ExecutionUnit> inputs, final boolean isTrunkThread, final String processId) {
+        Collection<QueryResult> result = new ArrayList<>(inputs.size());
+        for (ExecutionUnit each : inputs) {
+            result.add(createQueryResult(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Create query result for execution unit.
+     *
+     * @param executionUnit execution unit
+     * @return created query result
+     */
+    public QueryResult createQueryResult(final ExecutionUnit executionUnit) {
+        return new RawMemoryQueryResult(queryResultMetaData, shardRows.computeIfAbsent(executionUnit, key -> createShardRows(shardSequence.getAndIncrement())));
+    }
+    
+    private List<MemoryQueryResultDataRow> createShardRows(final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowsPerShard);
+        for (int i = 0; i < rowsPerShard; i++) {
+            result.add(new MemoryQueryResultDataRow(createRowValues(shardIndex, i)));
+        }
+        return result;
+    }
+    
+    private List<Object> createRowValues(final int shardIndex, final int rowIndex) {
+        switch (sqlCase) {
+            case GROUP_BY_SELECT:
+                return Arrays.asList((long) rowIndex, (long) shardIndex + 1L);
+            case POINT_SELECT:
+            case ORDER_BY_SELECT:
+            default:
+                return Arrays.asList((long) rowIndex * 1024L + shardIndex, 10L + rowIndex % 2, "OK");
+        }
+    }
+}